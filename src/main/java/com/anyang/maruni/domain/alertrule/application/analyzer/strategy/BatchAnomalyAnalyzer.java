@@ -0,0 +1,26 @@
+package com.anyang.maruni.domain.alertrule.application.analyzer.strategy;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AnalysisContext;
+
+/**
+ * 여러 회원을 한 번에 분석하는 이상징후 분석기
+ *
+ * 야간 일괄 감지에서 회원 페이지 단위로 호출되며,
+ * 회원마다 쿼리를 실행하는 대신 (회원, 일자) 단위로 집계한 쿼리 한 번으로 분석합니다.
+ * 판정 기준은 회원 단위 {@link #analyze} 결과와 같아야 합니다.
+ */
+public interface BatchAnomalyAnalyzer extends AnomalyAnalyzer {
+
+    /**
+     * 회원 목록의 이상징후를 일괄 분석합니다.
+     *
+     * @param memberIds 분석 대상 회원 ID 목록
+     * @param context 분석에 필요한 컨텍스트 정보
+     * @return 회원 ID별 분석 결과 (분석할 데이터가 없는 회원은 포함되지 않음)
+     */
+    Map<Long, AlertResult> analyzeBatch(Collection<Long> memberIds, AnalysisContext context);
+}
@@ -1,9 +1,10 @@
 package com.anyang.maruni.domain.alertrule.application.analyzer.strategy;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
@@ -13,11 +14,9 @@ import com.anyang.maruni.domain.alertrule.application.analyzer.util.AnalyzerUtil
 import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
-import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
-import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
-import com.anyang.maruni.domain.conversation.domain.entity.MessageType;
-import com.anyang.maruni.domain.conversation.domain.repository.MessageRepository;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberDailySummaryReader;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberEmotionStreak;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,17 +25,38 @@ import lombok.RequiredArgsConstructor;
  *
  * 연속적인 부정적 감정을 감지하여 위험도를 평가합니다.
  * Phase 2 리팩토링: AnomalyAnalyzer 구현체
+ * 연속 부정 감정 일수와 부정 비율은 회원별 일일 요약(member_daily_summary)을 집계한 결과를 사용하며,
+ * 야간 일괄 감지에서는 쿼리 한 번으로 페이지 전체를 분석합니다.
  */
 @Component
 @RequiredArgsConstructor
-public class EmotionPatternAnalyzer implements AnomalyAnalyzer {
+public class EmotionPatternAnalyzer implements BatchAnomalyAnalyzer {
 
-    private final MessageRepository messageRepository;
+    /**
+     * 컨텍스트에 보관하는 감정 집계 데이터 키
+     */
+    private static final String EMOTION_STREAKS = "emotion-streaks";
+
+    private final MemberDailySummaryReader summaryReader;
     private final AlertConfigurationProperties alertConfig;
 
     @Override
     public AlertResult analyze(MemberEntity member, AnalysisContext context) {
-        return analyzeEmotionPattern(member, context.getAnalysisDays());
+        // 같은 실행에서 같은 타입의 규칙이 여러 개여도 회원당 한 번만 조회
+        List<MemberEmotionStreak> streaks = context.prefetch(EMOTION_STREAKS, member.getId(),
+                () -> readStreaks(List.of(member.getId()), context.getAnalysisDays()));
+        return evaluateStreaks(streaks);
+    }
+
+    @Override
+    public Map<Long, AlertResult> analyzeBatch(Collection<Long> memberIds, AnalysisContext context) {
+        List<MemberEmotionStreak> streaks = readStreaks(memberIds, context.getAnalysisDays());
+
+        Map<Long, AlertResult> results = new HashMap<>(streaks.size() * 2);
+        for (MemberEmotionStreak streak : streaks) {
+            results.put(streak.memberId(), evaluateRiskLevel(toEmotionTrend(streak)));
+        }
+        return results;
     }
 
     @Override
@@ -56,80 +76,45 @@ public class EmotionPatternAnalyzer implements AnomalyAnalyzer {
      * @return 감정 패턴 분석 결과
      */
     public AlertResult analyzeEmotionPattern(MemberEntity member, int analysisDays) {
-        // 1. 최근 N일간 사용자 메시지 조회
-        LocalDateTime startDate = LocalDateTime.now().minusDays(analysisDays);
-        List<MessageEntity> recentMessages = messageRepository.findRecentUserMessagesByMemberId(
-                member.getId(), MessageType.USER_MESSAGE, startDate);
+        // 1. 최근 N일간 사용자 메시지 감정 집계
+        List<MemberEmotionStreak> streaks = readStreaks(List.of(member.getId()), analysisDays);
 
-        if (recentMessages.isEmpty()) {
+        // 2. 위험도 판정
+        return evaluateStreaks(streaks);
+    }
+
+    /**
+     * 단일 회원의 감정 집계 결과로 위험도 판정 (집계 행이 없으면 알림 없음)
+     */
+    private AlertResult evaluateStreaks(List<MemberEmotionStreak> streaks) {
+        if (streaks.isEmpty()) {
             return AlertResult.noAlert();
         }
-
-        // 2. 감정 패턴 분석
-        EmotionTrend emotionTrend = calculateEmotionTrend(recentMessages);
-
-        // 3. 위험도 판정
-        return evaluateRiskLevel(emotionTrend);
+        return evaluateRiskLevel(toEmotionTrend(streaks.get(0)));
     }
 
     /**
-     * 감정 추세 계산 (내부 메서드)
-     * @param messages 메시지 목록
-     * @return 감정 추세 정보
+     * 최근 N일간 사용자 메시지의 회원별 감정 집계 조회
      */
-    private EmotionTrend calculateEmotionTrend(List<MessageEntity> messages) {
-        int totalMessages = messages.size();
-
-        // 감정별 개수 계산
-        Map<EmotionType, Long> emotionCounts = messages.stream()
-                .collect(Collectors.groupingBy(MessageEntity::getEmotion, Collectors.counting()));
-
-        int positiveCount = emotionCounts.getOrDefault(EmotionType.POSITIVE, 0L).intValue();
-        int negativeCount = emotionCounts.getOrDefault(EmotionType.NEGATIVE, 0L).intValue();
-        int neutralCount = emotionCounts.getOrDefault(EmotionType.NEUTRAL, 0L).intValue();
-
-        // 부정 감정 비율 계산
-        double negativeRatio = totalMessages > 0 ? (double) negativeCount / totalMessages : 0.0;
-
-        // 연속적인 부정 감정 일수 계산 (최신 메시지부터)
-        int consecutiveNegativeDays = calculateConsecutiveNegativeDays(messages);
-
-        return new EmotionTrend(totalMessages, positiveCount, negativeCount, neutralCount,
-                               consecutiveNegativeDays, negativeRatio);
+    private List<MemberEmotionStreak> readStreaks(Collection<Long> memberIds, int analysisDays) {
+        LocalDate startDate = LocalDate.now().minusDays(analysisDays);
+        return summaryReader.readEmotionStreaks(memberIds, startDate);
     }
 
     /**
-     * 연속적인 부정 감정 일수 계산
-     * @param messages 메시지 목록 (최신순 정렬)
-     * @return 연속적인 부정 감정 일수
+     * 감정 집계를 감정 추세 정보로 변환
      */
-    private int calculateConsecutiveNegativeDays(List<MessageEntity> messages) {
-        int consecutiveDays = 0;
-        LocalDateTime currentDay = null;
-
-        for (MessageEntity message : messages) {
-            LocalDateTime messageDay = message.getCreatedAt().toLocalDate().atStartOfDay();
-
-            if (message.getEmotion() == EmotionType.NEGATIVE) {
-                if (currentDay == null || !messageDay.equals(currentDay)) {
-                    consecutiveDays++;
-                    currentDay = messageDay;
-                }
-            } else {
-                // 부정 감정이 아닌 메시지가 나오면 연속성이 끊어짐
-                break;
-            }
-        }
-
-        return consecutiveDays;
+    private EmotionTrend toEmotionTrend(MemberEmotionStreak streak) {
+        return new EmotionTrend(streak.totalMessages(), streak.positiveCount(), streak.negativeCount(),
+                streak.neutralCount(), streak.consecutiveNegativeDays(), streak.negativeRatio());
     }
 
     /**
-     * 위험도 평가
+     * 위험도 평가 (실시간 감정 평가기와 같은 임계값을 공유)
      * @param emotionTrend 감정 추세
      * @return 알림 결과
      */
-    private AlertResult evaluateRiskLevel(EmotionTrend emotionTrend) {
+    public AlertResult evaluateRiskLevel(EmotionTrend emotionTrend) {
         int consecutiveNegativeDays = emotionTrend.consecutiveNegativeDays();
         double negativeRatio = emotionTrend.negativeRatio();
 
@@ -159,4 +144,4 @@ public class EmotionPatternAnalyzer implements AnomalyAnalyzer {
         public record EmotionTrend(int totalMessages, int positiveCount, int negativeCount, int neutralCount,
                                    int consecutiveNegativeDays, double negativeRatio) {
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,19 @@
 package com.anyang.maruni.domain.alertrule.application.analyzer.strategy;
 
-import java.util.List;
-
 import org.springframework.stereotype.Component;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.util.AnalyzerUtils;
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AnalysisContext;
-import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.realtime.MemberKeywordRuleCache;
+import com.anyang.maruni.domain.alertrule.application.realtime.MemberKeywordRuleCache.MemberKeywordScan;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
 import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.global.keyword.KeywordCategory;
+import com.anyang.maruni.global.keyword.KeywordHits;
+import com.anyang.maruni.global.keyword.KeywordMatcher;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -19,18 +21,19 @@ import lombok.RequiredArgsConstructor;
 /**
  * 키워드 위험도 분석기
  *
- * 메시지 내용에서 위험 키워드를 감지합니다.
+ * 메시지 내용에서 전역 위험 키워드와 회원별 키워드 감지 규칙을 함께 감지합니다.
  * Phase 2 리팩토링: AnomalyAnalyzer 구현체
  */
 @Component
 @RequiredArgsConstructor
 public class KeywordAnalyzer implements AnomalyAnalyzer {
 
-    private final AlertConfigurationProperties alertConfig;
+    private final KeywordMatcher keywordMatcher;
+    private final MemberKeywordRuleCache memberKeywordRuleCache;
 
     @Override
     public AlertResult analyze(MemberEntity member, AnalysisContext context) {
-        return analyzeKeywordRisk(context.getTargetMessage());
+        return analyzeKeywordRisk(member.getId(), context.getTargetMessage());
     }
 
     @Override
@@ -44,51 +47,71 @@ public class KeywordAnalyzer implements AnomalyAnalyzer {
     }
 
     /**
-     * 메시지의 키워드 위험도 분석
+     * 메시지의 키워드 위험도 분석 (전역 위험 키워드만)
+     *
+     * 한 번의 사전 스캔으로 긴급/경고 키워드를 함께 검사하고, 긴급 키워드를 우선합니다.
+     * 분류 안에서는 설정 목록에서 앞선 키워드가 매칭 키워드로 보고됩니다.
      * @param message 분석할 메시지
      * @return 키워드 분석 결과
      */
     public AlertResult analyzeKeywordRisk(MessageEntity message) {
-        String content = message.getContent().toLowerCase();
+        return evaluateHits(keywordMatcher.scan(message.getContent()), null, message.getContent());
+    }
+
+    /**
+     * 메시지의 키워드 위험도 분석 (전역 위험 키워드 + 회원별 키워드 규칙)
+     *
+     * 회원 규칙은 캐시된 오토마톤으로 전역 사전과 함께 한 번에 스캔하며, 캐시 적중 시 DB 조회가 없습니다.
+     * @param memberId 회원 ID
+     * @param message 분석할 메시지
+     * @return 키워드 분석 결과
+     */
+    public AlertResult analyzeKeywordRisk(Long memberId, MessageEntity message) {
+        MemberKeywordScan scan = memberKeywordRuleCache.scan(memberId, message.getContent());
+        return evaluateHits(scan.hits(), scan.memberLevel(), message.getContent());
+    }
 
+    /**
+     * 높은 레벨 우선으로 결과 선택 (같은 레벨이면 전역 키워드 우선)
+     *
+     * 전역 긴급 → 회원 규칙 EMERGENCY → 전역 경고(HIGH) → 회원 규칙(규칙 레벨)
+     */
+    private AlertResult evaluateHits(KeywordHits hits, AlertLevel memberLevel, String content) {
         // 1. 긴급 키워드 감지 (최우선)
-        AlertResult emergencyResult = checkKeywords(content, message.getContent(),
-                alertConfig.getKeyword().getEmergency(), AlertLevel.EMERGENCY);
-        if (emergencyResult.isAlert()) {
-            return emergencyResult;
+        if (hits.contains(KeywordCategory.EMERGENCY)) {
+            return createKeywordAlert(hits.first(KeywordCategory.EMERGENCY), content, AlertLevel.EMERGENCY);
+        }
+        if (memberLevel == AlertLevel.EMERGENCY) {
+            return createKeywordAlert(hits.first(KeywordCategory.MEMBER), content, AlertLevel.EMERGENCY);
         }
 
         // 2. 경고 키워드 감지
-        AlertResult warningResult = checkKeywords(content, message.getContent(),
-                alertConfig.getKeyword().getWarning(), AlertLevel.HIGH);
-        if (warningResult.isAlert()) {
-            return warningResult;
+        if (hits.contains(KeywordCategory.WARNING)) {
+            return createKeywordAlert(hits.first(KeywordCategory.WARNING), content, AlertLevel.HIGH);
         }
 
-        // 3. 위험 키워드 없음
+        // 3. 회원 키워드 규칙 감지
+        if (memberLevel != null) {
+            return createKeywordAlert(hits.first(KeywordCategory.MEMBER), content, memberLevel);
+        }
+
+        // 4. 위험 키워드 없음
         return AlertResult.noAlert();
     }
 
     /**
-     * 키워드 목록에서 매칭되는 키워드 검사
-     * @param contentLowerCase 소문자로 변환된 메시지 내용
+     * 매칭된 키워드로 알림 결과 생성
+     * @param keyword 매칭된 키워드
      * @param originalContent 원본 메시지 내용
-     * @param keywords 검사할 키워드 목록
      * @param alertLevel 알림 레벨
      * @return 키워드 분석 결과
      */
-    private AlertResult checkKeywords(String contentLowerCase, String originalContent,
-                                    List<String> keywords, AlertLevel alertLevel) {
-        for (String keyword : keywords) {
-            if (contentLowerCase.contains(keyword.toLowerCase())) {
-                String alertMessage = AnalyzerUtils.createKeywordDetectionMessage(alertLevel, keyword);
-                KeywordMatch keywordMatch = alertLevel == AlertLevel.EMERGENCY ?
-                        KeywordMatch.emergency(keyword, originalContent) :
-                        KeywordMatch.warning(keyword, originalContent);
-                return AlertResult.createAlert(alertLevel, AlertType.KEYWORD_DETECTION, alertMessage, keywordMatch);
-            }
-        }
-        return AlertResult.noAlert();
+    private AlertResult createKeywordAlert(String keyword, String originalContent, AlertLevel alertLevel) {
+        String alertMessage = AnalyzerUtils.createKeywordDetectionMessage(alertLevel, keyword);
+        KeywordMatch keywordMatch = alertLevel == AlertLevel.EMERGENCY ?
+                KeywordMatch.emergency(keyword, originalContent) :
+                KeywordMatch.warning(keyword, originalContent);
+        return AlertResult.createAlert(alertLevel, AlertType.KEYWORD_DETECTION, alertMessage, keywordMatch);
     }
 
     /**
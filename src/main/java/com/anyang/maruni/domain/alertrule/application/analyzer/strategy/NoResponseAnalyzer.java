@@ -1,7 +1,10 @@
 package com.anyang.maruni.domain.alertrule.application.analyzer.strategy;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
@@ -11,9 +14,9 @@ import com.anyang.maruni.domain.alertrule.application.analyzer.util.AnalyzerUtil
 import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
-import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRecord;
-import com.anyang.maruni.domain.dailycheck.domain.repository.DailyCheckRecordRepository;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberDailySummaryReader;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberResponseStreak;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,17 +25,38 @@ import lombok.RequiredArgsConstructor;
  *
  * 일정 기간 무응답 상태를 감지하여 위험도를 평가합니다.
  * Phase 2 리팩토링: AnomalyAnalyzer 구현체
+ * 연속 무응답 일수와 응답률은 회원별 일일 요약(member_daily_summary)을 집계한 결과를 사용하며,
+ * 야간 일괄 감지에서는 쿼리 한 번으로 페이지 전체를 분석합니다.
  */
 @Component
 @RequiredArgsConstructor
-public class NoResponseAnalyzer implements AnomalyAnalyzer {
+public class NoResponseAnalyzer implements BatchAnomalyAnalyzer {
 
-    private final DailyCheckRecordRepository dailyCheckRecordRepository;
+    /**
+     * 컨텍스트에 보관하는 응답 집계 데이터 키
+     */
+    private static final String RESPONSE_STREAKS = "response-streaks";
+
+    private final MemberDailySummaryReader summaryReader;
     private final AlertConfigurationProperties alertConfig;
 
     @Override
     public AlertResult analyze(MemberEntity member, AnalysisContext context) {
-        return analyzeNoResponsePattern(member, context.getAnalysisDays());
+        // 같은 실행에서 같은 타입의 규칙이 여러 개여도 회원당 한 번만 조회
+        List<MemberResponseStreak> streaks = context.prefetch(RESPONSE_STREAKS, member.getId(),
+                () -> readStreaks(List.of(member.getId()), context.getAnalysisDays()));
+        return evaluateStreaks(streaks);
+    }
+
+    @Override
+    public Map<Long, AlertResult> analyzeBatch(Collection<Long> memberIds, AnalysisContext context) {
+        List<MemberResponseStreak> streaks = readStreaks(memberIds, context.getAnalysisDays());
+
+        Map<Long, AlertResult> results = new HashMap<>(streaks.size() * 2);
+        for (MemberResponseStreak streak : streaks) {
+            results.put(streak.memberId(), evaluateNoResponseRisk(toResponsePattern(streak)));
+        }
+        return results;
     }
 
     @Override
@@ -52,71 +76,38 @@ public class NoResponseAnalyzer implements AnomalyAnalyzer {
      * @return 무응답 패턴 분석 결과
      */
     public AlertResult analyzeNoResponsePattern(MemberEntity member, int analysisDays) {
-        // 1. 최근 N일간 DailyCheck 기록 조회
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(analysisDays);
+        // 1. 최근 N일간 DailyCheck 응답 집계
+        List<MemberResponseStreak> streaks = readStreaks(List.of(member.getId()), analysisDays);
 
-        List<DailyCheckRecord> recentChecks = dailyCheckRecordRepository.findByMemberIdAndDateRangeOrderByCheckDateDesc(
-                member.getId(), startDate, endDate);
+        // 2. 위험도 판정
+        return evaluateStreaks(streaks);
+    }
 
-        if (recentChecks.isEmpty()) {
+    /**
+     * 단일 회원의 응답 집계 결과로 위험도 판정 (집계 행이 없으면 알림 없음)
+     */
+    private AlertResult evaluateStreaks(List<MemberResponseStreak> streaks) {
+        if (streaks.isEmpty()) {
             return AlertResult.noAlert();
         }
-
-        // 2. 응답 패턴 분석
-        ResponsePattern responsePattern = calculateResponsePattern(recentChecks);
-
-        // 3. 위험도 판정
-        return evaluateNoResponseRisk(responsePattern);
+        return evaluateNoResponseRisk(toResponsePattern(streaks.get(0)));
     }
 
     /**
-     * 응답 패턴 계산 (내부 메서드)
-     * @param recentChecks DailyCheck 기록 목록
-     * @return 응답 패턴 정보
+     * 최근 N일간 회원별 응답 집계 조회
      */
-    private ResponsePattern calculateResponsePattern(List<DailyCheckRecord> recentChecks) {
-        int totalCheckDays = recentChecks.size();
-        int responseDays = 0;
-        int noResponseDays = 0;
-
-        // 성공/실패 일수 계산
-        for (DailyCheckRecord check : recentChecks) {
-            if (check.getSuccess()) {
-                responseDays++;
-            } else {
-                noResponseDays++;
-            }
-        }
-
-        // 응답률 계산
-        double responseRate = totalCheckDays > 0 ? (double) responseDays / totalCheckDays : 0.0;
-
-        // 연속적인 무응답 일수 계산 (최신 기록부터)
-        int consecutiveNoResponseDays = calculateConsecutiveNoResponseDays(recentChecks);
-
-        return new ResponsePattern(totalCheckDays, responseDays, noResponseDays,
-                                  consecutiveNoResponseDays, responseRate);
+    private List<MemberResponseStreak> readStreaks(Collection<Long> memberIds, int analysisDays) {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(analysisDays);
+        return summaryReader.readResponseStreaks(memberIds, startDate, endDate);
     }
 
     /**
-     * 연속적인 무응답 일수 계산
-     * @param recentChecks DailyCheck 기록 목록 (최신순 정렬)
-     * @return 연속적인 무응답 일수
+     * 응답 집계를 응답 패턴 정보로 변환
      */
-    private int calculateConsecutiveNoResponseDays(List<DailyCheckRecord> recentChecks) {
-        int consecutiveDays = 0;
-
-        for (DailyCheckRecord check : recentChecks) {
-            if (!check.getSuccess()) {
-                consecutiveDays++;
-            } else {
-                // 성공한 기록이 나오면 연속성이 끊어짐
-                break;
-            }
-        }
-
-        return consecutiveDays;
+    private ResponsePattern toResponsePattern(MemberResponseStreak streak) {
+        return new ResponsePattern(streak.totalCheckDays(), streak.responseDays(), streak.noResponseDays(),
+                streak.consecutiveNoResponseDays(), streak.responseRate());
     }
 
     /**
@@ -1,6 +1,11 @@
 package com.anyang.maruni.domain.alertrule.application.analyzer.vo;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,6 +15,9 @@ import lombok.NoArgsConstructor;
  * 이상징후 분석에 필요한 컨텍스트 정보를 담는 Value Object
  *
  * 분석기별로 필요한 데이터를 캡슐화하여 전달합니다.
+ * 한 번의 감지 실행에서 회원마다 하나의 컨텍스트를 규칙 전체에 공유하며,
+ * 분석기가 조회한 데이터(감정/응답 집계)는 처음 요청될 때 한 번만 조회해 보관합니다.
+ * 따라서 같은 타입의 규칙이 여러 개여도 회원당 쿼리 수는 일정합니다.
  *
  * Phase 2 리팩토링: Strategy Pattern의 컨텍스트 객체
  */
@@ -31,6 +39,33 @@ public class AnalysisContext {
      */
     private MessageEntity targetMessage;
 
+    /**
+     * 회원별로 미리 조회한 분석 데이터 (지연 조회 후 보관)
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<PrefetchKey, Object> prefetched = new HashMap<>();
+
+    /**
+     * 회원의 분석 데이터를 한 번만 조회하여 재사용
+     *
+     * 같은 컨텍스트에서 같은 회원/데이터 키로 다시 요청하면 loader를 호출하지 않고 보관된 값을 반환합니다.
+     *
+     * @param dataKey 데이터 종류 (분석기별 상수)
+     * @param memberId 회원 ID
+     * @param loader 최초 요청 시 실행할 조회 로직
+     * @return 조회된(또는 보관된) 데이터
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T prefetch(String dataKey, Long memberId, Supplier<T> loader) {
+        PrefetchKey key = new PrefetchKey(dataKey, memberId);
+        if (prefetched.containsKey(key)) {
+            return (T) prefetched.get(key);
+        }
+        T data = loader.get();
+        prefetched.put(key, data);
+        return data;
+    }
+
     /**
      * 감정 패턴 분석용 팩토리 메서드
      *
@@ -55,6 +90,18 @@ public class AnalysisContext {
                 .build();
     }
 
+    /**
+     * 회원 종합 감지용 팩토리 메서드 (회원의 모든 규칙이 공유)
+     *
+     * @param analysisDays 분석 기간
+     * @return 회원 종합 감지용 컨텍스트
+     */
+    public static AnalysisContext forMemberRun(int analysisDays) {
+        return AnalysisContext.builder()
+                .analysisDays(analysisDays)
+                .build();
+    }
+
     /**
      * 키워드 분석용 팩토리 메서드
      *
@@ -66,4 +113,7 @@ public class AnalysisContext {
                 .targetMessage(message)
                 .build();
     }
-}
\ No newline at end of file
+
+    private record PrefetchKey(String dataKey, Long memberId) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 회원별 활성 알림 규칙 캐시
+ *
+ * 규칙은 거의 바뀌지 않으므로 회원별 활성 규칙을 불변 스냅샷으로 캐시하여,
+ * 야간 감지/수동 감지/규칙 목록 조회가 매번 Member, Guardian JOIN FETCH를 실행하지 않도록 합니다.
+ * - 최대 회원 수를 넘으면 가장 오래 사용하지 않은 회원부터 제거 (LRU)
+ * - 규칙이 없는 회원도 빈 목록으로 캐시
+ * - 규칙 변경(AlertRuleChangedEvent) 커밋 후 해당 회원 무효화, 다른 서버는 무효화 로그 폴링으로 무효화
+ * - 적중/미적중 수와 캐시 크기를 메트릭으로 기록
+ */
+@Component
+public class ActiveRuleCache implements MemberRuleCache {
+
+    private static final String HIT_COUNTER = "maruni.alert.rule.cache.hits";
+    private static final String MISS_COUNTER = "maruni.alert.rule.cache.misses";
+    private static final String SIZE_GAUGE = "maruni.alert.rule.cache.size";
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final AlertConfigurationProperties alertConfig;
+
+    /**
+     * 접근 순서 LinkedHashMap (모든 접근은 entries 동기화 블록 안에서 수행)
+     */
+    private final LinkedHashMap<Long, List<AlertRuleSnapshot>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 무효화 횟수 (적재 중에 무효화가 일어나면 적재 결과를 캐시하지 않기 위한 확인용)
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ActiveRuleCache(AlertRuleRepository alertRuleRepository,
+                           AlertConfigurationProperties alertConfig,
+                           MeterRegistry meterRegistry) {
+        this.alertRuleRepository = alertRuleRepository;
+        this.alertConfig = alertConfig;
+        this.hitCounter = Counter.builder(HIT_COUNTER)
+                .description("알림 규칙 캐시 적중 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(MISS_COUNTER)
+                .description("알림 규칙 캐시 미적중 수 (DB 조회)")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_GAUGE, this, ActiveRuleCache::size)
+                .description("알림 규칙을 캐시한 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 활성 알림 규칙 조회
+     * @param memberId 회원 ID
+     * @return 활성 규칙 스냅샷 목록 (규칙 ID 오름차순, 없으면 빈 목록)
+     */
+    public List<AlertRuleSnapshot> getActiveRules(Long memberId) {
+        return getActiveRules(List.of(memberId)).get(memberId);
+    }
+
+    /**
+     * 여러 회원의 활성 알림 규칙 조회 (미적중 회원만 한 번의 쿼리로 적재)
+     * @param memberIds 회원 ID 목록
+     * @return 회원 ID별 활성 규칙 스냅샷 목록 (요청 순서 유지, 규칙이 없는 회원은 빈 목록)
+     */
+    public Map<Long, List<AlertRuleSnapshot>> getActiveRules(Collection<Long> memberIds) {
+        Map<Long, List<AlertRuleSnapshot>> result = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+
+        if (alertConfig.getRuleCache().isEnabled()) {
+            synchronized (entries) {
+                for (Long memberId : memberIds) {
+                    List<AlertRuleSnapshot> cached = entries.get(memberId);
+                    result.put(memberId, cached);
+                    if (cached == null) {
+                        missingIds.add(memberId);
+                    }
+                }
+            }
+        } else {
+            memberIds.forEach(memberId -> result.put(memberId, null));
+            missingIds.addAll(result.keySet());
+        }
+
+        hitCounter.increment(result.size() - missingIds.size());
+        if (missingIds.isEmpty()) {
+            return result;
+        }
+        missCounter.increment(missingIds.size());
+
+        long evictionsBeforeLoad = evictions.get();
+        Map<Long, List<AlertRuleSnapshot>> loaded = load(missingIds);
+        result.putAll(loaded);
+        if (alertConfig.getRuleCache().isEnabled() && evictions.get() == evictionsBeforeLoad) {
+            put(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * 규칙 변경 커밋 후 해당 회원 캐시 무효화 (트랜잭션 밖에서 발행되면 즉시 무효화)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlertRuleChanged(AlertRuleChangedEvent event) {
+        evict(event.memberId());
+    }
+
+    @Override
+    public void evict(Long memberId) {
+        evictions.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(memberId);
+        }
+    }
+
+    /**
+     * 현재 캐시된 회원 수
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Map<Long, List<AlertRuleSnapshot>> load(List<Long> memberIds) {
+        Map<Long, List<AlertRuleSnapshot>> loaded = alertRuleRepository.findActiveRulesByMemberIds(memberIds).stream()
+                .map(AlertRuleSnapshot::from)
+                .collect(Collectors.groupingBy(AlertRuleSnapshot::memberId, LinkedHashMap::new,
+                        Collectors.toUnmodifiableList()));
+        memberIds.forEach(memberId -> loaded.putIfAbsent(memberId, List.of()));
+        return loaded;
+    }
+
+    private void put(Map<Long, List<AlertRuleSnapshot>> loaded) {
+        int maxMembers = Math.max(1, alertConfig.getRuleCache().getMaxMembers());
+        synchronized (entries) {
+            entries.putAll(loaded);
+            Iterator<Long> eldest = entries.keySet().iterator();
+            while (entries.size() > maxMembers && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+}
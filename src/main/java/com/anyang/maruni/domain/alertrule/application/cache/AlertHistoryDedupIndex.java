@@ -0,0 +1,152 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+import com.anyang.maruni.domain.alertrule.domain.vo.DailyAlertKey;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오늘 기록된 알림 중복 방지 인덱스
+ *
+ * 하루 한 번만 기록되는 알림(키워드 감지 외)의 (회원, 타입)을 메모리에 보관하여,
+ * 이미 기록된 알림이 다시 발생하면 DB에 접근하지 않고 건너뛰게 합니다.
+ * - 기동 시 오늘 날짜의 alert_history로 적재하고, 날짜가 바뀌면 비움
+ * - 새 알림은 트랜잭션 커밋 후에만 반영 (롤백된 알림으로 오늘 알림이 막히지 않도록)
+ * - 인덱스에 없는 중복(다른 서버가 기록한 알림 등)은 DB 유니크 키가 최종 판정
+ */
+@Component
+@Slf4j
+public class AlertHistoryDedupIndex {
+
+    private static final String HIT_COUNTER = "maruni.alert.dedup.hits";
+    private static final String SIZE_GAUGE = "maruni.alert.dedup.size";
+
+    private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertConfigurationProperties alertConfig;
+    private final Counter hitCounter;
+
+    private volatile Day day = new Day(LocalDate.MIN);
+
+    public AlertHistoryDedupIndex(AlertHistoryRepository alertHistoryRepository,
+                                  AlertConfigurationProperties alertConfig,
+                                  MeterRegistry meterRegistry) {
+        this.alertHistoryRepository = alertHistoryRepository;
+        this.alertConfig = alertConfig;
+        this.hitCounter = Counter.builder(HIT_COUNTER)
+                .description("DB 조회 없이 건너뛴 중복 알림 수")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_GAUGE, this, AlertHistoryDedupIndex::size)
+                .description("오늘 기록된 알림 중복 방지 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 오늘 기록된 알림으로 인덱스 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!alertConfig.getDedup().isEnabled()) {
+            return;
+        }
+
+        Day today = today();
+        List<DailyAlertKey> keys = alertHistoryRepository.findDailyAlertKeys(
+                today.date().atStartOfDay(), AlertType.KEYWORD_DETECTION);
+        today.keys().addAll(keys);
+        log.info("Alert dedup index warmed with {} keys for {}", keys.size(), today.date());
+    }
+
+    /**
+     * 오늘 이미 기록된 알림인지 확인 (인덱스에 없다고 해서 DB에 없다는 뜻은 아님)
+     * @param memberId 회원 ID
+     * @param alertType 알림 타입
+     * @return 이미 기록된 것이 확실하면 true
+     */
+    public boolean contains(Long memberId, AlertType alertType) {
+        if (!isTracked(alertType)) {
+            return false;
+        }
+
+        boolean hit = today().keys().contains(new DailyAlertKey(memberId, alertType));
+        if (hit) {
+            hitCounter.increment();
+        }
+        return hit;
+    }
+
+    /**
+     * 새로 기록한 알림 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void markInserted(Long memberId, AlertType alertType) {
+        if (!isTracked(alertType)) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markExisting(memberId, alertType);
+                }
+            });
+        } else {
+            markExisting(memberId, alertType);
+        }
+    }
+
+    /**
+     * DB에 이미 있는 것으로 확인된 알림 반영 (즉시 반영)
+     */
+    public void markExisting(Long memberId, AlertType alertType) {
+        if (isTracked(alertType)) {
+            today().keys().add(new DailyAlertKey(memberId, alertType));
+        }
+    }
+
+    /**
+     * 오늘 보관 중인 키 수
+     */
+    public int size() {
+        return day.keys().size();
+    }
+
+    private boolean isTracked(AlertType alertType) {
+        return alertConfig.getDedup().isEnabled() && alertType != AlertType.KEYWORD_DETECTION;
+    }
+
+    private Day today() {
+        LocalDate date = LocalDate.now();
+        Day current = day;
+        if (current.date().equals(date)) {
+            return current;
+        }
+        synchronized (this) {
+            if (!day.date().equals(date)) {
+                day = new Day(date);
+            }
+            return day;
+        }
+    }
+
+    private record Day(LocalDate date, Set<DailyAlertKey> keys) {
+        private Day(LocalDate date) {
+            this(date, ConcurrentHashMap.newKeySet());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertRuleInvalidation;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleInvalidationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다중 서버 간 알림 규칙 캐시 무효화 로그
+ *
+ * - 규칙 변경 트랜잭션 커밋 직전(BEFORE_COMMIT)에 무효화 로그 한 행을 같은 트랜잭션으로 기록
+ * - 각 서버는 주기적으로 최근 로그를 읽어 자신의 회원별 규칙 캐시(MemberRuleCache) 전체를 무효화
+ *
+ * 시퀀스 ID는 커밋 순서와 일치하지 않으므로 ID가 아니라 기록 시각으로 폴링하며,
+ * 늦게 커밋된 변경과 서버 간 시계 차이를 놓치지 않도록 여유 시간만큼 구간을 겹쳐 읽습니다.
+ * 겹친 구간에서 이미 처리한 로그는 ID로 걸러 같은 변경을 반복해서 무효화하지 않습니다.
+ */
+@Component
+@Slf4j
+public class AlertRuleInvalidationLog {
+
+    private final AlertRuleInvalidationRepository invalidationRepository;
+    private final List<MemberRuleCache> caches;
+    private final AlertConfigurationProperties alertConfig;
+
+    private LocalDateTime lastPolledAt = LocalDateTime.now();
+    private Set<Long> processedIds = Set.of();
+
+    public AlertRuleInvalidationLog(AlertRuleInvalidationRepository invalidationRepository,
+                                    List<MemberRuleCache> caches,
+                                    AlertConfigurationProperties alertConfig) {
+        this.invalidationRepository = invalidationRepository;
+        this.caches = caches;
+        this.alertConfig = alertConfig;
+    }
+
+    /**
+     * 규칙 변경과 같은 트랜잭션으로 무효화 로그 기록 (트랜잭션 밖에서 발행되면 단독 저장)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAlertRuleChanged(AlertRuleChangedEvent event) {
+        if (!alertConfig.getRuleCache().isClusterInvalidation()) {
+            return;
+        }
+        invalidationRepository.save(AlertRuleInvalidation.of(event.memberId(), LocalDateTime.now()));
+    }
+
+    /**
+     * 최근 무효화 로그를 읽어 캐시 무효화 후 보존 기간이 지난 로그 삭제
+     */
+    @Scheduled(fixedDelayString = "${maruni.alert.rule-cache.poll-interval-millis:5000}")
+    @Transactional
+    public synchronized void poll() {
+        AlertConfigurationProperties.RuleCache config = alertConfig.getRuleCache();
+        if (!config.isClusterInvalidation()) {
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<AlertRuleInvalidation> invalidations = invalidationRepository.findByCreatedAtGreaterThanEqual(
+                lastPolledAt.minusSeconds(config.getGraceSeconds()));
+
+        Set<Long> seenIds = new HashSet<>();
+        int evicted = 0;
+        for (AlertRuleInvalidation invalidation : invalidations) {
+            seenIds.add(invalidation.getId());
+            if (!processedIds.contains(invalidation.getId())) {
+                caches.forEach(cache -> cache.evict(invalidation.getMemberId()));
+                evicted++;
+            }
+        }
+        processedIds = seenIds;
+        lastPolledAt = startedAt;
+
+        int deleted = invalidationRepository.deleteCreatedBefore(startedAt.minusMinutes(config.getRetentionMinutes()));
+        if (evicted > 0 || deleted > 0) {
+            log.debug("Alert rule cache invalidation: {} evicted, {} expired logs deleted", evicted, deleted);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+import java.time.LocalDateTime;
+
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertCondition;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
+
+/**
+ * 알림 규칙 스냅샷 (불변)
+ *
+ * 영속성 컨텍스트와 분리된 규칙 값으로, 트랜잭션과 스레드를 넘어 캐시에 안전하게 보관할 수 있습니다.
+ */
+public record AlertRuleSnapshot(
+        Long id,
+        Long memberId,
+        AlertType alertType,
+        AlertLevel alertLevel,
+        String ruleName,
+        String ruleDescription,
+        Integer consecutiveDays,
+        Integer thresholdCount,
+        EmotionType targetEmotion,
+        String keywords,
+        boolean active,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * 엔티티에서 스냅샷 생성 (회원은 지연 로딩 프록시의 ID만 사용하므로 추가 조회 없음)
+     * @param alertRule 알림 규칙 엔티티
+     * @return AlertRuleSnapshot
+     */
+    public static AlertRuleSnapshot from(AlertRule alertRule) {
+        AlertCondition condition = alertRule.getCondition();
+        return new AlertRuleSnapshot(
+                alertRule.getId(),
+                alertRule.getMember().getId(),
+                alertRule.getAlertType(),
+                alertRule.getAlertLevel(),
+                alertRule.getRuleName(),
+                alertRule.getRuleDescription(),
+                condition != null ? condition.getConsecutiveDays() : null,
+                condition != null ? condition.getThresholdCount() : null,
+                condition != null ? condition.getTargetEmotion() : null,
+                condition != null ? condition.getKeywords() : null,
+                Boolean.TRUE.equals(alertRule.getIsActive()),
+                alertRule.getCreatedAt(),
+                alertRule.getUpdatedAt());
+    }
+}
@@ -0,0 +1,15 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+/**
+ * 회원 단위로 무효화되는 알림 규칙 캐시
+ *
+ * 다른 서버에서 규칙이 바뀐 경우 AlertRuleInvalidationLog가 구현체 전체에 무효화를 전달합니다.
+ */
+public interface MemberRuleCache {
+
+    /**
+     * 회원 캐시 무효화
+     * @param memberId 회원 ID
+     */
+    void evict(Long memberId);
+}
@@ -21,6 +21,13 @@ public class AlertConfigurationProperties {
     private Keyword keyword = new Keyword();
     private Notification notification = new Notification();
     private NoResponse noResponse = new NoResponse();
+    private Realtime realtime = new Realtime();
+    private RuleCache ruleCache = new RuleCache();
+    private Dedup dedup = new Dedup();
+    private Outbox outbox = new Outbox();
+    private Emergency emergency = new Emergency();
+    private Escalation escalation = new Escalation();
+    private Correlation correlation = new Correlation();
 
     @Data
     public static class Analysis {
@@ -68,6 +75,14 @@ public class AlertConfigurationProperties {
         private List<String> warning = List.of(
                 "우울해", "외로워", "죽고싶어", "포기", "희망없어", "의미없어", "괴로워", "힘들어"
         );
+
+        /**
+         * 키워드 사전 파일 경로 (비어 있으면 설정 목록만 사용)
+         *
+         * emergency/warning/negative/positive 키에 쉼표로 구분한 키워드를 적은 UTF-8 properties 파일.
+         * 파일에 있는 분류는 설정 목록 대신 사용하며, POST /actuator/keywords 호출 시 다시 읽습니다.
+         */
+        private String dictionaryFile;
     }
 
     @Data
@@ -115,4 +130,200 @@ public class AlertConfigurationProperties {
          */
         private double mediumRiskMinResponseRate = 0.5;
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class Realtime {
+        /**
+         * 사용자 메시지 저장 시 감정 패턴 실시간 평가 사용 여부 (야간 감지는 보정용으로 유지)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 메모리에 유지하는 회원별 감정 윈도우 최대 수 (초과 시 비우고 요약 테이블에서 다시 복원)
+         */
+        private int maxTrackedMembers = 100_000;
+    }
+
+    @Data
+    public static class RuleCache {
+        /**
+         * 회원별 활성 알림 규칙 캐시 사용 여부 (false면 매번 DB 조회)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 캐시에 유지하는 최대 회원 수 (초과 시 가장 오래 사용하지 않은 회원부터 제거)
+         */
+        private int maxMembers = 10_000;
+
+        /**
+         * 무효화 로그 테이블을 통한 서버 간 캐시 무효화 사용 여부
+         */
+        private boolean clusterInvalidation = true;
+
+        /**
+         * 무효화 로그 폴링 주기 (밀리초)
+         */
+        private long pollIntervalMillis = 5_000;
+
+        /**
+         * 폴링 구간을 앞당겨 다시 읽는 여유 시간 (초, 늦게 커밋된 변경과 서버 간 시계 차이 보정)
+         */
+        private int graceSeconds = 30;
+
+        /**
+         * 무효화 로그 보존 기간 (분)
+         */
+        private int retentionMinutes = 60;
+    }
+
+    @Data
+    public static class Dedup {
+        /**
+         * 오늘 기록된 알림을 메모리 인덱스로 걸러 중복 알림 시 DB 접근을 생략할지 여부
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Outbox {
+        /**
+         * 보호자 알림을 알림 이력 커밋 후 디스패처가 발송할지 여부 (false면 알림 발생 트랜잭션에서 동기 발송)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 디스패처 폴링 주기 (밀리초)
+         */
+        private long pollIntervalMillis = 1_000;
+
+        /**
+         * 한 트랜잭션에서 점유하는 알림 수
+         */
+        private int batchSize = 50;
+
+        /**
+         * 폴링 1회당 최대 처리 배치 수
+         */
+        private int maxBatchesPerRun = 20;
+
+        /**
+         * 점유 유효 시간 (초) - 이 시간 안에 결과가 기록되지 않으면 다른 디스패처가 다시 발송
+         */
+        private int claimTimeoutSeconds = 60;
+
+        /**
+         * 최대 발송 시도 횟수 (소진 시 GAVE_UP으로 기록하고 더 이상 발송하지 않음)
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * 백오프 기준 지연 (초) - 실패할 때마다 2배씩 증가
+         */
+        private int baseDelaySeconds = 30;
+
+        /**
+         * 백오프 최대 지연 (초)
+         */
+        private int maxDelaySeconds = 1_800;
+    }
+
+    @Data
+    public static class Emergency {
+        /**
+         * EMERGENCY 알림 전용 레인 사용 여부 (false면 메시지 처리 트랜잭션에서 알림 발생)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 미리 생성해 두는 전용 스레드 수 (레인이 동시에 사용하는 최대 DB 커넥션 수)
+         */
+        private int threads = 2;
+
+        /**
+         * 전용 스레드가 모두 사용 중일 때 대기시키는 최대 알림 수 (초과 시 호출 스레드에서 처리)
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * 메시지 수신부터 보호자 알림 기록까지의 목표 시간 (밀리초, 초과 시 SLO 위반으로 기록)
+         */
+        private long sloMillis = 5_000;
+    }
+
+    @Data
+    public static class Escalation {
+        /**
+         * 보호자가 확인하지 않은 EMERGENCY/HIGH 알림 재알림 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * EMERGENCY 알림 재알림 간격 (분)
+         */
+        private int emergencyIntervalMinutes = 10;
+
+        /**
+         * HIGH 알림 재알림 간격 (분)
+         */
+        private int highIntervalMinutes = 60;
+
+        /**
+         * 최대 재알림 횟수 (소진하면 에스컬레이션 종료)
+         */
+        private int maxEscalations = 3;
+
+        /**
+         * 추가 연락처까지 알리기 시작하는 재알림 차수
+         */
+        private int widenFromEscalation = 2;
+
+        /**
+         * 보호자 외에 재알림을 받을 추가 연락처 회원 ID (예: 관제 담당자 계정, 비어 있으면 보호자에게만)
+         */
+        private List<Long> additionalContactIds = List.of();
+
+        /**
+         * 재알림 제목 템플릿 (재알림 차수, 알림 레벨)
+         */
+        private String titleTemplate = "[MARUNI 재알림 %d차] %s 단계 알림 미확인";
+
+        /**
+         * 타이밍 휠 한 칸의 시간 (밀리초)
+         */
+        private long tickMillis = 1_000;
+
+        /**
+         * 타이밍 휠 칸 수 (2의 거듭제곱으로 올림)
+         */
+        private int wheelSize = 512;
+
+        /**
+         * 다른 노드가 예약한 에스컬레이션을 가져오는 재동기화 주기 (밀리초)
+         */
+        private long resyncIntervalMillis = 900_000;
+    }
+
+    @Data
+    public static class Correlation {
+        /**
+         * 회원의 여러 알림을 하나의 사건으로 묶어 사건당 한 번만 보호자에게 알릴지 여부 (아웃박스 모드)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 사건 슬라이딩 윈도우 (분, 마지막으로 알리거나 묶은 알림 이후 이 시간 안의 알림은 같은 사건)
+         */
+        private int windowMinutes = 30;
+
+        /**
+         * EMERGENCY 외 알림의 발송 보류 시간 (초, 같은 순간에 몰린 알림을 한 번에 묶기 위함)
+         */
+        private int holdSeconds = 30;
+
+        /**
+         * 여러 알림을 묶어 보낼 때의 메시지 템플릿 (대표 알림 메시지, 함께 묶인 알림 수)
+         */
+        private String summaryTemplate = "%s (관련 알림 %d건 포함)";
+    }
+}
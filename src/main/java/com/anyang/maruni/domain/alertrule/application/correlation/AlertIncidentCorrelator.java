@@ -0,0 +1,138 @@
+package com.anyang.maruni.domain.alertrule.application.correlation;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 사건(인시던트) 상관 분석기
+ *
+ * 한 회원에게 짧은 시간에 몰린 알림(무응답, 감정 패턴, 여러 번의 키워드 감지 등)을 하나의 사건으로 묶어
+ * 보호자에게는 사건당 한 번, 가장 높은 레벨로만 알리도록 발송 계획을 세웁니다.
+ * - 사건은 마지막으로 알리거나 묶은 알림으로부터 윈도우 안에 들어온 알림으로 이어짐 (슬라이딩 윈도우)
+ * - 진행 중인 사건보다 높은 레벨의 알림이 오면 그 알림만 따로 알림 (레벨 상향)
+ * - 묶인 알림도 alert_history 행은 그대로 남음 (notification_result = CORRELATED, incident_alert_id)
+ * 호출 측(AlertNotificationService)이 회원의 발송 대기 알림을 잠근 트랜잭션 안에서 사용합니다.
+ */
+@Component
+@Slf4j
+public class AlertIncidentCorrelator {
+
+    private static final String CORRELATED_COUNTER = "maruni.alert.correlation.correlated";
+
+    /** 레벨이 높은 순, 같은 레벨이면 먼저 기록된 순 */
+    private static final Comparator<AlertHistory> REPRESENTATIVE_ORDER =
+            Comparator.comparing(AlertHistory::getAlertLevel, AlertLevel.descendingComparator())
+                    .thenComparing(AlertHistory::getId);
+
+    private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertConfigurationProperties alertConfig;
+    private final Counter correlatedCounter;
+
+    public AlertIncidentCorrelator(AlertHistoryRepository alertHistoryRepository,
+                                   AlertConfigurationProperties alertConfig,
+                                   MeterRegistry meterRegistry) {
+        this.alertHistoryRepository = alertHistoryRepository;
+        this.alertConfig = alertConfig;
+        this.correlatedCounter = Counter.builder(CORRELATED_COUNTER)
+                .description("사건으로 묶여 따로 보호자 알림을 보내지 않은 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 발송 대기 알림에 대한 발송 계획
+     *
+     * @param memberId 회원 ID
+     * @param pending 잠금 조회한 회원의 발송 대기 알림 (비어 있지 않음)
+     * @return 발송 계획
+     */
+    public IncidentPlan plan(Long memberId, List<AlertHistory> pending) {
+        AlertHistory representative = pending.stream().min(REPRESENTATIVE_ORDER).orElseThrow();
+        List<AlertHistory> others = pending.stream().filter(alert -> alert != representative).toList();
+
+        LocalDateTime since = LocalDateTime.now().minusMinutes(Math.max(0, alertConfig.getCorrelation().getWindowMinutes()));
+        List<AlertHistory> recent = alertHistoryRepository.findNotifiedByMemberSince(memberId, since);
+        if (recent.isEmpty()) {
+            return new IncidentPlan(representative, others, null, true);
+        }
+
+        Long openIncidentId = recent.get(0).resolveIncidentId();
+        AlertLevel incidentLevel = recent.stream()
+                .filter(alert -> openIncidentId.equals(alert.resolveIncidentId()))
+                .map(AlertHistory::getAlertLevel)
+                .max(AlertLevel.ascendingComparator())
+                .orElseThrow();
+
+        boolean raisesLevel = !incidentLevel.isHigherOrEqualThan(representative.getAlertLevel());
+        return new IncidentPlan(representative, others, openIncidentId, raisesLevel);
+    }
+
+    /**
+     * 보호자 메시지 (다른 알림이 함께 묶였으면 건수를 덧붙임)
+     */
+    public String summarize(IncidentPlan plan) {
+        String message = plan.representative().getAlertMessage();
+        if (plan.others().isEmpty()) {
+            return message;
+        }
+        return String.format(alertConfig.getCorrelation().getSummaryTemplate(), message, plan.others().size());
+    }
+
+    /**
+     * 계획대로 알림 이력을 사건에 묶음 (대표 알림을 보냈거나, 보낼 필요가 없을 때 호출)
+     *
+     * @param plan 발송 계획
+     */
+    public void complete(IncidentPlan plan) {
+        Long incidentId = plan.incidentId();
+        List<AlertHistory> correlated = plan.notifyGuardian() ? plan.others() : plan.alerts();
+        correlated.forEach(alert -> alert.markCorrelated(incidentId));
+        correlatedCounter.increment(correlated.size());
+
+        if (plan.notifyGuardian() && plan.openIncidentId() != null) {
+            // 레벨 상향: 상향된 알림이 사건의 재알림을 이어받음
+            plan.representative().joinIncident(incidentId);
+            alertHistoryRepository.findById(incidentId).ifPresent(AlertHistory::closeEscalation);
+            log.info("Alert incident {} raised to {} by alert {}",
+                    incidentId, plan.representative().getAlertLevel(), plan.representative().getId());
+        }
+    }
+
+    /**
+     * 사건 단위 발송 계획
+     *
+     * @param representative 사건을 대표하는 알림 (가장 높은 레벨)
+     * @param others 함께 묶이는 나머지 발송 대기 알림
+     * @param openIncidentId 진행 중인 사건의 대표 알림 ID (없으면 null, 새 사건)
+     * @param notifyGuardian 보호자에게 알려야 하면 true (새 사건 또는 레벨 상향)
+     */
+    public record IncidentPlan(AlertHistory representative, List<AlertHistory> others,
+                               Long openIncidentId, boolean notifyGuardian) {
+
+        /**
+         * 묶일 사건의 ID (진행 중인 사건이 없으면 대표 알림이 새 사건)
+         */
+        public Long incidentId() {
+            return openIncidentId != null ? openIncidentId : representative.getId();
+        }
+
+        /**
+         * 계획에 포함된 모든 알림
+         */
+        public List<AlertHistory> alerts() {
+            return Stream.concat(Stream.of(representative), others.stream()).toList();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.anyang.maruni.domain.alertrule.application.dto.response;
 
+import com.anyang.maruni.domain.alertrule.application.cache.AlertRuleSnapshot;
 import com.anyang.maruni.domain.alertrule.application.dto.request.AlertConditionDto;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
@@ -111,4 +112,31 @@ public class AlertRuleResponseDto {
                 .updatedAt(alertRule.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 캐시된 규칙 스냅샷에서 DTO로 변환하는 정적 팩토리 메서드
+     * @param snapshot 알림 규칙 스냅샷
+     * @return AlertRuleResponseDto
+     */
+    public static AlertRuleResponseDto from(AlertRuleSnapshot snapshot) {
+        AlertConditionDto conditionDto = AlertConditionDto.builder()
+                .consecutiveDays(snapshot.consecutiveDays())
+                .thresholdCount(snapshot.thresholdCount())
+                .keywords(snapshot.keywords())
+                .description(null) // AlertCondition에는 description 필드 없음
+                .build();
+
+        return AlertRuleResponseDto.builder()
+                .id(snapshot.id())
+                .memberId(snapshot.memberId())
+                .alertType(snapshot.alertType())
+                .alertLevel(snapshot.alertLevel())
+                .ruleName(snapshot.ruleName())
+                .condition(conditionDto)
+                .description(snapshot.ruleDescription())
+                .active(snapshot.active())
+                .createdAt(snapshot.createdAt())
+                .updatedAt(snapshot.updatedAt())
+                .build();
+    }
 }
\ No newline at end of file
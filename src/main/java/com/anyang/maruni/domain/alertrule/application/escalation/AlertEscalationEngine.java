@@ -0,0 +1,192 @@
+package com.anyang.maruni.domain.alertrule.application.escalation;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertEscalationService;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.vo.PendingEscalation;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미확인 알림 에스컬레이션 엔진
+ *
+ * 보호자가 확인하지 않은 EMERGENCY/HIGH 알림의 재알림 예약을 메모리 타이밍 휠에 보관하고,
+ * 만료된 예약만 AlertEscalationService로 처리합니다. 평소에는 alert_history를 폴링하지 않습니다.
+ * - 기동 시 next_escalation_at이 남은 알림으로 타이머를 재구성
+ * - 새 알림은 트랜잭션 커밋 후 타이머 등록 (롤백된 알림은 예약되지 않음)
+ * - 다른 노드가 예약한 알림(해당 노드 종료 등)은 긴 주기의 재동기화로 가져오며,
+ *   같은 예약을 여러 노드가 처리해도 행 잠금과 에스컬레이션 단계 비교로 한 번만 재알림
+ * - 재알림 발송 토큰은 알림 이력을 잠그는 트랜잭션을 열기 전에 확보
+ */
+@Component
+@Slf4j
+public class AlertEscalationEngine {
+
+    private static final String TIMER_GAUGE = "maruni.alert.escalation.timers";
+    private static final String FIRED_COUNTER = "maruni.alert.escalation.fired";
+    private static final long RETRY_DELAY_MILLIS = 60_000;
+
+    private final AlertEscalationService alertEscalationService;
+    private final AlertConfigurationProperties alertConfig;
+    private final NotificationDispatchStage dispatchStage;
+    private final TimingWheel<PendingEscalation> wheel;
+    private final Counter firedCounter;
+
+    /** 휠에 걸려 있는 알림 이력 ID → 에스컬레이션 단계 (재동기화 시 중복 등록 방지) */
+    private final Map<Long, Integer> armed = new ConcurrentHashMap<>();
+
+    public AlertEscalationEngine(AlertEscalationService alertEscalationService,
+                                 AlertConfigurationProperties alertConfig,
+                                 NotificationDispatchStage dispatchStage,
+                                 MeterRegistry meterRegistry) {
+        this.alertEscalationService = alertEscalationService;
+        this.alertConfig = alertConfig;
+        this.dispatchStage = dispatchStage;
+
+        AlertConfigurationProperties.Escalation config = alertConfig.getEscalation();
+        this.wheel = new TimingWheel<>(Math.max(1, config.getTickMillis()), config.getWheelSize(),
+                System.currentTimeMillis());
+        this.firedCounter = Counter.builder(FIRED_COUNTER)
+                .description("만료되어 처리한 에스컬레이션 타이머 수")
+                .register(meterRegistry);
+        Gauge.builder(TIMER_GAUGE, wheel, TimingWheel::size)
+                .description("대기 중인 에스컬레이션 타이머 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 알림의 첫 에스컬레이션 시각
+     *
+     * @param alertLevel 알림 레벨
+     * @return 첫 에스컬레이션 시각 (에스컬레이션 대상이 아니면 null)
+     */
+    public LocalDateTime firstEscalationAt(AlertLevel alertLevel) {
+        return alertEscalationService.nextEscalationAt(alertLevel, LocalDateTime.now());
+    }
+
+    /**
+     * 새 알림의 에스컬레이션 타이머 등록 (트랜잭션 안이면 커밋 후 등록)
+     *
+     * @param alertHistoryId 알림 이력 ID
+     * @param dueAt 첫 에스컬레이션 시각
+     */
+    public void scheduleAfterCommit(Long alertHistoryId, LocalDateTime dueAt) {
+        PendingEscalation timer = new PendingEscalation(alertHistoryId, 0, dueAt);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule(timer);
+                }
+            });
+        } else {
+            schedule(timer);
+        }
+    }
+
+    /**
+     * 에스컬레이션 타이머 등록 (같은 단계로 이미 걸려 있으면 무시)
+     */
+    public void schedule(PendingEscalation timer) {
+        Integer previous = armed.put(timer.alertHistoryId(), timer.escalationLevel());
+        if (previous != null && previous == timer.escalationLevel()) {
+            return;
+        }
+        wheel.schedule(timer, toEpochMillis(timer.dueAt()));
+    }
+
+    /**
+     * 기동 시 남은 에스컬레이션 예약으로 타이머 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!alertConfig.getEscalation().isEnabled()) {
+            return;
+        }
+
+        List<PendingEscalation> pending = alertEscalationService.findPendingEscalations();
+        pending.forEach(this::schedule);
+        log.info("Alert escalation wheel rebuilt with {} pending escalations", pending.size());
+    }
+
+    /**
+     * 다른 노드가 예약한 에스컬레이션 인계 (이미 걸린 예약은 무시)
+     */
+    @Scheduled(fixedDelayString = "${maruni.alert.escalation.resync-interval-millis:900000}",
+            initialDelayString = "${maruni.alert.escalation.resync-interval-millis:900000}")
+    public void resync() {
+        if (!alertConfig.getEscalation().isEnabled()) {
+            return;
+        }
+        alertEscalationService.findPendingEscalations().forEach(this::schedule);
+    }
+
+    /**
+     * 타이밍 휠 진행 및 만료된 예약 처리
+     */
+    @Scheduled(fixedDelayString = "${maruni.alert.escalation.tick-millis:1000}")
+    public void tick() {
+        advance(System.currentTimeMillis());
+    }
+
+    /**
+     * 주어진 시각까지 휠을 진행하고 만료된 예약 처리
+     *
+     * @return 처리한 예약 수
+     */
+    int advance(long nowMillis) {
+        List<PendingEscalation> expired = wheel.advance(nowMillis);
+        for (PendingEscalation timer : expired) {
+            armed.remove(timer.alertHistoryId(), timer.escalationLevel());
+            firedCounter.increment();
+            try {
+                dispatchStage.withPermits(NotificationChannelType.PUSH, recipientCount(timer),
+                        () -> alertEscalationService.escalate(timer)).ifPresent(this::schedule);
+            } catch (RuntimeException e) {
+                log.warn("Escalation of alert {} failed, retrying in {}ms: {}",
+                        timer.alertHistoryId(), RETRY_DELAY_MILLIS, e.getMessage());
+                armed.put(timer.alertHistoryId(), timer.escalationLevel());
+                wheel.schedule(timer, nowMillis + RETRY_DELAY_MILLIS);
+            }
+        }
+        return expired.size();
+    }
+
+    /**
+     * 재알림 받을 최대 인원 (보호자 + 추가 연락처 확대 차수면 추가 연락처)
+     */
+    private int recipientCount(PendingEscalation timer) {
+        AlertConfigurationProperties.Escalation config = alertConfig.getEscalation();
+        int escalation = timer.escalationLevel() + 1;
+        return 1 + (escalation >= config.getWidenFromEscalation() ? config.getAdditionalContactIds().size() : 0);
+    }
+
+    /**
+     * 대기 중인 타이머 수
+     */
+    public int size() {
+        return wheel.size();
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,121 @@
+package com.anyang.maruni.domain.alertrule.application.escalation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * 타이머를 만료 시각의 칸(tick)에 해시하여 보관하고, advance가 호출될 때 지나간 칸만 확인합니다.
+ * - 예약/취소 비용은 타이머 수와 무관(O(1))하고, 한 칸을 지날 때 그 칸의 타이머만 확인
+ * - 휠 한 바퀴보다 먼 타이머는 남은 바퀴 수(rounds)를 두고 같은 칸에 보관
+ * - schedule은 어느 스레드에서나 호출할 수 있으며, 칸 접근은 advance를 호출하는 스레드로 한정
+ *
+ * @param <T> 만료 시 돌려줄 타이머 내용
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final ArrayDeque<Entry<T>>[] buckets;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /** 처리를 마친 마지막 칸 번호 (시작 시각 기준) */
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        int normalizedSize = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = normalizedSize - 1;
+        this.buckets = new ArrayDeque[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 타이머 예약 (다음 advance에서 칸에 배치)
+     * @param task 타이머 내용
+     * @param deadlineMillis 만료 시각 (epoch 밀리초)
+     */
+    public void schedule(T task, long deadlineMillis) {
+        pending.add(new Entry<>(task, deadlineMillis));
+        size.incrementAndGet();
+    }
+
+    /**
+     * 현재 시각까지 지나간 칸을 처리하고 만료된 타이머 반환
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 만료된 타이머 내용 (만료 칸 순)
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        placePending(expired);
+
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            expireBucket(buckets[(int) (currentTick & mask)], expired);
+        }
+
+        size.addAndGet(-expired.size());
+        return expired;
+    }
+
+    /**
+     * 보관 중인 타이머 수 (배치 대기 포함)
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private void placePending(List<T> expired) {
+        Entry<T> timer;
+        while ((timer = pending.poll()) != null) {
+            long deadlineTick = Math.ceilDiv(timer.deadlineMillis - startMillis, tickMillis);
+            long ticksAhead = deadlineTick - currentTick;
+            if (ticksAhead <= 0) {
+                expired.add(timer.task);
+                continue;
+            }
+            timer.remainingRounds = (ticksAhead - 1) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timer);
+        }
+    }
+
+    private void expireBucket(ArrayDeque<Entry<T>> bucket, List<T> expired) {
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> timer = iterator.next();
+            if (timer.remainingRounds <= 0) {
+                iterator.remove();
+                expired.add(timer.task);
+            } else {
+                timer.remainingRounds--;
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T task;
+        private final long deadlineMillis;
+        private long remainingRounds;
+
+        private Entry(T task, long deadlineMillis) {
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
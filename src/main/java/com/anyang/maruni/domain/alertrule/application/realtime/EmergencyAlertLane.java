@@ -0,0 +1,213 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+import com.anyang.maruni.global.persistence.ReservedConnectionDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * EMERGENCY 알림 전용 처리 레인
+ *
+ * 긴급 키워드 알림이 대화 처리나 야간 일괄 작업과 스레드/DB 커넥션을 두고 경쟁하지 않도록
+ * 미리 생성한 전용 스레드에서 알림을 기록하고, 아웃박스 디스패처 폴링을 기다리지 않고 바로 발송합니다.
+ * - 레인 스레드는 기본 풀에서 떼어 둔 예약 커넥션 풀만 사용 (maruni.datasource.reserved-connections,
+ *   일괄 작업·요청 처리가 가져갈 수 없음)
+ * - 발송 토큰은 채널별 EMERGENCY 전용 버킷에서 확보 (일괄 발송과 토큰을 나누지 않음)
+ * - 호출 측 트랜잭션이 끝난 뒤 제출 (알림 처리가 사용자 대화 트랜잭션에 참여하지 않음)
+ * - 대기열이 가득 차면 알림을 버리지 않고 별도 트랜잭션으로 아웃박스에 기록 (디스패처가 발송)
+ * - 메시지 수신부터 보호자 알림 기록까지의 시간을 히스토그램으로 기록하고, SLO를 넘으면 위반 수와 에러 로그를 남김
+ * - 바로 발송하지 못한 알림은 아웃박스 재시도로 넘어가며 SLO 위반으로 기록
+ */
+@Component
+@Slf4j
+public class EmergencyAlertLane {
+
+    private static final String LATENCY_TIMER = "maruni.alert.emergency.latency";
+    private static final String SLO_BREACH_COUNTER = "maruni.alert.emergency.slo.breaches";
+    private static final String QUEUE_GAUGE = "maruni.alert.emergency.queue";
+
+    private final AlertNotificationService alertNotificationService;
+    private final AlertConfigurationProperties alertConfig;
+    private final NotificationDispatchStage dispatchStage;
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate requiresNewTemplate;
+    private final Timer latencyTimer;
+    private final Counter sloBreachCounter;
+
+    public EmergencyAlertLane(AlertNotificationService alertNotificationService,
+                              AlertConfigurationProperties alertConfig,
+                              NotificationDispatchStage dispatchStage,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.alertNotificationService = alertNotificationService;
+        this.alertConfig = alertConfig;
+        this.dispatchStage = dispatchStage;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AlertConfigurationProperties.Emergency config = alertConfig.getEmergency();
+        int threads = Math.max(1, config.getThreads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                reservedConnectionThreads(Thread.ofPlatform().name("emergency-alert-", 0).factory()),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        this.latencyTimer = Timer.builder(LATENCY_TIMER)
+                .description("EMERGENCY 알림 메시지 수신부터 보호자 알림 기록까지의 시간")
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(Duration.ofMillis(Math.max(1, config.getSloMillis())))
+                .register(meterRegistry);
+        this.sloBreachCounter = Counter.builder(SLO_BREACH_COUNTER)
+                .description("EMERGENCY 알림 SLO 위반 수 (목표 시간 초과 또는 즉시 발송 실패)")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_GAUGE, executor, pool -> pool.getQueue().size())
+                .description("EMERGENCY 알림 대기열 길이")
+                .register(meterRegistry);
+    }
+
+    /**
+     * EMERGENCY 알림 처리 요청 (전용 스레드에서 비동기 처리)
+     *
+     * 호출 측 트랜잭션 안이면 트랜잭션이 끝난 뒤(커밋·롤백 모두) 제출합니다.
+     * 긴급 키워드는 이미 감지되었으므로 대화 저장이 롤백돼도 알림은 기록합니다.
+     *
+     * @param memberId 회원 ID
+     * @param alertResult 알림 결과
+     * @param receivedAt 알림을 일으킨 메시지 수신 시각
+     */
+    public void submit(Long memberId, AlertResult alertResult, LocalDateTime receivedAt) {
+        if (!alertConfig.getEmergency().isEnabled()) {
+            alertNotificationService.triggerAlert(memberId, alertResult);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    enqueue(memberId, alertResult, receivedAt);
+                }
+            });
+        } else {
+            enqueue(memberId, alertResult, receivedAt);
+        }
+    }
+
+    /**
+     * 레인 대기열에 추가 (가득 차면 호출 스레드에서 처리하지 않고 아웃박스로 넘김)
+     */
+    private void enqueue(Long memberId, AlertResult alertResult, LocalDateTime receivedAt) {
+        try {
+            executor.execute(() -> handle(memberId, alertResult, receivedAt));
+        } catch (RejectedExecutionException e) {
+            fallBackToOutbox(memberId, alertResult);
+        }
+    }
+
+    /**
+     * 레인이 받지 못한 알림을 별도 트랜잭션으로 기록 (아웃박스 디스패처가 이어서 발송)
+     *
+     * 트랜잭션 종료 콜백에서도 호출되므로 끝난 호출 측 트랜잭션에 참여하지 않도록 새 트랜잭션을 엽니다.
+     */
+    private void fallBackToOutbox(Long memberId, AlertResult alertResult) {
+        breach(memberId, "lane queue full, left to outbox");
+        try {
+            requiresNewTemplate.executeWithoutResult(
+                    status -> alertNotificationService.triggerAlert(memberId, alertResult));
+        } catch (RuntimeException e) {
+            log.error("Emergency alert fallback failed for member {}", memberId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Emergency alert lane did not drain within 5 seconds, pending alerts are left to the outbox");
+        }
+    }
+
+    /**
+     * 알림 기록 후 바로 발송하고 수신부터의 지연을 기록
+     */
+    void handle(Long memberId, AlertResult alertResult, LocalDateTime receivedAt) {
+        try {
+            if (!alertConfig.getOutbox().isEnabled()) {
+                // 동기 발송 모드: 알림 발생 트랜잭션에서 보호자 알림까지 기록
+                if (alertNotificationService.triggerAlert(memberId, alertResult) != null) {
+                    recordLatency(memberId, receivedAt);
+                }
+                return;
+            }
+
+            Long alertHistoryId = alertNotificationService.triggerClaimedAlert(memberId, alertResult);
+            if (alertHistoryId == null) {
+                return;
+            }
+            if (deliver(alertHistoryId)) {
+                recordLatency(memberId, receivedAt);
+            } else {
+                breach(memberId, "delivery failed, left to outbox retry");
+            }
+        } catch (RuntimeException e) {
+            log.error("Emergency alert handling failed for member {}", memberId, e);
+            breach(memberId, e.getMessage());
+        }
+    }
+
+    private boolean deliver(Long alertHistoryId) {
+        try {
+            return dispatchStage.withEmergencyPermits(NotificationChannelType.PUSH, 1,
+                    () -> alertNotificationService.deliverNotification(alertHistoryId));
+        } catch (RuntimeException e) {
+            alertNotificationService.recordDeliveryFailure(alertHistoryId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 레인 스레드는 수명 전체를 예약 커넥션 구간에서 실행
+     */
+    private static ThreadFactory reservedConnectionThreads(ThreadFactory threadFactory) {
+        return task -> threadFactory.newThread(() -> ReservedConnectionDataSource.runReserved(task));
+    }
+
+    private void recordLatency(Long memberId, LocalDateTime receivedAt) {
+        Duration latency = Duration.between(receivedAt, LocalDateTime.now());
+        latencyTimer.record(latency);
+        if (latency.toMillis() > alertConfig.getEmergency().getSloMillis()) {
+            breach(memberId, "latency " + latency.toMillis() + "ms");
+        }
+    }
+
+    private void breach(Long memberId, String reason) {
+        sloBreachCounter.increment();
+        log.error("🚨 EMERGENCY alert SLO ({}ms) breached for member {}: {}",
+                alertConfig.getEmergency().getSloMillis(), memberId, reason);
+    }
+}
@@ -0,0 +1,165 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import java.util.Arrays;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.strategy.EmotionPatternAnalyzer.EmotionTrend;
+
+/**
+ * 회원별 감정 롤링 윈도우 (일 단위 원형 버퍼)
+ *
+ * 최근 N+1일(오늘 포함)의 일별 감정 카운트를 원시 배열에 보관하고,
+ * 슬롯의 날짜(epoch day)가 다르면 지난 날짜로 보고 재사용합니다.
+ * 연속 부정 감정 일수는 야간 분석(member_daily_summary 집계)과 같은 의미입니다:
+ * 마지막으로 부정이 아닌 메시지가 있던 날 이후 부정 메시지가 있는 일수이며,
+ * 그날 자체는 마지막 메시지가 부정일 때만 포함합니다.
+ *
+ * 동기화는 호출 측(RealtimeEmotionEvaluator)이 인스턴스 단위로 수행합니다.
+ */
+public final class EmotionWindow {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long[] days;
+    private final int[] totalCounts;
+    private final int[] positiveCounts;
+    private final int[] negativeCounts;
+    private final int[] neutralCounts;
+
+    /**
+     * 그날 부정이 아닌 메시지(감정 없음 포함)가 있었는지
+     */
+    private final boolean[] nonNegativeSeen;
+
+    /**
+     * 그날 마지막 메시지가 부정인지
+     */
+    private final boolean[] negativeTail;
+
+    /**
+     * 실시간 알림을 마지막으로 발생시킨 날짜
+     */
+    private long alertedDay = EMPTY;
+
+    /**
+     * @param analysisDays 분석 기간 (일) - 오늘을 포함해 analysisDays + 1개 슬롯을 사용
+     */
+    public EmotionWindow(int analysisDays) {
+        int size = analysisDays + 1;
+        this.days = new long[size];
+        this.totalCounts = new int[size];
+        this.positiveCounts = new int[size];
+        this.negativeCounts = new int[size];
+        this.neutralCounts = new int[size];
+        this.nonNegativeSeen = new boolean[size];
+        this.negativeTail = new boolean[size];
+        Arrays.fill(days, EMPTY);
+    }
+
+    /**
+     * 메시지 1건 반영 (날짜순으로 도착한다고 가정)
+     *
+     * @param epochDay 메시지 날짜
+     * @param emotion 감정 (EmotionType 이름, 분석 결과가 없으면 null)
+     */
+    public void record(long epochDay, String emotion) {
+        int slot = slotFor(epochDay);
+        totalCounts[slot]++;
+        switch (emotion == null ? "" : emotion) {
+            case "NEGATIVE" -> negativeCounts[slot]++;
+            case "POSITIVE" -> positiveCounts[slot]++;
+            case "NEUTRAL" -> neutralCounts[slot]++;
+            default -> { }
+        }
+
+        boolean negative = "NEGATIVE".equals(emotion);
+        negativeTail[slot] = negative;
+        if (!negative) {
+            nonNegativeSeen[slot] = true;
+        }
+    }
+
+    /**
+     * 일별 요약으로 슬롯 초기화 (재시작 후 첫 메시지에서 복원)
+     */
+    public void seed(long epochDay, int total, int positive, int negative, int neutral,
+                     boolean hasNonNegative, boolean endsNegative) {
+        int slot = slotFor(epochDay);
+        totalCounts[slot] = total;
+        positiveCounts[slot] = positive;
+        negativeCounts[slot] = negative;
+        neutralCounts[slot] = neutral;
+        nonNegativeSeen[slot] = hasNonNegative;
+        negativeTail[slot] = endsNegative;
+    }
+
+    /**
+     * 오늘 기준 윈도우의 감정 추세
+     */
+    public EmotionTrend trend(long today) {
+        int total = 0;
+        int positive = 0;
+        int negative = 0;
+        int neutral = 0;
+        int consecutiveNegativeDays = 0;
+        boolean streakOpen = true;
+
+        for (long day = today; day > today - days.length; day--) {
+            int slot = slotOf(day);
+            if (days[slot] != day || totalCounts[slot] == 0) {
+                continue;
+            }
+            total += totalCounts[slot];
+            positive += positiveCounts[slot];
+            negative += negativeCounts[slot];
+            neutral += neutralCounts[slot];
+
+            if (streakOpen && negativeCounts[slot] > 0 && (!nonNegativeSeen[slot] || negativeTail[slot])) {
+                consecutiveNegativeDays++;
+            }
+            if (nonNegativeSeen[slot]) {
+                streakOpen = false;
+            }
+        }
+
+        double negativeRatio = total == 0 ? 0.0 : (double) negative / total;
+        return new EmotionTrend(total, positive, negative, neutral, consecutiveNegativeDays, negativeRatio);
+    }
+
+    /**
+     * 오늘 이미 실시간 알림을 발생시켰는지 여부
+     */
+    public boolean isAlerted(long today) {
+        return alertedDay == today;
+    }
+
+    /**
+     * 오늘 알림을 아직 발생시키지 않았다면 발생 상태로 표시
+     *
+     * @return 이번 호출에서 표시했으면 true (오늘 이미 발생했으면 false)
+     */
+    public boolean markAlerted(long today) {
+        if (alertedDay == today) {
+            return false;
+        }
+        alertedDay = today;
+        return true;
+    }
+
+    private int slotFor(long epochDay) {
+        int slot = slotOf(epochDay);
+        if (days[slot] != epochDay) {
+            days[slot] = epochDay;
+            totalCounts[slot] = 0;
+            positiveCounts[slot] = 0;
+            negativeCounts[slot] = 0;
+            neutralCounts[slot] = 0;
+            nonNegativeSeen[slot] = false;
+            negativeTail[slot] = false;
+        }
+        return slot;
+    }
+
+    private int slotOf(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) days.length);
+    }
+}
@@ -0,0 +1,161 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.anyang.maruni.domain.alertrule.application.cache.MemberRuleCache;
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
+import com.anyang.maruni.global.keyword.KeywordAutomaton;
+import com.anyang.maruni.global.keyword.KeywordCategory;
+import com.anyang.maruni.global.keyword.KeywordHits;
+import com.anyang.maruni.global.keyword.KeywordMatcher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 키워드 감지 규칙 캐시
+ *
+ * 회원의 활성 KEYWORD_DETECTION 규칙을 전역 위험/감정 사전과 함께 하나의 오토마톤으로 컴파일해 회원 ID로 캐시합니다.
+ * - 캐시 적중 시 DB 조회 없이 메시지를 한 번 스캔하여 전역/회원 키워드를 함께 검사
+ * - 키워드 규칙이 없는 회원은 별도 컴파일 없이 전역 사전만 사용 (빈 항목도 캐시)
+ * - 규칙 변경(AlertRuleChangedEvent) 커밋 후 해당 회원 항목 무효화 (다른 서버는 무효화 로그 폴링으로 무효화)
+ * - 전역 사전이 다시 컴파일되면(세대 번호 변경) 다음 조회 시 재컴파일
+ */
+@Component
+@Slf4j
+public class MemberKeywordRuleCache implements MemberRuleCache {
+
+    private final AlertRuleRepository alertRuleRepository;
+    private final KeywordMatcher keywordMatcher;
+    private final AlertConfigurationProperties alertConfig;
+
+    private final Map<Long, MemberKeywordRules> rulesByMember = new ConcurrentHashMap<>();
+
+    /**
+     * 무효화 횟수 (적재 중에 무효화가 일어나면 적재 결과를 캐시하지 않기 위한 확인용)
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public MemberKeywordRuleCache(AlertRuleRepository alertRuleRepository,
+                                  KeywordMatcher keywordMatcher,
+                                  AlertConfigurationProperties alertConfig) {
+        this.alertRuleRepository = alertRuleRepository;
+        this.keywordMatcher = keywordMatcher;
+        this.alertConfig = alertConfig;
+    }
+
+    /**
+     * 전역 사전과 회원 키워드 규칙으로 메시지를 한 번에 스캔
+     * @param memberId 회원 ID
+     * @param content 메시지 내용
+     * @return 분류별 매칭 결과와 매칭된 회원 규칙의 알림 레벨
+     */
+    public MemberKeywordScan scan(Long memberId, String content) {
+        MemberKeywordRules rules = get(memberId);
+        if (rules.automaton() == null) {
+            return new MemberKeywordScan(keywordMatcher.scan(content), null);
+        }
+
+        KeywordHits hits = rules.automaton().scan(content);
+        String memberKeyword = hits.first(KeywordCategory.MEMBER);
+        return new MemberKeywordScan(hits, memberKeyword != null ? rules.levels().get(memberKeyword) : null);
+    }
+
+    /**
+     * 규칙 변경 커밋 후 해당 회원 캐시 무효화 (트랜잭션 밖에서 발행되면 즉시 무효화)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAlertRuleChanged(AlertRuleChangedEvent event) {
+        evict(event.memberId());
+    }
+
+    @Override
+    public void evict(Long memberId) {
+        evictions.incrementAndGet();
+        rulesByMember.remove(memberId);
+    }
+
+    /**
+     * 현재 캐시된 회원 수
+     */
+    public int cachedMemberCount() {
+        return rulesByMember.size();
+    }
+
+    private MemberKeywordRules get(Long memberId) {
+        long generation = keywordMatcher.generation();
+        MemberKeywordRules cached = rulesByMember.get(memberId);
+        if (cached != null && cached.generation() == generation) {
+            return cached;
+        }
+
+        if (rulesByMember.size() >= alertConfig.getRealtime().getMaxTrackedMembers()) {
+            log.info("Member keyword rule cache reached {} members, clearing", rulesByMember.size());
+            rulesByMember.clear();
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        MemberKeywordRules loaded = load(memberId, generation);
+        if (evictions.get() == evictionsBeforeLoad) {
+            rulesByMember.put(memberId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 활성 키워드 규칙을 알림 레벨 내림차순으로 모아 컴파일 (같은 키워드는 높은 레벨 우선)
+     */
+    private MemberKeywordRules load(Long memberId, long generation) {
+        List<AlertRule> rules = alertRuleRepository.findActiveRulesByMemberIdAndAlertType(
+                memberId, AlertType.KEYWORD_DETECTION);
+
+        List<String> keywords = new ArrayList<>();
+        Map<String, AlertLevel> levels = new HashMap<>();
+        rules.stream()
+                .sorted(Comparator.comparing(AlertRule::getAlertLevel, AlertLevel.descendingComparator()))
+                .forEach(rule -> rule.getCondition().getKeywordList().forEach(keyword -> {
+                    if (levels.putIfAbsent(keyword, rule.getAlertLevel()) == null) {
+                        keywords.add(keyword);
+                    }
+                }));
+
+        if (keywords.isEmpty()) {
+            return new MemberKeywordRules(null, Map.of(), generation);
+        }
+        return new MemberKeywordRules(
+                keywordMatcher.compileWith(KeywordCategory.MEMBER, keywords), Map.copyOf(levels), generation);
+    }
+
+    /**
+     * 회원별로 컴파일된 키워드 규칙
+     *
+     * @param automaton 전역 사전과 회원 키워드를 함께 컴파일한 오토마톤 (회원 키워드가 없으면 null)
+     * @param levels 회원 키워드별 알림 레벨
+     * @param generation 컴파일 당시 전역 사전의 세대 번호
+     */
+    private record MemberKeywordRules(KeywordAutomaton automaton, Map<String, AlertLevel> levels, long generation) {
+    }
+
+    /**
+     * 한 번의 스캔 결과
+     *
+     * @param hits 전역/회원 분류별 매칭 결과
+     * @param memberLevel 매칭된 회원 키워드 규칙의 알림 레벨 (매칭이 없으면 null)
+     */
+    public record MemberKeywordScan(KeywordHits hits, AlertLevel memberLevel) {
+    }
+}
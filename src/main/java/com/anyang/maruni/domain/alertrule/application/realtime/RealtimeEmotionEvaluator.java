@@ -0,0 +1,214 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.strategy.EmotionPatternAnalyzer;
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
+import com.anyang.maruni.domain.conversation.domain.event.UserMessageSavedEvent;
+import com.anyang.maruni.domain.member.domain.entity.MemberDailySummary;
+import com.anyang.maruni.domain.member.domain.repository.MemberDailySummaryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 감정 패턴 실시간 평가기
+ *
+ * 사용자 메시지가 커밋되면 회원별 감정 윈도우(EmotionWindow)를 갱신하고,
+ * 부정 메시지로 임계값을 넘으면 야간 감지(22시)를 기다리지 않고 즉시 EMOTION_PATTERN 알림을 발생시킵니다.
+ * - 윈도우가 없는 회원(재시작 직후 등)은 회원별 일일 요약(member_daily_summary)에서 복원
+ * - 임계값 판정은 EmotionPatternAnalyzer와 같은 기준 사용
+ * - 알림은 회원별 하루 한 번만 발생 (야간 감지는 이미 발생한 알림을 건너뛰는 보정 단계)
+ *
+ * 윈도우는 노드별 메모리 상태이므로 다중 서버에서는 다른 노드가 받은 메시지가 반영되지 않습니다.
+ * 그래서 임계값을 넘으면 알림 전에 요약 테이블에서 윈도우를 다시 복원해 판정하며(다른 노드의 메시지 포함),
+ * 다른 노드의 부정 메시지가 빠져 임계값에 못 미친 경우는 야간 감지가 보정합니다.
+ *
+ * 커밋 이후(AFTER_COMMIT)에는 원래 트랜잭션에서 쓰기가 커밋되지 않으므로 알림 기록은 새 트랜잭션에서 수행합니다.
+ * 윈도우의 당일 알림 표시는 알림이 실제로 기록된 뒤(또는 오늘 이미 기록되어 있을 때)에만 남깁니다.
+ * 평가 실패는 대화 흐름에 영향을 주지 않습니다 (로그만 기록).
+ */
+@Component
+@Slf4j
+public class RealtimeEmotionEvaluator {
+
+    private final EmotionPatternAnalyzer emotionPatternAnalyzer;
+    private final AlertNotificationService alertNotificationService;
+    private final AlertRuleRepository alertRuleRepository;
+    private final MemberDailySummaryRepository summaryRepository;
+    private final AlertConfigurationProperties alertConfig;
+    private final TransactionTemplate requiresNewTemplate;
+
+    private final Map<Long, EmotionWindow> windows = new ConcurrentHashMap<>();
+
+    public RealtimeEmotionEvaluator(EmotionPatternAnalyzer emotionPatternAnalyzer,
+                                    AlertNotificationService alertNotificationService,
+                                    AlertRuleRepository alertRuleRepository,
+                                    MemberDailySummaryRepository summaryRepository,
+                                    AlertConfigurationProperties alertConfig,
+                                    PlatformTransactionManager transactionManager) {
+        this.emotionPatternAnalyzer = emotionPatternAnalyzer;
+        this.alertNotificationService = alertNotificationService;
+        this.alertRuleRepository = alertRuleRepository;
+        this.summaryRepository = summaryRepository;
+        this.alertConfig = alertConfig;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 사용자 메시지 커밋 후 감정 윈도우 갱신 및 임계값 평가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserMessageSaved(UserMessageSavedEvent event) {
+        if (!alertConfig.getRealtime().isEnabled()) {
+            return;
+        }
+
+        try {
+            evaluate(event);
+        } catch (Exception e) {
+            log.error("Realtime emotion evaluation failed for member {}: {}",
+                    event.memberId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 메모리의 감정 윈도우 전체 초기화 (야간 보정 이후 요약 테이블 기준으로 다시 복원)
+     */
+    public void reset() {
+        windows.clear();
+    }
+
+    /**
+     * 현재 메모리에 유지 중인 회원 수
+     */
+    public int trackedMemberCount() {
+        return windows.size();
+    }
+
+    private void evaluate(UserMessageSavedEvent event) {
+        Long memberId = event.memberId();
+        long today = event.savedAt().toLocalDate().toEpochDay();
+        String emotion = event.emotion() != null ? event.emotion().name() : null;
+
+        EmotionWindow window = windows.get(memberId);
+        if (window == null) {
+            window = restore(memberId, today, emotion);
+        } else {
+            synchronized (window) {
+                window.record(today, emotion);
+            }
+        }
+
+        // 부정이 아닌 메시지는 연속 일수와 부정 비율을 올리지 않으므로 평가 생략
+        if (!event.isNegative()) {
+            return;
+        }
+
+        synchronized (window) {
+            if (window.isAlerted(today) || !emotionPatternAnalyzer.evaluateRiskLevel(window.trend(today)).isAlert()) {
+                return;
+            }
+        }
+
+        if (!alertRuleRepository.existsActiveRule(memberId, AlertType.EMOTION_PATTERN)) {
+            return;
+        }
+
+        // 다른 노드가 받은 메시지까지 반영된 요약으로 다시 판정
+        EmotionWindow refreshed = load(memberId, today);
+        windows.put(memberId, refreshed);
+        AlertResult result = emotionPatternAnalyzer.evaluateRiskLevel(refreshed.trend(today));
+        if (result.isAlert()) {
+            raise(memberId, result, refreshed, today);
+        }
+    }
+
+    /**
+     * 일일 요약에서 윈도우 복원 (요약에는 방금 커밋된 메시지가 이미 반영되어 있음)
+     *
+     * 동시에 다른 스레드가 먼저 복원했다면 그 윈도우에 이번 메시지를 반영합니다.
+     */
+    private EmotionWindow restore(Long memberId, long today, String emotion) {
+        if (windows.size() >= alertConfig.getRealtime().getMaxTrackedMembers()) {
+            log.info("Realtime emotion windows reached {} members, clearing", windows.size());
+            windows.clear();
+        }
+
+        EmotionWindow restored = load(memberId, today);
+        EmotionWindow existing = windows.putIfAbsent(memberId, restored);
+        if (existing == null) {
+            return restored;
+        }
+        synchronized (existing) {
+            existing.record(today, emotion);
+        }
+        return existing;
+    }
+
+    /**
+     * 분석 기간의 일일 요약으로 새 윈도우 구성
+     */
+    private EmotionWindow load(Long memberId, long today) {
+        int analysisDays = alertConfig.getAnalysis().getDefaultDays();
+        LocalDate endDate = LocalDate.ofEpochDay(today);
+        List<MemberDailySummary> summaries = summaryRepository
+                .findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(
+                        memberId, endDate.minusDays(analysisDays), endDate);
+
+        EmotionWindow window = new EmotionWindow(analysisDays);
+        for (MemberDailySummary summary : summaries) {
+            window.seed(summary.getSummaryDate().toEpochDay(), summary.getUserMessageCount(),
+                    summary.getPositiveCount(), summary.getNegativeCount(), summary.getNeutralCount(),
+                    summary.getLastNonNegativeAt() != null, endsNegative(summary));
+        }
+        return window;
+    }
+
+    private boolean endsNegative(MemberDailySummary summary) {
+        return summary.getLastNegativeAt() != null
+                && (summary.getLastNonNegativeAt() == null
+                    || summary.getLastNegativeAt().isAfter(summary.getLastNonNegativeAt()));
+    }
+
+    /**
+     * 오늘 같은 알림이 없을 때만 새 트랜잭션에서 알림 발생 (활성 규칙은 호출 측에서 확인)
+     *
+     * 알림이 기록되었거나 오늘 이미 기록되어 있으면 윈도우에 당일 알림을 표시해 이후 메시지의 재확인을 생략합니다.
+     */
+    private void raise(Long memberId, AlertResult result, EmotionWindow window, long today) {
+        if (alertNotificationService.isAlreadyTriggeredToday(memberId, AlertType.EMOTION_PATTERN)) {
+            markAlerted(window, today);
+            return;
+        }
+
+        Long alertHistoryId = requiresNewTemplate.execute(
+                status -> alertNotificationService.triggerAlert(memberId, result));
+        if (alertHistoryId == null) {
+            return;
+        }
+        markAlerted(window, today);
+        log.warn("⚠️ Realtime {} emotion pattern alert for member {}: {}",
+                result.getAlertLevel(), memberId, result.getMessage());
+    }
+
+    private void markAlerted(EmotionWindow window, long today) {
+        synchronized (window) {
+            window.markAlerted(today);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.anyang.maruni.domain.alertrule.application.scheduler;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.notification.domain.exception.NotificationDispatchRejectedException;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보호자 알림 아웃박스 디스패처
+ *
+ * 알림 발생 시 발송 대기 상태로 커밋된 알림 이력(next_notification_at)을 주기적으로 점유하여 발송합니다.
+ * - 점유는 FOR UPDATE SKIP LOCKED와 점유 유효 시간으로 나뉘므로 모든 노드에서 실행
+ * - 한 건씩 별도 트랜잭션으로 발송하여 실패가 같은 배치의 다른 알림에 영향을 주지 않음
+ * - 발송 토큰은 발송 트랜잭션을 열기 전에 확보 (토큰 대기 중 알림 이력 행 잠금을 잡지 않음),
+ *   확보하지 못하면 실패로 기록하지 않고 점유 유효 시간 뒤 다시 발송
+ * - 실패는 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 GAVE_UP으로 기록
+ */
+@Component
+@Slf4j
+public class AlertNotificationDispatcher {
+
+    private static final String DELIVERY_COUNTER = "maruni.alert.outbox.deliveries";
+
+    private final AlertNotificationService alertNotificationService;
+    private final AlertConfigurationProperties alertConfig;
+    private final NotificationDispatchStage dispatchStage;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public AlertNotificationDispatcher(AlertNotificationService alertNotificationService,
+                                       AlertConfigurationProperties alertConfig,
+                                       NotificationDispatchStage dispatchStage,
+                                       MeterRegistry meterRegistry) {
+        this.alertNotificationService = alertNotificationService;
+        this.alertConfig = alertConfig;
+        this.dispatchStage = dispatchStage;
+        this.sentCounter = Counter.builder(DELIVERY_COUNTER)
+                .description("아웃박스 보호자 알림 발송 결과 수")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(DELIVERY_COUNTER)
+                .description("아웃박스 보호자 알림 발송 결과 수")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 대기 알림 배치 발송 트리거
+     *
+     * 배치 단위로 큐를 비우되, 한 번의 폴링이 무한히 길어지지 않도록 최대 배치 수로 제한
+     */
+    @Scheduled(fixedDelayString = "${maruni.alert.outbox.poll-interval-millis:1000}")
+    public void dispatchPendingNotifications() {
+        AlertConfigurationProperties.Outbox config = alertConfig.getOutbox();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        int batchSize = Math.max(1, config.getBatchSize());
+        for (int batch = 0; batch < config.getMaxBatchesPerRun(); batch++) {
+            if (dispatchBatch(batchSize) < batchSize) {
+                return;
+            }
+        }
+        log.info("Alert outbox reached {} batches, remaining notifications are left for the next poll",
+                config.getMaxBatchesPerRun());
+    }
+
+    /**
+     * 한 배치 점유 후 발송
+     *
+     * @return 점유한 알림 수 (batchSize보다 작으면 큐가 비었음)
+     */
+    int dispatchBatch(int batchSize) {
+        List<Long> claimedIds = alertNotificationService.claimDueNotifications(batchSize);
+        for (Long alertHistoryId : claimedIds) {
+            if (deliver(alertHistoryId)) {
+                sentCounter.increment();
+            } else {
+                failedCounter.increment();
+            }
+        }
+        if (!claimedIds.isEmpty()) {
+            log.debug("Dispatched {} guardian alert notifications", claimedIds.size());
+        }
+        return claimedIds.size();
+    }
+
+    private boolean deliver(Long alertHistoryId) {
+        try {
+            return dispatchStage.withPermits(NotificationChannelType.PUSH, 1,
+                    () -> alertNotificationService.deliverNotification(alertHistoryId));
+        } catch (NotificationDispatchRejectedException e) {
+            // 발송 실패가 아니므로 시도 횟수를 늘리지 않고, 점유 유효 시간이 지난 뒤 다시 발송됨
+            log.debug("Guardian notification for alert {} throttled, left claimed", alertHistoryId);
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Guardian notification delivery failed for alert {}: {}", alertHistoryId, e.getMessage());
+            try {
+                alertNotificationService.recordDeliveryFailure(alertHistoryId, e.getMessage());
+            } catch (RuntimeException recordFailure) {
+                // 기록도 실패하면 점유 유효 시간이 지난 뒤 다시 발송됨
+                log.error("Failed to record delivery failure for alert {}", alertHistoryId, recordFailure);
+            }
+            return false;
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.anyang.maruni.domain.alertrule.application.scheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.anyang.maruni.domain.alertrule.application.realtime.RealtimeEmotionEvaluator;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.global.scheduling.SchedulerCoordinator;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -11,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 매일 정시에 이상징후 감지를 트리거하는 스케줄러입니다.
  * 실제 비즈니스 로직은 AlertTriggerService에 위임합니다.
+ * 감정 패턴은 메시지 저장 시 실시간으로 평가되며, 야간 감지는 이를 보정하는 단계입니다.
+ * 다중 서버에서는 모든 노드가 실행하되 각자 담당 샤드(memberId % 노드 수)의 회원만 감지합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -18,6 +24,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AlertScheduler {
 
     private final AlertTriggerService alertTriggerService;
+    private final RealtimeEmotionEvaluator realtimeEmotionEvaluator;
+    private final SchedulerCoordinator schedulerCoordinator;
 
     /**
      * 매일 오후 10시 이상징후 감지 (하루 데이터 집계 후)
@@ -25,6 +33,10 @@ public class AlertScheduler {
     @Scheduled(cron = "${maruni.scheduling.alert-detection.cron}")
     public void triggerDailyAnomalyDetection() {
         log.info("📅 [AlertScheduler] Daily anomaly detection triggered");
-        alertTriggerService.detectAnomaliesForAllMembers();
+        alertTriggerService.detectAnomaliesForAllMembers(DailyCheckMemberCursor.FROM_BEGINNING,
+                schedulerCoordinator.resolveShard());
+
+        // 보정 완료 후 실시간 감정 윈도우를 비워 요약 테이블 기준으로 다시 복원
+        realtimeEmotionEvaluator.reset();
     }
 }
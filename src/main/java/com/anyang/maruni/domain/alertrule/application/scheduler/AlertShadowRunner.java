@@ -0,0 +1,130 @@
+package com.anyang.maruni.domain.alertrule.application.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectionService;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.shadow.ShadowJob;
+import com.anyang.maruni.global.shadow.ShadowRun;
+import com.anyang.maruni.global.shadow.ShadowRunReport;
+import com.anyang.maruni.global.shadow.ShadowTransactions;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이상징후 감지 섀도 실행기
+ *
+ * AlertTriggerService와 같이 페이지 단위 일괄 감지 후 알림을 실행하되, 페이지(청크)마다 롤백 전용 트랜잭션을 사용해
+ * 알림 이력과 보호자 알림 기록이 남지 않게 합니다.
+ * 병렬 모드가 켜져 있으면 운영과 같이 청크를 가상 스레드에서 처리하고(동시 청크 수는 parallelism),
+ * 섀도 실행 컨텍스트를 작업 스레드로 전파합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertShadowRunner implements ShadowJob {
+
+    private final AlertDetectionService alertDetectionService;
+    private final AlertNotificationService alertNotificationService;
+    private final DailyCheckMemberCursor memberCursor;
+    private final SchedulingProperties schedulingProperties;
+    private final ShadowTransactions shadowTransactions;
+
+    @Override
+    public String name() {
+        return "alert-detection";
+    }
+
+    @Override
+    public ShadowRunReport runShadow() {
+        SchedulingProperties.AlertDetection config = schedulingProperties.getAlertDetection();
+        int parallelism = config.isParallel() ? Math.max(1, config.getParallelism()) : 1;
+
+        try (ShadowRun run = ShadowRun.start(name());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             Stream<List<Long>> pages = memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING)) {
+            run.count("parallelism", parallelism);
+            Semaphore connections = new Semaphore(parallelism);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+            Iterator<List<Long>> iterator = pages.iterator();
+            while (run.stage("member-page", iterator::hasNext)) {
+                List<Long> page = iterator.next();
+                run.count("members", page.size());
+                if (!config.isParallel()) {
+                    processChunk(run, page);
+                    continue;
+                }
+                for (List<Long> chunk : partition(page, Math.max(1, config.getChunkSize()))) {
+                    connections.acquireUninterruptibly();
+                    futures.add(CompletableFuture.runAsync(run.propagate(() -> {
+                        try {
+                            processChunk(run, chunk);
+                        } finally {
+                            connections.release();
+                        }
+                    }), executor));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            return run.report();
+        }
+    }
+
+    /**
+     * 페이지(청크)를 롤백 전용 트랜잭션에서 감지/알림 (실패는 보고서에 집계)
+     */
+    private void processChunk(ShadowRun run, List<Long> memberIds) {
+        try {
+            shadowTransactions.rollback(() -> {
+                detectAndNotifyForPage(run, memberIds);
+                return null;
+            });
+        } catch (Exception e) {
+            run.count("failures", memberIds.size());
+            log.warn("Shadow anomaly detection failed for page starting at member {}: {}",
+                    memberIds.get(0), e.getMessage());
+        }
+    }
+
+    private void detectAndNotifyForPage(ShadowRun run, List<Long> memberIds) {
+        Map<Long, List<AlertResult>> resultsByMember = run.stage("detect-batch",
+                () -> alertDetectionService.detectAnomaliesBatch(memberIds));
+
+        resultsByMember.forEach((memberId, results) -> {
+            for (AlertResult result : results) {
+                if (!result.isAlert()) {
+                    continue;
+                }
+                if (alertNotificationService.isAlreadyTriggeredToday(memberId, result.getAlertType())) {
+                    run.count("skipped-already-triggered", 1);
+                    continue;
+                }
+                run.count("planned-alerts." + result.getAlertLevel(), 1);
+                run.stage("trigger-alert", () -> alertNotificationService.triggerAlert(memberId, result));
+            }
+        });
+    }
+
+    private static List<List<Long>> partition(List<Long> memberIds, int chunkSize) {
+        List<List<Long>> chunks = new ArrayList<>((memberIds.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < memberIds.size(); from += chunkSize) {
+            chunks.add(memberIds.subList(from, Math.min(from + chunkSize, memberIds.size())));
+        }
+        return chunks;
+    }
+}
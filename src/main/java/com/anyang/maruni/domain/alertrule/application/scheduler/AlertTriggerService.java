@@ -1,59 +1,225 @@
 package com.anyang.maruni.domain.alertrule.application.scheduler;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectionService;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
-import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.scheduling.ShardAssignment;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 알림 트리거 서비스
  *
  * AlertRule 호출을 전담하는 서비스 (SRP)
- * - 전체 회원 순회
+ * - 전체 회원 순회 (Keyset 커서로 페이지 단위 조회)
+ * - 페이지 단위 일괄 감지 (분석기별 집계 쿼리로 페이지당 쿼리 수 고정, 실패 시 회원별 감지로 대체)
+ * - 다중 서버: 담당 샤드(memberId % 노드 수)의 회원만 감지
+ * - 병렬 모드: 페이지를 청크로 나누어 가상 스레드에서 처리, 동시 DB 커넥션 사용 수는 Semaphore로 제한
  * - 예외 격리
- * - 성공/실패 카운트 추적
+ * - 실시간 감정 평가로 오늘 이미 발생한 알림은 건너뜀 (보정 단계)
+ * - 성공/실패 카운트, 전체 소요 시간, 회원별 지연 p50/p99, 최대 동시 커넥션 사용 수 추적
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AlertTriggerService {
 
+    private static final String MEMBER_TIMER = "maruni.alert.detection.member";
+    private static final String MEMBER_COUNTER = "maruni.alert.detection.members";
+
     private final AlertDetectionService alertDetectionService;
     private final AlertNotificationService alertNotificationService;
-    private final MemberRepository memberRepository;
+    private final DailyCheckMemberCursor memberCursor;
+    private final SchedulingProperties schedulingProperties;
+    private final Timer memberTimer;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+
+    public AlertTriggerService(AlertDetectionService alertDetectionService,
+                               AlertNotificationService alertNotificationService,
+                               DailyCheckMemberCursor memberCursor,
+                               SchedulingProperties schedulingProperties,
+                               MeterRegistry meterRegistry) {
+        this.alertDetectionService = alertDetectionService;
+        this.alertNotificationService = alertNotificationService;
+        this.memberCursor = memberCursor;
+        this.schedulingProperties = schedulingProperties;
+        this.memberTimer = Timer.builder(MEMBER_TIMER)
+                .description("이상징후 감지 회원별 처리 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.succeededCounter = Counter.builder(MEMBER_COUNTER)
+                .tag("result", "succeeded")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(MEMBER_COUNTER)
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
 
     /**
      * 전체 활성 회원 이상징후 감지 (예외 격리)
      *
      * Note: @Transactional 없음 - 각 회원 처리마다 독립적인 트랜잭션 사용
      *       (AlertDetectionService, AlertNotificationService가 각자 트랜잭션 관리)
+     *
+     * @return 감지 결과 요약
+     */
+    public DetectionResult detectAnomaliesForAllMembers() {
+        return detectAnomaliesForAllMembers(DailyCheckMemberCursor.FROM_BEGINNING);
+    }
+
+    /**
+     * 지정한 회원 ID 이후의 활성 회원 이상징후 감지 (중단된 실행 재개용)
+     *
+     * @return 감지 결과 요약
+     */
+    public DetectionResult detectAnomaliesForAllMembers(long afterMemberId) {
+        return detectAnomaliesForAllMembers(afterMemberId, ShardAssignment.SINGLE);
+    }
+
+    /**
+     * 지정한 회원 ID 이후의 활성 회원 중 담당 샤드의 회원만 이상징후 감지 (다중 서버 분배)
+     *
+     * @return 감지 결과 요약
+     */
+    public DetectionResult detectAnomaliesForAllMembers(long afterMemberId, ShardAssignment shard) {
+        SchedulingProperties.AlertDetection config = schedulingProperties.getAlertDetection();
+        DetectionRun run = new DetectionRun();
+
+        log.info("🔍 이상징후 감지 시작: 회원 ID {} 이후, 샤드 {}, {}", afterMemberId, shard,
+                config.isParallel() ? "병렬 " + Math.max(1, config.getParallelism()) : "순차");
+
+        try (Stream<List<Long>> pages = shard.isSingle()
+                ? memberCursor.pages(afterMemberId)
+                : memberCursor.pages(afterMemberId, shard)) {
+            Iterator<List<Long>> iterator = pages.iterator();
+            if (config.isParallel()) {
+                detectConcurrently(iterator, config, run);
+            } else {
+                while (iterator.hasNext()) {
+                    List<Long> memberIds = iterator.next();
+                    run.withConnection(() -> detectAndNotifyForPage(memberIds, run));
+                }
+            }
+        }
+
+        DetectionResult result = run.summarize();
+        log.info("✅ 이상징후 감지 완료: 성공 {}, 실패 {}, 소요 {}ms, 회원별 지연 p50 {}ms / p99 {}ms, 최대 동시 커넥션 {}",
+                result.succeeded(), result.failed(), result.elapsedMillis(),
+                String.format("%.1f", result.p50Millis()), String.format("%.1f", result.p99Millis()),
+                result.peakConnections());
+        return result;
+    }
+
+    /**
+     * 페이지를 청크로 나누어 가상 스레드에서 병렬 감지 (동시 커넥션 사용 수 제한)
+     *
+     * 커서는 호출 스레드에서 순회하며, 허가를 얻지 못하면 대기하므로 조회 속도도 함께 제한됩니다.
+     */
+    private void detectConcurrently(Iterator<List<Long>> pages, SchedulingProperties.AlertDetection config,
+                                    DetectionRun run) {
+        int chunkSize = Math.max(1, config.getChunkSize());
+        Semaphore connections = new Semaphore(Math.max(1, config.getParallelism()));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (pages.hasNext()) {
+                for (List<Long> chunk : partition(pages.next(), chunkSize)) {
+                    if (!acquire(connections)) {
+                        break;
+                    }
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            run.withConnection(() -> detectAndNotifyForPage(chunk, run));
+                        } finally {
+                            connections.release();
+                        }
+                    }, executor));
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+    }
+
+    /**
+     * 청크 실행 허가 획득 (인터럽트 시 false)
      */
-    public void detectAnomaliesForAllMembers() {
-        List<Long> activeMemberIds = memberRepository.findDailyCheckEnabledMemberIds();
-        int successCount = 0;
-        int failureCount = 0;
+    private boolean acquire(Semaphore connections) {
+        try {
+            connections.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("⚠️ 이상징후 감지 중단: 남은 회원은 다음 실행에서 처리");
+            return false;
+        }
+    }
 
-        log.info("🔍 이상징후 감지 시작: 대상 회원 {}명", activeMemberIds.size());
+    /**
+     * 회원 페이지(청크) 일괄 감지 및 알림 (private)
+     *
+     * 회원별 지연은 일괄 감지 시작부터 해당 회원의 알림 처리 완료까지의 시간입니다.
+     */
+    private void detectAndNotifyForPage(List<Long> memberIds, DetectionRun run) {
+        long startedAt = System.nanoTime();
+        Map<Long, List<AlertResult>> resultsByMember;
+        try {
+            resultsByMember = alertDetectionService.detectAnomaliesBatch(memberIds);
+        } catch (Exception e) {
+            log.warn("⚠️ 회원 {}부터 {}명 일괄 감지 실패, 회원별 감지로 대체: {}",
+                    memberIds.get(0), memberIds.size(), e.getMessage());
+            detectAndNotifyPerMember(memberIds, run);
+            return;
+        }
 
-        for (Long memberId : activeMemberIds) {
+        for (Long memberId : memberIds) {
+            try {
+                notifyAlerts(memberId, resultsByMember.getOrDefault(memberId, List.of()));
+                run.succeeded(startedAt);
+            } catch (Exception e) {
+                run.failed(startedAt);
+                log.error("❌ Member {}의 이상징후 알림 처리 실패", memberId, e);
+            }
+        }
+    }
+
+    /**
+     * 회원별 감지 및 알림 (일괄 감지 실패 시 대체 경로)
+     */
+    private void detectAndNotifyPerMember(List<Long> memberIds, DetectionRun run) {
+        for (Long memberId : memberIds) {
+            long startedAt = System.nanoTime();
             try {
                 detectAndNotifyForMember(memberId);
-                successCount++;
+                run.succeeded(startedAt);
             } catch (Exception e) {
-                failureCount++;
+                run.failed(startedAt);
                 log.error("❌ Member {}의 이상징후 감지 처리 실패", memberId, e);
                 // Phase 3: 모니터링 시스템에 알림 (선택)
             }
         }
-
-        log.info("✅ 이상징후 감지 완료: 성공 {}, 실패 {}", successCount, failureCount);
     }
 
     /**
@@ -64,11 +230,106 @@ public class AlertTriggerService {
         List<AlertResult> results = alertDetectionService.detectAnomalies(memberId);
 
         // 2. 감지된 위험 신호 처리
+        notifyAlerts(memberId, results);
+    }
+
+    /**
+     * 감지된 알림 발송 (실시간 감정 평가로 오늘 이미 발생한 알림은 건너뜀)
+     */
+    private void notifyAlerts(Long memberId, List<AlertResult> results) {
         for (AlertResult result : results) {
             if (result.isAlert()) {
+                if (alertNotificationService.isAlreadyTriggeredToday(memberId, result.getAlertType())) {
+                    log.debug("Member {}의 {} 알림은 오늘 이미 발생하여 건너뜀", memberId, result.getAlertType());
+                    continue;
+                }
                 alertNotificationService.triggerAlert(memberId, result);
                 log.info("⚠️ Member {}에게 {} 알림 발송", memberId, result.getAlertLevel());
             }
         }
     }
+
+    private static List<List<Long>> partition(List<Long> memberIds, int chunkSize) {
+        List<List<Long>> chunks = new ArrayList<>((memberIds.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < memberIds.size(); from += chunkSize) {
+            chunks.add(memberIds.subList(from, Math.min(from + chunkSize, memberIds.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 한 번의 감지 실행 집계 (여러 가상 스레드에서 동시에 기록)
+     */
+    private final class DetectionRun {
+
+        private final long startedAt = System.nanoTime();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger connectionsInUse = new AtomicInteger();
+        private final AtomicInteger peakConnections = new AtomicInteger();
+        private long[] latencies = new long[64];
+        private int latencyCount;
+
+        void withConnection(Runnable task) {
+            peakConnections.accumulateAndGet(connectionsInUse.incrementAndGet(), Math::max);
+            try {
+                task.run();
+            } finally {
+                connectionsInUse.decrementAndGet();
+            }
+        }
+
+        void succeeded(long memberStartedAt) {
+            succeeded.incrementAndGet();
+            succeededCounter.increment();
+            recordLatency(memberStartedAt);
+        }
+
+        void failed(long memberStartedAt) {
+            failed.incrementAndGet();
+            failedCounter.increment();
+            recordLatency(memberStartedAt);
+        }
+
+        private void recordLatency(long memberStartedAt) {
+            long latency = System.nanoTime() - memberStartedAt;
+            memberTimer.record(latency, TimeUnit.NANOSECONDS);
+            synchronized (this) {
+                if (latencyCount == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, latencyCount * 2);
+                }
+                latencies[latencyCount++] = latency;
+            }
+        }
+
+        synchronized DetectionResult summarize() {
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            return new DetectionResult(succeeded.get(), failed.get(),
+                    (System.nanoTime() - startedAt) / 1_000_000,
+                    percentileMillis(sorted, 0.5), percentileMillis(sorted, 0.99), peakConnections.get());
+        }
+
+        private double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * 이상징후 감지 결과 요약
+     *
+     * @param succeeded 처리에 성공한 회원 수
+     * @param failed 처리에 실패한 회원 수
+     * @param elapsedMillis 전체 소요 시간 (wall-clock)
+     * @param p50Millis 회원별 처리 지연 중앙값
+     * @param p99Millis 회원별 처리 지연 99분위
+     * @param peakConnections 동시에 DB 커넥션을 사용한 청크(페이지) 수의 최댓값
+     */
+    public record DetectionResult(int succeeded, int failed, long elapsedMillis, double p50Millis,
+                                  double p99Millis, int peakConnections) {
+    }
 }
@@ -6,13 +6,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.cache.ActiveRuleCache;
+import com.anyang.maruni.domain.alertrule.application.cache.AlertRuleSnapshot;
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AnalysisContext;
 import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
 import com.anyang.maruni.domain.alertrule.application.service.orchestrator.AlertAnalysisOrchestrator;
-import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
-import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
 import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.alertrule.application.service.util.AlertServiceUtils;
@@ -21,6 +21,11 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -28,13 +33,14 @@ import java.util.stream.Collectors;
  *
  * 기존 AlertRuleService에서 감지 관련 로직만 분리하여 SRP 준수
  * 감지 알고리즘 실행과 결과 반환에만 집중
+ * 활성 규칙은 ActiveRuleCache의 스냅샷으로 조회하여 매번 JOIN FETCH를 실행하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AlertDetectionService {
 
-    private final AlertRuleRepository alertRuleRepository;
+    private final ActiveRuleCache activeRuleCache;
     private final AlertAnalysisOrchestrator analysisOrchestrator;
     private final AlertConfigurationProperties alertConfig;
     private final AlertServiceUtils alertServiceUtils;
@@ -48,11 +54,64 @@ public class AlertDetectionService {
     @Transactional
     public List<AlertResult> detectAnomalies(Long memberId) {
         MemberEntity member = alertServiceUtils.validateAndGetMember(memberId);
-        List<AlertRule> activeRules = alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId);
+        List<AlertRuleSnapshot> activeRules = activeRuleCache.getActiveRules(memberId);
 
         return processAlertRules(member, activeRules);
     }
 
+    /**
+     * 회원 페이지의 이상징후 일괄 감지 (야간 감지용)
+     *
+     * 규칙은 캐시에서 조회하고(미적중 회원만 1회 조회), 일괄 분석 지원 타입별 집계 쿼리 1회로 페이지 전체를 분석합니다.
+     * 일괄 분석을 지원하지 않는 타입은 회원별로 분석합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 회원 ID별 감지된 이상징후 목록 (활성 규칙이 없는 회원은 포함되지 않음)
+     */
+    public Map<Long, List<AlertResult>> detectAnomaliesBatch(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<AlertRuleSnapshot>> rulesByMember = new LinkedHashMap<>();
+        activeRuleCache.getActiveRules(memberIds).forEach((memberId, rules) -> {
+            if (!rules.isEmpty()) {
+                rulesByMember.put(memberId, rules);
+            }
+        });
+        Map<AlertType, Map<Long, AlertResult>> batchResults = analyzeBatchByRuleType(rulesByMember);
+
+        Map<Long, List<AlertResult>> detectedAnomalies = new LinkedHashMap<>();
+        rulesByMember.forEach((memberId, rules) -> {
+            // 일괄 분석 미지원 타입을 위한 회원 엔티티와 컨텍스트 (필요할 때만 생성, 회원의 규칙끼리 공유)
+            MemberEntity member = null;
+            AnalysisContext memberContext = null;
+            List<AlertResult> memberAnomalies = new ArrayList<>();
+            for (AlertRuleSnapshot rule : rules) {
+                Map<Long, AlertResult> typeResults = batchResults.get(rule.alertType());
+                AlertResult analysisResult;
+                if (typeResults != null) {
+                    analysisResult = typeResults.getOrDefault(memberId, AlertResult.noAlert());
+                } else if (isAnalyzable(rule.alertType())) {
+                    if (member == null) {
+                        member = alertServiceUtils.validateAndGetMember(memberId);
+                        memberContext = createMemberContext();
+                    }
+                    analysisResult = analysisOrchestrator.analyzeByType(rule.alertType(), member, memberContext);
+                } else {
+                    analysisResult = AlertResult.noAlert();
+                }
+
+                if (isAlertTriggered(analysisResult)) {
+                    memberAnomalies.add(analysisResult);
+                }
+            }
+            detectedAnomalies.put(memberId, memberAnomalies);
+        });
+
+        return detectedAnomalies;
+    }
+
     /**
      * 특정 메시지에 대한 실시간 키워드 감지
      *
@@ -78,13 +137,13 @@ public class AlertDetectionService {
     }
 
     /**
-     * 회원의 활성 알림 규칙 조회 (성능 최적화 버전)
+     * 회원의 활성 알림 규칙 조회 (캐시)
      *
      * @param memberId 회원 ID
-     * @return 활성 알림 규칙 목록 (Member, Guardian 포함)
+     * @return 활성 알림 규칙 스냅샷 목록
      */
-    public List<AlertRule> getActiveRulesByMemberId(Long memberId) {
-        return alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId);
+    public List<AlertRuleSnapshot> getActiveRulesByMemberId(Long memberId) {
+        return activeRuleCache.getActiveRules(memberId);
     }
 
     /**
@@ -93,13 +152,13 @@ public class AlertDetectionService {
      * @param memberId 회원 ID
      * @return 우선순위 정렬된 활성 알림 규칙 목록
      */
-    public List<AlertRule> getActiveRulesByMemberIdOrderedByPriority(Long memberId) {
-        List<AlertRule> rules = getActiveRulesByMemberId(memberId); // 중복 호출 제거
+    public List<AlertRuleSnapshot> getActiveRulesByMemberIdOrderedByPriority(Long memberId) {
+        List<AlertRuleSnapshot> rules = getActiveRulesByMemberId(memberId); // 중복 호출 제거
 
         return rules.stream()
-                .sorted(Comparator.comparing(AlertRule::getAlertLevel, AlertLevel.descendingComparator())
-                    .thenComparing(AlertRule::getAlertType)
-                    .thenComparing(AlertRule::getCreatedAt, Comparator.reverseOrder()))
+                .sorted(Comparator.comparing(AlertRuleSnapshot::alertLevel, AlertLevel.descendingComparator())
+                    .thenComparing(AlertRuleSnapshot::alertType)
+                    .thenComparing(AlertRuleSnapshot::createdAt, Comparator.nullsLast(Comparator.reverseOrder())))
                 .collect(Collectors.toList());
     }
 
@@ -107,12 +166,23 @@ public class AlertDetectionService {
 
     /**
      * 활성 알림 규칙들 처리
+     *
+     * 회원의 모든 규칙이 하나의 분석 컨텍스트를 공유하므로, 규칙 수와 무관하게 분석 데이터는 타입별로 한 번만 조회됩니다.
      */
-    private List<AlertResult> processAlertRules(MemberEntity member, List<AlertRule> activeRules) {
+    private List<AlertResult> processAlertRules(MemberEntity member, List<AlertRuleSnapshot> activeRules) {
         List<AlertResult> detectedAnomalies = new ArrayList<>();
+        AnalysisContext context = null;
+
+        for (AlertRuleSnapshot rule : activeRules) {
+            if (!isAnalyzable(rule.alertType())) {
+                continue;
+            }
+            if (context == null) {
+                context = createMemberContext();
+            }
 
-        for (AlertRule rule : activeRules) {
-            AlertResult analysisResult = analyzeByRuleType(member, rule);
+            // Strategy Pattern을 사용한 분석
+            AlertResult analysisResult = analysisOrchestrator.analyzeByType(rule.alertType(), member, context);
 
             if (isAlertTriggered(analysisResult)) {
                 detectedAnomalies.add(analysisResult);
@@ -122,6 +192,25 @@ public class AlertDetectionService {
         return detectedAnomalies;
     }
 
+    /**
+     * 일괄 분석 지원 타입별로 규칙을 가진 회원들을 한 번에 분석
+     */
+    private Map<AlertType, Map<Long, AlertResult>> analyzeBatchByRuleType(Map<Long, List<AlertRuleSnapshot>> rulesByMember) {
+        Map<AlertType, Set<Long>> memberIdsByType = new EnumMap<>(AlertType.class);
+        rulesByMember.forEach((memberId, rules) -> rules.forEach(rule ->
+                memberIdsByType.computeIfAbsent(rule.alertType(), type -> new LinkedHashSet<>()).add(memberId)));
+
+        Map<AlertType, Map<Long, AlertResult>> batchResults = new EnumMap<>(AlertType.class);
+        memberIdsByType.forEach((alertType, memberIds) -> {
+            // 키워드 감지는 실시간 처리이므로 종합 분석에서는 제외
+            if (alertType != AlertType.KEYWORD_DETECTION && analysisOrchestrator.supportsBatch(alertType)) {
+                AnalysisContext context = createAnalysisContext(alertType, alertConfig.getAnalysis().getDefaultDays());
+                batchResults.put(alertType, analysisOrchestrator.analyzeBatchByType(alertType, memberIds, context));
+            }
+        });
+        return batchResults;
+    }
+
     /**
      * 알림 발생 여부 판단
      */
@@ -130,30 +219,24 @@ public class AlertDetectionService {
     }
 
     /**
-     * 알림 규칙 타입별 이상징후 분석
+     * 종합 분석 대상 타입인지 판단
      */
-    private AlertResult analyzeByRuleType(MemberEntity member, AlertRule rule) {
-        AlertType alertType = rule.getAlertType();
-
-        // 키워드 감지는 실시간 처리이므로 종합 분석에서는 제외
-        if (alertType == AlertType.KEYWORD_DETECTION) {
-            return AlertResult.noAlert();
-        }
-
-        // Strategy Pattern을 사용한 분석
-        if (analysisOrchestrator.isSupported(alertType)) {
-            AnalysisContext context = createAnalysisContext(alertType, alertConfig.getAnalysis().getDefaultDays());
-            return analysisOrchestrator.analyzeByType(alertType, member, context);
-        }
+    private boolean isAnalyzable(AlertType alertType) {
+        // 키워드 감지는 실시간 처리이므로 종합 분석에서는 제외, 지원하지 않는 타입도 제외
+        return alertType != AlertType.KEYWORD_DETECTION && analysisOrchestrator.isSupported(alertType);
+    }
 
-        // 지원하지 않는 타입인 경우
-        return AlertResult.noAlert();
+    /**
+     * 회원 한 명의 감지 실행에서 모든 규칙이 공유하는 분석 컨텍스트 생성
+     */
+    private AnalysisContext createMemberContext() {
+        return AnalysisContext.forMemberRun(alertConfig.getAnalysis().getDefaultDays());
     }
 
     /**
      * 알림 타입에 맞는 분석 컨텍스트 생성
      *
-     * 주의: KEYWORD_DETECTION은 이미 139행에서 필터링되므로 여기에 도달하지 않음
+     * 주의: KEYWORD_DETECTION은 호출 전에 필터링되므로 여기에 도달하지 않음
      */
     private AnalysisContext createAnalysisContext(AlertType alertType, int defaultDays) {
         switch (alertType) {
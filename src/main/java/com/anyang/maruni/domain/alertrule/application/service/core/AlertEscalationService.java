@@ -0,0 +1,180 @@
+package com.anyang.maruni.domain.alertrule.application.service.core;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+import com.anyang.maruni.domain.alertrule.domain.vo.PendingEscalation;
+import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.domain.notification.domain.service.NotificationHistoryService;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationSourceType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 미확인 알림 에스컬레이션 처리 서비스
+ *
+ * 보호자가 읽지 않은 EMERGENCY/HIGH 알림을 설정된 간격으로 재알림하고,
+ * 지정 차수부터는 추가 연락처에도 알립니다.
+ * 알림 확인 여부는 해당 알림 이력을 출처로 하는 알림 중 읽은 것이 있는지로 판정합니다.
+ * 언제 처리할지는 AlertEscalationEngine의 타이밍 휠이 정하고, 이 서비스는 만료된 예약 한 건만 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class AlertEscalationService {
+
+    private final AlertHistoryRepository alertHistoryRepository;
+    private final NotificationHistoryService notificationHistoryService;
+    private final AlertConfigurationProperties alertConfig;
+
+    /**
+     * 다음 에스컬레이션 시각 계산
+     *
+     * @param alertLevel 알림 레벨
+     * @param from 기준 시각
+     * @return 다음 에스컬레이션 시각 (에스컬레이션 대상이 아니면 null)
+     */
+    public LocalDateTime nextEscalationAt(AlertLevel alertLevel, LocalDateTime from) {
+        Duration interval = escalationInterval(alertLevel);
+        return interval != null ? from.plus(interval) : null;
+    }
+
+    /**
+     * 에스컬레이션 예약이 남아 있는 알림 목록 (타이머 재구성용)
+     */
+    public List<PendingEscalation> findPendingEscalations() {
+        return alertHistoryRepository.findPendingEscalations();
+    }
+
+    /**
+     * 만료된 에스컬레이션 예약 처리
+     *
+     * 알림 이력을 잠그고 예약이 여전히 유효한지 확인한 뒤,
+     * 확인되지 않았으면 재알림하고 다음 예약을 기록합니다.
+     *
+     * @param timer 만료된 예약
+     * @return 다시 걸어야 할 예약 (확인됨, 단계 소진, 예약 없음이면 empty)
+     */
+    @Transactional
+    public Optional<PendingEscalation> escalate(PendingEscalation timer) {
+        AlertHistory alertHistory = alertHistoryRepository.findByIdForUpdate(timer.alertHistoryId()).orElse(null);
+        if (alertHistory == null || alertHistory.getNextEscalationAt() == null) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        // 다른 노드가 이미 처리했거나 예약을 미룬 경우 바뀐 예약으로 다시 검
+        if (alertHistory.getEscalationLevel() != timer.escalationLevel()
+                || alertHistory.getNextEscalationAt().isAfter(now)) {
+            return Optional.of(toPendingEscalation(alertHistory));
+        }
+
+        if (notificationHistoryService.isAcknowledged(NotificationSourceType.ALERT_RULE, alertHistory.getId())) {
+            alertHistory.closeEscalation();
+            return Optional.empty();
+        }
+
+        LocalDateTime next = nextEscalationAt(alertHistory.getAlertLevel(), now);
+        if (next == null) {
+            alertHistory.closeEscalation();
+            return Optional.empty();
+        }
+
+        // 최초 보호자 알림이 아직 아웃박스 발송 대기 중이면 재알림하지 않고 미룸
+        if (!alertHistory.getIsNotificationSent() && alertHistory.getNextNotificationAt() != null) {
+            alertHistory.postponeEscalation(next);
+            return Optional.of(toPendingEscalation(alertHistory));
+        }
+
+        int escalation = alertHistory.getEscalationLevel() + 1;
+        int maxEscalations = alertConfig.getEscalation().getMaxEscalations();
+        if (!renotify(alertHistory, escalation)) {
+            alertHistory.closeEscalation();
+            return Optional.empty();
+        }
+
+        alertHistory.markEscalated(escalation < maxEscalations ? next : null);
+        return alertHistory.getNextEscalationAt() != null
+                ? Optional.of(toPendingEscalation(alertHistory))
+                : Optional.empty();
+    }
+
+    /**
+     * 재알림 발송 (보호자 + 지정 차수부터 추가 연락처)
+     *
+     * @return 재알림 받을 사람이 있었으면 true
+     */
+    private boolean renotify(AlertHistory alertHistory, int escalation) {
+        Set<Long> recipientIds = recipientIds(alertHistory.getMember(), escalation);
+        if (recipientIds.isEmpty()) {
+            return false;
+        }
+
+        String title = String.format(alertConfig.getEscalation().getTitleTemplate(),
+                escalation, alertHistory.getAlertLevel().name());
+        for (Long recipientId : recipientIds) {
+            try {
+                notificationHistoryService.recordNotificationWithType(
+                        recipientId,
+                        title,
+                        alertHistory.getAlertMessage(),
+                        AlertNotificationService.mapAlertTypeToNotificationType(alertHistory.getAlertType()),
+                        NotificationSourceType.ALERT_RULE,
+                        alertHistory.getId()
+                );
+            } catch (Exception e) {
+                // 한 명에게 실패해도 다른 연락처에는 발송 (다음 차수에 다시 재알림)
+                log.warn("Escalation {} for alert {} failed for recipient {}: {}",
+                        escalation, alertHistory.getId(), recipientId, e.getMessage());
+            }
+        }
+        log.info("Escalated unacknowledged alert {} (escalation {}, {} recipients)",
+                alertHistory.getId(), escalation, recipientIds.size());
+        return true;
+    }
+
+    private Set<Long> recipientIds(MemberEntity member, int escalation) {
+        AlertConfigurationProperties.Escalation config = alertConfig.getEscalation();
+        Set<Long> recipientIds = new LinkedHashSet<>();
+        if (member.getGuardian() != null) {
+            recipientIds.add(member.getGuardian().getId());
+        }
+        if (escalation >= config.getWidenFromEscalation()) {
+            recipientIds.addAll(config.getAdditionalContactIds());
+        }
+        return recipientIds;
+    }
+
+    /**
+     * 알림 레벨별 재알림 간격 (EMERGENCY/HIGH 외에는 에스컬레이션하지 않음)
+     */
+    private Duration escalationInterval(AlertLevel alertLevel) {
+        AlertConfigurationProperties.Escalation config = alertConfig.getEscalation();
+        if (!config.isEnabled() || config.getMaxEscalations() <= 0) {
+            return null;
+        }
+        return switch (alertLevel) {
+            case EMERGENCY -> Duration.ofMinutes(Math.max(1, config.getEmergencyIntervalMinutes()));
+            case HIGH -> Duration.ofMinutes(Math.max(1, config.getHighIntervalMinutes()));
+            default -> null;
+        };
+    }
+
+    private PendingEscalation toPendingEscalation(AlertHistory alertHistory) {
+        return new PendingEscalation(alertHistory.getId(), alertHistory.getEscalationLevel(),
+                alertHistory.getNextEscalationAt());
+    }
+}
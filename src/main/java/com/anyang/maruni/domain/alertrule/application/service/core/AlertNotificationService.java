@@ -1,72 +1,354 @@
 package com.anyang.maruni.domain.alertrule.application.service.core;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.cache.AlertHistoryDedupIndex;
 import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.correlation.AlertIncidentCorrelator;
+import com.anyang.maruni.domain.alertrule.application.correlation.AlertIncidentCorrelator.IncidentPlan;
+import com.anyang.maruni.domain.alertrule.application.escalation.AlertEscalationEngine;
 import com.anyang.maruni.domain.alertrule.application.service.util.AlertServiceUtils;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
 import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+import com.anyang.maruni.domain.alertrule.infrastructure.persistence.AlertHistoryInsertWriter;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.notification.domain.service.NotificationHistoryService;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationType;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationSourceType;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 알림 발송 처리 전담 서비스
  *
  * 기존 AlertRuleService에서 알림 발송 관련 로직만 분리하여 SRP 준수
  * 보호자 알림 발송과 발송 결과 처리에만 집중
+ *
+ * 아웃박스 모드(maruni.alert.outbox.enabled)에서는 알림 이력만 발송 대기 상태로 기록하고,
+ * 보호자 알림은 커밋 후 AlertNotificationDispatcher가 배치로 점유하여 발송합니다.
+ * EMERGENCY/HIGH 알림은 보호자가 확인할 때까지 AlertEscalationEngine이 재알림합니다.
+ * 사건 상관 분석(maruni.alert.correlation.enabled)을 켜면 회원의 알림을 사건 단위로 묶어 한 번만 발송합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class AlertNotificationService {
 
+    private static final String SENT_RESULT = "SENT";
+    private static final String NO_GUARDIAN_RESULT = "SKIPPED: NO_GUARDIAN";
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
     private final NotificationHistoryService notificationHistoryService;
     private final AlertConfigurationProperties alertConfig;
     private final AlertServiceUtils alertServiceUtils;
     private final AlertHistoryRepository alertHistoryRepository;
+    private final AlertHistoryInsertWriter alertHistoryInsertWriter;
+    private final AlertHistoryDedupIndex alertHistoryDedupIndex;
+    private final AlertEscalationEngine alertEscalationEngine;
+    private final AlertIncidentCorrelator alertIncidentCorrelator;
 
     /**
      * 알림 발생 처리
      *
+     * 오늘 이미 같은 타입 알림이 기록되었으면 (키워드 감지 외) 기록과 보호자 알림을 생략합니다.
+     * 메모리 인덱스로 알려진 중복은 DB 접근 없이 걸러지고, 나머지는 충돌 무시 삽입으로 판정합니다.
+     * 아웃박스 모드에서는 발송을 기다리지 않고 발송 대기 상태로만 기록합니다.
+     *
      * @param memberId 회원 ID
      * @param alertResult 알림 결과
-     * @return 생성된 알림 이력 ID
+     * @return 생성된 알림 이력 ID (중복이라 기록하지 않았으면 null)
      */
     @Transactional
     public Long triggerAlert(Long memberId, AlertResult alertResult) {
-        // 1. 회원 조회
-        MemberEntity member = alertServiceUtils.validateAndGetMember(memberId);
+        Long alertHistoryId = recordAlert(memberId, alertResult, false);
 
-        // 2. AlertHistory 생성 및 저장 (MVP: AlertRule 없이 생성)
-        AlertHistory alertHistory = createAlertHistoryForMVP(member, alertResult);
-        AlertHistory savedHistory = alertHistoryRepository.save(alertHistory);
+        // 중복이거나 아웃박스 모드면 (커밋 후 디스패처가 발송) 여기서 발송하지 않음
+        if (alertHistoryId == null || alertConfig.getOutbox().isEnabled()) {
+            return alertHistoryId;
+        }
 
-        // 3. 보호자 알림 발송 트리거 (MVP: AlertHistory ID 전달)
+        // 보호자 알림 발송 트리거 (MVP: AlertHistory ID 전달)
         sendGuardianNotificationWithType(
             memberId,
             alertResult.getAlertLevel(),
             alertResult.getMessage(),
             alertResult.getAlertType(),
-            savedHistory.getId()
+            alertHistoryId
         );
 
-        return savedHistory.getId();
+        return alertHistoryId;
+    }
+
+    /**
+     * 알림 발생 처리 (호출 측이 커밋 후 직접 발송하도록 점유된 상태로 기록)
+     *
+     * EMERGENCY 전용 레인이 디스패처 폴링을 기다리지 않고 deliverNotification으로 바로 발송할 때 사용합니다.
+     * 점유 유효 시간 안에 발송 결과가 기록되지 않으면 디스패처가 이어서 발송합니다.
+     *
+     * @param memberId 회원 ID
+     * @param alertResult 알림 결과
+     * @return 생성된 알림 이력 ID (중복이라 기록하지 않았으면 null)
+     */
+    @Transactional
+    public Long triggerClaimedAlert(Long memberId, AlertResult alertResult) {
+        return recordAlert(memberId, alertResult, true);
+    }
+
+    /**
+     * 알림 이력 기록 (중복이면 생략)
+     *
+     * @param claimed true면 호출 측이 발송하도록 점유 유효 시간 뒤를 다음 발송 시각으로 기록
+     * @return 생성된 알림 이력 ID (중복이면 null)
+     */
+    private Long recordAlert(Long memberId, AlertResult alertResult, boolean claimed) {
+        AlertType alertType = alertResult.getAlertType();
+
+        // 1. 오늘 이미 기록된 알림이면 DB 접근 없이 생략
+        if (alertHistoryDedupIndex.contains(memberId, alertType)) {
+            return null;
+        }
+
+        // 2. 회원 조회
+        MemberEntity member = alertServiceUtils.validateAndGetMember(memberId);
+
+        // 3. AlertHistory 생성 및 저장 (MVP: AlertRule 없이 생성, 유니크 키 충돌 시 생략)
+        AlertHistory alertHistory = createAlertHistoryForMVP(member, alertResult,
+                nextNotificationAt(claimed, alertResult.getAlertLevel()));
+        Optional<Long> insertedId = alertHistoryInsertWriter.insertIfAbsent(alertHistory);
+        if (insertedId.isEmpty()) {
+            alertHistoryDedupIndex.markExisting(memberId, alertType);
+            return null;
+        }
+        alertHistoryDedupIndex.markInserted(memberId, alertType);
+
+        // 4. 보호자가 확인하지 않으면 재알림하도록 에스컬레이션 타이머 등록 (EMERGENCY/HIGH)
+        if (alertHistory.getNextEscalationAt() != null) {
+            alertEscalationEngine.scheduleAfterCommit(insertedId.get(), alertHistory.getNextEscalationAt());
+        }
+        return insertedId.get();
+    }
+
+    /**
+     * 기록할 다음 발송 시각 (아웃박스: 점유 만료 시각 또는 사건 묶음 보류 후, 동기 발송: null)
+     */
+    private LocalDateTime nextNotificationAt(boolean claimed, AlertLevel alertLevel) {
+        AlertConfigurationProperties.Outbox outbox = alertConfig.getOutbox();
+        if (!outbox.isEnabled()) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (claimed) {
+            return claimUntil(now);
+        }
+
+        // 동시에 발생한 알림이 함께 묶이도록 EMERGENCY 외에는 잠시 보류
+        AlertConfigurationProperties.Correlation correlation = alertConfig.getCorrelation();
+        if (correlation.isEnabled() && !alertLevel.isEmergency()) {
+            return now.plusSeconds(Math.max(0, correlation.getHoldSeconds()));
+        }
+        return now;
+    }
+
+    private LocalDateTime claimUntil(LocalDateTime now) {
+        return now.plusSeconds(Math.max(1, alertConfig.getOutbox().getClaimTimeoutSeconds()));
+    }
+
+    /**
+     * 오늘 같은 타입의 알림이 이미 발생했는지 확인 (키워드 외 타입은 하루 한 번만 기록)
+     *
+     * 실시간 감정 평가와 야간 감지가 같은 날 같은 알림을 중복 기록하지 않도록 사용합니다.
+     *
+     * @param memberId 회원 ID
+     * @param alertType 알림 타입
+     * @return 이미 발생했으면 true
+     */
+    public boolean isAlreadyTriggeredToday(Long memberId, AlertType alertType) {
+        if (alertHistoryDedupIndex.contains(memberId, alertType)) {
+            return true;
+        }
+
+        boolean exists = alertHistoryRepository.existsByMemberIdAndAlertTypeAndAlertDate(
+                memberId, alertType, LocalDate.now().atStartOfDay());
+        if (exists) {
+            alertHistoryDedupIndex.markExisting(memberId, alertType);
+        }
+        return exists;
+    }
+
+    /**
+     * 발송 시각이 된 보호자 알림을 배치 단위로 점유 (아웃박스 디스패처용)
+     *
+     * 점유한 알림은 점유 유효 시간 뒤로 다음 발송 시각을 미루고 커밋하므로,
+     * 발송 중 인스턴스가 죽어도 유효 시간이 지나면 다른 디스패처가 다시 점유합니다.
+     *
+     * @param batchSize 최대 점유 건수
+     * @return 점유한 알림 이력 ID 목록
+     */
+    @Transactional
+    public List<Long> claimDueNotifications(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimUntil = claimUntil(now);
+
+        List<AlertHistory> claimed = alertHistoryRepository.findDueNotificationsForUpdateSkipLocked(
+                now, PageRequest.of(0, batchSize));
+        claimed.forEach(alertHistory -> alertHistory.claimNotification(claimUntil));
+        return claimed.stream().map(AlertHistory::getId).toList();
+    }
+
+    /**
+     * 점유한 보호자 알림 한 건 발송 및 결과 기록
+     *
+     * 성공하면 발송 완료(isNotificationSent, notificationSentAt)로, 실패하면 백오프 후 재시도를 예약합니다.
+     * 사건 상관 분석을 켜면 같은 회원의 발송 대기 알림을 함께 잠가 하나의 사건으로 발송합니다.
+     *
+     * @param alertHistoryId 알림 이력 ID
+     * @return 발송 성공(또는 보호자가 없거나 사건으로 묶여 따로 발송할 필요가 없음)이면 true
+     */
+    @Transactional
+    public boolean deliverNotification(Long alertHistoryId) {
+        if (alertConfig.getCorrelation().isEnabled()) {
+            return deliverIncident(alertHistoryId);
+        }
+
+        AlertHistory alertHistory = alertHistoryRepository.findById(alertHistoryId).orElse(null);
+        if (alertHistory == null || alertHistory.getIsNotificationSent()) {
+            return true;
+        }
+
+        MemberEntity member = alertHistory.getMember();
+        if (!hasGuardian(member)) {
+            alertHistory.markNotificationSent(NO_GUARDIAN_RESULT);
+            return true;
+        }
+
+        String failure = sendToGuardian(member, alertHistory, alertHistory.getAlertMessage());
+        if (failure == null) {
+            alertHistory.markNotificationSent(SENT_RESULT);
+            return true;
+        }
+
+        failDelivery(alertHistory, failure);
+        return false;
+    }
+
+    /**
+     * 회원의 발송 대기 알림을 사건 단위로 발송
+     *
+     * 대표 알림(가장 높은 레벨)만 보호자에게 보내고 나머지는 사건으로 묶습니다.
+     * 진행 중인 사건보다 레벨이 높지 않으면 보내지 않고 모두 묶습니다.
+     * 발송에 실패하면 대표 알림만 재시도를 예약하고 나머지는 그대로 둡니다 (다음 발송에서 다시 묶임).
+     */
+    private boolean deliverIncident(Long alertHistoryId) {
+        Long memberId = alertHistoryRepository.findMemberIdById(alertHistoryId).orElse(null);
+        if (memberId == null) {
+            return true;
+        }
+
+        List<AlertHistory> pending = alertHistoryRepository.findPendingNotificationsByMemberForUpdate(memberId);
+        if (pending.stream().noneMatch(alertHistory -> alertHistoryId.equals(alertHistory.getId()))) {
+            // 이미 발송되었거나 다른 알림과 함께 사건으로 묶임
+            return true;
+        }
+
+        IncidentPlan plan = alertIncidentCorrelator.plan(memberId, pending);
+        if (!plan.notifyGuardian()) {
+            alertIncidentCorrelator.complete(plan);
+            return true;
+        }
+
+        AlertHistory representative = plan.representative();
+        MemberEntity member = representative.getMember();
+        if (!hasGuardian(member)) {
+            plan.alerts().forEach(alertHistory -> alertHistory.markNotificationSent(NO_GUARDIAN_RESULT));
+            return true;
+        }
+
+        String failure = sendToGuardian(member, representative, alertIncidentCorrelator.summarize(plan));
+        if (failure == null) {
+            representative.markNotificationSent(SENT_RESULT);
+            alertIncidentCorrelator.complete(plan);
+            return true;
+        }
+
+        failDelivery(representative, failure);
+        return false;
+    }
+
+    /**
+     * 보호자 알림 기록
+     *
+     * @return 실패 사유 (성공하면 null)
+     */
+    private String sendToGuardian(MemberEntity member, AlertHistory alertHistory, String message) {
+        String alertTitle = String.format(alertConfig.getNotification().getTitleTemplate(),
+                alertHistory.getAlertLevel().name());
+        try {
+            var notificationHistory = notificationHistoryService.recordNotificationWithType(
+                    member.getGuardian().getId(),
+                    alertTitle,
+                    message,
+                    mapAlertTypeToNotificationType(alertHistory.getAlertType()),
+                    NotificationSourceType.ALERT_RULE,
+                    alertHistory.getId()
+            );
+            return notificationHistory != null ? null : "notification was not recorded";
+        } catch (Exception e) {
+            return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * 발송 트랜잭션 자체가 실패한 알림의 실패 기록 (디스패처가 별도 트랜잭션으로 호출)
+     *
+     * @param alertHistoryId 알림 이력 ID
+     * @param errorMessage 실패 사유
+     */
+    @Transactional
+    public void recordDeliveryFailure(Long alertHistoryId, String errorMessage) {
+        alertHistoryRepository.findById(alertHistoryId)
+                .filter(alertHistory -> !alertHistory.getIsNotificationSent())
+                .ifPresent(alertHistory -> failDelivery(alertHistory, errorMessage));
+    }
+
+    private void failDelivery(AlertHistory alertHistory, String errorMessage) {
+        int maxAttempts = Math.max(1, alertConfig.getOutbox().getMaxAttempts());
+        alertHistory.markNotificationAttemptFailed(errorMessage,
+                backoffDelay(alertHistory.getNotificationAttempts() + 1), maxAttempts);
+        handleNotificationResult(alertHistory.getMember().getId(), false, errorMessage);
+    }
+
+    /**
+     * n번째 실패 후 다음 발송 시도까지의 지연 (지수 백오프 + 지터, RetryBackoffPolicy와 같은 방식)
+     */
+    private Duration backoffDelay(int attempt) {
+        AlertConfigurationProperties.Outbox outbox = alertConfig.getOutbox();
+        long baseSeconds = Math.max(1, outbox.getBaseDelaySeconds());
+        long maxSeconds = Math.max(baseSeconds, outbox.getMaxDelaySeconds());
+        int shift = Math.min(Math.max(0, attempt - 1), MAX_BACKOFF_SHIFT);
+        long capSeconds = Math.min(maxSeconds, baseSeconds << shift);
+        long halfSeconds = capSeconds / 2;
+        return Duration.ofSeconds(halfSeconds + ThreadLocalRandom.current().nextLong(capSeconds - halfSeconds + 1));
     }
 
     /**
      * MVP용 AlertHistory 생성 (AlertRule 없이)
      */
-    private AlertHistory createAlertHistoryForMVP(MemberEntity member, AlertResult alertResult) {
+    private AlertHistory createAlertHistoryForMVP(MemberEntity member, AlertResult alertResult,
+                                                  LocalDateTime nextNotificationAt) {
         // 알림 결과를 JSON 형태로 저장할 상세 정보 구성
         String detectionDetails = alertServiceUtils.createDetectionDetailsJson(alertResult);
 
@@ -86,6 +368,8 @@ public class AlertNotificationService {
                 .detectionDetails(detectionDetails)
                 .alertDate(alertDate)
                 .isNotificationSent(false)
+                .nextNotificationAt(nextNotificationAt) // 아웃박스 발송 대기 (동기 발송이면 null)
+                .nextEscalationAt(alertEscalationEngine.firstEscalationAt(alertResult.getAlertLevel()))
                 .build();
     }
 
@@ -197,7 +481,7 @@ public class AlertNotificationService {
     /**
      * AlertType을 NotificationType으로 매핑
      */
-    private NotificationType mapAlertTypeToNotificationType(AlertType alertType) {
+    static NotificationType mapAlertTypeToNotificationType(AlertType alertType) {
         return switch (alertType) {
             case EMOTION_PATTERN -> NotificationType.EMOTION_ALERT;
             case NO_RESPONSE -> NotificationType.NO_RESPONSE_ALERT;
@@ -208,12 +492,15 @@ public class AlertNotificationService {
 
     /**
      * 알림 발송 결과 처리 (기존 AlertServiceUtils에서 이동)
+     *
+     * 실패 시 설정된 로그 템플릿(notification-failure-log, notification-error-log)으로 경고 로그를 남깁니다.
      */
     private void handleNotificationResult(Long memberId, boolean success, String errorMessage) {
         if (!success) {
-            System.err.printf(alertConfig.getNotification().getNotificationFailureLog() + "%n", memberId);
+            AlertConfigurationProperties.Notification config = alertConfig.getNotification();
+            log.warn(String.format(config.getNotificationFailureLog(), memberId));
             if (errorMessage != null) {
-                System.err.printf(alertConfig.getNotification().getNotificationErrorLog() + "%n", errorMessage);
+                log.warn(String.format(config.getNotificationErrorLog(), errorMessage));
             }
         }
     }
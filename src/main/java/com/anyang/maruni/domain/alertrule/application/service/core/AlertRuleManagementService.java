@@ -1,5 +1,6 @@
 package com.anyang.maruni.domain.alertrule.application.service.core;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -7,6 +8,7 @@ import com.anyang.maruni.domain.alertrule.domain.entity.AlertCondition;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
 import com.anyang.maruni.domain.alertrule.domain.exception.AlertRuleNotFoundException;
 import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
  *
  * 기존 AlertRuleService에서 CRUD 관련 로직만 분리하여 SRP 준수
  * 알림 규칙의 생성, 조회, 수정, 삭제에만 집중
+ * 규칙이 바뀌면 AlertRuleChangedEvent를 발행하여 커밋 후 회원별 규칙 캐시를 무효화합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class AlertRuleManagementService {
 
     private final AlertRuleRepository alertRuleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알림 규칙 생성
@@ -39,7 +43,9 @@ public class AlertRuleManagementService {
     public AlertRule createAlertRule(MemberEntity member, AlertType alertType,
                                    AlertLevel alertLevel, AlertCondition condition) {
         AlertRule alertRule = createAlertRuleByType(member, alertType, alertLevel, condition);
-        return alertRuleRepository.save(alertRule);
+        AlertRule savedRule = alertRuleRepository.save(alertRule);
+        publishChanged(alertRule);
+        return savedRule;
     }
 
     /**
@@ -69,6 +75,7 @@ public class AlertRuleManagementService {
                 .orElseThrow(() -> new AlertRuleNotFoundException(alertRuleId));
 
         alertRule.updateRule(ruleName, ruleDescription, alertLevel);
+        publishChanged(alertRule);
 
         // JPA 더티 체킹으로 자동 업데이트
         return alertRule;
@@ -85,6 +92,7 @@ public class AlertRuleManagementService {
                 .orElseThrow(() -> new AlertRuleNotFoundException(alertRuleId));
 
         alertRuleRepository.delete(alertRule);
+        publishChanged(alertRule);
     }
 
     /**
@@ -104,6 +112,7 @@ public class AlertRuleManagementService {
         } else {
             alertRule.deactivate();
         }
+        publishChanged(alertRule);
 
         // JPA 더티 체킹으로 자동 업데이트
         return alertRule;
@@ -111,6 +120,13 @@ public class AlertRuleManagementService {
 
     // ========== Private 메서드들 (Phase 2에서 구현) ==========
 
+    /**
+     * 규칙 변경 이벤트 발행 (구독자는 커밋 이후 처리)
+     */
+    private void publishChanged(AlertRule alertRule) {
+        eventPublisher.publishEvent(new AlertRuleChangedEvent(alertRule.getMember().getId()));
+    }
+
     /**
      * 알림 유형에 따른 알림 규칙 생성
      */
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.cache.AlertRuleSnapshot;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertCondition;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
@@ -64,11 +65,11 @@ public class AlertRuleService {
     }
 
     /**
-     * 회원의 활성 알림 규칙 조회 (성능 최적화 버전)
+     * 회원의 활성 알림 규칙 조회 (캐시)
      * @param memberId 회원 ID
-     * @return 활성 알림 규칙 목록 (Member, Guardian 포함)
+     * @return 활성 알림 규칙 스냅샷 목록
      */
-    public List<AlertRule> getActiveRulesByMemberId(Long memberId) {
+    public List<AlertRuleSnapshot> getActiveRulesByMemberId(Long memberId) {
         return detectionService.getActiveRulesByMemberId(memberId);
     }
 
@@ -77,7 +78,7 @@ public class AlertRuleService {
      * @param memberId 회원 ID
      * @return 우선순위 정렬된 활성 알림 규칙 목록
      */
-    public List<AlertRule> getActiveRulesByMemberIdOrderedByPriority(Long memberId) {
+    public List<AlertRuleSnapshot> getActiveRulesByMemberIdOrderedByPriority(Long memberId) {
         return detectionService.getActiveRulesByMemberIdOrderedByPriority(memberId);
     }
 
@@ -1,5 +1,6 @@
 package com.anyang.maruni.domain.alertrule.application.service.orchestrator;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -8,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.strategy.AnomalyAnalyzer;
+import com.anyang.maruni.domain.alertrule.application.analyzer.strategy.BatchAnomalyAnalyzer;
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AnalysisContext;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
@@ -85,4 +87,35 @@ public class AlertAnalysisOrchestrator {
     public boolean isSupported(AlertType alertType) {
         return analyzers.containsKey(alertType);
     }
-}
\ No newline at end of file
+
+    /**
+     * 지정된 알림 타입에 대해 여러 회원을 일괄 분석합니다.
+     *
+     * @param alertType 분석할 알림 타입
+     * @param memberIds 분석 대상 회원 ID 목록
+     * @param context 분석 컨텍스트
+     * @return 회원 ID별 분석 결과 (분석할 데이터가 없는 회원은 포함되지 않음)
+     * @throws UnsupportedAlertTypeException 일괄 분석을 지원하지 않는 알림 타입인 경우
+     */
+    public Map<Long, AlertResult> analyzeBatchByType(AlertType alertType, Collection<Long> memberIds,
+                                                     AnalysisContext context) {
+        if (!(analyzers.get(alertType) instanceof BatchAnomalyAnalyzer batchAnalyzer)) {
+            throw new UnsupportedAlertTypeException(alertType);
+        }
+
+        log.debug("Batch analyzing {} members for type: {} using analyzer: {}",
+                memberIds.size(), alertType, batchAnalyzer.getClass().getSimpleName());
+
+        return batchAnalyzer.analyzeBatch(memberIds, context);
+    }
+
+    /**
+     * 특정 알림 타입이 일괄 분석을 지원하는지 확인합니다.
+     *
+     * @param alertType 확인할 알림 타입
+     * @return 일괄 분석 지원 여부
+     */
+    public boolean supportsBatch(AlertType alertType) {
+        return analyzers.get(alertType) instanceof BatchAnomalyAnalyzer;
+    }
+}
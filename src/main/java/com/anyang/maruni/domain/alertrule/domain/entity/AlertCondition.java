@@ -147,19 +147,32 @@ public class AlertCondition {
      * 키워드 패턴 평가
      */
     private boolean evaluateKeywordPattern(List<MessageEntity> messages) {
-        if (keywords == null || keywords.trim().isEmpty()) {
+        List<String> keywordList = getKeywordList();
+        if (keywordList.isEmpty()) {
             return false;
         }
 
-        String[] keywordArray = keywords.split(",");
-
         return messages.stream()
-                .anyMatch(message ->
-                        Arrays.stream(keywordArray)
-                                .anyMatch(keyword ->
-                                        message.getContent().toLowerCase()
-                                                .contains(keyword.trim().toLowerCase())
-                                )
-                );
+                .map(message -> message.getContent().toLowerCase())
+                .anyMatch(content -> keywordList.stream().anyMatch(content::contains));
+    }
+
+    // ========== 키워드 파싱 ==========
+
+    /**
+     * 쉼표로 구분된 키워드 문자열을 정규화된 목록으로 변환 (공백 제거, 소문자, 빈 항목 제외)
+     *
+     * 실시간 경로에서는 MemberKeywordRuleCache가 회원별로 한 번만 호출하여 매처로 컴파일합니다.
+     * @return 키워드 목록 (설정 순서 유지)
+     */
+    public List<String> getKeywordList() {
+        if (keywords == null || keywords.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(keywords.split(","))
+                .map(keyword -> keyword.trim().toLowerCase())
+                .filter(keyword -> !keyword.isEmpty())
+                .toList();
     }
 }
\ No newline at end of file
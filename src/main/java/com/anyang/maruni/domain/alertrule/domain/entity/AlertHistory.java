@@ -2,6 +2,7 @@ package com.anyang.maruni.domain.alertrule.domain.entity;
 
 import static java.time.Duration.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
@@ -39,7 +40,9 @@ import lombok.NoArgsConstructor;
     indexes = {
         @Index(name = "idx_alert_history_member_date", columnList = "member_id, alert_date"),
         @Index(name = "idx_alert_history_level_date", columnList = "alert_level, alert_date"),
-        @Index(name = "idx_alert_history_notification", columnList = "is_notification_sent, alert_date")
+        @Index(name = "idx_alert_history_notification", columnList = "is_notification_sent, alert_date"),
+        @Index(name = "idx_alert_history_next_notification", columnList = "next_notification_at"),
+        @Index(name = "idx_alert_history_next_escalation", columnList = "next_escalation_at")
     }
 )
 @Getter
@@ -111,6 +114,38 @@ public class AlertHistory extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String notificationResult;
 
+    /**
+     * 보호자 알림 발송 시도 횟수 (아웃박스 디스패처)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer notificationAttempts = 0;
+
+    /**
+     * 다음 보호자 알림 발송 시도 시각 (null이면 발송 대기 아님: 발송 완료, 재시도 소진, 동기 발송)
+     */
+    @Column
+    private LocalDateTime nextNotificationAt;
+
+    /**
+     * 보호자가 확인하지 않아 재알림한 횟수 (에스컬레이션 단계)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer escalationLevel = 0;
+
+    /**
+     * 다음 에스컬레이션(재알림) 시각 (null이면 에스컬레이션 대상 아님: 확인됨, 단계 소진, HIGH 미만)
+     */
+    @Column
+    private LocalDateTime nextEscalationAt;
+
+    /**
+     * 이 알림이 묶인 사건(인시던트)의 대표 알림 이력 ID (null이면 묶이지 않았거나 자신이 대표)
+     */
+    @Column
+    private Long incidentAlertId;
+
     /**
      * 알림 발생 날짜 (중복 방지용)
      */
@@ -200,6 +235,81 @@ public class AlertHistory extends BaseTimeEntity {
         this.isNotificationSent = true;
         this.notificationSentAt = LocalDateTime.now();
         this.notificationResult = result;
+        this.nextNotificationAt = null;
+    }
+
+    /**
+     * 같은 사건의 다른 알림으로 보호자에게 알렸으므로 따로 발송하지 않음 (이력은 감사용으로 유지)
+     * @param incidentAlertId 사건 대표 알림 이력 ID
+     */
+    public void markCorrelated(Long incidentAlertId) {
+        this.isNotificationSent = true;
+        this.notificationSentAt = LocalDateTime.now();
+        this.notificationResult = "CORRELATED: " + incidentAlertId;
+        this.nextNotificationAt = null;
+        this.nextEscalationAt = null;
+        this.incidentAlertId = incidentAlertId;
+    }
+
+    /**
+     * 진행 중인 사건에 합류 (사건보다 높은 레벨이라 따로 발송한 알림)
+     * @param incidentAlertId 사건 대표 알림 이력 ID
+     */
+    public void joinIncident(Long incidentAlertId) {
+        this.incidentAlertId = incidentAlertId;
+    }
+
+    /**
+     * 디스패처가 발송 대상으로 점유 (점유 시간 안에 결과가 기록되지 않으면 다시 발송 대상이 됨)
+     * @param claimUntil 점유 만료 시각
+     */
+    public void claimNotification(LocalDateTime claimUntil) {
+        this.nextNotificationAt = claimUntil;
+    }
+
+    /**
+     * 아웃박스 발송 실패 처리
+     *
+     * 최대 시도 횟수에 도달하면 더 이상 발송하지 않고(GAVE_UP), 아니면 다음 시도 시각을 예약
+     *
+     * @param errorMessage 실패 사유
+     * @param nextDelay 다음 시도까지의 지연 (백오프 정책이 계산)
+     * @param maxAttempts 최대 시도 횟수
+     */
+    public void markNotificationAttemptFailed(String errorMessage, Duration nextDelay, int maxAttempts) {
+        this.notificationAttempts++;
+        if (notificationAttempts >= maxAttempts) {
+            this.isNotificationSent = false;
+            this.notificationResult = "GAVE_UP: " + errorMessage;
+            this.nextNotificationAt = null;
+            return;
+        }
+        markNotificationFailed(errorMessage);
+        this.nextNotificationAt = LocalDateTime.now().plus(nextDelay);
+    }
+
+    /**
+     * 재알림 완료 처리 (에스컬레이션 단계 증가)
+     * @param nextEscalationAt 다음 재알림 시각 (마지막 단계면 null)
+     */
+    public void markEscalated(LocalDateTime nextEscalationAt) {
+        this.escalationLevel++;
+        this.nextEscalationAt = nextEscalationAt;
+    }
+
+    /**
+     * 재알림 없이 다음 에스컬레이션 시각만 미룸 (최초 보호자 알림이 아직 발송 대기 중일 때)
+     * @param nextEscalationAt 다음 에스컬레이션 시각
+     */
+    public void postponeEscalation(LocalDateTime nextEscalationAt) {
+        this.nextEscalationAt = nextEscalationAt;
+    }
+
+    /**
+     * 에스컬레이션 종료 (보호자 확인 또는 단계 소진)
+     */
+    public void closeEscalation() {
+        this.nextEscalationAt = null;
     }
 
     /**
@@ -211,6 +321,13 @@ public class AlertHistory extends BaseTimeEntity {
         this.notificationResult = "FAILED: " + errorMessage;
     }
 
+    /**
+     * 이 알림이 속한 사건 ID (묶이지 않았으면 자신의 ID)
+     */
+    public Long resolveIncidentId() {
+        return incidentAlertId != null ? incidentAlertId : id;
+    }
+
     /**
      * 긴급 알림인지 확인
      */
@@ -0,0 +1,58 @@
+package com.anyang.maruni.domain.alertrule.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 규칙 캐시 무효화 로그
+ *
+ * 규칙 변경 트랜잭션과 함께 한 행을 기록하고, 각 서버가 주기적으로 최근 행을 읽어
+ * 자신의 회원별 규칙 캐시를 무효화합니다 (다중 서버 간 캐시 일관성).
+ * 보존 기간이 지난 행은 폴링 시 삭제합니다.
+ */
+@Entity
+@Table(name = "alert_rule_invalidation",
+       indexes = @Index(name = "idx_alert_rule_invalidation_created_at", columnList = "createdAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AlertRuleInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alert_rule_invalidation_seq")
+    @SequenceGenerator(name = "alert_rule_invalidation_seq", sequenceName = "alert_rule_invalidation_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 무효화 로그 생성
+     * @param memberId 규칙이 변경된 회원 ID
+     * @param createdAt 기록 시각
+     * @return AlertRuleInvalidation
+     */
+    public static AlertRuleInvalidation of(Long memberId, LocalDateTime createdAt) {
+        return AlertRuleInvalidation.builder()
+                .memberId(memberId)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.anyang.maruni.domain.alertrule.domain.event;
+
+/**
+ * 알림 규칙 변경 이벤트
+ *
+ * 규칙 생성/수정/활성화 변경/삭제 시 발행되며, 커밋 이후 회원별 규칙 캐시를 무효화하는 데 사용됩니다.
+ *
+ * @param memberId 규칙이 속한 회원 ID
+ */
+public record AlertRuleChangedEvent(Long memberId) {
+}
@@ -2,15 +2,23 @@ package com.anyang.maruni.domain.alertrule.domain.repository;
 
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.vo.DailyAlertKey;
+import com.anyang.maruni.domain.alertrule.domain.vo.PendingEscalation;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * AlertHistory Repository
@@ -85,6 +93,85 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Long
            "ORDER BY ah.createdAt ASC")
     List<AlertHistory> findTimeoutPendingNotifications(@Param("beforeTime") LocalDateTime beforeTime);
 
+    /**
+     * 발송 시각이 된 보호자 알림을 배치 단위로 점유 (아웃박스 디스패처용)
+     *
+     * 행 잠금(FOR UPDATE)을 걸고 다른 디스패처가 잠근 행은 건너뜁니다(SKIP LOCKED, lock.timeout = -2).
+     * 잠금은 호출한 트랜잭션이 끝날 때 해제되므로 같은 트랜잭션에서 점유 시각을 기록해야 합니다.
+     * @param now 기준 시각
+     * @param pageable 점유할 최대 건수
+     * @return 점유한 알림 이력 목록 (예정 시각 순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT ah FROM AlertHistory ah " +
+           "WHERE ah.isNotificationSent = false " +
+           "AND ah.nextNotificationAt <= :now " +
+           "ORDER BY ah.nextNotificationAt, ah.id")
+    List<AlertHistory> findDueNotificationsForUpdateSkipLocked(
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 알림 이력의 회원 ID 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * @param id 알림 이력 ID
+     * @return 회원 ID
+     */
+    @Query("SELECT ah.member.id FROM AlertHistory ah WHERE ah.id = :id")
+    Optional<Long> findMemberIdById(@Param("id") Long id);
+
+    /**
+     * 회원의 발송 대기 알림 전체를 잠금 조회 (사건 단위 발송용)
+     *
+     * 같은 회원의 알림을 여러 디스패처가 동시에 발송하지 않도록 ID 순으로 잠급니다.
+     * 먼저 잠근 트랜잭션이 함께 묶어 처리한 알림은 잠금이 풀린 뒤 조건에서 빠집니다.
+     * @param memberId 회원 ID
+     * @return 발송 대기 알림 목록 (ID 순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ah FROM AlertHistory ah " +
+           "WHERE ah.member.id = :memberId " +
+           "AND ah.isNotificationSent = false " +
+           "AND ah.nextNotificationAt IS NOT NULL " +
+           "ORDER BY ah.id")
+    List<AlertHistory> findPendingNotificationsByMemberForUpdate(@Param("memberId") Long memberId);
+
+    /**
+     * 회원에게 최근 알렸거나 사건으로 묶인 알림 조회 (진행 중인 사건 판정용)
+     * @param memberId 회원 ID
+     * @param since 조회 시작 시각 (슬라이딩 윈도우)
+     * @return 알림 이력 목록 (최근 처리 순)
+     */
+    @Query("SELECT ah FROM AlertHistory ah " +
+           "WHERE ah.member.id = :memberId " +
+           "AND ah.isNotificationSent = true " +
+           "AND ah.notificationSentAt >= :since " +
+           "ORDER BY ah.notificationSentAt DESC, ah.id DESC")
+    List<AlertHistory> findNotifiedByMemberSince(
+            @Param("memberId") Long memberId,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * 에스컬레이션 처리를 위해 알림 이력을 잠금 조회
+     *
+     * 여러 노드가 같은 예약을 동시에 처리하면 먼저 잠근 노드만 재알림하고,
+     * 나머지는 잠금이 풀린 뒤 바뀐 단계를 보고 건너뜁니다.
+     * @param id 알림 이력 ID
+     * @return 알림 이력
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ah FROM AlertHistory ah WHERE ah.id = :id")
+    Optional<AlertHistory> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 에스컬레이션 예약이 남아 있는 알림 목록 (기동 시 타이머 재구성용)
+     * @return 에스컬레이션 예약 목록
+     */
+    @Query("SELECT new com.anyang.maruni.domain.alertrule.domain.vo.PendingEscalation(" +
+           "ah.id, ah.escalationLevel, ah.nextEscalationAt) " +
+           "FROM AlertHistory ah " +
+           "WHERE ah.nextEscalationAt IS NOT NULL")
+    List<PendingEscalation> findPendingEscalations();
+
     /**
      * 회원별 일일 알림 이력 존재 여부 확인 (중복 방지용)
      * @param memberId 회원 ID
@@ -95,6 +182,30 @@ public interface AlertHistoryRepository extends JpaRepository<AlertHistory, Long
     boolean existsByMemberIdAndAlertRuleIdAndAlertDate(
             Long memberId, Long alertRuleId, LocalDateTime alertDate);
 
+    /**
+     * 회원별 타입별 일일 알림 이력 존재 여부 확인 (실시간/야간 감지 간 중복 방지용)
+     * @param memberId 회원 ID
+     * @param alertType 알림 타입
+     * @param alertDate 알림 날짜 (자정)
+     * @return 존재 여부
+     */
+    boolean existsByMemberIdAndAlertTypeAndAlertDate(
+            Long memberId, AlertType alertType, LocalDateTime alertDate);
+
+    /**
+     * 특정 날짜에 기록된 알림의 (회원, 타입) 목록 조회 (중복 방지 인덱스 적재용)
+     * @param alertDate 알림 날짜 (자정)
+     * @param excludedType 제외할 알림 타입 (하루 여러 번 기록되는 키워드 감지)
+     * @return 중복 판정 키 목록
+     */
+    @Query("SELECT DISTINCT new com.anyang.maruni.domain.alertrule.domain.vo.DailyAlertKey(ah.member.id, ah.alertType) " +
+           "FROM AlertHistory ah " +
+           "WHERE ah.alertDate = :alertDate " +
+           "AND ah.alertType <> :excludedType")
+    List<DailyAlertKey> findDailyAlertKeys(
+            @Param("alertDate") LocalDateTime alertDate,
+            @Param("excludedType") AlertType excludedType);
+
     /**
      * 회원별 최근 N일간 알림 횟수 조회
      * @param memberId 회원 ID
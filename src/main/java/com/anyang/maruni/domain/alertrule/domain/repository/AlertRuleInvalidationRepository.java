@@ -0,0 +1,37 @@
+package com.anyang.maruni.domain.alertrule.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertRuleInvalidation;
+
+/**
+ * AlertRuleInvalidation Repository
+ *
+ * 다중 서버 간 알림 규칙 캐시 무효화 로그 접근을 담당합니다.
+ */
+@Repository
+public interface AlertRuleInvalidationRepository extends JpaRepository<AlertRuleInvalidation, Long> {
+
+    /**
+     * 기준 시각 이후에 기록된 무효화 로그 조회
+     * @param since 기준 시각 (포함)
+     * @return 무효화 로그 목록
+     */
+    List<AlertRuleInvalidation> findByCreatedAtGreaterThanEqual(LocalDateTime since);
+
+    /**
+     * 보존 기간이 지난 무효화 로그 삭제
+     * @param before 기준 시각 (미포함)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM AlertRuleInvalidation i WHERE i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,11 +1,13 @@
 package com.anyang.maruni.domain.alertrule.domain.repository;
 
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,14 +32,33 @@ public interface AlertRuleRepository extends JpaRepository<AlertRule, Long> {
     Optional<AlertRule> findByIdWithMemberAndGuardian(@Param("alertRuleId") Long alertRuleId);
 
     /**
-     * Member, Guardian을 JOIN FETCH하여 조회 (정렬 없음)
-     * Service 계층에서 Java로 정렬 처리
+     * 회원에게 특정 타입의 활성 알림 규칙이 있는지 확인 (실시간 감정 평가용)
      * @param memberId 회원 ID
-     * @return 활성 알림 규칙 목록 (정렬 없음)
+     * @param alertType 알림 타입
+     * @return 존재 여부
+     */
+    @Query("SELECT COUNT(ar) > 0 FROM AlertRule ar " +
+           "WHERE ar.member.id = :memberId AND ar.alertType = :alertType AND ar.isActive = true")
+    boolean existsActiveRule(@Param("memberId") Long memberId, @Param("alertType") AlertType alertType);
+
+    /**
+     * 회원의 특정 타입 활성 알림 규칙 조회 (회원별 키워드 규칙 캐시 적재용, Member 조인 없음)
+     * @param memberId 회원 ID
+     * @param alertType 알림 타입
+     * @return 활성 알림 규칙 목록
      */
     @Query("SELECT ar FROM AlertRule ar " +
-           "JOIN FETCH ar.member m " +
-           "LEFT JOIN FETCH m.guardian " +
-           "WHERE ar.member.id = :memberId AND ar.isActive = true")
-    List<AlertRule> findActiveRulesWithMemberAndGuardian(@Param("memberId") Long memberId);
-}
\ No newline at end of file
+           "WHERE ar.member.id = :memberId AND ar.alertType = :alertType AND ar.isActive = true")
+    List<AlertRule> findActiveRulesByMemberIdAndAlertType(@Param("memberId") Long memberId,
+                                                          @Param("alertType") AlertType alertType);
+
+    /**
+     * 여러 회원의 활성 알림 규칙 조회 (규칙 캐시 적재용, Member/Guardian 조인 없음)
+     * @param memberIds 회원 ID 목록
+     * @return 활성 알림 규칙 목록 (회원 ID, 규칙 ID 오름차순)
+     */
+    @Query("SELECT ar FROM AlertRule ar " +
+           "WHERE ar.member.id IN :memberIds AND ar.isActive = true " +
+           "ORDER BY ar.member.id, ar.id")
+    List<AlertRule> findActiveRulesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+}
@@ -0,0 +1,14 @@
+package com.anyang.maruni.domain.alertrule.domain.vo;
+
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+
+/**
+ * 하루 한 번만 기록되는 알림의 중복 판정 키
+ *
+ * alert_history의 (member_id, alert_type, alert_date) 유니크 키에서 날짜를 뺀 부분입니다.
+ *
+ * @param memberId 회원 ID
+ * @param alertType 알림 타입
+ */
+public record DailyAlertKey(Long memberId, AlertType alertType) {
+}
@@ -0,0 +1,16 @@
+package com.anyang.maruni.domain.alertrule.domain.vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보호자가 아직 확인하지 않은 알림의 다음 에스컬레이션 예약
+ *
+ * alert_history의 (id, escalation_level, next_escalation_at)입니다.
+ * 타이머가 만료되었을 때 escalationLevel이 DB와 다르면 다른 노드가 이미 처리한 예약입니다.
+ *
+ * @param alertHistoryId 알림 이력 ID
+ * @param escalationLevel 예약 시점의 에스컬레이션 단계
+ * @param dueAt 에스컬레이션 시각
+ */
+public record PendingEscalation(Long alertHistoryId, int escalationLevel, LocalDateTime dueAt) {
+}
@@ -0,0 +1,114 @@
+package com.anyang.maruni.domain.alertrule.infrastructure.persistence;
+
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AlertHistory 충돌 무시 삽입기
+ *
+ * (member_id, alert_type, alert_date) 유니크 키에 이미 같은 알림이 있으면 아무것도 하지 않습니다.
+ * 중복 알림이 유니크 제약 위반 예외로 트랜잭션을 실패시키지 않도록,
+ * 운영(PostgreSQL)은 INSERT ... ON CONFLICT DO NOTHING RETURNING id를 사용합니다.
+ * 테스트(H2)는 문장 단위로만 실패가 롤백되므로 일반 INSERT 후 중복 키 예외를 무시합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertHistoryInsertWriter {
+
+    private static final String INSERT =
+            "INSERT INTO alert_history (alert_rule_id, member_id, alert_type, alert_level, alert_message, " +
+            "detection_details, alert_date, is_notification_sent, notification_attempts, next_notification_at, " +
+            "escalation_level, next_escalation_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String POSTGRESQL_INSERT_IGNORE =
+            INSERT + " ON CONFLICT (member_id, alert_type, alert_date) DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * 같은 날 같은 타입의 알림이 없을 때만 삽입
+     * @param alertHistory 저장할 알림 이력 (ID 미발급)
+     * @return 생성된 알림 이력 ID (이미 있으면 empty)
+     */
+    public Optional<Long> insertIfAbsent(AlertHistory alertHistory) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Optional<Long> insertedId = databasePlatform.isPostgreSql()
+                ? insertOnConflictDoNothing(alertHistory, now)
+                : insertIgnoringDuplicate(alertHistory, now);
+
+        if (insertedId.isEmpty()) {
+            log.debug("Alert history already exists: member {}, type {}, date {}",
+                    alertHistory.getMember().getId(), alertHistory.getAlertType(), alertHistory.getAlertDate());
+        }
+        return insertedId;
+    }
+
+    private Optional<Long> insertOnConflictDoNothing(AlertHistory alertHistory, Timestamp now) {
+        List<Long> ids = jdbcTemplate.query(POSTGRESQL_INSERT_IGNORE,
+                ps -> bind(ps, alertHistory, now),
+                (rs, rowNum) -> rs.getLong(1));
+        return ids.stream().findFirst();
+    }
+
+    private Optional<Long> insertIgnoringDuplicate(AlertHistory alertHistory, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT, new String[] {"id"});
+                bind(ps, alertHistory, now);
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+        Number key = keyHolder.getKey();
+        return Optional.ofNullable(key).map(Number::longValue);
+    }
+
+    private void bind(PreparedStatement ps, AlertHistory alertHistory, Timestamp now) throws SQLException {
+        if (alertHistory.getAlertRule() != null) {
+            ps.setLong(1, alertHistory.getAlertRule().getId());
+        } else {
+            ps.setNull(1, Types.BIGINT);
+        }
+        ps.setLong(2, alertHistory.getMember().getId());
+        ps.setString(3, alertHistory.getAlertType().name());
+        ps.setString(4, alertHistory.getAlertLevel().name());
+        ps.setString(5, alertHistory.getAlertMessage());
+        ps.setString(6, alertHistory.getDetectionDetails());
+        ps.setTimestamp(7, Timestamp.valueOf(alertHistory.getAlertDate()));
+        ps.setBoolean(8, Boolean.TRUE.equals(alertHistory.getIsNotificationSent()));
+        ps.setInt(9, alertHistory.getNotificationAttempts());
+        setNullableTimestamp(ps, 10, alertHistory.getNextNotificationAt());
+        ps.setInt(11, alertHistory.getEscalationLevel());
+        setNullableTimestamp(ps, 12, alertHistory.getNextEscalationAt());
+        ps.setTimestamp(13, now);
+        ps.setTimestamp(14, now);
+    }
+
+    private void setNullableTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+}
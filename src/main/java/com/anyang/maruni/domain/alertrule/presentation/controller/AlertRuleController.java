@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.anyang.maruni.domain.alertrule.application.cache.AlertRuleSnapshot;
 import com.anyang.maruni.domain.alertrule.application.dto.request.AlertConditionDto;
 import com.anyang.maruni.domain.alertrule.application.dto.request.AlertRuleCreateRequestDto;
 import com.anyang.maruni.domain.alertrule.application.dto.request.AlertRuleUpdateRequestDto;
@@ -96,7 +97,7 @@ public class AlertRuleController {
     public List<AlertRuleResponseDto> getAlertRules(
             @Parameter(hidden = true) @AuthenticationPrincipal MemberEntity member) {
 
-        List<AlertRule> alertRules = alertRuleService.getActiveRulesByMemberId(member.getId());
+        List<AlertRuleSnapshot> alertRules = alertRuleService.getActiveRulesByMemberId(member.getId());
 
         return alertRules.stream()
                 .map(AlertRuleResponseDto::from)
@@ -8,6 +8,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 대화 관리 도메인 서비스
@@ -80,4 +84,33 @@ public class ConversationManager {
 
         return createNewConversation(memberId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 회원의 활성 대화 일괄 조회 또는 생성 (배치 발송용)
+     *
+     * 기존 대화는 한 번의 쿼리로 조회하고, 대화가 없는 회원만 새로 생성합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 회원 ID별 활성 대화
+     */
+    @Transactional
+    public Map<Long, ConversationEntity> findOrCreateActiveForMembers(Collection<Long> memberIds) {
+        Map<Long, ConversationEntity> conversations = new HashMap<>();
+        for (ConversationEntity conversation : conversationRepository.findLatestByMemberIds(memberIds)) {
+            conversations.merge(conversation.getMemberId(), conversation,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+
+        List<ConversationEntity> newConversations = memberIds.stream()
+                .filter(memberId -> !conversations.containsKey(memberId))
+                .map(ConversationEntity::createNew)
+                .toList();
+        if (!newConversations.isEmpty()) {
+            conversationRepository.saveAll(newConversations)
+                    .forEach(conversation -> conversations.put(conversation.getMemberId(), conversation));
+            log.info("Created {} new conversations for batch", newConversations.size());
+        }
+
+        return conversations;
+    }
+}
@@ -1,7 +1,9 @@
 package com.anyang.maruni.domain.conversation.application.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,11 +11,13 @@ import com.anyang.maruni.domain.conversation.application.dto.MessageExchangeResu
 import com.anyang.maruni.domain.conversation.domain.entity.ConversationEntity;
 import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
 import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
+import com.anyang.maruni.domain.conversation.domain.event.UserMessageSavedEvent;
 import com.anyang.maruni.domain.conversation.domain.port.AIResponsePort;
 import com.anyang.maruni.domain.conversation.domain.port.EmotionAnalysisPort;
 import com.anyang.maruni.domain.conversation.domain.repository.MessageRepository;
 import com.anyang.maruni.domain.conversation.domain.vo.ConversationContext;
 import com.anyang.maruni.domain.conversation.domain.vo.MemberProfile;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberDailySummaryWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,16 +36,20 @@ public class MessageProcessor {
     private final MessageRepository messageRepository;
     private final AIResponsePort aiResponsePort;
     private final EmotionAnalysisPort emotionAnalysisPort;
+    private final MemberDailySummaryWriter dailySummaryWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 메시지 처리 및 AI 응답 생성
      *
      * @param conversation 대화 엔티티
      * @param content 사용자 메시지 내용
+     * @param receivedAt 메시지 수신 시각 (일일 요약과 저장 이벤트에 같은 값을 기록)
      * @return 메시지 교환 결과
      */
     @Transactional
-    public MessageExchangeResult processMessage(ConversationEntity conversation, String content) {
+    public MessageExchangeResult processMessage(ConversationEntity conversation, String content,
+                                                LocalDateTime receivedAt) {
         log.debug("Processing message for conversation {}: {}", conversation.getId(), content);
 
         // 1. 사용자 메시지 감정 분석
@@ -57,6 +65,11 @@ public class MessageProcessor {
         messageRepository.save(userMessage);
         log.debug("Saved user message with ID: {}", userMessage.getId());
 
+        // 3-1. 회원별 일일 요약 갱신 (메시지와 같은 트랜잭션) 및 저장 이벤트 발행 (커밋 후 실시간 감정 평가)
+        dailySummaryWriter.recordUserMessage(conversation.getMemberId(),
+                emotion != null ? emotion.name() : null, receivedAt);
+        eventPublisher.publishEvent(new UserMessageSavedEvent(conversation.getMemberId(), emotion, receivedAt));
+
         // 4. 컨텍스트 기반 AI 응답 생성
         String aiResponse = aiResponsePort.generateResponse(context);
 
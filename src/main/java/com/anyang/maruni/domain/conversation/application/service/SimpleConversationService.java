@@ -2,13 +2,14 @@ package com.anyang.maruni.domain.conversation.application.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.realtime.EmergencyAlertLane;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectionService;
-import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.conversation.application.dto.MessageDto;
 import com.anyang.maruni.domain.conversation.application.dto.MessageExchangeResult;
@@ -42,7 +43,7 @@ public class SimpleConversationService {
 
     // 신규 의존성 (Phase 2: 키워드 감지)
     private final AlertDetectionService alertDetectionService;
-    private final AlertNotificationService alertNotificationService;
+    private final EmergencyAlertLane emergencyAlertLane;
 
     /**
      * 사용자 메시지 처리 및 AI 응답 생성 (간소화됨)
@@ -54,13 +55,14 @@ public class SimpleConversationService {
     @Transactional
     public ConversationResponseDto processUserMessage(Long memberId, String content) {
         log.info("Processing user message for member {}: {}", memberId, content);
+        LocalDateTime receivedAt = LocalDateTime.now();
 
         // 1. 기존 로직: 메시지 저장 + AI 응답
         ConversationEntity conversation = conversationManager.findOrCreateActive(memberId);
-        MessageExchangeResult result = messageProcessor.processMessage(conversation, content);
+        MessageExchangeResult result = messageProcessor.processMessage(conversation, content, receivedAt);
 
         // 2. 신규 로직: 키워드 실시간 감지 (예외 격리)
-        detectKeywordInRealtime(result.userMessage(), memberId);
+        detectKeywordInRealtime(result.userMessage(), memberId, receivedAt);
 
         return mapper.toResponseDto(result);
     }
@@ -85,6 +87,25 @@ public class SimpleConversationService {
         log.debug("System message saved as AI message for conversation {}", conversation.getId());
     }
 
+    /**
+     * 여러 회원에게 같은 시스템 메시지 일괄 기록 (안부 메시지 배치 발송용)
+     *
+     * 메시지는 saveAll로 저장되어 JDBC 배치 INSERT로 처리됩니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @param systemMessage 시스템 메시지 내용
+     */
+    @Transactional
+    public void processSystemMessages(List<Long> memberIds, String systemMessage) {
+        Map<Long, ConversationEntity> conversations = conversationManager.findOrCreateActiveForMembers(memberIds);
+        List<MessageEntity> messages = memberIds.stream()
+                .map(memberId -> conversations.get(memberId).addAIMessage(systemMessage))
+                .toList();
+        messageRepository.saveAll(messages);
+
+        log.debug("System message saved for {} members", messages.size());
+    }
+
     /**
      * 내 대화 전체보기
      *
@@ -132,23 +153,25 @@ public class SimpleConversationService {
     /**
      * 실시간 키워드 감지 (private, 예외 격리)
      *
-     * 사용자 메시지에서 키워드를 감지하고, EMERGENCY 레벨만 즉시 알림 발송합니다.
-     * HIGH 레벨은 로그만 기록합니다.
+     * 사용자 메시지에서 전역 위험 키워드와 회원별 키워드 규칙을 한 번에 감지하고,
+     * EMERGENCY 레벨만 전용 레인(EmergencyAlertLane)으로 즉시 알림 발송합니다. 그 외 레벨은 로그만 기록합니다.
      *
      * @param message 사용자 메시지
      * @param memberId 회원 ID
+     * @param receivedAt 메시지 수신 시각 (EMERGENCY 알림 지연 측정 기준)
      */
-    private void detectKeywordInRealtime(MessageEntity message, Long memberId) {
+    private void detectKeywordInRealtime(MessageEntity message, Long memberId, LocalDateTime receivedAt) {
         try {
             AlertResult keywordResult = alertDetectionService.detectKeywordAlert(message, memberId);
 
             // EMERGENCY 키워드만 즉시 알림 발송
             if (keywordResult.isAlert() && keywordResult.getAlertLevel() == AlertLevel.EMERGENCY) {
-                alertNotificationService.triggerAlert(memberId, keywordResult);
+                emergencyAlertLane.submit(memberId, keywordResult, receivedAt);
                 log.warn("⚠️ EMERGENCY keyword detected for member {}: {}",
                          memberId, keywordResult.getMessage());
             } else if (keywordResult.isAlert()) {
-                log.info("📌 HIGH keyword detected for member {} (로그만 기록)", memberId);
+                log.info("📌 {} keyword detected for member {} (로그만 기록)",
+                         keywordResult.getAlertLevel(), memberId);
             }
 
         } catch (Exception e) {
@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,8 +33,12 @@ import lombok.NoArgsConstructor;
 @Builder(toBuilder = true)
 public class MessageEntity extends BaseTimeEntity {
 
+    /**
+     * 청크 단위 시스템 메시지 저장(processSystemMessages)이 JDBC 배치 INSERT로 묶이도록 pooled 시퀀스 사용
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "messages_seq")
+    @SequenceGenerator(name = "messages_seq", sequenceName = "messages_id_seq", allocationSize = 50)
     private Long id;
 
     /**
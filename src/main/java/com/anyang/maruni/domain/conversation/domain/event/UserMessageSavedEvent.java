@@ -0,0 +1,22 @@
+package com.anyang.maruni.domain.conversation.domain.event;
+
+import java.time.LocalDateTime;
+
+import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
+
+/**
+ * 사용자 메시지 저장 이벤트
+ *
+ * MessageProcessor가 사용자 메시지를 저장할 때 발행하며,
+ * 구독자는 트랜잭션 커밋 이후(AFTER_COMMIT)에 처리하여 롤백된 메시지에 반응하지 않도록 합니다.
+ *
+ * @param memberId 회원 ID
+ * @param emotion 메시지 감정 (분석 결과가 없으면 null)
+ * @param savedAt 저장 시각
+ */
+public record UserMessageSavedEvent(Long memberId, EmotionType emotion, LocalDateTime savedAt) {
+
+    public boolean isNegative() {
+        return emotion == EmotionType.NEGATIVE;
+    }
+}
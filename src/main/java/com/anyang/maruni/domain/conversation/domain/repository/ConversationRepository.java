@@ -2,8 +2,11 @@ package com.anyang.maruni.domain.conversation.domain.repository;
 
 import com.anyang.maruni.domain.conversation.domain.entity.ConversationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +35,16 @@ public interface ConversationRepository extends JpaRepository<ConversationEntity
      */
     List<ConversationEntity> findByMemberIdOrderByCreatedAtDesc(Long memberId);
 
-}
\ No newline at end of file
+    /**
+     * 여러 회원의 가장 최근 대화 일괄 조회 (배치 발송용)
+     *
+     * 같은 시각에 생성된 대화가 여러 개면 모두 반환되므로 호출 측에서 ID가 큰 대화를 선택합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 회원별 가장 최근 대화 목록
+     */
+    @Query("SELECT c FROM ConversationEntity c " +
+           "WHERE c.memberId IN :memberIds " +
+           "AND c.createdAt = (SELECT MAX(c2.createdAt) FROM ConversationEntity c2 WHERE c2.memberId = c.memberId)")
+    List<ConversationEntity> findLatestByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+}
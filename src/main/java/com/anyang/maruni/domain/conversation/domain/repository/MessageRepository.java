@@ -1,7 +1,6 @@
 package com.anyang.maruni.domain.conversation.domain.repository;
 
 import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
-import com.anyang.maruni.domain.conversation.domain.entity.MessageType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,24 +27,6 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
     List<MessageEntity> findByConversationIdOrderByCreatedAtAsc(Long conversationId);
 
 
-    /**
-     * 특정 회원의 최근 메시지 조회 (감정 패턴 분석용)
-     *
-     * @param memberId 회원 ID
-     * @param messageType 메시지 타입
-     * @param startDate 조회 시작 날짜
-     * @return 회원의 최근 메시지 목록 (최신순)
-     */
-    @Query("SELECT m FROM MessageEntity m " +
-           "WHERE m.conversationId IN (SELECT c.id FROM ConversationEntity c WHERE c.memberId = :memberId) " +
-           "AND m.type = :messageType " +
-           "AND m.createdAt >= :startDate " +
-           "ORDER BY m.createdAt DESC")
-    List<MessageEntity> findRecentUserMessagesByMemberId(
-            @Param("memberId") Long memberId,
-            @Param("messageType") MessageType messageType,
-            @Param("startDate") LocalDateTime startDate);
-
     /**
      * 특정 회원의 대화 내역 조회 (보호자용)
      *
@@ -10,6 +10,9 @@ import com.anyang.maruni.domain.conversation.config.ConversationProperties;
 import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
 import com.anyang.maruni.domain.conversation.domain.exception.EmotionAnalysisException;
 import com.anyang.maruni.domain.conversation.domain.port.EmotionAnalysisPort;
+import com.anyang.maruni.global.keyword.KeywordCategory;
+import com.anyang.maruni.global.keyword.KeywordHits;
+import com.anyang.maruni.global.keyword.KeywordMatcher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 public class KeywordBasedEmotionAnalyzer implements EmotionAnalysisPort {
 
     private final ConversationProperties properties;
+    private final KeywordMatcher keywordMatcher;
 
     /**
      * 키워드 기반 감정 분석 수행 (예외 처리 강화)
@@ -45,20 +49,20 @@ public class KeywordBasedEmotionAnalyzer implements EmotionAnalysisPort {
                 return EmotionType.NEUTRAL;
             }
 
-            // 메시지 전처리
-            String processedMessage = preprocessMessage(message);
-
             // 키워드 설정 검증
-            Map<String, List<String>> keywords = validateAndGetKeywords();
+            validateKeywords();
+
+            // 메시지 전처리 후 한 번의 사전 스캔으로 부정/긍정 키워드를 함께 검사
+            KeywordHits hits = keywordMatcher.scan(preprocessMessage(message));
 
             // 부정적 키워드 체크 (우선 순위 높음)
-            if (containsAnyKeyword(processedMessage, keywords.get("negative"))) {
+            if (hits.contains(KeywordCategory.NEGATIVE)) {
                 log.debug("부정적 감정 감지: NEGATIVE");
                 return EmotionType.NEGATIVE;
             }
 
             // 긍정적 키워드 체크
-            if (containsAnyKeyword(processedMessage, keywords.get("positive"))) {
+            if (hits.contains(KeywordCategory.POSITIVE)) {
                 log.debug("긍정적 감정 감지: POSITIVE");
                 return EmotionType.POSITIVE;
             }
@@ -90,9 +94,9 @@ public class KeywordBasedEmotionAnalyzer implements EmotionAnalysisPort {
     }
 
     /**
-     * 키워드 설정 검증 및 조회
+     * 키워드 설정 검증
      */
-    private Map<String, List<String>> validateAndGetKeywords() {
+    private void validateKeywords() {
         try {
             Map<String, List<String>> keywords = properties.getEmotion().getKeywords();
 
@@ -103,9 +107,6 @@ public class KeywordBasedEmotionAnalyzer implements EmotionAnalysisPort {
             if (!keywords.containsKey("negative") || !keywords.containsKey("positive")) {
                 throw EmotionAnalysisException.keywordConfigLoadFailed();
             }
-
-            return keywords;
-
         } catch (Exception e) {
             if (e instanceof EmotionAnalysisException) {
                 throw e;
@@ -113,12 +114,4 @@ public class KeywordBasedEmotionAnalyzer implements EmotionAnalysisPort {
             throw EmotionAnalysisException.keywordConfigLoadFailed();
         }
     }
-
-    /**
-     * 메시지에 키워드 목록 중 하나라도 포함되는지 확인
-     */
-    private boolean containsAnyKeyword(String message, List<String> keywords) {
-        return keywords.stream()
-                .anyMatch(message::contains);
-    }
 }
\ No newline at end of file
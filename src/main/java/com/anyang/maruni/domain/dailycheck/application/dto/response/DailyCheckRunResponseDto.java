@@ -0,0 +1,58 @@
+package com.anyang.maruni.domain.dailycheck.application.dto.response;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRunStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 안부 메시지 발송 실행 진행 상황 응답 DTO
+ *
+ * @param runId 실행 ID
+ * @param runDate 발송 날짜
+ * @param status 실행 상태
+ * @param startedAt 최초 시작 시각
+ * @param lastCheckpointAt 마지막 체크포인트 시각
+ * @param finishedAt 종료 시각
+ * @param lastMemberId 마지막으로 커밋된 회원 ID
+ * @param successCount 처리 성공 회원 수
+ * @param failureCount 처리 실패 회원 수
+ * @param attemptCount 실행(재개 포함) 시도 횟수
+ * @param lastError 마지막 실패 사유
+ */
+public record DailyCheckRunResponseDto(
+        String runId,
+        LocalDate runDate,
+        DailyCheckRunStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime lastCheckpointAt,
+        LocalDateTime finishedAt,
+        Long lastMemberId,
+        Integer successCount,
+        Integer failureCount,
+        Integer attemptCount,
+        String lastError
+) {
+    /**
+     * DailyCheckRun 엔티티로부터 DTO 생성
+     *
+     * @param run 실행 기록 엔티티
+     * @return DailyCheckRunResponseDto
+     */
+    public static DailyCheckRunResponseDto from(DailyCheckRun run) {
+        return new DailyCheckRunResponseDto(
+                run.getRunId(),
+                run.getRunDate(),
+                run.getStatus(),
+                run.getStartedAt(),
+                run.getUpdatedAt(),
+                run.getFinishedAt(),
+                run.getLastMemberId(),
+                run.getSuccessCount(),
+                run.getFailureCount(),
+                run.getAttemptCount(),
+                run.getLastError()
+        );
+    }
+}
@@ -0,0 +1,334 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import com.anyang.maruni.domain.dailycheck.domain.vo.MemberIdSet;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.domain.notification.domain.exception.NotificationDispatchRejectedException;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * DailyCheck 병렬 분산 발송기
+ *
+ * 단일 책임: 활성 회원 목록을 청크로 나누어 가상 스레드에서 병렬 처리
+ * - 회원 ID는 Keyset 커서로 페이지 단위 조회 (전체 목록을 적재하지 않음)
+ * - 동시 실행 청크 수는 Semaphore로 제한 (DB 커넥션 풀 보호, 조회 속도 역압)
+ * - 회원별 처리는 Orchestrator 프록시를 통해 개별 트랜잭션으로 실행
+ *   (batch-writes 사용 시 청크 단위 트랜잭션 + JDBC 배치 INSERT, 실패하면 회원별 처리로 대체)
+ * - 청크의 발송 토큰은 트랜잭션을 열기 전에 확보 (토큰 대기 중 커넥션을 점유하지 않음),
+ *   확보하지 못한 청크는 회원별 트랜잭션 없이 한 번에 재시도 큐로 등록
+ * - 페이지 처리가 끝날 때마다 Run Journal에 체크포인트 기록 (재시작 시 이어서 처리)
+ * - 청크별 지연 시간과 전체 처리량을 메트릭/로그로 기록
+ */
+@Component
+@Slf4j
+public class DailyCheckFanOutProcessor {
+
+    private static final String CHUNK_TIMER = "maruni.dailycheck.fanout.chunk";
+    private static final String MEMBER_COUNTER = "maruni.dailycheck.fanout.members";
+
+    private final DailyCheckOrchestrator dailyCheckOrchestrator;
+    private final DailyCheckMemberCursor memberCursor;
+    private final SchedulingProperties schedulingProperties;
+    private final DailyCheckRunJournal runJournal;
+    private final NotificationDispatchStage dispatchStage;
+    private final Timer chunkTimer;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+
+    public DailyCheckFanOutProcessor(DailyCheckOrchestrator dailyCheckOrchestrator,
+                                     DailyCheckMemberCursor memberCursor,
+                                     SchedulingProperties schedulingProperties,
+                                     DailyCheckRunJournal runJournal,
+                                     NotificationDispatchStage dispatchStage,
+                                     MeterRegistry meterRegistry) {
+        this.dailyCheckOrchestrator = dailyCheckOrchestrator;
+        this.memberCursor = memberCursor;
+        this.schedulingProperties = schedulingProperties;
+        this.runJournal = runJournal;
+        this.dispatchStage = dispatchStage;
+        this.chunkTimer = Timer.builder(CHUNK_TIMER)
+                .description("안부 메시지 청크 처리 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.processedCounter = Counter.builder(MEMBER_COUNTER)
+                .tag("result", "processed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(MEMBER_COUNTER)
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오늘 실행을 Run Journal에 기록하며 발송 (마지막 체크포인트부터 재개)
+     *
+     * @return 처리 결과 요약 (다른 실행이 진행 중이면 empty)
+     */
+    public Optional<FanOutResult> processTodayRun() {
+        Optional<DailyCheckRun> started = runJournal.startOrResume(schedulingProperties.getDailyCheck().today());
+        if (started.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String runId = started.get().getRunId();
+        try {
+            FanOutResult result = processAllActiveMembers(started.get().getLastMemberId(),
+                    (lastMemberId, successDelta, failureDelta) ->
+                            runJournal.checkpoint(runId, lastMemberId, successDelta, failureDelta));
+            if (result.interrupted()) {
+                runJournal.fail(runId, "interrupted");
+            } else {
+                runJournal.complete(runId);
+            }
+            return Optional.of(result);
+        } catch (RuntimeException e) {
+            runJournal.fail(runId, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 모든 활성 회원에게 청크 단위 병렬 발송
+     *
+     * @return 처리 결과 요약
+     */
+    public FanOutResult processAllActiveMembers() {
+        return processAllActiveMembers(DailyCheckMemberCursor.FROM_BEGINNING, PageCheckpoint.NONE);
+    }
+
+    /**
+     * 지정한 회원 ID 이후의 활성 회원에게 청크 단위 병렬 발송
+     *
+     * 커서 페이지 단위로 청크를 병렬 처리하고, 페이지의 모든 청크가 끝나면
+     * 체크포인트를 남긴 뒤 다음 페이지를 읽습니다. 따라서 메모리에는 한 페이지만 유지되며,
+     * 체크포인트 이전 회원은 모두 커밋된 상태가 보장됩니다.
+     *
+     * @return 처리 결과 요약
+     */
+    public FanOutResult processAllActiveMembers(long afterMemberId, PageCheckpoint checkpoint) {
+        SchedulingProperties.DailyCheck config = schedulingProperties.getDailyCheck();
+        int chunkSize = Math.max(1, config.getBatchSize());
+        int parallelism = Math.max(1, config.getFanOut().getParallelism());
+        MemberIdSet alreadySentMemberIds = dailyCheckOrchestrator.loadAlreadySentMemberIds();
+
+        log.info("Daily check fan-out started after member {}: chunk size {}, parallelism {}",
+                afterMemberId, chunkSize, parallelism);
+
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int total = 0;
+        int chunkCount = 0;
+        boolean interrupted = false;
+        Semaphore permits = new Semaphore(parallelism);
+        long startedAt = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             Stream<List<Long>> pages = memberCursor.pages(afterMemberId)) {
+            Iterator<List<Long>> pageIterator = pages.iterator();
+            while (!interrupted && pageIterator.hasNext()) {
+                List<Long> page = pageIterator.next();
+                int processedBefore = processed.get();
+                int failedBefore = failed.get();
+                total += page.size();
+
+                chunkCount += dispatchPage(executor, permits, page, chunkSize, alreadySentMemberIds,
+                        processed, failed);
+                interrupted = Thread.currentThread().isInterrupted();
+
+                if (!interrupted) {
+                    checkpoint.onPageCompleted(page.get(page.size() - 1),
+                            processed.get() - processedBefore, failed.get() - failedBefore);
+                }
+            }
+        }
+
+        return summarize(total, processed, failed, chunkCount, startedAt, interrupted);
+    }
+
+    /**
+     * 지정한 회원 목록을 청크 단위로 병렬 발송 (발송 시간대 슬롯 처리용)
+     *
+     * @param alreadySentMemberIds 대상 회원 중 오늘 이미 발송에 성공한 회원 ID 집합
+     * @return 처리 결과 요약
+     */
+    public FanOutResult processMembers(List<Long> memberIds, MemberIdSet alreadySentMemberIds) {
+        SchedulingProperties.DailyCheck config = schedulingProperties.getDailyCheck();
+        int chunkSize = Math.max(1, config.getBatchSize());
+        Semaphore permits = new Semaphore(Math.max(1, config.getFanOut().getParallelism()));
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int chunkCount;
+        long startedAt = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            chunkCount = dispatchPage(executor, permits, memberIds, chunkSize, alreadySentMemberIds,
+                    processed, failed);
+        }
+
+        return summarize(memberIds.size(), processed, failed, chunkCount, startedAt,
+                Thread.currentThread().isInterrupted());
+    }
+
+    /**
+     * 한 페이지를 청크로 나누어 실행하고 모든 청크가 끝날 때까지 대기
+     *
+     * @return 실행한 청크 수 (인터럽트되면 그 전까지 실행한 수)
+     */
+    private int dispatchPage(ExecutorService executor, Semaphore permits, List<Long> page, int chunkSize,
+                             MemberIdSet alreadySentMemberIds, AtomicInteger processed, AtomicInteger failed) {
+        List<CompletableFuture<Void>> pageFutures = new ArrayList<>();
+        for (List<Long> chunk : partition(page, chunkSize)) {
+            if (!acquire(permits)) {
+                break;
+            }
+            pageFutures.add(CompletableFuture.runAsync(
+                    () -> runChunk(permits, chunk, alreadySentMemberIds, processed, failed), executor));
+        }
+        CompletableFuture.allOf(pageFutures.toArray(new CompletableFuture[0])).join();
+        return pageFutures.size();
+    }
+
+    private FanOutResult summarize(int total, AtomicInteger processed, AtomicInteger failed, int chunkCount,
+                                   long startedAt, boolean interrupted) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        FanOutResult result = new FanOutResult(total, processed.get(), failed.get(), chunkCount,
+                elapsedMillis, interrupted);
+
+        log.info("Daily check fan-out completed: processed={}, failed={}, chunks={}, elapsed={}ms, throughput={}/s",
+                result.processed(), result.failed(), result.chunkCount(), result.elapsedMillis(),
+                String.format("%.1f", result.throughputPerSecond()));
+        return result;
+    }
+
+    /**
+     * 청크 실행 허가 획득 (인터럽트 시 false)
+     */
+    private boolean acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Daily check fan-out interrupted, remaining members are left for the next run");
+            return false;
+        }
+    }
+
+    /**
+     * 청크 처리 후 실행 허가 반환
+     *
+     * 청크의 발송 토큰을 확보하지 못하면 회원별 트랜잭션을 열지 않고 청크 전체를 한 번에 재시도 큐에 등록합니다.
+     */
+    private void runChunk(Semaphore permits, List<Long> chunk, MemberIdSet alreadySentMemberIds,
+                          AtomicInteger processed, AtomicInteger failed) {
+        try {
+            int sendCount = (int) chunk.stream().filter(memberId -> !alreadySentMemberIds.contains(memberId)).count();
+            chunkTimer.record(() -> dispatchStage.runWithPermits(NotificationChannelType.PUSH, sendCount,
+                    () -> processChunk(chunk, alreadySentMemberIds, processed, failed)));
+        } catch (NotificationDispatchRejectedException e) {
+            deferChunk(chunk, alreadySentMemberIds, processed, failed);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 발송이 거부된 청크를 재시도 큐로 넘김 (이미 발송된 회원은 처리 완료로 집계)
+     */
+    private void deferChunk(List<Long> chunk, MemberIdSet alreadySentMemberIds,
+                            AtomicInteger processed, AtomicInteger failed) {
+        try {
+            int deferred = dailyCheckOrchestrator.scheduleRetries(chunk, alreadySentMemberIds);
+            log.warn("Daily check dispatch throttled for chunk starting at member {}, {} members deferred to retry",
+                    chunk.get(0), deferred);
+            processed.addAndGet(chunk.size() - deferred);
+            processedCounter.increment(chunk.size() - deferred);
+            failed.addAndGet(deferred);
+            failedCounter.increment(deferred);
+        } catch (RuntimeException e) {
+            log.error("Failed to defer throttled chunk starting at member {}: {}", chunk.get(0), e.getMessage());
+            failed.addAndGet(chunk.size());
+            failedCounter.increment(chunk.size());
+        }
+    }
+
+    /**
+     * 청크 처리
+     *
+     * 배치 저장이 켜져 있으면 청크 전체를 한 트랜잭션에서 배치 INSERT로 저장하고,
+     * 실패하면 롤백된 청크를 회원별 개별 트랜잭션으로 다시 처리합니다.
+     */
+    private void processChunk(List<Long> chunk, MemberIdSet alreadySentMemberIds,
+                              AtomicInteger processed, AtomicInteger failed) {
+        if (schedulingProperties.getDailyCheck().getFanOut().isBatchWrites()) {
+            try {
+                dailyCheckOrchestrator.processChunkDailyCheck(chunk, alreadySentMemberIds);
+                processed.addAndGet(chunk.size());
+                processedCounter.increment(chunk.size());
+                return;
+            } catch (Exception e) {
+                log.warn("Daily check batch write failed for chunk starting at member {}, falling back to per-member: {}",
+                        chunk.get(0), e.getMessage());
+            }
+        }
+
+        for (Long memberId : chunk) {
+            try {
+                dailyCheckOrchestrator.processMemberDailyCheck(memberId, alreadySentMemberIds);
+                processed.incrementAndGet();
+                processedCounter.increment();
+            } catch (Exception e) {
+                log.error("Daily check fan-out failed for member {}: {}", memberId, e.getMessage());
+                failed.incrementAndGet();
+                failedCounter.increment();
+            }
+        }
+    }
+
+    static List<List<Long>> partition(List<Long> memberIds, int chunkSize) {
+        List<List<Long>> chunks = new ArrayList<>((memberIds.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < memberIds.size(); from += chunkSize) {
+            chunks.add(memberIds.subList(from, Math.min(from + chunkSize, memberIds.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 페이지 처리 완료 시 체크포인트 콜백
+     */
+    @FunctionalInterface
+    public interface PageCheckpoint {
+
+        PageCheckpoint NONE = (lastMemberId, successDelta, failureDelta) -> { };
+
+        void onPageCompleted(long lastMemberId, int successDelta, int failureDelta);
+    }
+
+    /**
+     * 병렬 발송 결과 요약
+     */
+    public record FanOutResult(int total, int processed, int failed, int chunkCount, long elapsedMillis,
+                               boolean interrupted) {
+
+        public double throughputPerSecond() {
+            return processed * 1000.0 / elapsedMillis;
+        }
+    }
+}
@@ -1,23 +1,42 @@
 package com.anyang.maruni.domain.dailycheck.application.scheduler;
 
 import com.anyang.maruni.domain.conversation.application.service.SimpleConversationService;
+import com.anyang.maruni.domain.dailycheck.application.scheduler.DailyCheckFanOutProcessor.PageCheckpoint;
 import com.anyang.maruni.domain.dailycheck.application.service.DailyCheckMessageProvider;
 import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRecord;
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
 import com.anyang.maruni.domain.dailycheck.domain.entity.RetryRecord;
 import com.anyang.maruni.domain.dailycheck.domain.repository.DailyCheckRecordRepository;
-import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
+import com.anyang.maruni.domain.dailycheck.domain.vo.MemberIdSet;
+import com.anyang.maruni.domain.dailycheck.infrastructure.persistence.DailyCheckRecordUpsertWriter;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberDailySummaryWriter;
+import com.anyang.maruni.domain.notification.domain.entity.NotificationHistory;
+import com.anyang.maruni.domain.notification.domain.exception.NotificationDispatchRejectedException;
 import com.anyang.maruni.domain.notification.domain.service.NotificationHistoryService;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationType;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationSourceType;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * DailyCheck 오케스트레이터
@@ -32,56 +51,196 @@ public class DailyCheckOrchestrator {
 
     // 상수 정의
     private static final String DAILY_CHECK_TITLE = "안부 메시지";
-    private static final int ALLOWED_START_HOUR = 7;
-    private static final int ALLOWED_END_HOUR = 21;
 
     private final DailyCheckMessageProvider messageProvider;
-    private final MemberRepository memberRepository;
+    private final DailyCheckMemberCursor memberCursor;
     private final SimpleConversationService conversationService;
     private final NotificationHistoryService notificationHistoryService;
     private final DailyCheckRecordRepository dailyCheckRecordRepository;
+    private final DailyCheckRecordUpsertWriter dailyCheckRecordWriter;
+    private final MemberDailySummaryWriter dailySummaryWriter;
     private final RetryService retryService;
+    private final PlatformTransactionManager transactionManager;
+    private final SchedulingProperties schedulingProperties;
+    private final NotificationDispatchStage dispatchStage;
+    private final DailyCheckRunJournal runJournal;
+
+    /**
+     * 오늘 실행을 Run Journal에 기록하며 순차 발송 (마지막 체크포인트부터 재개)
+     *
+     * @return 실행 여부 (이미 완료되었거나 다른 실행이 진행 중이면 false)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean processTodayRun() {
+        Optional<DailyCheckRun> started = runJournal.startOrResume(schedulingProperties.getDailyCheck().today());
+        if (started.isEmpty()) {
+            return false;
+        }
+
+        String runId = started.get().getRunId();
+        try {
+            processAllActiveMembers(started.get().getLastMemberId(),
+                    (lastMemberId, successDelta, failureDelta) ->
+                            runJournal.checkpoint(runId, lastMemberId, successDelta, failureDelta));
+            runJournal.complete(runId);
+            return true;
+        } catch (RuntimeException e) {
+            runJournal.fail(runId, e.getMessage());
+            throw e;
+        }
+    }
 
     /**
      * 모든 활성 회원에게 안부 메시지 발송 - 실제 비즈니스 로직
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void processAllActiveMembers() {
-        List<Long> activeMemberIds = memberRepository.findDailyCheckEnabledMemberIds();
-        log.info("Found {} daily check enabled members", activeMemberIds.size());
+        processAllActiveMembers(DailyCheckMemberCursor.FROM_BEGINNING);
+    }
+
+    /**
+     * 지정한 회원 ID 이후의 활성 회원에게 안부 메시지 발송 (중단된 실행 재개용)
+     *
+     * 실행 전체를 하나의 트랜잭션으로 묶지 않고 회원마다 짧은 트랜잭션으로 커밋합니다.
+     * 회원별로 적재한 엔티티가 커밋과 함께 영속성 컨텍스트에서 비워지므로,
+     * 병렬 분산 발송과 같이 회원 수와 무관하게 메모리 사용량이 일정합니다.
+     * 발송 토큰은 회원 트랜잭션을 열기 전에 확보하며, 확보하지 못한 회원은 트랜잭션을 열지 않고 모아 두었다가
+     * 한 트랜잭션으로 재시도 큐에 등록합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processAllActiveMembers(long afterMemberId) {
+        processAllActiveMembers(afterMemberId, PageCheckpoint.NONE);
+    }
+
+    /**
+     * 지정한 회원 ID 이후의 활성 회원에게 안부 메시지 발송하며 batch-size 회원마다 체크포인트 기록
+     *
+     * 체크포인트는 보류한 회원을 재시도 큐에 등록한 뒤 남기므로, 체크포인트 이전 회원은 모두 커밋된 상태입니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processAllActiveMembers(long afterMemberId, PageCheckpoint checkpoint) {
+        MemberIdSet alreadySentMemberIds = loadAlreadySentMemberIds();
+        TransactionTemplate memberTransaction = new TransactionTemplate(transactionManager);
+        int batchSize = Math.max(1, schedulingProperties.getDailyCheck().getBatchSize());
+        List<Long> throttledMemberIds = new ArrayList<>();
+        int processedCount = 0;
+        int failedCount = 0;
+        int checkpointedProcessed = 0;
+        int checkpointedFailed = 0;
+        Long lastMemberId = null;
+
+        try (Stream<Long> memberIds = memberCursor.stream(afterMemberId)) {
+            Iterator<Long> iterator = memberIds.iterator();
+            while (iterator.hasNext()) {
+                Long memberId = iterator.next();
+                lastMemberId = memberId;
+                try {
+                    int permits = alreadySentMemberIds.contains(memberId) ? 0 : 1;
+                    dispatchStage.runWithPermits(NotificationChannelType.PUSH, permits,
+                            () -> memberTransaction.executeWithoutResult(
+                                    status -> processMemberDailyCheck(memberId, alreadySentMemberIds)));
+                    processedCount++;
+                } catch (NotificationDispatchRejectedException e) {
+                    throttledMemberIds.add(memberId);
+                    failedCount++;
+                } catch (Exception e) {
+                    log.error("Daily check failed for member {}: {}", memberId, e.getMessage());
+                    failedCount++;
+                }
+
+                if (processedCount + failedCount - checkpointedProcessed - checkpointedFailed >= batchSize) {
+                    scheduleRetries(throttledMemberIds, alreadySentMemberIds);
+                    throttledMemberIds.clear();
+                    checkpoint.onPageCompleted(memberId, processedCount - checkpointedProcessed,
+                            failedCount - checkpointedFailed);
+                    checkpointedProcessed = processedCount;
+                    checkpointedFailed = failedCount;
+                }
+            }
+        }
+        scheduleRetries(throttledMemberIds, alreadySentMemberIds);
+        if (lastMemberId != null && processedCount + failedCount > checkpointedProcessed + checkpointedFailed) {
+            checkpoint.onPageCompleted(lastMemberId, processedCount - checkpointedProcessed,
+                    failedCount - checkpointedFailed);
+        }
+
+        log.info("Daily check message sending completed for {} members ({} failed)", processedCount, failedCount);
+    }
 
-        for (Long memberId : activeMemberIds) {
-            processMemberDailyCheck(memberId);
+    /**
+     * 재시도 대상 한 배치 처리 - 실제 비즈니스 로직
+     *
+     * 배치 크기만큼 재시도 기록을 점유(FOR UPDATE SKIP LOCKED)해 리스를 커밋한 뒤,
+     * 기록마다 별도 트랜잭션(REQUIRES_NEW)으로 처리합니다. 발송 토큰은 기록의 트랜잭션을 열기 전에 확보하며,
+     * 확보하지 못하면 남은 기록은 트랜잭션을 열지 않고 리스가 끝난 뒤 다시 점유되도록 두고 이번 트리거를 멈춥니다.
+     * 한 기록의 처리가 롤백돼도 다른 기록에 영향이 없으며, 실패 횟수는 롤백 후 별도 트랜잭션으로 기록되어
+     * 계속 실패하는 기록도 최대 재시도 횟수에 도달하면 DEAD로 전환됩니다.
+     * 처리 중 인스턴스가 죽으면 행은 리스가 끝난 뒤 다시 점유됩니다.
+     *
+     * @return 점유한 재시도 기록 수 (batchSize보다 작으면 큐가 비었거나 발송이 거부됨)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int processRetryBatch(int batchSize) {
+        List<RetryRecord> claimedRetries = retryService.claimDueRetries(LocalDateTime.now(), batchSize);
+        log.info("Claimed {} pending retries", claimedRetries.size());
+
+        TransactionTemplate retryTransaction = new TransactionTemplate(transactionManager);
+        retryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < claimedRetries.size(); i++) {
+            RetryRecord retryRecord = claimedRetries.get(i);
+            try {
+                dispatchStage.runWithPermits(NotificationChannelType.PUSH, 1,
+                        () -> retryTransaction.executeWithoutResult(status -> processRetryRecord(retryRecord)));
+            } catch (NotificationDispatchRejectedException e) {
+                log.warn("Retry dispatch throttled, {} claimed retries are left until their lease expires",
+                        claimedRetries.size() - i);
+                return 0;
+            } catch (Exception e) {
+                log.error("Error during retry for member {}: {}",
+                        retryRecord.getMemberId(), e.getMessage());
+                retryService.incrementRetryCount(retryRecord.getId());
+            }
         }
 
-        log.info("Daily check message sending completed");
+        log.info("Retry batch processing completed");
+        return claimedRetries.size();
     }
 
     /**
-     * 모든 재시도 대상 처리 - 실제 비즈니스 로직
+     * 발송 토큰을 확보하지 못한 회원들을 한 트랜잭션으로 재시도 큐에 등록
+     *
+     * 병렬 분산 발송에서 청크 전체가 거부되면 회원별 트랜잭션을 열지 않고 이 메서드로 넘깁니다.
+     *
+     * @param alreadySentMemberIds 실행 시작 시 조회한 오늘 발송 성공 회원 ID 집합 (등록에서 제외)
+     * @return 재시도 큐에 등록한 회원 수
      */
     @Transactional
-    public void processAllRetries() {
-        List<RetryRecord> pendingRetries = retryService.getPendingRetries(LocalDateTime.now());
-        log.info("Found {} pending retries", pendingRetries.size());
-
-        for (RetryRecord retryRecord : pendingRetries) {
-            processRetryRecord(retryRecord);
+    public int scheduleRetries(List<Long> memberIds, MemberIdSet alreadySentMemberIds) {
+        List<Long> targetMemberIds = memberIds.stream()
+                .filter(memberId -> !alreadySentMemberIds.contains(memberId))
+                .toList();
+        if (!targetMemberIds.isEmpty()) {
+            retryService.scheduleRetries(targetMemberIds, messageProvider.generateMessage());
         }
-
-        log.info("Retry processing completed");
+        return targetMemberIds.size();
     }
 
     /**
      * 개별 회원 안부 확인 처리
+     *
+     * 병렬 분산 발송(DailyCheckFanOutProcessor)에서 프록시를 통해 호출되면
+     * 회원마다 짧은 개별 트랜잭션으로 실행됩니다.
+     *
+     * @param alreadySentMemberIds 실행 시작 시 조회한 오늘 발송 성공 회원 ID 집합
      */
-    private void processMemberDailyCheck(Long memberId) {
+    @Transactional
+    public void processMemberDailyCheck(Long memberId, MemberIdSet alreadySentMemberIds) {
         // 메시지 생성 (전체 메서드에서 사용)
         String message = messageProvider.generateMessage();
 
         try {
-            // 중복 발송 체크
-            if (isAlreadySentToday(memberId)) {
+            // 중복 발송 체크 (메모리 조회)
+            if (alreadySentMemberIds.contains(memberId)) {
                 log.debug("Already sent to member {} today, skipping", memberId);
                 return;
             }
@@ -112,45 +271,106 @@ public class DailyCheckOrchestrator {
         }
     }
 
+    /**
+     * 회원 청크 일괄 안부 확인 처리 (배치 저장)
+     *
+     * 청크 전체를 하나의 트랜잭션으로 처리하며, 알림 이력·시스템 메시지·발송 기록을
+     * 엔티티별로 모아 JDBC 배치 INSERT로 저장합니다.
+     * 예외가 발생하면 청크 전체가 롤백되므로 호출 측에서 회원별 처리로 대체해야 합니다.
+     *
+     * @param memberIds 청크 회원 ID 목록
+     * @param alreadySentMemberIds 실행 시작 시 조회한 오늘 발송 성공 회원 ID 집합
+     * @return 발송한 회원 수 (이미 발송된 회원 제외)
+     */
+    @Transactional
+    public int processChunkDailyCheck(List<Long> memberIds, MemberIdSet alreadySentMemberIds) {
+        List<Long> targetMemberIds = memberIds.stream()
+                .filter(memberId -> !alreadySentMemberIds.contains(memberId))
+                .toList();
+        if (targetMemberIds.isEmpty()) {
+            return 0;
+        }
+
+        String message = messageProvider.generateMessage();
+
+        List<NotificationHistory> histories = notificationHistoryService.recordNotificationsWithType(
+                targetMemberIds,
+                DAILY_CHECK_TITLE,
+                message,
+                NotificationType.DAILY_CHECK,
+                NotificationSourceType.DAILY_CHECK
+        );
+        if (histories.size() != targetMemberIds.size()) {
+            throw new IllegalStateException("Notification batch size mismatch: expected "
+                    + targetMemberIds.size() + " but was " + histories.size());
+        }
+
+        conversationService.processSystemMessages(targetMemberIds, message);
+        dailyCheckRecordWriter.upsertAll(targetMemberIds.stream()
+                .map(memberId -> DailyCheckRecord.createSuccessRecord(memberId, checkDate(), message))
+                .toList());
+        dailySummaryWriter.recordDailyChecks(targetMemberIds, true, LocalDateTime.now());
+
+        log.debug("Daily check message sent to {} members in batch", targetMemberIds.size());
+        return targetMemberIds.size();
+    }
+
     /**
      * 개별 재시도 기록 처리
+     *
+     * 예외는 호출 측으로 전파되어 이 기록의 트랜잭션만 롤백됩니다.
      */
     private void processRetryRecord(RetryRecord retryRecord) {
-        try {
-            var notificationHistory = notificationHistoryService.recordNotification(
-                    retryRecord.getMemberId(),
-                    DAILY_CHECK_TITLE,
-                    retryRecord.getMessage()
-            );
+        var notificationHistory = notificationHistoryService.recordNotification(
+                retryRecord.getMemberId(),
+                DAILY_CHECK_TITLE,
+                retryRecord.getMessage()
+        );
+
+        if (notificationHistory != null) {
+            handleSuccessfulRetry(retryRecord);
+        } else {
+            retryService.handleFailedRetry(retryRecord);
+        }
 
-            if (notificationHistory != null) {
-                handleSuccessfulRetry(retryRecord);
-            } else {
-                retryService.handleFailedRetry(retryRecord);
-            }
+        retryService.saveRetryRecord(retryRecord);
+    }
 
-            retryService.saveRetryRecord(retryRecord);
+    /**
+     * 오늘 이미 발송에 성공한 회원 ID 집합 조회 (단일 쿼리)
+     */
+    public MemberIdSet loadAlreadySentMemberIds() {
+        MemberIdSet memberIds = MemberIdSet.of(
+                dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(checkDate()));
+        log.info("Loaded {} members already sent today", memberIds.size());
+        return memberIds;
+    }
 
-        } catch (Exception e) {
-            log.error("Error during retry for member {}: {}",
-                    retryRecord.getMemberId(), e.getMessage());
-            retryService.incrementRetryCount(retryRecord);
+    /**
+     * 지정한 회원 중 오늘 이미 발송에 성공한 회원 ID 집합 조회 (발송 시간대 슬롯 단위)
+     */
+    public MemberIdSet loadAlreadySentMemberIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return MemberIdSet.empty();
         }
+        return MemberIdSet.of(
+                dailyCheckRecordRepository.findSuccessfulMemberIdsByDateAndMemberIds(checkDate(), memberIds));
     }
 
     /**
      * 특정 회원에게 오늘 이미 발송했는지 확인
      */
     public boolean isAlreadySentToday(Long memberId) {
-        return dailyCheckRecordRepository.existsSuccessfulRecordByMemberIdAndDate(memberId, LocalDate.now());
+        return dailyCheckRecordRepository.existsSuccessfulRecordByMemberIdAndDate(memberId, checkDate());
     }
 
     /**
-     * 허용된 발송 시간인지 확인 (오전 7시 ~ 오후 9시)
+     * 허용된 발송 시간인지 확인 (기본 오전 7시 ~ 오후 9시, maruni.scheduling.daily-check.send-window)
+     *
+     * @param currentTime maruni.scheduling.daily-check.zone 기준 시각
      */
     public boolean isAllowedSendingTime(LocalTime currentTime) {
-        int hour = currentTime.getHour();
-        return hour >= ALLOWED_START_HOUR && hour <= ALLOWED_END_HOUR;
+        return schedulingProperties.getDailyCheck().getSendWindow().isAllowedSendingTime(currentTime);
     }
 
     /**
@@ -196,11 +416,22 @@ public class DailyCheckOrchestrator {
 
     /**
      * 발송 기록 저장 (성공/실패 공통)
+     *
+     * 같은 날 실패 기록이 있으면 성공 기록으로 승격되며, 유니크 키 충돌은 발생하지 않습니다.
+     * 회원별 일일 요약의 발송 결과도 함께 갱신합니다.
      */
     private void saveDailyCheckRecord(Long memberId, String message, boolean success) {
         DailyCheckRecord record = success
-            ? DailyCheckRecord.createSuccessRecord(memberId, message)
-            : DailyCheckRecord.createFailureRecord(memberId, message);
-        dailyCheckRecordRepository.save(record);
+            ? DailyCheckRecord.createSuccessRecord(memberId, checkDate(), message)
+            : DailyCheckRecord.createFailureRecord(memberId, checkDate(), message);
+        dailyCheckRecordWriter.upsert(record);
+        dailySummaryWriter.recordDailyChecks(List.of(memberId), success, LocalDateTime.now());
+    }
+
+    /**
+     * 발송 기록 날짜 (maruni.scheduling.daily-check.zone 기준 오늘, 서버 JVM 시간대와 무관)
+     */
+    private LocalDate checkDate() {
+        return schedulingProperties.getDailyCheck().today();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRunStatus;
+import com.anyang.maruni.domain.dailycheck.domain.repository.DailyCheckRunRepository;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 안부 메시지 발송 실행 기록(Run Journal) 관리 서비스
+ *
+ * 단일 책임: 날짜별 실행 시작/재개, 체크포인트, 완료/실패 기록
+ * 각 메서드는 짧은 개별 트랜잭션으로 커밋되어 노드가 중단되어도 진행 상황이 남습니다.
+ * 날짜별 실행 기록은 행 잠금(FOR UPDATE) 아래에서 상태를 판단하므로,
+ * 여러 노드가 동시에 시작해도 한 노드만 실행을 시작하거나 재개합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class DailyCheckRunJournal {
+
+    private final DailyCheckRunRepository runRepository;
+    private final SchedulingProperties schedulingProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 해당 날짜의 실행을 시작하거나 마지막 체크포인트부터 재개
+     *
+     * @return 실행 기록 (이미 완료되었거나 다른 실행이 진행 중이면 empty)
+     */
+    @Transactional
+    public Optional<DailyCheckRun> startOrResume(LocalDate runDate) {
+        String createdRunId = createIfAbsent(runDate);
+        DailyCheckRun run = lockRun(runDate);
+        if (run.getRunId().equals(createdRunId)) {
+            log.info("Daily check run {} started for {}", run.getRunId(), runDate);
+            return Optional.of(run);
+        }
+        if (run.getStatus() == DailyCheckRunStatus.COMPLETED) {
+            log.info("Daily check run {} for {} is already completed, skipping new trigger", run.getRunId(), runDate);
+            return Optional.empty();
+        }
+
+        LocalDateTime staleThreshold = LocalDateTime.now()
+                .minusMinutes(schedulingProperties.getDailyCheck().getRunStaleAfterMinutes());
+        if (run.isActiveSince(staleThreshold)) {
+            log.warn("Daily check run {} is still in progress, skipping new trigger", run.getRunId());
+            return Optional.empty();
+        }
+
+        run.resume();
+        log.info("Daily check run {} resumed from member {} (attempt {})",
+                run.getRunId(), run.getLastMemberId(), run.getAttemptCount());
+        return Optional.of(run);
+    }
+
+    /**
+     * 발송 시각 슬롯용 실행 기록 조회 (없으면 시작, 실패한 실행은 재개)
+     *
+     * 슬롯 발송은 리더 노드에서 하루 동안 여러 번 나뉘어 실행되므로 진행 중인 실행에 합류합니다.
+     *
+     * @return 실행 기록 (이미 완료되었으면 empty)
+     */
+    @Transactional
+    public Optional<DailyCheckRun> startOrJoin(LocalDate runDate) {
+        String createdRunId = createIfAbsent(runDate);
+        DailyCheckRun run = lockRun(runDate);
+        if (run.getRunId().equals(createdRunId)) {
+            log.info("Daily check slot run {} started for {}", run.getRunId(), runDate);
+            return Optional.of(run);
+        }
+        if (run.getStatus() == DailyCheckRunStatus.COMPLETED) {
+            return Optional.empty();
+        }
+        if (run.getStatus() == DailyCheckRunStatus.FAILED) {
+            run.resume();
+            log.info("Daily check slot run {} resumed (attempt {})", run.getRunId(), run.getAttemptCount());
+        }
+        return Optional.of(run);
+    }
+
+    /**
+     * 체크포인트 기록
+     */
+    @Transactional
+    public void checkpoint(String runId, Long lastMemberId, int successDelta, int failureDelta) {
+        runRepository.findByRunId(runId)
+                .ifPresent(run -> run.checkpoint(lastMemberId, successDelta, failureDelta));
+    }
+
+    /**
+     * 실행 완료 기록
+     */
+    @Transactional
+    public void complete(String runId) {
+        runRepository.findByRunId(runId).ifPresent(DailyCheckRun::complete);
+    }
+
+    /**
+     * 실행 실패 기록
+     */
+    @Transactional
+    public void fail(String runId, String errorMessage) {
+        runRepository.findByRunId(runId).ifPresent(run -> run.fail(errorMessage));
+    }
+
+    /**
+     * 가장 최근 실행 기록 조회
+     */
+    public Optional<DailyCheckRun> findLatest() {
+        return runRepository.findTopByOrderByRunDateDesc();
+    }
+
+    /**
+     * 특정 날짜 실행 기록 조회
+     */
+    public Optional<DailyCheckRun> findByRunDate(LocalDate runDate) {
+        return runRepository.findByRunDate(runDate);
+    }
+
+    /**
+     * 실행 기록이 없으면 별도 트랜잭션(REQUIRES_NEW)으로 생성
+     *
+     * 다른 노드가 동시에 같은 날짜의 기록을 만들면 유니크 키(runDate) 위반을 무시하고 그 기록을 사용합니다.
+     * 호출한 트랜잭션은 제약 위반에 영향을 받지 않습니다.
+     *
+     * @return 이 호출에서 생성한 실행 ID (이미 있었으면 null)
+     */
+    private String createIfAbsent(LocalDate runDate) {
+        if (runRepository.findByRunDate(runDate).isPresent()) {
+            return null;
+        }
+
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return requiresNew.execute(status -> runRepository.saveAndFlush(DailyCheckRun.start(runDate)).getRunId());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 동시에 같은 날짜의 실행을 시작함
+            log.info("Daily check run for {} was started concurrently by another node", runDate);
+            return null;
+        }
+    }
+
+    /**
+     * 날짜별 실행 기록을 행 잠금으로 조회 (트랜잭션이 끝날 때까지 다른 노드의 시작/재개 판단을 막음)
+     */
+    private DailyCheckRun lockRun(LocalDate runDate) {
+        return runRepository.findByRunDateForUpdate(runDate)
+                .orElseThrow(() -> new IllegalStateException("Daily check run for " + runDate + " is missing"));
+    }
+}
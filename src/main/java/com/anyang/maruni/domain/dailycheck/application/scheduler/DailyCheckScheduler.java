@@ -1,5 +1,7 @@
 package com.anyang.maruni.domain.dailycheck.application.scheduler;
 
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.scheduling.SchedulerCoordinator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,6 +11,9 @@ import org.springframework.stereotype.Component;
  * DailyCheck 스케줄링 트리거
  *
  * 단일 책임: 스케줄링 트리거만 담당하고 실제 비즈니스 로직은 Orchestrator에 위임
+ * 다중 서버에서 안부 메시지 발송은 리더 노드에서만 실행하고,
+ * 재시도는 행 점유(FOR UPDATE SKIP LOCKED)로 나뉘므로 모든 노드에서 실행합니다.
+ * 순차, 병렬 분산, 발송 시각 슬롯 경로 모두 날짜별 Run Journal에 실행을 기록합니다.
  */
 @Component
 @RequiredArgsConstructor
@@ -16,6 +21,9 @@ import org.springframework.stereotype.Component;
 public class DailyCheckScheduler {
 
     private final DailyCheckOrchestrator dailyCheckOrchestrator;
+    private final DailyCheckFanOutProcessor dailyCheckFanOutProcessor;
+    private final SchedulingProperties schedulingProperties;
+    private final SchedulerCoordinator schedulerCoordinator;
 
     /**
      * 매일 안부 메시지 발송 트리거 (UTC 자정 = KST 오전 9시)
@@ -23,15 +31,39 @@ public class DailyCheckScheduler {
     @Scheduled(cron = "${maruni.scheduling.daily-check.cron}")
     public void triggerDailyCheck() {
         log.info("Daily check triggered by scheduler");
-        dailyCheckOrchestrator.processAllActiveMembers();
+        if (!schedulerCoordinator.isLeader()) {
+            log.info("Node {} is not the scheduler leader, daily check is dispatched by the leader",
+                    schedulerCoordinator.getNodeId());
+            return;
+        }
+        if (schedulingProperties.getDailyCheck().getSendWindow().isEnabled()) {
+            log.info("Per-member send windows enabled, daily check is dispatched by the timing wheel");
+            return;
+        }
+        if (schedulingProperties.getDailyCheck().getFanOut().isEnabled()) {
+            dailyCheckFanOutProcessor.processTodayRun();
+            return;
+        }
+        dailyCheckOrchestrator.processTodayRun();
     }
 
     /**
      * 재시도 프로세스 트리거 (5분마다)
+     *
+     * 배치 단위로 큐를 비우되, 한 번의 트리거가 무한히 길어지지 않도록 최대 배치 수로 제한
      */
     @Scheduled(cron = "${maruni.scheduling.retry.cron}")
     public void triggerRetryProcess() {
         log.info("Retry process triggered by scheduler");
-        dailyCheckOrchestrator.processAllRetries();
+        SchedulingProperties.Retry config = schedulingProperties.getRetry();
+        int batchSize = Math.max(1, config.getBatchSize());
+
+        for (int batch = 0; batch < config.getMaxBatchesPerRun(); batch++) {
+            if (dailyCheckOrchestrator.processRetryBatch(batchSize) < batchSize) {
+                return;
+            }
+        }
+        log.info("Retry processing reached {} batches, remaining retries are left for the next trigger",
+                config.getMaxBatchesPerRun());
     }
 }
\ No newline at end of file
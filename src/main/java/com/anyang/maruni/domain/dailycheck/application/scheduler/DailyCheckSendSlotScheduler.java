@@ -0,0 +1,205 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import com.anyang.maruni.domain.dailycheck.domain.vo.MemberIdSet;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberSendTime;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.scheduling.SchedulerCoordinator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 회원별 발송 시간대 스케줄러 (타이밍 휠)
+ *
+ * 단일 책임: 회원을 발송 희망 시각 슬롯에 배치하고 매 분 도래한 슬롯의 회원만 발송
+ * - 기동 시와 날짜가 바뀔 때 DB에서 휠을 다시 구성 (Keyset 커서로 스트리밍)
+ * - 발송 시각을 지정하지 않은 회원은 회원 ID 해시로 기본 구간에 고르게 분산
+ * - 발송 허용 시간(07~21시)을 벗어난 희망 시각은 기본 구간으로 배정
+ * - 슬롯 시각과 날짜는 daily-check.zone 기준 (서버가 UTC로 실행되어도 회원의 현지 시각에 발송)
+ * - 재시작 시 이미 지난 슬롯의 회원은 첫 틱에 해제되며, 발송 성공 기록으로 중복을 걸러냄
+ * - 휠 구성 이후 수신을 켠 회원은 다음 날 구성부터 포함됨
+ * - 다중 서버에서는 리더 노드만 슬롯을 발송 (리더가 바뀌면 첫 틱에 지난 슬롯이 해제되고 발송 기록으로 중복을 걸러냄)
+ * - 틱은 잠금 안에서 도래한 회원만 해제하고, 발송은 가상 스레드로 넘겨 느린 슬롯이 다음 틱과 휠 재구성을 막지 않음
+ * - 슬롯 발송 결과는 날짜별 Run Journal에 누적하고, 휠의 마지막 슬롯을 발송하면 실행을 완료 처리
+ *   (이미 완료된 날짜의 슬롯은 발송하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyCheckSendSlotScheduler {
+
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final DailyCheckOrchestrator dailyCheckOrchestrator;
+    private final DailyCheckFanOutProcessor dailyCheckFanOutProcessor;
+    private final DailyCheckMemberCursor memberCursor;
+    private final SchedulingProperties schedulingProperties;
+    private final SchedulerCoordinator schedulerCoordinator;
+    private final DailyCheckRunJournal runJournal;
+
+    private final DailyCheckTimingWheel wheel = new DailyCheckTimingWheel();
+    private final ExecutorService slotExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private LocalDate wheelDate;
+
+    /**
+     * 기동 시 오늘 휠 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (isEnabled()) {
+            rebuild(schedulingProperties.getDailyCheck().today());
+        }
+    }
+
+    /**
+     * 매 분 도래한 슬롯 발송 트리거
+     */
+    @Scheduled(cron = "0 * * * * *")
+    public void triggerDueSlots() {
+        if (isEnabled() && schedulerCoordinator.isLeader()) {
+            tick(schedulingProperties.getDailyCheck().now());
+        }
+    }
+
+    /**
+     * 지정한 시각까지 도래한 슬롯의 회원 발송
+     *
+     * 도래한 회원을 휠에서 해제한 뒤 발송은 별도 가상 스레드에서 진행하며, 완료를 기다리지 않고 반환합니다.
+     *
+     * @param now daily-check.zone 기준 현재 시각
+     * @return 발송 결과 (해제된 회원이 없거나 발송 허용 시간이 아니면 empty)
+     */
+    public Optional<CompletableFuture<DailyCheckFanOutProcessor.FanOutResult>> tick(LocalDateTime now) {
+        List<Long> dueMemberIds = releaseDueMembers(now);
+        if (dueMemberIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LocalDate runDate = now.toLocalDate();
+        LocalTime slot = now.toLocalTime().withSecond(0).withNano(0);
+        boolean lastSlot = wheel.size() == 0;
+        return Optional.of(CompletableFuture.supplyAsync(() -> dispatch(runDate, slot, dueMemberIds, lastSlot),
+                        slotExecutor)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("Daily check slot {} dispatch failed: {}", slot, e.getMessage());
+                    }
+                }));
+    }
+
+    /**
+     * 도래한 슬롯의 회원을 휠에서 해제 (휠 상태 변경만 잠금 안에서 수행)
+     *
+     * @return 발송할 회원 ID 목록 (발송 허용 시간이 아니면 해제만 하고 빈 목록)
+     */
+    synchronized List<Long> releaseDueMembers(LocalDateTime now) {
+        if (!now.toLocalDate().equals(wheelDate)) {
+            rebuild(now.toLocalDate());
+        }
+
+        List<Long> dueMemberIds = wheel.advanceTo(minuteOfDay(now.toLocalTime()));
+        if (!dueMemberIds.isEmpty() && !dailyCheckOrchestrator.isAllowedSendingTime(now.toLocalTime())) {
+            log.warn("Skipped {} daily check members released outside the allowed sending time at {}",
+                    dueMemberIds.size(), now);
+            return List.of();
+        }
+        return dueMemberIds;
+    }
+
+    /**
+     * 해제된 슬롯 회원 발송 (결과를 날짜별 Run Journal에 누적)
+     *
+     * @param lastSlot 휠의 마지막 슬롯 여부 (발송이 끝나면 실행을 완료 처리)
+     */
+    private DailyCheckFanOutProcessor.FanOutResult dispatch(LocalDate runDate, LocalTime slot, List<Long> dueMemberIds,
+                                                            boolean lastSlot) {
+        Optional<DailyCheckRun> run = runJournal.startOrJoin(runDate);
+        if (run.isEmpty()) {
+            log.info("Daily check run for {} is already completed, skipped slot {} with {} members",
+                    runDate, slot, dueMemberIds.size());
+            return new DailyCheckFanOutProcessor.FanOutResult(dueMemberIds.size(), 0, 0, 0, 1, false);
+        }
+
+        String runId = run.get().getRunId();
+        try {
+            MemberIdSet alreadySentMemberIds = dailyCheckOrchestrator.loadAlreadySentMemberIds(dueMemberIds);
+            log.info("Daily check slot {} released {} members ({} already sent)",
+                    slot, dueMemberIds.size(), alreadySentMemberIds.size());
+            DailyCheckFanOutProcessor.FanOutResult result =
+                    dailyCheckFanOutProcessor.processMembers(dueMemberIds, alreadySentMemberIds);
+
+            runJournal.checkpoint(runId, null, result.processed(), result.failed());
+            if (result.interrupted()) {
+                runJournal.fail(runId, "interrupted");
+            } else if (lastSlot) {
+                runJournal.complete(runId);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            runJournal.fail(runId, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * DB에서 휠을 다시 구성
+     *
+     * @return 휠에 등록된 회원 수
+     */
+    public synchronized int rebuild(LocalDate date) {
+        wheel.clear();
+        try (Stream<MemberSendTime> sendTimes = memberCursor.sendTimes(DailyCheckMemberCursor.FROM_BEGINNING)) {
+            sendTimes.forEach(sendTime -> wheel.schedule(sendTime.memberId(), slotOf(sendTime)));
+        }
+        wheelDate = date;
+
+        log.info("Daily check timing wheel rebuilt for {} with {} members", date, wheel.size());
+        return wheel.size();
+    }
+
+    /**
+     * 회원의 발송 슬롯 (자정 기준 분)
+     */
+    int slotOf(MemberSendTime sendTime) {
+        LocalTime preferred = sendTime.sendTime();
+        if (preferred != null && dailyCheckOrchestrator.isAllowedSendingTime(preferred)) {
+            return minuteOfDay(preferred);
+        }
+
+        SchedulingProperties.SendWindow config = schedulingProperties.getDailyCheck().getSendWindow();
+        int spreadMinutes = Math.max(1, config.getDefaultSpreadMinutes());
+        // 회원 ID를 섞어(피보나치 해싱) 연속된 ID도 구간 전체에 고르게 분산
+        int offset = (int) Long.remainderUnsigned(sendTime.memberId() * 0x9E3779B97F4A7C15L, spreadMinutes);
+        return Math.min(config.getDefaultStartHour() * MINUTES_PER_HOUR + offset,
+                DailyCheckTimingWheel.MINUTES_PER_DAY - 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        slotExecutor.shutdown();
+    }
+
+    private boolean isEnabled() {
+        return schedulingProperties.getDailyCheck().getSendWindow().isEnabled();
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+}
@@ -0,0 +1,119 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.domain.dailycheck.domain.vo.MemberIdSet;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.shadow.ShadowJob;
+import com.anyang.maruni.global.shadow.ShadowRun;
+import com.anyang.maruni.global.shadow.ShadowRunReport;
+import com.anyang.maruni.global.shadow.ShadowTransactions;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DailyCheck 섀도 실행기
+ *
+ * 운영 발송과 같은 조회/청크 처리 경로를 실행하되, 청크마다 롤백 전용 트랜잭션을 사용해
+ * 발송 기록/알림 이력/재시도 기록이 남지 않게 합니다.
+ * 운영과 같이 페이지를 청크로 나누어 가상 스레드에서 병렬 처리하고(동시 청크 수는 fan-out parallelism),
+ * 섀도 실행 컨텍스트를 작업 스레드로 전파해 발송 생략과 쿼리 수 집계를 유지합니다.
+ * Run Journal 체크포인트는 생략합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyCheckShadowRunner implements ShadowJob {
+
+    private final DailyCheckOrchestrator dailyCheckOrchestrator;
+    private final DailyCheckMemberCursor memberCursor;
+    private final SchedulingProperties schedulingProperties;
+    private final ShadowTransactions shadowTransactions;
+
+    @Override
+    public String name() {
+        return "daily-check";
+    }
+
+    @Override
+    public ShadowRunReport runShadow() {
+        SchedulingProperties.DailyCheck config = schedulingProperties.getDailyCheck();
+        int chunkSize = Math.max(1, config.getBatchSize());
+        int parallelism = Math.max(1, config.getFanOut().getParallelism());
+        boolean batchWrites = config.getFanOut().isBatchWrites();
+
+        try (ShadowRun run = ShadowRun.start(name());
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             Stream<List<Long>> pages = memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING)) {
+            run.count("parallelism", parallelism);
+            MemberIdSet alreadySentMemberIds = run.stage("load-already-sent",
+                    () -> dailyCheckOrchestrator.loadAlreadySentMemberIds());
+            Semaphore permits = new Semaphore(parallelism);
+
+            Iterator<List<Long>> pageIterator = pages.iterator();
+            while (run.stage("member-page", pageIterator::hasNext)) {
+                List<Long> page = pageIterator.next();
+                run.count("members", page.size());
+
+                List<CompletableFuture<Void>> pageFutures = new ArrayList<>();
+                for (List<Long> chunk : DailyCheckFanOutProcessor.partition(page, chunkSize)) {
+                    long planned = chunk.stream().filter(id -> !alreadySentMemberIds.contains(id)).count();
+                    run.count("planned-sends", planned);
+                    run.count("skipped-already-sent", chunk.size() - planned);
+                    run.count("chunks", 1);
+                    permits.acquireUninterruptibly();
+                    pageFutures.add(CompletableFuture.runAsync(run.propagate(() -> {
+                        try {
+                            processChunk(run, chunk, alreadySentMemberIds, batchWrites);
+                        } finally {
+                            permits.release();
+                        }
+                    }), executor));
+                }
+                CompletableFuture.allOf(pageFutures.toArray(new CompletableFuture[0])).join();
+            }
+            return run.report();
+        }
+    }
+
+    /**
+     * 청크를 롤백 전용 트랜잭션에서 처리 (운영 설정과 같은 저장 방식 사용)
+     */
+    private void processChunk(ShadowRun run, List<Long> chunk, MemberIdSet alreadySentMemberIds,
+                              boolean batchWrites) {
+        if (batchWrites) {
+            try {
+                run.stage("chunk-batch-write", () -> shadowTransactions.rollback(
+                        () -> dailyCheckOrchestrator.processChunkDailyCheck(chunk, alreadySentMemberIds)));
+                return;
+            } catch (Exception e) {
+                run.count("batch-write-fallbacks", 1);
+                log.warn("Shadow daily check batch write failed for chunk starting at member {}: {}",
+                        chunk.get(0), e.getMessage());
+            }
+        }
+
+        for (Long memberId : chunk) {
+            try {
+                run.stage("member-write", () -> shadowTransactions.rollback(() -> {
+                    dailyCheckOrchestrator.processMemberDailyCheck(memberId, alreadySentMemberIds);
+                    return null;
+                }));
+            } catch (Exception e) {
+                run.count("failures", 1);
+                log.warn("Shadow daily check failed for member {}: {}", memberId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 하루 단위 계층형 타이밍 휠 (시 → 분 2단계)
+ *
+ * - 상위 휠: 24개 시 버킷, 하위 휠: 현재 시의 60개 분 버킷
+ * - 커서가 새 시간으로 넘어갈 때 해당 시 버킷을 분 버킷으로 내려 보냄(cascade)
+ * - 등록/해제 모두 O(1)이며, 전체 회원을 발송 시각 순으로 정렬하지 않아도 됨
+ * - 이미 지난 시각으로 등록된 회원은 다음 advanceTo 호출 때 바로 해제됨 (재시작 후 밀린 슬롯 처리)
+ * - 회원 ID는 박싱 없이 long 배열 버킷에 보관 (시 버킷은 회원 ID와 분을 한 long에 묶어 저장)
+ *
+ * 스레드 안전: 모든 공개 메서드는 인스턴스 단위로 동기화됩니다.
+ */
+public class DailyCheckTimingWheel {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int HOURS_PER_DAY = 24;
+    private static final int MINUTE_BITS = 6;
+    private static final long MINUTE_MASK = (1L << MINUTE_BITS) - 1;
+
+    private final LongBucket[] hourWheel = buckets(HOURS_PER_DAY);
+    private final LongBucket[] minuteWheel = buckets(MINUTES_PER_HOUR);
+    private final LongBucket overdue = new LongBucket();
+
+    /**
+     * 마지막으로 해제한 분 (자정 기준, -1이면 아직 시작 전)
+     */
+    private int currentMinute = -1;
+
+    /**
+     * 분 버킷으로 내려 보낸 시 (-1이면 없음)
+     */
+    private int cascadedHour = -1;
+
+    private int size;
+
+    /**
+     * 회원을 발송 슬롯에 등록
+     *
+     * @param minuteOfDay 자정 기준 분 (0 ~ 1439)
+     */
+    public synchronized void schedule(long memberId, int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("minuteOfDay out of range: " + minuteOfDay);
+        }
+
+        int hour = minuteOfDay / MINUTES_PER_HOUR;
+        int minuteOfHour = minuteOfDay % MINUTES_PER_HOUR;
+        if (minuteOfDay <= currentMinute) {
+            overdue.add(memberId);
+        } else if (hour == cascadedHour) {
+            minuteWheel[minuteOfHour].add(memberId);
+        } else {
+            hourWheel[hour].add(memberId << MINUTE_BITS | minuteOfHour);
+        }
+        size++;
+    }
+
+    /**
+     * 지정한 분까지 커서를 전진시키고 그 사이 슬롯의 회원을 해제
+     *
+     * @param minuteOfDay 자정 기준 분 (이미 지난 분이면 밀린 회원만 해제)
+     * @return 해제된 회원 ID 목록 (슬롯 순서)
+     */
+    public synchronized List<Long> advanceTo(int minuteOfDay) {
+        int target = Math.min(minuteOfDay, MINUTES_PER_DAY - 1);
+        List<Long> released = new ArrayList<>();
+        overdue.drainTo(released);
+
+        for (int minute = currentMinute + 1; minute <= target; minute++) {
+            int hour = minute / MINUTES_PER_HOUR;
+            if (hour != cascadedHour) {
+                cascade(hour);
+            }
+            minuteWheel[minute % MINUTES_PER_HOUR].drainTo(released);
+        }
+        currentMinute = Math.max(currentMinute, target);
+
+        size -= released.size();
+        return released;
+    }
+
+    /**
+     * 휠을 비우고 커서를 하루의 시작으로 되돌림
+     */
+    public synchronized void clear() {
+        Arrays.stream(hourWheel).forEach(LongBucket::clear);
+        Arrays.stream(minuteWheel).forEach(LongBucket::clear);
+        overdue.clear();
+        currentMinute = -1;
+        cascadedHour = -1;
+        size = 0;
+    }
+
+    /**
+     * 아직 해제되지 않은 회원 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 시 버킷을 분 버킷으로 분배
+     */
+    private void cascade(int hour) {
+        LongBucket hourBucket = hourWheel[hour];
+        for (int i = 0; i < hourBucket.size; i++) {
+            long entry = hourBucket.values[i];
+            minuteWheel[(int) (entry & MINUTE_MASK)].add(entry >>> MINUTE_BITS);
+        }
+        hourBucket.clear();
+        cascadedHour = hour;
+    }
+
+    private static LongBucket[] buckets(int count) {
+        LongBucket[] buckets = new LongBucket[count];
+        for (int i = 0; i < count; i++) {
+            buckets[i] = new LongBucket();
+        }
+        return buckets;
+    }
+
+    /**
+     * 박싱 없는 가변 길이 long 버킷
+     */
+    private static final class LongBucket {
+
+        private static final long[] EMPTY = new long[0];
+
+        private long[] values = EMPTY;
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, size * 2));
+            }
+            values[size++] = value;
+        }
+
+        private void drainTo(List<Long> target) {
+            for (int i = 0; i < size; i++) {
+                target.add(values[i]);
+            }
+            clear();
+        }
+
+        private void clear() {
+            values = EMPTY;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재시도 백오프 정책
+ *
+ * 단일 책임: n번째 재시도까지의 지연 계산
+ * - 지수 백오프: 기준 지연 × 2^(n-1), 최대 지연으로 상한
+ * - 지터: 상한의 절반 + [0, 절반] 난수 (동시에 실패한 회원들의 재시도가 한 시각에 몰리지 않도록 분산)
+ */
+@Component
+@RequiredArgsConstructor
+public class RetryBackoffPolicy {
+
+    private static final int MAX_SHIFT = 20;
+
+    private final SchedulingProperties schedulingProperties;
+
+    /**
+     * n번째 재시도까지의 지연 계산
+     *
+     * @param retryNumber 1부터 시작하는 재시도 차수
+     */
+    public Duration delayBeforeRetry(int retryNumber) {
+        long capSeconds = capSeconds(retryNumber);
+        long halfSeconds = capSeconds / 2;
+        long jitterSeconds = ThreadLocalRandom.current().nextLong(capSeconds - halfSeconds + 1);
+        return Duration.ofSeconds(halfSeconds + jitterSeconds);
+    }
+
+    /**
+     * 지터 적용 전 지연 상한 (초)
+     */
+    long capSeconds(int retryNumber) {
+        SchedulingProperties.Retry config = schedulingProperties.getRetry();
+        long baseSeconds = Math.max(1, config.getDelayMinutes()) * 60L;
+        long maxSeconds = Math.max(baseSeconds, config.getMaxDelayMinutes() * 60L);
+        int shift = Math.min(Math.max(0, retryNumber - 1), MAX_SHIFT);
+        return Math.min(maxSeconds, baseSeconds << shift);
+    }
+}
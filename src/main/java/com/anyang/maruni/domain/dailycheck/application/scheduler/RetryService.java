@@ -1,19 +1,24 @@
 package com.anyang.maruni.domain.dailycheck.application.scheduler;
 
 import com.anyang.maruni.domain.dailycheck.domain.entity.RetryRecord;
+import com.anyang.maruni.domain.dailycheck.domain.entity.RetryStatus;
 import com.anyang.maruni.domain.dailycheck.domain.repository.RetryRecordRepository;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * 재시도 전담 서비스
  *
  * 단일 책임: 재시도 스케줄링 및 재시도 기록 관리
+ * - retry_records 테이블을 작업 큐로 사용 (배치 점유, 지수 백오프, 소진 시 DEAD 전환)
  */
 @Service
 @RequiredArgsConstructor
@@ -22,29 +27,63 @@ import java.util.List;
 public class RetryService {
 
     private final RetryRecordRepository retryRecordRepository;
+    private final RetryBackoffPolicy retryBackoffPolicy;
+    private final SchedulingProperties schedulingProperties;
 
     /**
      * 실패한 알림에 대한 재시도 스케줄링
      */
     @Transactional
     public void scheduleRetry(Long memberId, String message) {
-        RetryRecord retryRecord = RetryRecord.createRetryRecord(memberId, message);
+        RetryRecord retryRecord = RetryRecord.createRetryRecord(memberId, message,
+                retryBackoffPolicy.delayBeforeRetry(1));
         retryRecordRepository.save(retryRecord);
         log.info("Retry scheduled for member {} at {}", memberId, retryRecord.getScheduledTime());
     }
 
+    /**
+     * 발송하지 못한 회원들의 재시도를 한 트랜잭션으로 스케줄링 (발송 토큰을 확보하지 못한 청크 등)
+     */
+    @Transactional
+    public void scheduleRetries(Collection<Long> memberIds, String message) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        retryRecordRepository.saveAll(memberIds.stream()
+                .map(memberId -> RetryRecord.createRetryRecord(memberId, message,
+                        retryBackoffPolicy.delayBeforeRetry(1)))
+                .toList());
+        log.info("Retry scheduled for {} members", memberIds.size());
+    }
+
     /**
      * 재시도 대상 회원 ID 목록 조회
      */
     public List<Long> getPendingRetryMemberIds(LocalDateTime currentTime) {
-        return retryRecordRepository.findPendingRetryMemberIds(currentTime);
+        return retryRecordRepository.findPendingRetryMemberIds(RetryStatus.PENDING, currentTime);
     }
 
     /**
      * 재시도 대상 기록 목록 조회
      */
     public List<RetryRecord> getPendingRetries(LocalDateTime currentTime) {
-        return retryRecordRepository.findPendingRetries(currentTime);
+        return retryRecordRepository.findPendingRetries(RetryStatus.PENDING, currentTime);
+    }
+
+    /**
+     * 처리할 재시도 기록을 최대 batchSize건 점유
+     *
+     * 다른 워커가 잠근 행은 건너뛰므로 여러 인스턴스가 같은 큐를 나누어 처리할 수 있습니다.
+     * 점유한 행의 예정 시각을 리스 만료 시각으로 미루고 짧은 트랜잭션으로 커밋하므로,
+     * 행 잠금은 발송 중에 유지되지 않고 리스가 끝나기 전에는 다시 점유되지 않습니다.
+     */
+    @Transactional
+    public List<RetryRecord> claimDueRetries(LocalDateTime currentTime, int batchSize) {
+        List<RetryRecord> claimedRetries = retryRecordRepository.findDueForUpdateSkipLocked(
+                RetryStatus.PENDING, currentTime, PageRequest.of(0, Math.max(1, batchSize)));
+        LocalDateTime leaseUntil = currentTime.plusMinutes(schedulingProperties.getRetry().getLeaseMinutes());
+        claimedRetries.forEach(retryRecord -> retryRecord.lease(leaseUntil));
+        return claimedRetries;
     }
 
     /**
@@ -67,17 +106,37 @@ public class RetryService {
      */
     public void handleFailedRetry(RetryRecord retryRecord) {
         // 재시도 실패 - 횟수 증가
-        retryRecord.incrementRetryCount();
-        log.warn("Retry failed for member {}, attempt {} of 3",
-                retryRecord.getMemberId(), retryRecord.getRetryCount());
+        scheduleNextAttempt(retryRecord);
+        log.warn("Retry failed for member {}, attempt {} of {}",
+                retryRecord.getMemberId(), retryRecord.getRetryCount(),
+                schedulingProperties.getRetry().getMaxRetries());
     }
 
     /**
      * 재시도 횟수 증가 (예외 발생 시)
+     *
+     * 실패한 처리 트랜잭션이 롤백된 뒤 호출되므로, 메모리의 기록 대신 저장된 기록을 다시 읽어 갱신합니다.
      */
     @Transactional
-    public void incrementRetryCount(RetryRecord retryRecord) {
-        retryRecord.incrementRetryCount();
-        retryRecordRepository.save(retryRecord);
+    public void incrementRetryCount(Long retryRecordId) {
+        retryRecordRepository.findById(retryRecordId).ifPresent(retryRecord -> {
+            scheduleNextAttempt(retryRecord);
+            retryRecordRepository.save(retryRecord);
+        });
+    }
+
+    /**
+     * 백오프 지연을 적용해 다음 재시도 예약 (소진 시 DEAD 전환)
+     */
+    private void scheduleNextAttempt(RetryRecord retryRecord) {
+        // 방금 실패한 재시도의 다음 차례
+        int nextRetryNumber = retryRecord.getRetryCount() + 2;
+        retryRecord.incrementRetryCount(retryBackoffPolicy.delayBeforeRetry(nextRetryNumber),
+                schedulingProperties.getRetry().getMaxRetries());
+
+        if (retryRecord.isDead()) {
+            log.error("Retries exhausted for member {} after {} attempts, moved to dead-letter",
+                    retryRecord.getMemberId(), retryRecord.getRetryCount());
+        }
     }
 }
\ No newline at end of file
@@ -23,8 +23,12 @@ import java.time.LocalDate;
 @Builder
 public class DailyCheckRecord extends BaseTimeEntity {
 
+    /**
+     * 기록은 DailyCheckRecordUpsertWriter가 upsert 문 안에서 시퀀스로 한 행씩 ID를 발급하므로 증가 폭 1 시퀀스 사용
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_check_records_seq")
+    @SequenceGenerator(name = "daily_check_records_seq", sequenceName = "daily_check_records_id_seq", allocationSize = 1)
     private Long id;
 
     @Column(nullable = false)
@@ -42,10 +46,10 @@ public class DailyCheckRecord extends BaseTimeEntity {
     /**
      * 성공적인 발송 기록 생성
      */
-    public static DailyCheckRecord createSuccessRecord(Long memberId, String message) {
+    public static DailyCheckRecord createSuccessRecord(Long memberId, LocalDate checkDate, String message) {
         return DailyCheckRecord.builder()
                 .memberId(memberId)
-                .checkDate(LocalDate.now())
+                .checkDate(checkDate)
                 .message(message)
                 .success(true)
                 .build();
@@ -54,10 +58,10 @@ public class DailyCheckRecord extends BaseTimeEntity {
     /**
      * 실패한 발송 기록 생성
      */
-    public static DailyCheckRecord createFailureRecord(Long memberId, String message) {
+    public static DailyCheckRecord createFailureRecord(Long memberId, LocalDate checkDate, String message) {
         return DailyCheckRecord.builder()
                 .memberId(memberId)
-                .checkDate(LocalDate.now())
+                .checkDate(checkDate)
                 .message(message)
                 .success(false)
                 .build();
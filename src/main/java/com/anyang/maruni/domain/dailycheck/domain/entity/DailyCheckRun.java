@@ -0,0 +1,134 @@
+package com.anyang.maruni.domain.dailycheck.domain.entity;
+
+import com.anyang.maruni.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 안부 메시지 발송 실행 기록 (Run Journal)
+ *
+ * 날짜별 발송 실행의 진행 상황을 체크포인트로 남겨,
+ * 노드 재시작이나 수동 재실행 시 마지막으로 커밋된 회원 ID 이후부터 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "daily_check_runs",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"runDate"}))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyCheckRun extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String runId;
+
+    @Column(nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DailyCheckRunStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    /**
+     * 마지막으로 처리가 커밋된 회원 ID (Keyset 커서 재개 지점)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Long lastMemberId = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer successCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer failureCount = 0;
+
+    /**
+     * 실행(재개 포함) 시도 횟수
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 1;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 새 실행 기록 생성
+     */
+    public static DailyCheckRun start(LocalDate runDate) {
+        return DailyCheckRun.builder()
+                .runId(UUID.randomUUID().toString())
+                .runDate(runDate)
+                .status(DailyCheckRunStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 중단되었거나 실패한 실행을 체크포인트부터 재개
+     */
+    public void resume() {
+        this.status = DailyCheckRunStatus.RUNNING;
+        this.attemptCount++;
+        this.finishedAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 체크포인트 기록 (회원 ID는 증가하는 방향으로만 이동)
+     */
+    public void checkpoint(Long lastMemberId, int successDelta, int failureDelta) {
+        if (lastMemberId != null && lastMemberId > this.lastMemberId) {
+            this.lastMemberId = lastMemberId;
+        }
+        this.successCount += successDelta;
+        this.failureCount += failureDelta;
+    }
+
+    /**
+     * 실행 완료 처리
+     */
+    public void complete() {
+        this.status = DailyCheckRunStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실행 실패 처리
+     */
+    public void fail(String errorMessage) {
+        this.status = DailyCheckRunStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+        this.lastError = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                : errorMessage;
+    }
+
+    /**
+     * 다른 실행이 아직 진행 중인지 확인 (마지막 체크포인트가 기준 시각 이후)
+     */
+    public boolean isActiveSince(LocalDateTime threshold) {
+        LocalDateTime lastActivity = updatedAt != null ? updatedAt : startedAt;
+        return status == DailyCheckRunStatus.RUNNING && lastActivity.isAfter(threshold);
+    }
+}
@@ -0,0 +1,20 @@
+package com.anyang.maruni.domain.dailycheck.domain.entity;
+
+/**
+ * 안부 메시지 발송 실행 상태
+ */
+public enum DailyCheckRunStatus {
+    RUNNING("실행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    DailyCheckRunStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
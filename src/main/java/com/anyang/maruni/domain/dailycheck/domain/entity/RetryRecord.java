@@ -7,15 +7,21 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
  * 안부 메시지 재시도 기록
  *
- * 실패한 알림에 대한 재시도 스케줄 관리
+ * 실패한 알림에 대한 재시도 작업 큐
+ * - PENDING 상태이면서 예정 시각이 지난 행을 워커가 배치 단위로 점유(FOR UPDATE SKIP LOCKED)
+ * - 점유 시 예정 시각을 리스 만료 시각으로 미뤄 커밋하므로, 처리 중 워커가 죽으면 리스 만료 후 다시 점유됨
+ * - 재시도 횟수를 모두 소진하면 DEAD 상태로 전환되어 더 이상 점유되지 않음
  */
 @Entity
-@Table(name = "retry_records")
+@Table(name = "retry_records", indexes = {
+        @Index(name = "idx_retry_records_status_scheduled", columnList = "status, scheduledTime")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,25 +49,56 @@ public class RetryRecord extends BaseTimeEntity {
     @Builder.Default
     private Boolean completed = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private RetryStatus status = RetryStatus.PENDING;
+
     /**
-     * 새 재시도 기록 생성
+     * 새 재시도 기록 생성 (5분 후 재시도)
      */
     public static RetryRecord createRetryRecord(Long memberId, String message) {
+        return createRetryRecord(memberId, message, Duration.ofMinutes(5));
+    }
+
+    /**
+     * 새 재시도 기록 생성
+     *
+     * @param firstDelay 첫 재시도까지의 지연
+     */
+    public static RetryRecord createRetryRecord(Long memberId, String message, Duration firstDelay) {
         return RetryRecord.builder()
                 .memberId(memberId)
                 .message(message)
-                .scheduledTime(LocalDateTime.now().plusMinutes(5)) // 5분 후 재시도
+                .scheduledTime(LocalDateTime.now().plus(firstDelay))
                 .retryCount(0)
                 .completed(false)
+                .status(RetryStatus.PENDING)
                 .build();
     }
 
     /**
      * 재시도 횟수 증가
+     *
+     * 최대 재시도 횟수에 도달하면 DEAD 상태로 전환하고, 아니면 다음 재시도 시각을 예약
+     *
+     * @param nextDelay 다음 재시도까지의 지연 (백오프 정책이 계산)
+     * @param maxRetries 최대 재시도 횟수
      */
-    public void incrementRetryCount() {
+    public void incrementRetryCount(Duration nextDelay, int maxRetries) {
         this.retryCount++;
-        this.scheduledTime = LocalDateTime.now().plusMinutes(5 * retryCount); // 점진적 지연
+        if (retryCount >= maxRetries) {
+            this.status = RetryStatus.DEAD;
+            return;
+        }
+        this.scheduledTime = LocalDateTime.now().plus(nextDelay);
+    }
+
+    /**
+     * 처리 리스 설정 - 리스가 끝날 때까지 다른 워커가 점유하지 않도록 예정 시각을 미룸
+     */
+    public void lease(LocalDateTime leaseUntil) {
+        this.scheduledTime = leaseUntil;
     }
 
     /**
@@ -69,5 +106,13 @@ public class RetryRecord extends BaseTimeEntity {
      */
     public void markCompleted() {
         this.completed = true;
+        this.status = RetryStatus.COMPLETED;
+    }
+
+    /**
+     * 재시도 소진 여부
+     */
+    public boolean isDead() {
+        return status == RetryStatus.DEAD;
     }
 }
\ No newline at end of file
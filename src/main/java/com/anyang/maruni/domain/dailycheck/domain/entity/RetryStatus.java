@@ -0,0 +1,20 @@
+package com.anyang.maruni.domain.dailycheck.domain.entity;
+
+/**
+ * 재시도 작업 상태
+ */
+public enum RetryStatus {
+    PENDING("대기"),
+    COMPLETED("완료"),
+    DEAD("재시도 소진");
+
+    private final String description;
+
+    RetryStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,18 +25,20 @@ public interface DailyCheckRecordRepository extends JpaRepository<DailyCheckReco
                                                    @Param("checkDate") LocalDate checkDate);
 
     /**
-     * 특정 회원의 기간별 DailyCheck 기록 조회 (무응답 패턴 분석용)
-     * @param memberId 회원 ID
-     * @param startDate 조회 시작 날짜
-     * @param endDate 조회 종료 날짜
-     * @return DailyCheck 기록 목록 (최신순)
+     * 특정 날짜에 성공적으로 발송된 회원 ID 목록 조회 (회원 ID 오름차순)
+     * 스케줄 실행 시작 시 한 번만 조회하여 회원별 중복 발송 체크 쿼리를 대체합니다.
      */
-    @Query("SELECT d FROM DailyCheckRecord d " +
-           "WHERE d.memberId = :memberId " +
-           "AND d.checkDate BETWEEN :startDate AND :endDate " +
-           "ORDER BY d.checkDate DESC")
-    List<DailyCheckRecord> findByMemberIdAndDateRangeOrderByCheckDateDesc(
-            @Param("memberId") Long memberId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+    @Query("SELECT d.memberId FROM DailyCheckRecord d " +
+           "WHERE d.checkDate = :checkDate AND d.success = true " +
+           "ORDER BY d.memberId")
+    List<Long> findSuccessfulMemberIdsByDate(@Param("checkDate") LocalDate checkDate);
+
+    /**
+     * 지정한 회원 중 특정 날짜에 성공적으로 발송된 회원 ID 목록 조회 (발송 시간대 슬롯 단위)
+     */
+    @Query("SELECT d.memberId FROM DailyCheckRecord d " +
+           "WHERE d.checkDate = :checkDate AND d.success = true AND d.memberId IN :memberIds " +
+           "ORDER BY d.memberId")
+    List<Long> findSuccessfulMemberIdsByDateAndMemberIds(@Param("checkDate") LocalDate checkDate,
+                                                         @Param("memberIds") Collection<Long> memberIds);
+}
@@ -0,0 +1,34 @@
+package com.anyang.maruni.domain.dailycheck.domain.repository;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 안부 메시지 발송 실행 기록 저장소
+ */
+@Repository
+public interface DailyCheckRunRepository extends JpaRepository<DailyCheckRun, Long> {
+
+    Optional<DailyCheckRun> findByRunDate(LocalDate runDate);
+
+    /**
+     * 날짜별 실행 기록을 행 잠금(FOR UPDATE)으로 조회
+     *
+     * 잠금은 호출한 트랜잭션이 끝날 때 해제되므로, 같은 트랜잭션에서 시작/재개 여부를 판단하고 상태를 갱신해야 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM DailyCheckRun r WHERE r.runDate = :runDate")
+    Optional<DailyCheckRun> findByRunDateForUpdate(@Param("runDate") LocalDate runDate);
+
+    Optional<DailyCheckRun> findByRunId(String runId);
+
+    Optional<DailyCheckRun> findTopByOrderByRunDateDesc();
+}
@@ -1,8 +1,14 @@
 package com.anyang.maruni.domain.dailycheck.domain.repository;
 
 import com.anyang.maruni.domain.dailycheck.domain.entity.RetryRecord;
+import com.anyang.maruni.domain.dailycheck.domain.entity.RetryStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,16 +22,33 @@ import java.util.List;
 public interface RetryRecordRepository extends JpaRepository<RetryRecord, Long> {
 
     /**
-     * 재시도 대상 회원 ID 목록 조회 (완료되지 않고 스케줄 시간이 된 것들)
+     * 재시도 대상 회원 ID 목록 조회 (대기 상태이고 스케줄 시간이 된 것들)
      */
     @Query("SELECT r.memberId FROM RetryRecord r " +
-           "WHERE r.completed = false AND r.scheduledTime <= :currentTime AND r.retryCount < 3")
-    List<Long> findPendingRetryMemberIds(@Param("currentTime") LocalDateTime currentTime);
+           "WHERE r.status = :status AND r.scheduledTime <= :currentTime")
+    List<Long> findPendingRetryMemberIds(@Param("status") RetryStatus status,
+                                         @Param("currentTime") LocalDateTime currentTime);
 
     /**
-     * 특정 시간 이전의 미완료 재시도 기록들 조회
+     * 특정 시간 이전의 대기 중인 재시도 기록들 조회
      */
     @Query("SELECT r FROM RetryRecord r " +
-           "WHERE r.completed = false AND r.scheduledTime <= :currentTime AND r.retryCount < 3")
-    List<RetryRecord> findPendingRetries(@Param("currentTime") LocalDateTime currentTime);
-}
\ No newline at end of file
+           "WHERE r.status = :status AND r.scheduledTime <= :currentTime")
+    List<RetryRecord> findPendingRetries(@Param("status") RetryStatus status,
+                                         @Param("currentTime") LocalDateTime currentTime);
+
+    /**
+     * 처리할 재시도 기록을 배치 단위로 점유
+     *
+     * 행 잠금(FOR UPDATE)을 걸고 다른 워커가 잠근 행은 건너뜁니다(SKIP LOCKED, lock.timeout = -2).
+     * 잠금은 호출한 트랜잭션이 끝날 때 해제되므로, 같은 트랜잭션에서 리스(예정 시각)를 갱신해 커밋해야 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM RetryRecord r " +
+           "WHERE r.status = :status AND r.scheduledTime <= :currentTime " +
+           "ORDER BY r.scheduledTime, r.id")
+    List<RetryRecord> findDueForUpdateSkipLocked(@Param("status") RetryStatus status,
+                                                  @Param("currentTime") LocalDateTime currentTime,
+                                                  Pageable pageable);
+}
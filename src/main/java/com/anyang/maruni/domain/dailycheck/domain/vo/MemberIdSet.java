@@ -0,0 +1,54 @@
+package com.anyang.maruni.domain.dailycheck.domain.vo;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 회원 ID 집합 (정렬된 long 배열 기반)
+ *
+ * 박싱된 Long을 담는 HashSet 대비 회원당 8바이트만 사용하며,
+ * 조회는 이진 탐색(O(log n))으로 처리합니다.
+ * 생성 이후 변경되지 않는 불변 객체입니다.
+ */
+public final class MemberIdSet {
+
+    private static final MemberIdSet EMPTY = new MemberIdSet(new long[0]);
+
+    private final long[] sortedIds;
+
+    private MemberIdSet(long[] sortedIds) {
+        this.sortedIds = sortedIds;
+    }
+
+    /**
+     * 회원 ID 목록으로부터 집합 생성 (null 제외, 중복 제거)
+     */
+    public static MemberIdSet of(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = memberIds.stream()
+                .filter(id -> id != null)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new MemberIdSet(ids);
+    }
+
+    public static MemberIdSet empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(Long memberId) {
+        return memberId != null && Arrays.binarySearch(sortedIds, memberId) >= 0;
+    }
+
+    public int size() {
+        return sortedIds.length;
+    }
+
+    public boolean isEmpty() {
+        return sortedIds.length == 0;
+    }
+}
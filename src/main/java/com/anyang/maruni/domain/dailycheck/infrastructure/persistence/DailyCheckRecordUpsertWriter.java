@@ -0,0 +1,89 @@
+package com.anyang.maruni.domain.dailycheck.infrastructure.persistence;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRecord;
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * DailyCheckRecord 멱등 upsert 저장기
+ *
+ * (memberId, checkDate) 유니크 키에 대해 충돌 없이 기록합니다.
+ * - 기록이 없으면 새로 삽입
+ * - 실패 기록이 있는데 성공 기록이 들어오면 성공으로 승격 (메시지도 성공 메시지로 교체)
+ * - 이미 성공 기록이 있으면 변경하지 않음 (성공 → 실패로 되돌리지 않음)
+ *
+ * 재시도 성공이나 병렬 실행이 같은 날짜 기록을 다시 쓰더라도
+ * 유니크 제약 위반 예외와 트랜잭션 롤백이 발생하지 않습니다.
+ * 운영(PostgreSQL)은 INSERT ... ON CONFLICT, 테스트(H2)는 MERGE를 사용합니다.
+ * ID는 엔티티와 같은 시퀀스(daily_check_records_id_seq, 증가 폭 1)에서 직접 발급합니다.
+ * 시퀀스가 pooled(증가 폭 50)이면 nextval 한 번마다 ID 블록 하나가 소모되므로 증가 폭을 1로 유지해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyCheckRecordUpsertWriter {
+
+    private static final String POSTGRESQL_UPSERT =
+            "INSERT INTO daily_check_records (id, member_id, check_date, message, success, created_at, updated_at) " +
+            "VALUES (nextval('daily_check_records_id_seq'), ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (member_id, check_date) DO UPDATE " +
+            "SET success = TRUE, message = EXCLUDED.message, updated_at = EXCLUDED.updated_at " +
+            "WHERE daily_check_records.success = FALSE AND EXCLUDED.success = TRUE";
+
+    private static final String H2_MERGE =
+            "MERGE INTO daily_check_records t " +
+            "USING (SELECT CAST(? AS BIGINT) AS member_id, CAST(? AS DATE) AS check_date, " +
+            "CAST(? AS VARCHAR(255)) AS message, CAST(? AS BOOLEAN) AS success, " +
+            "CAST(? AS TIMESTAMP) AS created_at, CAST(? AS TIMESTAMP) AS updated_at) s " +
+            "ON t.member_id = s.member_id AND t.check_date = s.check_date " +
+            "WHEN MATCHED AND t.success = FALSE AND s.success = TRUE THEN " +
+            "UPDATE SET success = TRUE, message = s.message, updated_at = s.updated_at " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, member_id, check_date, message, success, created_at, updated_at) " +
+            "VALUES (NEXT VALUE FOR daily_check_records_id_seq, " +
+            "s.member_id, s.check_date, s.message, s.success, s.created_at, s.updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * 단건 upsert
+     */
+    public void upsert(DailyCheckRecord record) {
+        upsertAll(List.of(record));
+    }
+
+    /**
+     * 배치 upsert (회원 ID 순으로 정렬하여 병렬 실행 간 잠금 순서를 맞춤)
+     */
+    public void upsertAll(List<DailyCheckRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        List<DailyCheckRecord> ordered = records.stream()
+                .sorted(Comparator.comparing(DailyCheckRecord::getMemberId))
+                .toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = databasePlatform.isPostgreSql() ? POSTGRESQL_UPSERT : H2_MERGE;
+
+        jdbcTemplate.batchUpdate(sql, ordered, ordered.size(), (ps, record) -> {
+            ps.setLong(1, record.getMemberId());
+            ps.setDate(2, Date.valueOf(record.getCheckDate()));
+            ps.setString(3, record.getMessage());
+            ps.setBoolean(4, record.getSuccess());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        log.debug("Upserted {} daily check records", ordered.size());
+    }
+}
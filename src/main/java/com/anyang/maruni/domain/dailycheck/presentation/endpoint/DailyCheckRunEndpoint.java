@@ -0,0 +1,40 @@
+package com.anyang.maruni.domain.dailycheck.presentation.endpoint;
+
+import com.anyang.maruni.domain.dailycheck.application.dto.response.DailyCheckRunResponseDto;
+import com.anyang.maruni.domain.dailycheck.application.scheduler.DailyCheckRunJournal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 안부 메시지 발송 실행 진행 상황 Actuator 엔드포인트
+ *
+ * - GET /actuator/dailycheckrun: 가장 최근 실행
+ * - GET /actuator/dailycheckrun/{runDate}: 특정 날짜 실행 (yyyy-MM-dd)
+ * 실행 기록이 없으면 404를 반환합니다.
+ */
+@Component
+@Endpoint(id = "dailycheckrun")
+@RequiredArgsConstructor
+public class DailyCheckRunEndpoint {
+
+    private final DailyCheckRunJournal runJournal;
+
+    @ReadOperation
+    public DailyCheckRunResponseDto latest() {
+        return runJournal.findLatest()
+                .map(DailyCheckRunResponseDto::from)
+                .orElse(null);
+    }
+
+    @ReadOperation
+    public DailyCheckRunResponseDto byDate(@Selector String runDate) {
+        return runJournal.findByRunDate(LocalDate.parse(runDate))
+                .map(DailyCheckRunResponseDto::from)
+                .orElse(null);
+    }
+}
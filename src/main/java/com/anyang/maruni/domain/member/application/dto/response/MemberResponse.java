@@ -1,6 +1,7 @@
 package com.anyang.maruni.domain.member.application.dto.response;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,6 +35,9 @@ public class MemberResponse {
 	@Schema(description = "안부 메시지 수신 여부", example = "true")
 	private Boolean dailyCheckEnabled;
 
+	@Schema(description = "안부 메시지 발송 희망 시각 (없으면 자동 배정)", example = "09:30:00")
+	private LocalTime dailyCheckSendTime;
+
 	@Schema(description = "보호자 정보 (없으면 null)")
 	private GuardianInfo guardian;
 
@@ -103,6 +107,7 @@ public class MemberResponse {
 			.memberName(entity.getMemberName())
 			.memberEmail(entity.getMemberEmail())
 			.dailyCheckEnabled(entity.getDailyCheckEnabled())
+			.dailyCheckSendTime(entity.getDailyCheckSendTime())
 			.createdAt(entity.getCreatedAt())
 			.updatedAt(entity.getUpdatedAt())
 			.build();
@@ -117,6 +122,7 @@ public class MemberResponse {
 			.memberName(entity.getMemberName())
 			.memberEmail(entity.getMemberEmail())
 			.dailyCheckEnabled(entity.getDailyCheckEnabled())
+			.dailyCheckSendTime(entity.getDailyCheckSendTime())
 			.guardian(toGuardianInfo(entity))
 			.managedMembers(toManagedMemberInfoList(entity))
 			.createdAt(entity.getCreatedAt())
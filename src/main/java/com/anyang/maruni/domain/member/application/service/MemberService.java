@@ -1,5 +1,6 @@
 package com.anyang.maruni.domain.member.application.service;
 
+import java.time.LocalTime;
 import java.util.List;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -12,6 +13,7 @@ import com.anyang.maruni.domain.member.application.dto.response.MemberResponse;
 import com.anyang.maruni.domain.member.application.mapper.MemberMapper;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
 import com.anyang.maruni.global.exception.BaseException;
 import com.anyang.maruni.global.response.error.ErrorCode;
 
@@ -26,6 +28,7 @@ public class MemberService {
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final MemberMapper memberMapper;
+	private final SchedulingProperties schedulingProperties;
 
 
 	@Transactional // 쓰기 작업
@@ -119,6 +122,26 @@ public class MemberService {
 		return memberMapper.toResponse(member);
 	}
 
+	/**
+	 * 안부 메시지 발송 희망 시각 변경 (07:00 ~ 21:59, null이면 자동 배정)
+	 */
+	@Transactional
+	public MemberResponse updateDailyCheckSendTime(Long memberId, LocalTime sendTime) {
+		if (sendTime != null && !schedulingProperties.getDailyCheck().getSendWindow().isAllowedSendingTime(sendTime)) {
+			throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		MemberEntity member = memberRepository.findById(memberId)
+			.orElseThrow(() -> memberNotFound());
+
+		member.updateDailyCheckSendTime(sendTime);
+		memberRepository.save(member);
+
+		log.info("Daily check send time updated: memberId={}, sendTime={}", memberId, sendTime);
+
+		return memberMapper.toResponse(member);
+	}
+
 	/**
 	 * 내 프로필 조회 (역할 정보 포함)
 	 * API 명세서의 GET /members/me 응답 형식
@@ -0,0 +1,104 @@
+package com.anyang.maruni.domain.member.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.anyang.maruni.global.entity.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 일일 건강 요약 (읽기 모델)
+ *
+ * 사용자 메시지 저장과 안부 메시지 발송 시점에 (회원, 날짜) 한 행을 증분 갱신하여,
+ * 이상징후 분석기와 대시보드가 원본 메시지/발송 기록을 다시 스캔하지 않고 요약 행만 읽도록 합니다.
+ * 갱신은 MemberDailySummaryWriter의 upsert로만 수행합니다.
+ */
+@Entity
+@Table(name = "member_daily_summary",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"memberId", "summaryDate"}),
+       indexes = @Index(name = "idx_member_daily_summary_date", columnList = "summaryDate"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MemberDailySummary extends BaseTimeEntity {
+
+    /**
+     * MemberDailySummaryWriter가 upsert 문 안에서 시퀀스로 한 행씩 ID를 발급하므로 증가 폭 1 시퀀스 사용
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_daily_summary_seq")
+    @SequenceGenerator(name = "member_daily_summary_seq", sequenceName = "member_daily_summary_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDate summaryDate;
+
+    /**
+     * 사용자 메시지 수 (감정 분석 결과가 없는 메시지 포함)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer userMessageCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer positiveCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer negativeCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer neutralCount = 0;
+
+    /**
+     * 이날 마지막 부정 메시지 시각 (연속 부정 감정 일수 계산용)
+     */
+    private LocalDateTime lastNegativeAt;
+
+    /**
+     * 이날 마지막 부정이 아닌 메시지 시각 (감정 없음 포함, 연속 부정 감정 일수 계산용)
+     */
+    private LocalDateTime lastNonNegativeAt;
+
+    /**
+     * 안부 메시지 발송 결과 (null: 발송 시도 없음, false: 발송 실패, true: 발송 성공)
+     */
+    private Boolean dailyCheckSent;
+
+    /**
+     * 안부 메시지 최초 발송 성공 시각
+     */
+    private LocalDateTime dailyCheckSentAt;
+
+    /**
+     * 발송 이후 사용자 메시지로 응답했는지 여부
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean dailyCheckResponded = false;
+
+    /**
+     * 발송부터 첫 응답까지 걸린 시간 (초)
+     */
+    private Long firstResponseLatencySeconds;
+}
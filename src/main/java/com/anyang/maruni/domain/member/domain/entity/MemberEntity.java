@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,6 +48,13 @@ public class MemberEntity extends BaseTimeEntity {
 	@Builder.Default
 	private Boolean dailyCheckEnabled = false;
 
+	/**
+	 * 안부 메시지 발송 희망 시각 (분 단위)
+	 * null: 기본 발송 시간대 안에서 자동 배정
+	 */
+	@Column(name = "daily_check_send_time")
+	private LocalTime dailyCheckSendTime;
+
 	/**
 	 * 내 보호자 (자기 참조 ManyToOne)
 	 * null: 보호자가 없음
@@ -112,6 +120,13 @@ public class MemberEntity extends BaseTimeEntity {
 		this.dailyCheckEnabled = enabled;
 	}
 
+	/**
+	 * 안부 메시지 발송 희망 시각 변경 (null이면 자동 배정)
+	 */
+	public void updateDailyCheckSendTime(LocalTime sendTime) {
+		this.dailyCheckSendTime = sendTime == null ? null : sendTime.withSecond(0).withNano(0);
+	}
+
 	/**
 	 * 보호자 설정
 	 */
@@ -0,0 +1,25 @@
+package com.anyang.maruni.domain.member.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.anyang.maruni.domain.member.domain.entity.MemberDailySummary;
+
+/**
+ * 회원별 일일 건강 요약 저장소 (조회 전용, 갱신은 MemberDailySummaryWriter 사용)
+ */
+@Repository
+public interface MemberDailySummaryRepository extends JpaRepository<MemberDailySummary, Long> {
+
+    Optional<MemberDailySummary> findByMemberIdAndSummaryDate(Long memberId, LocalDate summaryDate);
+
+    /**
+     * 회원의 기간 내 일일 요약 조회 (날짜 오름차순, 대시보드용)
+     */
+    List<MemberDailySummary> findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(
+            Long memberId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,187 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.scheduling.ShardAssignment;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 안부 메시지 수신 회원 커서 (Keyset 페이지네이션)
+ *
+ * 전체 회원 ID를 한 번에 적재하지 않고 {@code id > 마지막 ID} 조건으로
+ * 페이지 단위 조회하여, 회원 수와 무관하게 힙 사용량을 일정하게 유지합니다.
+ * 페이지마다 별도 쿼리로 조회하므로 커넥션을 오래 점유하지 않으며,
+ * 시작 ID를 지정해 중단된 실행을 이어서 처리할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyCheckMemberCursor {
+
+	/**
+	 * 처음부터 조회할 때 사용하는 시작 ID
+	 */
+	public static final long FROM_BEGINNING = 0L;
+
+	private static final String ENABLED_MEMBER_IDS_AFTER =
+		"SELECT m.id FROM MemberEntity m " +
+		"WHERE m.dailyCheckEnabled = true AND m.id > :afterId " +
+		"ORDER BY m.id";
+
+	private static final String ENABLED_SHARD_MEMBER_IDS_AFTER =
+		"SELECT m.id FROM MemberEntity m " +
+		"WHERE m.dailyCheckEnabled = true AND m.id > :afterId " +
+		"AND MOD(m.id, :shardCount) = :shardIndex " +
+		"ORDER BY m.id";
+
+	private static final String ENABLED_MEMBER_SEND_TIMES_AFTER =
+		"SELECT new com.anyang.maruni.domain.member.infrastructure.persistence.MemberSendTime(m.id, m.dailyCheckSendTime) " +
+		"FROM MemberEntity m " +
+		"WHERE m.dailyCheckEnabled = true AND m.id > :afterId " +
+		"ORDER BY m.id";
+
+	private final SchedulingProperties schedulingProperties;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * 지정한 회원 ID 다음부터 한 페이지 조회
+	 *
+	 * @param afterId 이 ID보다 큰 회원부터 조회 (처음부터는 {@link #FROM_BEGINNING})
+	 * @return 회원 ID 오름차순 목록 (최대 pageSize개)
+	 */
+	public List<Long> fetchPage(long afterId) {
+		return fetch(ENABLED_MEMBER_IDS_AFTER, Long.class, afterId);
+	}
+
+	/**
+	 * 지정한 회원 ID 다음부터 이 노드가 담당하는 샤드의 회원만 한 페이지 조회
+	 *
+	 * @param shard 담당 샤드 ({@code memberId % count == index})
+	 */
+	public List<Long> fetchPage(long afterId, ShardAssignment shard) {
+		if (shard.isSingle()) {
+			return fetchPage(afterId);
+		}
+		return query(ENABLED_SHARD_MEMBER_IDS_AFTER, Long.class, afterId)
+			.setParameter("shardCount", (long)shard.count())
+			.setParameter("shardIndex", (long)shard.index())
+			.getResultList();
+	}
+
+	/**
+	 * 지정한 회원 ID 다음부터 발송 희망 시각과 함께 한 페이지 조회
+	 */
+	public List<MemberSendTime> fetchSendTimePage(long afterId) {
+		return fetch(ENABLED_MEMBER_SEND_TIMES_AFTER, MemberSendTime.class, afterId);
+	}
+
+	/**
+	 * 페이지 단위 지연 스트림 (다음 페이지는 소비 시점에 조회)
+	 */
+	public Stream<List<Long>> pages(long afterId) {
+		return lazyPages(afterId, this::fetchPage, Long::longValue);
+	}
+
+	/**
+	 * 담당 샤드의 회원만 페이지 단위 지연 스트림 (다중 서버 분배용)
+	 */
+	public Stream<List<Long>> pages(long afterId, ShardAssignment shard) {
+		return lazyPages(afterId, lastId -> fetchPage(lastId, shard), Long::longValue);
+	}
+
+	/**
+	 * 회원 ID 단위 지연 스트림
+	 */
+	public Stream<Long> stream(long afterId) {
+		return pages(afterId).flatMap(List::stream);
+	}
+
+	/**
+	 * 발송 희망 시각 단위 지연 스트림
+	 */
+	public Stream<MemberSendTime> sendTimes(long afterId) {
+		return lazyPages(afterId, this::fetchSendTimePage, MemberSendTime::memberId).flatMap(List::stream);
+	}
+
+	private <T> List<T> fetch(String jpql, Class<T> resultType, long afterId) {
+		return query(jpql, resultType, afterId).getResultList();
+	}
+
+	private <T> TypedQuery<T> query(String jpql, Class<T> resultType, long afterId) {
+		SchedulingProperties.MemberCursor config = schedulingProperties.getMemberCursor();
+		return entityManager.createQuery(jpql, resultType)
+			.setParameter("afterId", afterId)
+			.setMaxResults(pageSize())
+			.setHint(HibernateHints.HINT_FETCH_SIZE, Math.max(1, config.getFetchSize()))
+			.setHint(HibernateHints.HINT_READ_ONLY, true);
+	}
+
+	private <T> Stream<List<T>> lazyPages(long afterId, LongFunction<List<T>> fetcher, ToLongFunction<T> idOf) {
+		return StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(new PageIterator<>(afterId, fetcher, idOf),
+				Spliterator.ORDERED | Spliterator.NONNULL),
+			false);
+	}
+
+	private int pageSize() {
+		return Math.max(1, schedulingProperties.getMemberCursor().getPageSize());
+	}
+
+	private class PageIterator<T> implements Iterator<List<T>> {
+
+		private final LongFunction<List<T>> fetcher;
+		private final ToLongFunction<T> idOf;
+		private long lastId;
+		private List<T> nextPage;
+		private boolean exhausted;
+
+		private PageIterator(long afterId, LongFunction<List<T>> fetcher, ToLongFunction<T> idOf) {
+			this.lastId = afterId;
+			this.fetcher = fetcher;
+			this.idOf = idOf;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (nextPage == null && !exhausted) {
+				List<T> page = fetcher.apply(lastId);
+				if (page.isEmpty()) {
+					exhausted = true;
+				} else {
+					nextPage = page;
+					lastId = idOf.applyAsLong(page.get(page.size() - 1));
+					// 마지막 페이지면 빈 페이지 조회를 생략
+					exhausted = page.size() < pageSize();
+				}
+			}
+			return nextPage != null;
+		}
+
+		@Override
+		public List<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<T> page = nextPage;
+			nextPage = null;
+			return page;
+		}
+	}
+}
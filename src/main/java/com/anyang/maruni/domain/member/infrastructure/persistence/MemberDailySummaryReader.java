@@ -0,0 +1,146 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원별 일일 건강 요약(member_daily_summary) 집계 조회기
+ *
+ * 원본 메시지/발송 기록 대신 (회원, 날짜)당 한 행인 요약 테이블에서 회원별 한 행으로 집계합니다.
+ * - 감정: 마지막으로 부정이 아닌 메시지가 있던 날(break_date) 이후의 부정 메시지 일수가 연속 일수이며,
+ *   그날 자체는 마지막 부정 메시지가 마지막 부정이 아닌 메시지보다 늦을 때만 포함합니다.
+ * - 응답: 발송 시도가 있던 날만 대상으로 gaps-and-islands 방식(최신순 전체 순번 = 성공 여부별 순번)으로 계산합니다.
+ * 운영(PostgreSQL)은 FILTER 집계와 배열 파라미터(ANY)를, 테스트(H2)는 표준 CASE 집계와 IN 목록을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberDailySummaryReader {
+
+    private static final String EMOTION_STREAK_CONDITION =
+            "t.negative_count > 0 AND (t.break_date IS NULL OR t.summary_date > t.break_date " +
+            "OR (t.summary_date = t.break_date AND t.last_negative_at > t.last_non_negative_at))";
+
+    private static final String EMOTION_SOURCE =
+            "FROM (SELECT s.member_id, s.summary_date, s.user_message_count, s.positive_count, " +
+            "s.negative_count, s.neutral_count, s.last_negative_at, s.last_non_negative_at, " +
+            "MAX(CASE WHEN s.last_non_negative_at IS NOT NULL THEN s.summary_date END) " +
+            "OVER (PARTITION BY s.member_id) AS break_date " +
+            "FROM member_daily_summary s ";
+
+    private static final String POSTGRESQL_EMOTION_QUERY =
+            "SELECT t.member_id, SUM(t.user_message_count) AS total_messages, " +
+            "SUM(t.positive_count) AS positive_count, SUM(t.negative_count) AS negative_count, " +
+            "SUM(t.neutral_count) AS neutral_count, " +
+            "COUNT(*) FILTER (WHERE " + EMOTION_STREAK_CONDITION + ") AS consecutive_negative_days, " +
+            "CAST(SUM(t.negative_count) AS DOUBLE PRECISION) / SUM(t.user_message_count) AS negative_ratio " +
+            EMOTION_SOURCE +
+            "WHERE s.member_id = ANY(:memberIds) AND s.user_message_count > 0 AND s.summary_date >= :startDate) t " +
+            "GROUP BY t.member_id ORDER BY t.member_id";
+
+    private static final String H2_EMOTION_QUERY =
+            "SELECT t.member_id, SUM(t.user_message_count) AS total_messages, " +
+            "SUM(t.positive_count) AS positive_count, SUM(t.negative_count) AS negative_count, " +
+            "SUM(t.neutral_count) AS neutral_count, " +
+            "SUM(CASE WHEN " + EMOTION_STREAK_CONDITION + " THEN 1 ELSE 0 END) AS consecutive_negative_days, " +
+            "CAST(SUM(t.negative_count) AS DOUBLE PRECISION) / SUM(t.user_message_count) AS negative_ratio " +
+            EMOTION_SOURCE +
+            "WHERE s.member_id IN (:memberIds) AND s.user_message_count > 0 AND s.summary_date >= :startDate) t " +
+            "GROUP BY t.member_id ORDER BY t.member_id";
+
+    private static final String RESPONSE_SOURCE =
+            "FROM (SELECT s.member_id, s.daily_check_sent, " +
+            "ROW_NUMBER() OVER (PARTITION BY s.member_id ORDER BY s.summary_date DESC) AS rn_all, " +
+            "ROW_NUMBER() OVER (PARTITION BY s.member_id, s.daily_check_sent ORDER BY s.summary_date DESC) AS rn_same " +
+            "FROM member_daily_summary s ";
+
+    private static final String POSTGRESQL_RESPONSE_QUERY =
+            "SELECT t.member_id, COUNT(*) AS total_check_days, " +
+            "COUNT(*) FILTER (WHERE t.daily_check_sent) AS response_days, " +
+            "COUNT(*) FILTER (WHERE NOT t.daily_check_sent AND t.rn_all = t.rn_same) AS consecutive_no_response_days, " +
+            "AVG(CASE WHEN t.daily_check_sent THEN 1.0 ELSE 0.0 END) AS response_rate " +
+            RESPONSE_SOURCE +
+            "WHERE s.member_id = ANY(:memberIds) AND s.daily_check_sent IS NOT NULL " +
+            "AND s.summary_date BETWEEN :startDate AND :endDate) t " +
+            "GROUP BY t.member_id ORDER BY t.member_id";
+
+    private static final String H2_RESPONSE_QUERY =
+            "SELECT t.member_id, COUNT(*) AS total_check_days, " +
+            "SUM(CASE WHEN t.daily_check_sent THEN 1 ELSE 0 END) AS response_days, " +
+            "SUM(CASE WHEN NOT t.daily_check_sent AND t.rn_all = t.rn_same THEN 1 ELSE 0 END) " +
+            "AS consecutive_no_response_days, " +
+            "AVG(CASE WHEN t.daily_check_sent THEN 1.0 ELSE 0.0 END) AS response_rate " +
+            RESPONSE_SOURCE +
+            "WHERE s.member_id IN (:memberIds) AND s.daily_check_sent IS NOT NULL " +
+            "AND s.summary_date BETWEEN :startDate AND :endDate) t " +
+            "GROUP BY t.member_id ORDER BY t.member_id";
+
+    private static final RowMapper<MemberEmotionStreak> EMOTION_ROW_MAPPER = (rs, rowNum) -> new MemberEmotionStreak(
+            rs.getLong("member_id"),
+            rs.getInt("total_messages"),
+            rs.getInt("positive_count"),
+            rs.getInt("negative_count"),
+            rs.getInt("neutral_count"),
+            rs.getInt("consecutive_negative_days"),
+            rs.getDouble("negative_ratio"));
+
+    private static final RowMapper<MemberResponseStreak> RESPONSE_ROW_MAPPER = (rs, rowNum) -> new MemberResponseStreak(
+            rs.getLong("member_id"),
+            rs.getInt("total_check_days"),
+            rs.getInt("response_days"),
+            rs.getInt("consecutive_no_response_days"),
+            rs.getDouble("response_rate"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * 지정 날짜 이후 회원별 감정 집계 조회
+     *
+     * @return 회원 ID 오름차순 집계 (기간 내 사용자 메시지가 없는 회원은 제외)
+     */
+    public List<MemberEmotionStreak> readEmotionStreaks(Collection<Long> memberIds, LocalDate startDate) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        boolean postgreSql = databasePlatform.isPostgreSql();
+        MapSqlParameterSource params = memberIdParams(memberIds, postgreSql)
+                .addValue("startDate", startDate);
+        return jdbcTemplate.query(postgreSql ? POSTGRESQL_EMOTION_QUERY : H2_EMOTION_QUERY, params,
+                EMOTION_ROW_MAPPER);
+    }
+
+    /**
+     * 기간 내 회원별 응답 집계 조회
+     *
+     * @return 회원 ID 오름차순 집계 (기간 내 발송 시도가 없는 회원은 제외)
+     */
+    public List<MemberResponseStreak> readResponseStreaks(Collection<Long> memberIds, LocalDate startDate,
+                                                          LocalDate endDate) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        boolean postgreSql = databasePlatform.isPostgreSql();
+        MapSqlParameterSource params = memberIdParams(memberIds, postgreSql)
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate);
+        return jdbcTemplate.query(postgreSql ? POSTGRESQL_RESPONSE_QUERY : H2_RESPONSE_QUERY, params,
+                RESPONSE_ROW_MAPPER);
+    }
+
+    private MapSqlParameterSource memberIdParams(Collection<Long> memberIds, boolean postgreSql) {
+        return new MapSqlParameterSource()
+                .addValue("memberIds", postgreSql ? memberIds.toArray(Long[]::new) : memberIds);
+    }
+}
@@ -0,0 +1,170 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 일일 건강 요약 증분 갱신기
+ *
+ * (memberId, summaryDate) 유니크 키에 대해 upsert로 카운터와 플래그를 누적하므로,
+ * 메시지/발송 기록을 저장하는 트랜잭션 안에서 함께 호출하면 원본과 요약이 같이 커밋(또는 롤백)됩니다.
+ * - 사용자 메시지: 메시지 수와 감정별 수 증가, 발송 이후 첫 메시지면 응답 여부와 첫 응답 지연 시간 기록
+ * - 안부 메시지 발송: 발송 결과 기록 (성공은 실패로 되돌리지 않으며, 최초 성공 시각을 유지)
+ *
+ * 운영(PostgreSQL)은 INSERT ... ON CONFLICT, 테스트(H2)는 MERGE를 사용합니다.
+ * ID는 엔티티와 같은 시퀀스(member_daily_summary_id_seq, 증가 폭 1)에서 직접 발급합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberDailySummaryWriter {
+
+    private static final String NEGATIVE = "NEGATIVE";
+    private static final String POSITIVE = "POSITIVE";
+    private static final String NEUTRAL = "NEUTRAL";
+
+    private static final String POSTGRESQL_USER_MESSAGE_UPSERT =
+            "INSERT INTO member_daily_summary AS s (id, member_id, summary_date, user_message_count, " +
+            "positive_count, negative_count, neutral_count, last_negative_at, last_non_negative_at, " +
+            "daily_check_responded, created_at, updated_at) " +
+            "VALUES (nextval('member_daily_summary_id_seq'), :memberId, :summaryDate, 1, " +
+            ":positive, :negative, :neutral, :negativeAt, :nonNegativeAt, FALSE, :now, :now) " +
+            "ON CONFLICT (member_id, summary_date) DO UPDATE SET " +
+            "user_message_count = s.user_message_count + 1, " +
+            "positive_count = s.positive_count + EXCLUDED.positive_count, " +
+            "negative_count = s.negative_count + EXCLUDED.negative_count, " +
+            "neutral_count = s.neutral_count + EXCLUDED.neutral_count, " +
+            "last_negative_at = GREATEST(s.last_negative_at, EXCLUDED.last_negative_at), " +
+            "last_non_negative_at = GREATEST(s.last_non_negative_at, EXCLUDED.last_non_negative_at), " +
+            "first_response_latency_seconds = CASE " +
+            "WHEN NOT s.daily_check_responded AND s.daily_check_sent_at <= CAST(:messageAt AS TIMESTAMP) " +
+            "THEN CAST(EXTRACT(EPOCH FROM (CAST(:messageAt AS TIMESTAMP) - s.daily_check_sent_at)) AS BIGINT) " +
+            "ELSE s.first_response_latency_seconds END, " +
+            "daily_check_responded = s.daily_check_responded " +
+            "OR COALESCE(s.daily_check_sent_at <= CAST(:messageAt AS TIMESTAMP), FALSE), " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String H2_USER_MESSAGE_MERGE =
+            "MERGE INTO member_daily_summary t " +
+            "USING (SELECT CAST(:memberId AS BIGINT) AS member_id, CAST(:summaryDate AS DATE) AS summary_date, " +
+            "CAST(:positive AS INTEGER) AS positive, CAST(:negative AS INTEGER) AS negative, " +
+            "CAST(:neutral AS INTEGER) AS neutral, CAST(:negativeAt AS TIMESTAMP) AS negative_at, " +
+            "CAST(:nonNegativeAt AS TIMESTAMP) AS non_negative_at, " +
+            "CAST(:messageAt AS TIMESTAMP) AS message_at, CAST(:now AS TIMESTAMP) AS now_at) s " +
+            "ON t.member_id = s.member_id AND t.summary_date = s.summary_date " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "user_message_count = t.user_message_count + 1, " +
+            "positive_count = t.positive_count + s.positive, " +
+            "negative_count = t.negative_count + s.negative, " +
+            "neutral_count = t.neutral_count + s.neutral, " +
+            "last_negative_at = GREATEST(t.last_negative_at, s.negative_at), " +
+            "last_non_negative_at = GREATEST(t.last_non_negative_at, s.non_negative_at), " +
+            "first_response_latency_seconds = CASE " +
+            "WHEN NOT t.daily_check_responded AND t.daily_check_sent_at <= s.message_at " +
+            "THEN DATEDIFF('SECOND', t.daily_check_sent_at, s.message_at) " +
+            "ELSE t.first_response_latency_seconds END, " +
+            "daily_check_responded = t.daily_check_responded " +
+            "OR COALESCE(t.daily_check_sent_at <= s.message_at, FALSE), " +
+            "updated_at = s.now_at " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, member_id, summary_date, user_message_count, positive_count, negative_count, " +
+            "neutral_count, last_negative_at, last_non_negative_at, daily_check_responded, created_at, updated_at) " +
+            "VALUES (NEXT VALUE FOR member_daily_summary_id_seq, s.member_id, s.summary_date, 1, " +
+            "s.positive, s.negative, s.neutral, s.negative_at, s.non_negative_at, FALSE, s.now_at, s.now_at)";
+
+    private static final String POSTGRESQL_DAILY_CHECK_UPSERT =
+            "INSERT INTO member_daily_summary AS s (id, member_id, summary_date, user_message_count, " +
+            "positive_count, negative_count, neutral_count, daily_check_sent, daily_check_sent_at, " +
+            "daily_check_responded, created_at, updated_at) " +
+            "VALUES (nextval('member_daily_summary_id_seq'), :memberId, :summaryDate, 0, 0, 0, 0, " +
+            ":sent, :sentAt, FALSE, :now, :now) " +
+            "ON CONFLICT (member_id, summary_date) DO UPDATE SET " +
+            "daily_check_sent = COALESCE(s.daily_check_sent, FALSE) OR EXCLUDED.daily_check_sent, " +
+            "daily_check_sent_at = COALESCE(s.daily_check_sent_at, EXCLUDED.daily_check_sent_at), " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String H2_DAILY_CHECK_MERGE =
+            "MERGE INTO member_daily_summary t " +
+            "USING (SELECT CAST(:memberId AS BIGINT) AS member_id, CAST(:summaryDate AS DATE) AS summary_date, " +
+            "CAST(:sent AS BOOLEAN) AS sent, CAST(:sentAt AS TIMESTAMP) AS sent_at, " +
+            "CAST(:now AS TIMESTAMP) AS now_at) s " +
+            "ON t.member_id = s.member_id AND t.summary_date = s.summary_date " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "daily_check_sent = COALESCE(t.daily_check_sent, FALSE) OR s.sent, " +
+            "daily_check_sent_at = COALESCE(t.daily_check_sent_at, s.sent_at), " +
+            "updated_at = s.now_at " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, member_id, summary_date, user_message_count, positive_count, negative_count, " +
+            "neutral_count, daily_check_sent, daily_check_sent_at, daily_check_responded, created_at, updated_at) " +
+            "VALUES (NEXT VALUE FOR member_daily_summary_id_seq, s.member_id, s.summary_date, 0, 0, 0, 0, " +
+            "s.sent, s.sent_at, FALSE, s.now_at, s.now_at)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * 사용자 메시지 1건 반영
+     *
+     * @param memberId 회원 ID
+     * @param emotion 메시지 감정 (EmotionType 이름, 분석 결과가 없으면 null)
+     * @param messageAt 메시지 작성 시각 (이 시각의 날짜 행에 누적)
+     */
+    public void recordUserMessage(Long memberId, String emotion, LocalDateTime messageAt) {
+        Timestamp messageTimestamp = Timestamp.valueOf(messageAt);
+        boolean negative = NEGATIVE.equals(emotion);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("summaryDate", messageAt.toLocalDate())
+                .addValue("positive", POSITIVE.equals(emotion) ? 1 : 0)
+                .addValue("negative", negative ? 1 : 0)
+                .addValue("neutral", NEUTRAL.equals(emotion) ? 1 : 0)
+                .addValue("negativeAt", negative ? messageTimestamp : null, Types.TIMESTAMP)
+                .addValue("nonNegativeAt", negative ? null : messageTimestamp, Types.TIMESTAMP)
+                .addValue("messageAt", messageTimestamp, Types.TIMESTAMP)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()), Types.TIMESTAMP);
+        jdbcTemplate.update(databasePlatform.isPostgreSql() ? POSTGRESQL_USER_MESSAGE_UPSERT : H2_USER_MESSAGE_MERGE,
+                params);
+    }
+
+    /**
+     * 안부 메시지 발송 결과 반영 (회원 ID 순으로 정렬하여 병렬 실행 간 잠금 순서를 맞춤)
+     *
+     * @param memberIds 발송 대상 회원 ID 목록
+     * @param sent 발송 성공 여부
+     * @param at 발송 시각 (이 시각의 날짜 행에 기록)
+     */
+    public void recordDailyChecks(Collection<Long> memberIds, boolean sent, LocalDateTime at) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp sentAt = sent ? Timestamp.valueOf(at) : null;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SqlParameterSource[] batch = memberIds.stream()
+                .sorted()
+                .map(memberId -> new MapSqlParameterSource()
+                        .addValue("memberId", memberId)
+                        .addValue("summaryDate", at.toLocalDate())
+                        .addValue("sent", sent)
+                        .addValue("sentAt", sentAt, Types.TIMESTAMP)
+                        .addValue("now", now, Types.TIMESTAMP))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(databasePlatform.isPostgreSql() ? POSTGRESQL_DAILY_CHECK_UPSERT : H2_DAILY_CHECK_MERGE,
+                batch);
+        log.debug("Recorded daily check result for {} member summaries", batch.length);
+    }
+}
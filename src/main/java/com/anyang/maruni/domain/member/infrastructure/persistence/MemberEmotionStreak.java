@@ -0,0 +1,16 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+/**
+ * 회원별 감정 집계 (감정 패턴 분석용)
+ *
+ * @param memberId 회원 ID
+ * @param totalMessages 기간 내 사용자 메시지 수
+ * @param positiveCount 긍정 메시지 수
+ * @param negativeCount 부정 메시지 수
+ * @param neutralCount 중립 메시지 수
+ * @param consecutiveNegativeDays 최신 메시지부터 이어지는 부정 메시지의 일수
+ * @param negativeRatio 부정 메시지 비율 (0.0 ~ 1.0)
+ */
+public record MemberEmotionStreak(Long memberId, int totalMessages, int positiveCount, int negativeCount,
+                                  int neutralCount, int consecutiveNegativeDays, double negativeRatio) {
+}
@@ -0,0 +1,18 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+/**
+ * 회원별 안부 응답 집계 (무응답 패턴 분석용)
+ *
+ * @param memberId 회원 ID
+ * @param totalCheckDays 기간 내 발송 시도 일수
+ * @param responseDays 응답(발송 성공) 일수
+ * @param consecutiveNoResponseDays 최신 기록부터 이어지는 무응답 일수
+ * @param responseRate 응답률 (0.0 ~ 1.0)
+ */
+public record MemberResponseStreak(Long memberId, int totalCheckDays, int responseDays,
+                                   int consecutiveNoResponseDays, double responseRate) {
+
+    public int noResponseDays() {
+        return totalCheckDays - responseDays;
+    }
+}
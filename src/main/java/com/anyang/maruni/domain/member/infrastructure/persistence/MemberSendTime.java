@@ -0,0 +1,9 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+import java.time.LocalTime;
+
+/**
+ * 안부 메시지 수신 회원의 발송 희망 시각 (미지정이면 sendTime은 null)
+ */
+public record MemberSendTime(Long memberId, LocalTime sendTime) {
+}
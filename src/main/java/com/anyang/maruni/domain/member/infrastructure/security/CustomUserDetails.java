@@ -2,6 +2,7 @@ package com.anyang.maruni.domain.member.infrastructure.security;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,8 +19,20 @@ public class CustomUserDetails implements UserDetails {
 
 	private final MemberEntity member;
 
+	/**
+	 * 관리자 여부 (security.admin-emails에 등록된 회원)
+	 */
+	private final boolean admin;
+
+	public CustomUserDetails(MemberEntity member) {
+		this(member, false);
+	}
+
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
+		if (admin) {
+			return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+		}
 		return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
 	}
 
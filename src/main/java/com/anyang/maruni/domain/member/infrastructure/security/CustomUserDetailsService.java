@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
+import com.anyang.maruni.global.config.properties.SecurityProperties;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,11 +16,12 @@ import lombok.RequiredArgsConstructor;
 public class CustomUserDetailsService implements UserDetailsService {
 
 	private final MemberRepository memberRepository;
+	private final SecurityProperties securityProperties;
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		MemberEntity member = memberRepository.findByMemberEmail(username)
 			.orElseThrow(() -> new UsernameNotFoundException("해당 이메일의 회원을 찾을 수 없습니다: " + username));
-		return new CustomUserDetails(member);
+		return new CustomUserDetails(member, securityProperties.isAdminEmail(member.getMemberEmail()));
 	}
 }
\ No newline at end of file
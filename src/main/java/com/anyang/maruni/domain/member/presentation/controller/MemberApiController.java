@@ -1,7 +1,9 @@
 package com.anyang.maruni.domain.member.presentation.controller;
 
+import java.time.LocalTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -123,6 +125,30 @@ public class MemberApiController {
 		);
 	}
 
+	// 안부 메시지 발송 희망 시각 변경
+	@Operation(
+		summary = "안부 메시지 발송 시각 변경",
+		description = "안부 메시지를 받을 시각(07:00 ~ 21:59)을 변경합니다. 비워 두면 기본 시간대 안에서 자동 배정됩니다."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "설정 변경 성공"),
+		@ApiResponse(responseCode = "400", description = "허용 시간대를 벗어난 시각", content = @Content),
+		@ApiResponse(responseCode = "401", description = "인증 실패", content = @Content),
+		@ApiResponse(responseCode = "404", description = "사용자가 존재하지 않음", content = @Content)
+	})
+	@PatchMapping("/me/daily-check/send-time")
+	@CustomExceptionDescription(SwaggerResponseDescription.MEMBER_ERROR)
+	@SuccessCodeAnnotation(SuccessCode.MEMBER_UPDATED)
+	public MemberResponse updateDailyCheckSendTime(
+			@Parameter(description = "발송 희망 시각 (HH:mm)", example = "09:30")
+			@RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime sendTime,
+			@Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+		return memberService.updateDailyCheckSendTime(
+				userDetails.getMemberId(),
+				sendTime
+		);
+	}
+
 	// ========== 기존 API ==========
 
 	// 내 정보 수정
@@ -0,0 +1,74 @@
+package com.anyang.maruni.domain.notification.application.config;
+
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 알림 발송 단계(dispatch stage) 설정 프로퍼티
+ *
+ * 채널별 토큰 버킷 발송 속도와 대기열 크기를 관리합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "maruni.notification.dispatch")
+public class NotificationDispatchProperties {
+
+    /**
+     * 발송 속도 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 채널별 최대 대기 알림 수 (초과 시 즉시 거부)
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 토큰을 기다리는 최대 시간 (밀리초, 초과 예상 시 즉시 거부)
+     */
+    private long maxWaitMillis = 30_000;
+
+    /**
+     * 채널별 설정이 없을 때 사용하는 발송 속도
+     */
+    private Rate defaultRate = new Rate();
+
+    /**
+     * 채널별 발송 속도
+     */
+    private Map<NotificationChannelType, Rate> channels = new EnumMap<>(NotificationChannelType.class);
+
+    /**
+     * EMERGENCY 알림 전용 발송 속도 (채널마다 일괄 발송과 별도의 토큰 버킷)
+     *
+     * 일괄 발송이 채널 토큰을 모두 쓰고 있어도 긴급 알림은 이 버킷에서 토큰을 얻습니다.
+     * 제공자 한도는 채널 발송 속도와 이 속도의 합으로 잡아야 합니다.
+     */
+    private Rate emergencyRate = new Rate(10, 20);
+
+    public Rate rateOf(NotificationChannelType channelType) {
+        return channels.getOrDefault(channelType, defaultRate);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rate {
+        /**
+         * 초당 발송 수 (토큰 충전 속도)
+         */
+        private double permitsPerSecond = 50;
+
+        /**
+         * 버킷 용량 (순간 최대 발송 수)
+         */
+        private int burst = 100;
+    }
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
  * MVP 추가사항: 알림 타입, 출처, 읽음 상태 추적
  */
 @Entity
-@Table(name = "notification_history")
+@Table(name = "notification_history",
+        indexes = @Index(name = "idx_notification_history_source", columnList = "source_type, source_entity_id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,8 +27,12 @@ import java.time.LocalDateTime;
 @Setter(AccessLevel.PRIVATE)
 public class NotificationHistory extends BaseTimeEntity {
 
+    /**
+     * 안부 메시지 청크 발송(recordNotificationsWithType)의 saveAll이 JDBC 배치 INSERT로 묶이도록 pooled 시퀀스 사용
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_history_seq")
+    @SequenceGenerator(name = "notification_history_seq", sequenceName = "notification_history_id_seq", allocationSize = 50)
     private Long id;
 
     /**
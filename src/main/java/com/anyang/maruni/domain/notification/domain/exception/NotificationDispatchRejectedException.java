@@ -0,0 +1,21 @@
+package com.anyang.maruni.domain.notification.domain.exception;
+
+import com.anyang.maruni.global.response.error.ErrorType;
+
+/**
+ * 발송 토큰 확보 실패 예외
+ *
+ * 발송 단계가 채널 대기열이나 최대 대기 시간을 넘어 발송을 거부할 때 사용합니다.
+ * 발송 자체의 실패와 구분되므로, 발송 루프는 이 예외를 받으면 실패 횟수를 늘리지 않고 대상을 재시도로 넘깁니다.
+ */
+public class NotificationDispatchRejectedException extends NotificationException {
+
+    /**
+     * 발송 거부 예외 생성
+     *
+     * @param errorCode 에러 코드
+     */
+    public NotificationDispatchRejectedException(ErrorType errorCode) {
+        super(errorCode);
+    }
+}
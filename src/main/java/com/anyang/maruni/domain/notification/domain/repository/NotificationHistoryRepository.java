@@ -2,6 +2,7 @@ package com.anyang.maruni.domain.notification.domain.repository;
 
 import com.anyang.maruni.domain.notification.domain.entity.NotificationHistory;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationSourceType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -115,4 +116,13 @@ public interface NotificationHistoryRepository extends JpaRepository<Notificatio
      * @return 안읽은 알림 개수
      */
     Long countByMemberIdAndIsReadFalse(Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 출처 엔티티에 대한 알림 중 읽은 것이 있는지 확인 (알림 확인 여부 판정)
+     *
+     * @param sourceType 알림 출처 타입
+     * @param sourceEntityId 출처 엔티티 ID
+     * @return 읽은 알림이 있으면 true
+     */
+    boolean existsBySourceTypeAndSourceEntityIdAndIsReadTrue(NotificationSourceType sourceType, Long sourceEntityId);
+}
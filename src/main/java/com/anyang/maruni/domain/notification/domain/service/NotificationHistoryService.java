@@ -121,6 +121,15 @@ public interface NotificationHistoryService {
      */
     long cleanupOldHistory(LocalDateTime before);
 
+    /**
+     * 출처 엔티티에 대한 알림을 수신자가 확인(읽음)했는지 조회
+     *
+     * @param sourceType 알림 출처 타입
+     * @param sourceEntityId 출처 엔티티 ID
+     * @return 하나라도 읽었으면 true
+     */
+    boolean isAcknowledged(NotificationSourceType sourceType, Long sourceEntityId);
+
     /**
      * MVP: 타입 정보를 포함한 알림 이력 저장
      *
@@ -141,6 +150,24 @@ public interface NotificationHistoryService {
             Long sourceEntityId
     );
 
+    /**
+     * 여러 회원에게 같은 내용의 알림 이력 일괄 저장 (안부 메시지 배치 발송용)
+     *
+     * @param memberIds 회원 ID 목록
+     * @param title 알림 제목
+     * @param message 알림 내용
+     * @param notificationType 알림 타입
+     * @param sourceType 알림 출처 타입
+     * @return 저장된 이력 엔티티 목록 (입력 순서 유지)
+     */
+    List<NotificationHistory> recordNotificationsWithType(
+            List<Long> memberIds,
+            String title,
+            String message,
+            NotificationType notificationType,
+            NotificationSourceType sourceType
+    );
+
     /**
      * MVP: 기본 알림 이력 저장 (타입 정보 없음)
      *
@@ -0,0 +1,226 @@
+package com.anyang.maruni.domain.notification.infrastructure.dispatch;
+
+import com.anyang.maruni.domain.notification.application.config.NotificationDispatchProperties;
+import com.anyang.maruni.domain.notification.domain.exception.NotificationDispatchRejectedException;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.global.response.error.ErrorCode;
+import com.anyang.maruni.global.shadow.ShadowRun;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 알림 발송 단계 (채널별 토큰 버킷 + 제한된 대기열)
+ *
+ * 단일 책임: 외부 발송 전에 채널별 발송 속도를 제한
+ * - 채널마다 토큰 버킷으로 초당 발송 수와 순간 최대 발송 수를 제한
+ * - 토큰을 기다리는 알림 수가 queue-capacity를 넘거나 예상 대기가 max-wait를 넘으면 즉시 거부
+ *   (호출 측의 기존 실패 처리 - 재시도 큐 등록 등 - 로 넘김)
+ * - 채널별 대기열 깊이(gauge), 대기 시간(timer), 거부 수(counter)를 메트릭으로 기록
+ * - 트랜잭션 안에서는 토큰을 기다리지 않음 (커넥션과 행 잠금을 잡은 채 대기하지 않도록 즉시 거부)
+ *   발송 루프는 withPermits로 트랜잭션을 열기 전에 토큰을 먼저 확보하고, 그 안의 발송은 대기 없이 실행
+ * - EMERGENCY 알림은 채널마다 별도 토큰 버킷(emergency-rate)을 사용해 일괄 발송에 밀리지 않음
+ */
+@Component
+@Slf4j
+public class NotificationDispatchStage {
+
+    private static final String QUEUE_DEPTH_GAUGE = "maruni.notification.dispatch.queue.depth";
+    private static final String WAIT_TIMER = "maruni.notification.dispatch.wait";
+    private static final String REJECTED_COUNTER = "maruni.notification.dispatch.rejected";
+
+    /** withPermits로 토큰을 미리 확보한 채널 (이 스레드의 발송은 토큰 없이 실행) */
+    private static final ThreadLocal<NotificationChannelType> PREPAID_CHANNEL = new ThreadLocal<>();
+
+    private final NotificationDispatchProperties properties;
+    private final Map<NotificationChannelType, Lane> lanes = new EnumMap<>(NotificationChannelType.class);
+    private final Map<NotificationChannelType, Lane> emergencyLanes = new EnumMap<>(NotificationChannelType.class);
+
+    @Autowired
+    public NotificationDispatchStage(NotificationDispatchProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    NotificationDispatchStage(NotificationDispatchProperties properties, MeterRegistry meterRegistry,
+                              LongSupplier nanoClock) {
+        this.properties = properties;
+        for (NotificationChannelType channelType : NotificationChannelType.values()) {
+            lanes.put(channelType, new Lane(channelType, "bulk", properties.rateOf(channelType),
+                    meterRegistry, nanoClock));
+            emergencyLanes.put(channelType, new Lane(channelType, "emergency", properties.getEmergencyRate(),
+                    meterRegistry, nanoClock));
+        }
+    }
+
+    /**
+     * 채널의 토큰을 확보한 뒤 발송 실행
+     *
+     * 섀도 실행 중에는 운영 발송 한도를 소모하지 않도록 토큰 없이 바로 실행합니다.
+     * withPermits 안에서 호출되면 이미 확보한 토큰으로 바로 실행하고,
+     * 트랜잭션 안에서 호출되면 토큰을 기다리지 않고 즉시 거부합니다.
+     *
+     * @param channelType 발송 채널
+     * @param permits 발송 건수 (일괄 발송이면 대상 회원 수)
+     * @param send 실제 발송
+     * @return 발송 결과
+     * @throws NotificationDispatchRejectedException 대기열이 가득 찼거나 최대 대기 시간을 넘는 경우
+     */
+    public <T> T dispatch(NotificationChannelType channelType, int permits, Supplier<T> send) {
+        if (!properties.isEnabled() || permits <= 0 || ShadowRun.isActive()
+                || PREPAID_CHANNEL.get() == channelType) {
+            return send.get();
+        }
+        lanes.get(channelType).acquire(permits, maxWaitNanos());
+        return send.get();
+    }
+
+    /**
+     * 트랜잭션을 열기 전에 채널 토큰을 먼저 확보하고 작업 실행
+     *
+     * 발송 루프가 트랜잭션 바깥에서 호출하면 토큰 대기 동안 커넥션과 행 잠금을 잡지 않습니다.
+     * 작업 안의 dispatch 호출은 확보한 토큰으로 간주해 대기하지 않습니다.
+     * 토큰을 확보하지 못하면 작업을 실행하지 않고 거부하므로, 호출 측은 트랜잭션을 열지 않고
+     * 대상 전체를 재시도로 넘길 수 있습니다.
+     *
+     * @param permits 작업에서 발송할 건수 (0이면 토큰 없이 실행)
+     * @return 작업 결과
+     * @throws NotificationDispatchRejectedException 토큰을 확보하지 못한 경우 (작업은 실행되지 않음)
+     */
+    public <T> T withPermits(NotificationChannelType channelType, int permits, Supplier<T> work) {
+        return withPermits(lanes.get(channelType), permits, work);
+    }
+
+    /**
+     * EMERGENCY 알림 전용 버킷에서 토큰을 먼저 확보하고 작업 실행
+     *
+     * 일괄 발송과 토큰을 나누지 않으므로 야간 일괄 발송 중에도 긴급 알림이 채널 대기열 뒤에 서지 않습니다.
+     * 그 외 동작은 {@link #withPermits}와 같습니다.
+     */
+    public <T> T withEmergencyPermits(NotificationChannelType channelType, int permits, Supplier<T> work) {
+        return withPermits(emergencyLanes.get(channelType), permits, work);
+    }
+
+    private <T> T withPermits(Lane lane, int permits, Supplier<T> work) {
+        if (!properties.isEnabled() || permits <= 0 || ShadowRun.isActive() || PREPAID_CHANNEL.get() != null) {
+            return work.get();
+        }
+        lane.acquire(permits, maxWaitNanos());
+
+        PREPAID_CHANNEL.set(lane.channelType);
+        try {
+            return work.get();
+        } finally {
+            PREPAID_CHANNEL.remove();
+        }
+    }
+
+    /**
+     * 트랜잭션을 열기 전에 채널 토큰을 먼저 확보하고 결과 없는 작업 실행
+     *
+     * @throws NotificationDispatchRejectedException 토큰을 확보하지 못한 경우 (작업은 실행되지 않음)
+     */
+    public void runWithPermits(NotificationChannelType channelType, int permits, Runnable work) {
+        withPermits(channelType, permits, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 채널의 현재 대기 알림 수
+     */
+    public int queueDepth(NotificationChannelType channelType) {
+        return lanes.get(channelType).queued.get();
+    }
+
+    /**
+     * 토큰 최대 대기 시간 (트랜잭션 안이면 대기하지 않음)
+     */
+    private long maxWaitNanos() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return 0;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMillis());
+    }
+
+    /**
+     * 채널별 발송 차선
+     */
+    private final class Lane {
+
+        private final NotificationChannelType channelType;
+        private final TokenBucket bucket;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Timer waitTimer;
+        private final Counter rejectedCounter;
+
+        private Lane(NotificationChannelType channelType, String priority, NotificationDispatchProperties.Rate rate,
+                     MeterRegistry meterRegistry, LongSupplier nanoClock) {
+            this.channelType = channelType;
+            this.bucket = new TokenBucket(rate.getPermitsPerSecond(), rate.getBurst(), nanoClock);
+            Gauge.builder(QUEUE_DEPTH_GAUGE, queued, AtomicInteger::get)
+                    .description("토큰을 기다리는 알림 수")
+                    .tag("channel", channelType.name())
+                    .tag("priority", priority)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder(WAIT_TIMER)
+                    .description("알림 발송 토큰 대기 시간")
+                    .tag("channel", channelType.name())
+                    .tag("priority", priority)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder(REJECTED_COUNTER)
+                    .tag("channel", channelType.name())
+                    .tag("priority", priority)
+                    .register(meterRegistry);
+        }
+
+        private void acquire(int permits, long maxWaitNanos) {
+            int depth = queued.addAndGet(permits);
+            try {
+                // 대기열이 비어 있으면 용량보다 큰 일괄 발송도 받아들임
+                if (depth > properties.getQueueCapacity() && depth != permits) {
+                    throw reject("queue full (" + depth + ")");
+                }
+
+                long waitNanos = bucket.reserve(permits, maxWaitNanos);
+                if (waitNanos < 0) {
+                    throw reject("wait exceeds " + properties.getMaxWaitMillis() + "ms");
+                }
+                park(waitNanos);
+                waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            } finally {
+                queued.addAndGet(-permits);
+            }
+        }
+
+        private void park(long waitNanos) {
+            long deadline = System.nanoTime() + waitNanos;
+            for (long remaining = waitNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new NotificationDispatchRejectedException(ErrorCode.NOTIFICATION_SERVICE_UNAVAILABLE);
+                }
+            }
+        }
+
+        private NotificationDispatchRejectedException reject(String reason) {
+            rejectedCounter.increment();
+            log.warn("Notification dispatch throttled on {}: {}", channelType, reason);
+            return new NotificationDispatchRejectedException(ErrorCode.NOTIFICATION_DISPATCH_THROTTLED);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.anyang.maruni.domain.notification.infrastructure.dispatch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 예약 방식 토큰 버킷
+ *
+ * 토큰이 부족해도 먼저 차감(음수 허용)하고 대기해야 할 시간을 돌려줍니다.
+ * 따라서 요청 순서대로 발송 시각이 정해지고, 대기 중인 스레드가 토큰을 두고 경합하지 않습니다.
+ * 충전은 호출 시점에 경과 시간만큼 한 번에 계산합니다(별도 충전 스레드 없음).
+ */
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, burst);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰을 예약하고 대기 시간을 반환
+     *
+     * @param permits 필요한 토큰 수
+     * @param maxWaitNanos 허용하는 최대 대기 시간 (초과하면 예약하지 않음)
+     * @return 대기 시간 (나노초), 최대 대기 시간을 넘으면 -1
+     */
+    public synchronized long reserve(int permits, long maxWaitNanos) {
+        refill();
+        double deficit = permits - tokens;
+        long waitNanos = deficit <= 0 ? 0 : (long) Math.ceil(deficit / permitsPerNano);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= permits;
+        return waitNanos;
+    }
+
+    /**
+     * 현재 사용 가능한 토큰 수 (예약으로 음수일 수 있음)
+     */
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
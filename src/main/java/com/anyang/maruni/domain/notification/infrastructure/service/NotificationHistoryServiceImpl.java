@@ -166,6 +166,11 @@ public class NotificationHistoryServiceImpl implements NotificationHistoryServic
         return countBefore;
     }
 
+    @Override
+    public boolean isAcknowledged(NotificationSourceType sourceType, Long sourceEntityId) {
+        return historyRepository.existsBySourceTypeAndSourceEntityIdAndIsReadTrue(sourceType, sourceEntityId);
+    }
+
     @Override
     @Transactional
     public NotificationHistory recordNotificationWithType(
@@ -213,6 +218,54 @@ public class NotificationHistoryServiceImpl implements NotificationHistoryServic
         return savedHistory;
     }
 
+    @Override
+    @Transactional
+    public List<NotificationHistory> recordNotificationsWithType(
+            List<Long> memberIds,
+            String title,
+            String message,
+            NotificationType notificationType,
+            NotificationSourceType sourceType
+    ) {
+        memberIds.forEach(this::validateMemberId);
+
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Title cannot be null or empty");
+        }
+
+        if (message == null || message.trim().isEmpty()) {
+            throw new IllegalArgumentException("Message cannot be null or empty");
+        }
+
+        if (notificationType == null) {
+            throw new IllegalArgumentException("NotificationType cannot be null");
+        }
+
+        if (sourceType == null) {
+            throw new IllegalArgumentException("NotificationSourceType cannot be null");
+        }
+
+        List<NotificationHistory> histories = memberIds.stream()
+                .map(memberId -> NotificationHistory.createSuccessWithType(
+                        memberId,
+                        title,
+                        message,
+                        NotificationChannelType.PUSH,  // MVP: PUSH만 사용
+                        notificationType,
+                        sourceType,
+                        null,
+                        null
+                ))
+                .toList();
+
+        List<NotificationHistory> savedHistories = historyRepository.saveAll(histories);
+
+        log.info("✅ {} notifications recorded - type: {}, source: {}",
+                savedHistories.size(), notificationType, sourceType);
+
+        return savedHistories;
+    }
+
     @Override
     @Transactional
     public NotificationHistory recordNotification(
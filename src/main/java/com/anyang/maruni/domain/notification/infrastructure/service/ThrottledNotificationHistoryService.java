@@ -0,0 +1,122 @@
+package com.anyang.maruni.domain.notification.infrastructure.service;
+
+import com.anyang.maruni.domain.notification.domain.entity.NotificationHistory;
+import com.anyang.maruni.domain.notification.domain.service.NotificationHistoryService;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationSourceType;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationStatistics;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationType;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 발송 속도 제한 알림 이력 서비스 (데코레이터)
+ *
+ * 발송에 해당하는 recordNotification* 호출만 NotificationDispatchStage를 거쳐
+ * 채널별 토큰을 확보한 뒤 NotificationHistoryServiceImpl에 위임합니다.
+ * 이미 발송된 결과를 남기는 recordSuccess/recordFailure와 조회 메서드는 그대로 위임합니다.
+ * 토큰 대기는 위임 대상의 트랜잭션이 시작되기 전에 이루어지며, 호출 측이 트랜잭션을 열고 있으면 대기하지 않고 거부됩니다.
+ * 트랜잭션 안에서 발송하는 배치 루프는 NotificationDispatchStage.withPermits로 트랜잭션 전에 토큰을 확보합니다.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+public class ThrottledNotificationHistoryService implements NotificationHistoryService {
+
+    // MVP: recordNotification* 계열은 모두 PUSH 채널로 저장됨
+    private static final NotificationChannelType DISPATCH_CHANNEL = NotificationChannelType.PUSH;
+
+    private final NotificationHistoryServiceImpl delegate;
+    private final NotificationDispatchStage dispatchStage;
+
+    @Override
+    public NotificationHistory recordNotificationWithType(Long memberId, String title, String message,
+                                                          NotificationType notificationType,
+                                                          NotificationSourceType sourceType,
+                                                          Long sourceEntityId) {
+        return dispatchStage.dispatch(DISPATCH_CHANNEL, 1, () -> delegate.recordNotificationWithType(
+                memberId, title, message, notificationType, sourceType, sourceEntityId));
+    }
+
+    @Override
+    public List<NotificationHistory> recordNotificationsWithType(List<Long> memberIds, String title, String message,
+                                                                 NotificationType notificationType,
+                                                                 NotificationSourceType sourceType) {
+        return dispatchStage.dispatch(DISPATCH_CHANNEL, memberIds.size(), () -> delegate.recordNotificationsWithType(
+                memberIds, title, message, notificationType, sourceType));
+    }
+
+    @Override
+    public NotificationHistory recordNotification(Long memberId, String title, String message) {
+        return dispatchStage.dispatch(DISPATCH_CHANNEL, 1,
+                () -> delegate.recordNotification(memberId, title, message));
+    }
+
+    @Override
+    public NotificationHistory recordSuccess(Long memberId, String title, String message,
+                                             NotificationChannelType channelType) {
+        return delegate.recordSuccess(memberId, title, message, channelType);
+    }
+
+    @Override
+    public NotificationHistory recordSuccess(Long memberId, String title, String message,
+                                             NotificationChannelType channelType, String externalMessageId) {
+        return delegate.recordSuccess(memberId, title, message, channelType, externalMessageId);
+    }
+
+    @Override
+    public NotificationHistory recordFailure(Long memberId, String title, String message,
+                                             NotificationChannelType channelType, String errorMessage) {
+        return delegate.recordFailure(memberId, title, message, channelType, errorMessage);
+    }
+
+    @Override
+    public List<NotificationHistory> getHistoryByMember(Long memberId) {
+        return delegate.getHistoryByMember(memberId);
+    }
+
+    @Override
+    public List<NotificationHistory> getSuccessHistoryByMember(Long memberId) {
+        return delegate.getSuccessHistoryByMember(memberId);
+    }
+
+    @Override
+    public List<NotificationHistory> getFailureHistoryByMember(Long memberId) {
+        return delegate.getFailureHistoryByMember(memberId);
+    }
+
+    @Override
+    public List<NotificationHistory> getRecentHistoryByMember(Long memberId, int limit) {
+        return delegate.getRecentHistoryByMember(memberId, limit);
+    }
+
+    @Override
+    public double calculateSuccessRate(LocalDateTime from) {
+        return delegate.calculateSuccessRate(from);
+    }
+
+    @Override
+    public double calculateSuccessRateByChannel(NotificationChannelType channelType, LocalDateTime from) {
+        return delegate.calculateSuccessRateByChannel(channelType, from);
+    }
+
+    @Override
+    public NotificationStatistics getStatistics(LocalDateTime from) {
+        return delegate.getStatistics(from);
+    }
+
+    @Override
+    public long cleanupOldHistory(LocalDateTime before) {
+        return delegate.cleanupOldHistory(before);
+    }
+
+    @Override
+    public boolean isAcknowledged(NotificationSourceType sourceType, Long sourceEntityId) {
+        return delegate.isAcknowledged(sourceType, sourceEntityId);
+    }
+}
@@ -12,7 +12,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
     "com.anyang.maruni.domain.dailycheck.domain.repository",
     "com.anyang.maruni.domain.guardian.domain.repository",
     "com.anyang.maruni.domain.alertrule.domain.repository",
-    "com.anyang.maruni.domain.notification.domain.repository"
+    "com.anyang.maruni.domain.notification.domain.repository",
+    "com.anyang.maruni.global.scheduling"
 })
 public class JpaConfig {
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.anyang.maruni.global.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.anyang.maruni.global.persistence.ReservedConnectionDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 커넥션 풀 설정
+ *
+ * 기본 Hikari 풀의 maximum-pool-size에서 maruni.datasource.reserved-connections만큼 떼어
+ * EMERGENCY 알림 레인 전용 풀을 만들고, DataSource를 예약 풀 라우팅 DataSource로 감쌉니다.
+ * 노드당 DB 커넥션 합계는 spring.datasource.hikari.maximum-pool-size 그대로입니다.
+ * 풀이 시작되기 전에 크기를 나누며, 예약 풀은 레인이 처음 커넥션을 요청할 때 시작됩니다.
+ */
+@Configuration
+@Slf4j
+public class ReservedConnectionConfig {
+
+	/** 섀도 실행 집계 DataSource가 이 래퍼 바깥에서 감싸도록 먼저 적용 */
+	public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+	static final String RESERVED_CONNECTIONS_PROPERTY = "maruni.datasource.reserved-connections";
+	static final String EMERGENCY_ENABLED_PROPERTY = "maruni.alert.emergency.enabled";
+
+	@Bean
+	public static ReservedConnectionPostProcessor reservedConnectionDataSourcePostProcessor(Environment environment) {
+		boolean laneEnabled = environment.getProperty(EMERGENCY_ENABLED_PROPERTY, Boolean.class, true);
+		int reservedConnections = laneEnabled
+				? environment.getProperty(RESERVED_CONNECTIONS_PROPERTY, Integer.class, 0) : 0;
+		return new ReservedConnectionPostProcessor(reservedConnections);
+	}
+
+	/**
+	 * Hikari DataSource를 기본 풀 + 예약 풀로 나누는 후처리기 (예약 풀은 DataSource 빈과 함께 닫음)
+	 */
+	static class ReservedConnectionPostProcessor implements DestructionAwareBeanPostProcessor, Ordered {
+
+		private final int reservedConnections;
+		private final Map<String, HikariDataSource> reservedPools = new ConcurrentHashMap<>();
+
+		ReservedConnectionPostProcessor(int reservedConnections) {
+			this.reservedConnections = reservedConnections;
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (reservedConnections <= 0 || !(bean instanceof HikariDataSource primary)) {
+				return bean;
+			}
+
+			int primarySize = primary.getMaximumPoolSize();
+			if (primarySize - reservedConnections < 1) {
+				log.warn("Connection pool {} ({}) is too small to reserve {} connections, no reserved pool",
+						beanName, primarySize, reservedConnections);
+				return bean;
+			}
+
+			HikariDataSource reserved = new HikariDataSource();
+			primary.copyStateTo(reserved);
+			reserved.setPoolName((primary.getPoolName() != null ? primary.getPoolName() : beanName) + "-reserved");
+			reserved.setMaximumPoolSize(reservedConnections);
+			reserved.setMinimumIdle(reservedConnections);
+
+			primary.setMaximumPoolSize(primarySize - reservedConnections);
+			if (primary.getMinimumIdle() > primary.getMaximumPoolSize()) {
+				primary.setMinimumIdle(primary.getMaximumPoolSize());
+			}
+
+			reservedPools.put(beanName, reserved);
+			log.info("Connection pool {} split into {} primary + {} reserved connections",
+					beanName, primary.getMaximumPoolSize(), reservedConnections);
+			return new ReservedConnectionDataSource(primary, reserved);
+		}
+
+		@Override
+		public boolean requiresDestruction(Object bean) {
+			return bean instanceof DataSource;
+		}
+
+		@Override
+		public void postProcessBeforeDestruction(Object bean, String beanName) {
+			HikariDataSource reserved = reservedPools.remove(beanName);
+			if (reserved != null) {
+				reserved.close();
+			}
+		}
+
+		@Override
+		public int getOrder() {
+			return ORDER;
+		}
+	}
+}
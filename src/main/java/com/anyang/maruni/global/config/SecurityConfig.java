@@ -1,5 +1,7 @@
 package com.anyang.maruni.global.config;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -41,6 +43,8 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(securityProperties.getPublicUrlsArray()).permitAll()
+                // 운영 엔드포인트(섀도 실행, 키워드 사전, 발송 실행 현황)는 관리자만 (health는 공개)
+                .requestMatchers(EndpointRequest.toAnyEndpoint().excluding(HealthEndpoint.class)).hasRole("ADMIN")
                 .anyRequest().authenticated())
             .exceptionHandling(except -> except
                 .authenticationEntryPoint((request, response, authException) -> {
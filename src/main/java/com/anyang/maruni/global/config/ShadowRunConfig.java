@@ -0,0 +1,42 @@
+package com.anyang.maruni.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.anyang.maruni.global.shadow.ShadowQueryCountingDataSource;
+
+/**
+ * 섀도 실행 설정
+ *
+ * 섀도 실행 보고서의 쿼리 수 집계를 위해 DataSource를 JDBC 실행 수 집계 DataSource로 감쌉니다.
+ * (Hibernate와 JdbcTemplate 경로를 모두 집계, 섀도 실행 밖에서는 원본 커넥션을 그대로 사용)
+ * 예약 커넥션 풀 라우팅 DataSource보다 나중에 적용해 가장 바깥에서 감싸므로 예약 풀의 쿼리도 집계합니다.
+ */
+@Configuration
+public class ShadowRunConfig {
+
+	@Bean
+	public static ShadowQueryCountingPostProcessor shadowQueryCountingDataSourcePostProcessor() {
+		return new ShadowQueryCountingPostProcessor();
+	}
+
+	static class ShadowQueryCountingPostProcessor implements BeanPostProcessor, Ordered {
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (bean instanceof DataSource dataSource && !(bean instanceof ShadowQueryCountingDataSource)) {
+				return new ShadowQueryCountingDataSource(dataSource);
+			}
+			return bean;
+		}
+
+		@Override
+		public int getOrder() {
+			return ReservedConnectionConfig.ORDER + 10;
+		}
+	}
+}
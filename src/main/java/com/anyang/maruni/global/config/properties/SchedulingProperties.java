@@ -0,0 +1,233 @@
+package com.anyang.maruni.global.config.properties;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 스케줄링 작업 관련 설정을 관리하는 프로퍼티 클래스
+ * application-maruni.yml의 maruni.scheduling.* 설정을 바인딩
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "maruni.scheduling")
+public class SchedulingProperties {
+
+    private DailyCheck dailyCheck = new DailyCheck();
+    private Retry retry = new Retry();
+    private MemberCursor memberCursor = new MemberCursor();
+    private AlertDetection alertDetection = new AlertDetection();
+    private Coordination coordination = new Coordination();
+
+    /**
+     * 안부 메시지 발송 설정
+     */
+    @Data
+    public static class DailyCheck {
+        /**
+         * 한 청크에 포함되는 회원 수
+         */
+        private int batchSize = 50;
+
+        /**
+         * 발송 작업 타임아웃 (초)
+         */
+        private int timeoutSeconds = 30;
+
+        /**
+         * 체크포인트가 이 시간(분) 이상 갱신되지 않은 실행은 중단된 것으로 보고 재개
+         */
+        private int runStaleAfterMinutes = 10;
+
+        /**
+         * 발송 날짜(checkDate, 실행 날짜)와 발송 시각을 판단하는 시간대 (서버 JVM 시간대와 무관)
+         */
+        private ZoneId zone = ZoneId.of("Asia/Seoul");
+
+        private FanOut fanOut = new FanOut();
+
+        private SendWindow sendWindow = new SendWindow();
+
+        /**
+         * 발송 시간대 기준 오늘 날짜
+         */
+        public LocalDate today() {
+            return LocalDate.now(zone);
+        }
+
+        /**
+         * 발송 시간대 기준 현재 시각
+         */
+        public LocalDateTime now() {
+            return LocalDateTime.now(zone);
+        }
+    }
+
+    /**
+     * 회원별 발송 시간대 설정 (타이밍 휠)
+     * 발송 시각은 발송 기록(checkDate)과 같은 daily-check.zone 시간대 기준
+     */
+    @Data
+    public static class SendWindow {
+        /**
+         * 회원별 발송 시각 사용 여부 (false면 cron 시각에 전체 발송)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 발송 허용 시간 시작 (시)
+         */
+        private int allowedStartHour = 7;
+
+        /**
+         * 발송 허용 시간 끝 (시, 이 시각의 59분까지 허용)
+         */
+        private int allowedEndHour = 21;
+
+        /**
+         * 발송 시각을 지정하지 않은 회원이 배정되는 구간의 시작 시각 (시)
+         */
+        private int defaultStartHour = 9;
+
+        /**
+         * 발송 시각을 지정하지 않은 회원을 분산하는 구간 길이 (분)
+         */
+        private int defaultSpreadMinutes = 60;
+
+        /**
+         * 발송 허용 시간 안의 시각인지 확인 (회원 희망 시각 검증과 발송 시점 확인에 공통 사용, daily-check.zone 기준 시각)
+         */
+        public boolean isAllowedSendingTime(LocalTime time) {
+            int hour = time.getHour();
+            return hour >= allowedStartHour && hour <= allowedEndHour;
+        }
+    }
+
+    /**
+     * 병렬 분산 발송(fan-out) 설정
+     */
+    @Data
+    public static class FanOut {
+        /**
+         * 병렬 분산 발송 사용 여부 (false면 기존 순차 처리)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 동시에 처리되는 청크 수 (DB 커넥션 풀 크기보다 작게 유지)
+         */
+        private int parallelism = 8;
+
+        /**
+         * 청크 단위 배치 저장 사용 여부 (실패 시 회원별 처리로 대체)
+         */
+        private boolean batchWrites = false;
+    }
+
+    /**
+     * 재시도 설정
+     */
+    @Data
+    public static class Retry {
+        private int maxRetries = 3;
+
+        /**
+         * 백오프 기준 지연 (분) - 재시도마다 2배씩 증가
+         */
+        private int delayMinutes = 5;
+
+        /**
+         * 백오프 최대 지연 (분)
+         */
+        private int maxDelayMinutes = 60;
+
+        /**
+         * 한 번에 점유하는 재시도 기록 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 점유한 재시도 기록의 처리 리스 (분) - 처리 중 워커가 중단되면 이 시간 후 다시 점유됨
+         */
+        private int leaseMinutes = 10;
+
+        /**
+         * 트리거 1회당 최대 처리 배치 수
+         */
+        private int maxBatchesPerRun = 20;
+    }
+
+    /**
+     * 스케줄 작업용 회원 커서(Keyset 페이지네이션) 설정
+     */
+    @Data
+    public static class MemberCursor {
+        /**
+         * 한 번에 조회하는 회원 ID 수
+         */
+        private int pageSize = 1000;
+
+        /**
+         * JDBC fetch size
+         */
+        private int fetchSize = 500;
+    }
+
+    /**
+     * 야간 이상징후 감지 설정
+     */
+    @Data
+    public static class AlertDetection {
+        /**
+         * 가상 스레드 병렬 감지 사용 여부 (false면 페이지 단위 순차 처리)
+         */
+        private boolean parallel = false;
+
+        /**
+         * 동시에 DB 커넥션을 사용하는 청크 수 상한 (DB 커넥션 풀 크기보다 작게 유지)
+         */
+        private int parallelism = 8;
+
+        /**
+         * 한 번에 일괄 감지하는 회원 수 (병렬 처리 단위)
+         */
+        private int chunkSize = 50;
+    }
+
+    /**
+     * 다중 서버 스케줄 조정 설정 (리더 리스 + 노드 하트비트)
+     */
+    @Data
+    public static class Coordination {
+        /**
+         * 조정 사용 여부 (false면 모든 작업을 이 노드에서 실행)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 노드 ID (비어 있으면 기동 시 UUID 생성)
+         */
+        private String nodeId = "";
+
+        /**
+         * 하트비트 및 리더 리스 연장 주기 (밀리초)
+         */
+        private long heartbeatIntervalMillis = 10_000;
+
+        /**
+         * 이 시간(초) 동안 하트비트가 없는 노드는 샤드 분배에서 제외
+         */
+        private int nodeTtlSeconds = 30;
+
+        /**
+         * 리더 리스 유효 시간 (초) - 리더가 중단되면 이 시간 후 다른 노드가 이어받음
+         */
+        private int leaderLeaseSeconds = 30;
+    }
+}
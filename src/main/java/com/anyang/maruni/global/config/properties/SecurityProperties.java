@@ -16,7 +16,16 @@ public class SecurityProperties {
 
 	private List<String> publicUrls;
 
+	/**
+	 * 관리자(ROLE_ADMIN) 회원 이메일 - 운영 Actuator 엔드포인트(health 제외) 접근 허용
+	 */
+	private List<String> adminEmails = List.of();
+
 	public String[] getPublicUrlsArray() {
 		return publicUrls != null ? publicUrls.toArray(new String[0]) : new String[0];
 	}
+
+	public boolean isAdminEmail(String email) {
+		return adminEmails != null && adminEmails.contains(email);
+	}
 }
\ No newline at end of file
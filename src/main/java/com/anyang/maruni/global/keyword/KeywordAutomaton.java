@@ -0,0 +1,199 @@
+package com.anyang.maruni.global.keyword;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho–Corasick 다중 패턴 키워드 오토마톤 (불변)
+ *
+ * 모든 분류의 키워드를 하나의 트라이로 미리 컴파일하여, 메시지를 한 번 순회하면서
+ * 위험/감정 키워드 매칭을 모두 찾습니다 (키워드 수와 무관하게 메시지 길이에 비례).
+ * 키워드와 메시지는 모두 소문자로 비교하며, 빈 키워드는 무시합니다.
+ *
+ * 노드별 전이는 정렬된 char 배열과 이진 탐색으로 조회합니다.
+ */
+public final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+
+    /**
+     * 실패 링크를 따라가며 출력이 있는 가장 가까운 노드 (없으면 NONE)
+     */
+    private final int[] outputLink;
+
+    /**
+     * 노드에서 끝나는 패턴 ID 목록
+     */
+    private final int[][] outputs;
+
+    private final KeywordCategory[] patternCategories;
+    private final int[] patternRanks;
+    private final String[] patternKeywords;
+
+    private KeywordAutomaton(List<TreeMap<Character, Integer>> children, List<List<Integer>> nodeOutputs,
+                             List<KeywordCategory> categories, List<Integer> ranks, List<String> keywords) {
+        int size = children.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        this.outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            labels[node] = new char[edges.size()];
+            targets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[node][i] = edge.getKey();
+                targets[node][i] = edge.getValue();
+                i++;
+            }
+            List<Integer> ids = nodeOutputs.get(node);
+            outputs[node] = ids.isEmpty() ? NO_OUTPUTS : ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        this.patternCategories = categories.toArray(KeywordCategory[]::new);
+        this.patternRanks = ranks.stream().mapToInt(Integer::intValue).toArray();
+        this.patternKeywords = keywords.toArray(String[]::new);
+
+        this.fail = new int[size];
+        this.outputLink = new int[size];
+        linkFailures();
+    }
+
+    /**
+     * 분류별 키워드 목록으로 오토마톤 생성 (목록 순서가 분류 내 우선순위)
+     */
+    public static KeywordAutomaton build(Map<KeywordCategory, List<String>> keywordsByCategory) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        List<KeywordCategory> categories = new ArrayList<>();
+        List<Integer> ranks = new ArrayList<>();
+        List<String> keywords = new ArrayList<>();
+
+        for (KeywordCategory category : KeywordCategory.values()) {
+            List<String> list = keywordsByCategory.get(category);
+            if (list == null) {
+                continue;
+            }
+            for (int rank = 0; rank < list.size(); rank++) {
+                String keyword = list.get(rank);
+                if (keyword == null || keyword.isEmpty()) {
+                    continue;
+                }
+
+                int node = ROOT;
+                for (char c : keyword.toLowerCase(Locale.ROOT).toCharArray()) {
+                    Integer next = children.get(node).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new TreeMap<>());
+                        nodeOutputs.add(new ArrayList<>());
+                        children.get(node).put(c, next);
+                    }
+                    node = next;
+                }
+
+                nodeOutputs.get(node).add(keywords.size());
+                categories.add(category);
+                ranks.add(rank);
+                keywords.add(keyword);
+            }
+        }
+
+        return new KeywordAutomaton(children, nodeOutputs, categories, ranks, keywords);
+    }
+
+    /**
+     * 메시지를 한 번 순회하며 모든 분류의 키워드 매칭 수집
+     */
+    public KeywordHits scan(String text) {
+        KeywordHits hits = new KeywordHits();
+        if (text == null || text.isEmpty() || patternKeywords.length == 0) {
+            return hits;
+        }
+
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int state = ROOT;
+        for (int i = 0; i < lowerCase.length(); i++) {
+            state = next(state, lowerCase.charAt(i));
+            for (int node = outputs[state].length > 0 ? state : outputLink[state];
+                 node != NONE;
+                 node = outputLink[node]) {
+                for (int patternId : outputs[node]) {
+                    hits.offer(patternCategories[patternId], patternRanks[patternId], patternKeywords[patternId]);
+                }
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * 컴파일된 키워드 수
+     */
+    public int size() {
+        return patternKeywords.length;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int child = child(state, c);
+            if (child != NONE) {
+                return child;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(labels[node], c);
+        return index >= 0 ? targets[node][index] : NONE;
+    }
+
+    /**
+     * BFS로 실패 링크와 출력 링크 계산
+     */
+    private void linkFailures() {
+        fail[ROOT] = ROOT;
+        outputLink[ROOT] = NONE;
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            outputLink[child] = NONE;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+
+                int fallback = fail[node];
+                while (fallback != ROOT && child(fallback, c) == NONE) {
+                    fallback = fail[fallback];
+                }
+                int failTarget = child(fallback, c);
+                fail[child] = failTarget != NONE && failTarget != child ? failTarget : ROOT;
+                outputLink[child] = outputs[fail[child]].length > 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+}
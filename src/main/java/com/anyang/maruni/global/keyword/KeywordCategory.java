@@ -0,0 +1,16 @@
+package com.anyang.maruni.global.keyword;
+
+/**
+ * 키워드 사전 분류
+ *
+ * - EMERGENCY, WARNING: 위험 키워드 (maruni.alert.keyword)
+ * - NEGATIVE, POSITIVE: 감정 키워드 (maruni.conversation.emotion.keywords)
+ * - MEMBER: 회원별 키워드 감지 규칙 (AlertRule KEYWORD_DETECTION)
+ */
+public enum KeywordCategory {
+    EMERGENCY,
+    WARNING,
+    NEGATIVE,
+    POSITIVE,
+    MEMBER
+}
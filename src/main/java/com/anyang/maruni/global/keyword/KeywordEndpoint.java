@@ -0,0 +1,42 @@
+package com.anyang.maruni.global.keyword;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키워드 사전 Actuator 엔드포인트 (관리자 전용)
+ *
+ * - GET /actuator/keywords: 컴파일된 키워드 수
+ * - POST /actuator/keywords: 사전 파일(maruni.alert.keyword.dictionary-file)을 다시 읽어 사전을 다시 컴파일
+ *   (파일을 읽지 못하면 기존 사전을 유지하고 500 반환)
+ */
+@Component
+@Endpoint(id = "keywords")
+@RequiredArgsConstructor
+public class KeywordEndpoint {
+
+    private final KeywordMatcher keywordMatcher;
+
+    @ReadOperation
+    public Map<String, Integer> keywords() {
+        return Map.of("keywords", keywordMatcher.size());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> reload() {
+        try {
+            return new WebEndpointResponse<>(Map.of("keywords", keywordMatcher.reload()));
+        } catch (UncheckedIOException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()),
+                    WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.anyang.maruni.global.keyword;
+
+import java.util.Arrays;
+
+/**
+ * 한 번의 스캔으로 찾은 분류별 키워드 매칭 결과
+ *
+ * 분류마다 설정 목록에서 가장 앞선(우선순위가 높은) 키워드 하나를 보관합니다.
+ * 기존의 "목록 순서대로 contains 검사 후 첫 매칭 반환"과 같은 키워드를 돌려줍니다.
+ */
+public final class KeywordHits {
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final String[] keywords = new String[KeywordCategory.values().length];
+    private final int[] ranks = new int[KeywordCategory.values().length];
+
+    KeywordHits() {
+        Arrays.fill(ranks, NO_MATCH);
+    }
+
+    void offer(KeywordCategory category, int rank, String keyword) {
+        int index = category.ordinal();
+        if (rank < ranks[index]) {
+            ranks[index] = rank;
+            keywords[index] = keyword;
+        }
+    }
+
+    /**
+     * 분류의 키워드가 하나라도 포함되었는지
+     */
+    public boolean contains(KeywordCategory category) {
+        return keywords[category.ordinal()] != null;
+    }
+
+    /**
+     * 분류에서 매칭된 키워드 중 설정 목록에서 가장 앞선 키워드 (없으면 null)
+     */
+    public String first(KeywordCategory category) {
+        return keywords[category.ordinal()];
+    }
+}
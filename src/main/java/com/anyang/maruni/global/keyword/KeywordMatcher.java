@@ -0,0 +1,207 @@
+package com.anyang.maruni.global.keyword;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.conversation.config.ConversationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 위험/감정 키워드 사전 매처
+ *
+ * 설정된 키워드 사전(maruni.alert.keyword, maruni.conversation.emotion.keywords)을
+ * 하나의 {@link KeywordAutomaton}으로 컴파일해 두고, 메시지당 한 번의 스캔으로 모든 분류를 검사합니다.
+ *
+ * 사전 교체(핫 리로드):
+ * - 설정 목록 인스턴스가 바뀌면(프로퍼티 재바인딩) 다음 스캔에서 자동으로 다시 컴파일
+ * - 사전 파일(maruni.alert.keyword.dictionary-file)이 있으면 그 분류는 파일 내용을 사용하며,
+ *   {@link #reload()} 호출 시 파일을 다시 읽어 즉시 다시 컴파일 (Actuator keywords 엔드포인트)
+ * 컴파일된 오토마톤은 불변이므로 교체 중에도 진행 중인 스캔은 이전 사전으로 안전하게 끝납니다.
+ */
+@Slf4j
+@Component
+public class KeywordMatcher {
+
+    private static final List<KeywordCategory> FILE_CATEGORIES = List.of(
+            KeywordCategory.EMERGENCY, KeywordCategory.WARNING, KeywordCategory.NEGATIVE, KeywordCategory.POSITIVE);
+
+    private final AlertConfigurationProperties alertConfig;
+    private final ConversationProperties conversationProperties;
+    private final AtomicReference<Compiled> compiled = new AtomicReference<>();
+    private final AtomicReference<Map<KeywordCategory, List<String>>> fileSources = new AtomicReference<>();
+    private final AtomicLong generations = new AtomicLong();
+
+    public KeywordMatcher(AlertConfigurationProperties alertConfig, ConversationProperties conversationProperties) {
+        this.alertConfig = alertConfig;
+        this.conversationProperties = conversationProperties;
+    }
+
+    /**
+     * 메시지에서 모든 분류의 키워드 매칭 수집
+     */
+    public KeywordHits scan(String text) {
+        return current().automaton().scan(text);
+    }
+
+    /**
+     * 사전 파일을 다시 읽고(설정된 경우) 사전을 즉시 다시 컴파일
+     * @return 컴파일된 키워드 수
+     * @throws UncheckedIOException 사전 파일을 읽지 못한 경우 (기존 사전 유지)
+     */
+    public int reload() {
+        String dictionaryFile = alertConfig.getKeyword().getDictionaryFile();
+        fileSources.set(hasText(dictionaryFile) ? readDictionaryFile(dictionaryFile) : Map.of());
+        Compiled reloaded = compile(currentSources());
+        compiled.set(reloaded);
+        log.info("Keyword dictionaries reloaded: {} keywords", reloaded.automaton().size());
+        return reloaded.automaton().size();
+    }
+
+    /**
+     * 현재 컴파일된 키워드 수
+     */
+    public int size() {
+        return current().automaton().size();
+    }
+
+    /**
+     * 현재 사전의 세대 번호 (다시 컴파일될 때마다 증가)
+     *
+     * 현재 사전을 포함해 별도로 컴파일한 오토마톤({@link #compileWith})이 최신인지 판단하는 데 사용합니다.
+     */
+    public long generation() {
+        return current().generation();
+    }
+
+    /**
+     * 현재 사전에 분류 하나를 더해 컴파일 (회원별 키워드 규칙처럼 전역 사전과 함께 한 번에 스캔할 때 사용)
+     * @param category 추가할 분류
+     * @param keywords 추가할 키워드 목록 (목록 순서가 분류 내 우선순위)
+     * @return 전역 사전과 추가 분류를 모두 포함한 오토마톤
+     */
+    public KeywordAutomaton compileWith(KeywordCategory category, List<String> keywords) {
+        Map<KeywordCategory, List<String>> sources = new EnumMap<>(current().sources());
+        sources.put(category, keywords);
+        return KeywordAutomaton.build(sources);
+    }
+
+    private Compiled current() {
+        Map<KeywordCategory, List<String>> sources = currentSources();
+        Compiled snapshot = compiled.get();
+        if (snapshot != null && snapshot.isCompiledFrom(sources)) {
+            return snapshot;
+        }
+
+        Compiled rebuilt = compile(sources);
+        if (compiled.compareAndSet(snapshot, rebuilt)) {
+            log.info("Keyword dictionaries compiled: {} keywords", rebuilt.automaton().size());
+            return rebuilt;
+        }
+        return compiled.get();
+    }
+
+    private Map<KeywordCategory, List<String>> currentSources() {
+        Map<KeywordCategory, List<String>> sources = new EnumMap<>(KeywordCategory.class);
+        Map<KeywordCategory, List<String>> fromFile = loadedFileSources();
+        AlertConfigurationProperties.Keyword keyword = alertConfig.getKeyword();
+        sources.put(KeywordCategory.EMERGENCY, keyword.getEmergency());
+        sources.put(KeywordCategory.WARNING, keyword.getWarning());
+
+        Map<String, List<String>> emotionKeywords = conversationProperties.getEmotion().getKeywords();
+        if (emotionKeywords != null) {
+            sources.put(KeywordCategory.NEGATIVE, emotionKeywords.get("negative"));
+            sources.put(KeywordCategory.POSITIVE, emotionKeywords.get("positive"));
+        }
+        sources.putAll(fromFile);
+        return sources;
+    }
+
+    /**
+     * 읽어 둔 사전 파일 내용 (처음 사용할 때 한 번 읽고, 실패하면 설정 목록만 사용)
+     */
+    private Map<KeywordCategory, List<String>> loadedFileSources() {
+        Map<KeywordCategory, List<String>> loaded = fileSources.get();
+        if (loaded != null) {
+            return loaded;
+        }
+
+        String dictionaryFile = alertConfig.getKeyword().getDictionaryFile();
+        Map<KeywordCategory, List<String>> initial = Map.of();
+        if (hasText(dictionaryFile)) {
+            try {
+                initial = readDictionaryFile(dictionaryFile);
+            } catch (UncheckedIOException e) {
+                log.error("Keyword dictionary file {} could not be read, using configured keywords: {}",
+                        dictionaryFile, e.getMessage());
+            }
+        }
+        return fileSources.compareAndSet(null, initial) ? initial : fileSources.get();
+    }
+
+    /**
+     * 사전 파일 읽기 (분류 이름 키, 쉼표 구분 키워드 값)
+     */
+    private Map<KeywordCategory, List<String>> readDictionaryFile(String dictionaryFile) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of(dictionaryFile), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Keyword dictionary file could not be read: " + dictionaryFile, e);
+        }
+
+        Map<KeywordCategory, List<String>> sources = new EnumMap<>(KeywordCategory.class);
+        for (KeywordCategory category : FILE_CATEGORIES) {
+            String value = properties.getProperty(category.name().toLowerCase(Locale.ROOT));
+            if (value != null) {
+                sources.put(category, Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(keyword -> !keyword.isEmpty())
+                        .toList());
+            }
+        }
+        log.info("Keyword dictionary file {} read: {} categories", dictionaryFile, sources.size());
+        return Map.copyOf(sources);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private Compiled compile(Map<KeywordCategory, List<String>> sources) {
+        return new Compiled(KeywordAutomaton.build(sources), sources, generations.incrementAndGet());
+    }
+
+    /**
+     * 컴파일된 오토마톤, 컴파일 당시의 설정 목록 인스턴스와 세대 번호
+     */
+    private record Compiled(KeywordAutomaton automaton, Map<KeywordCategory, List<String>> sources, long generation) {
+
+        /**
+         * 같은 목록 인스턴스로 컴파일되었는지 (참조 비교로 스캔마다 드는 비용을 최소화)
+         */
+        boolean isCompiledFrom(Map<KeywordCategory, List<String>> current) {
+            for (KeywordCategory category : KeywordCategory.values()) {
+                if (sources.get(category) != current.get(category)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.anyang.maruni.global.persistence;
+
+import java.util.Locale;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 연결된 데이터베이스 종류 판별기
+ *
+ * 운영(PostgreSQL)과 테스트(H2)에서 문법이 다른 네이티브 SQL(upsert 등)을
+ * 선택할 때 사용합니다. 최초 호출 시 JDBC 메타데이터로 한 번만 판별합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatabasePlatform {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private volatile Type type;
+
+	public enum Type {
+		POSTGRESQL,
+		H2,
+		OTHER
+	}
+
+	public Type getType() {
+		Type resolved = type;
+		if (resolved == null) {
+			resolved = resolve();
+			type = resolved;
+		}
+		return resolved;
+	}
+
+	public boolean isPostgreSql() {
+		return getType() == Type.POSTGRESQL;
+	}
+
+	private Type resolve() {
+		String productName = jdbcTemplate.execute(
+			(ConnectionCallback<String>)connection -> connection.getMetaData().getDatabaseProductName());
+		Type resolved = Type.OTHER;
+		if (productName != null) {
+			String normalized = productName.toLowerCase(Locale.ROOT);
+			if (normalized.contains("postgresql")) {
+				resolved = Type.POSTGRESQL;
+			} else if (normalized.contains("h2")) {
+				resolved = Type.H2;
+			}
+		}
+		log.info("Database platform resolved: {} ({})", resolved, productName);
+		return resolved;
+	}
+}
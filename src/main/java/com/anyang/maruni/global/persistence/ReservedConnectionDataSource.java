@@ -0,0 +1,68 @@
+package com.anyang.maruni.global.persistence;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 예약 커넥션 풀 라우팅 DataSource
+ *
+ * {@link #callReserved} 안에서 실행 중인 스레드는 예약 풀에서, 그 외 스레드는 기본 풀에서 커넥션을 얻습니다.
+ * Hibernate와 JdbcTemplate 모두 이 DataSource를 거치므로 예약 구간의 트랜잭션 전체가 예약 풀을 사용하며,
+ * 일괄 작업이나 요청 처리는 예약 풀의 커넥션을 가져갈 수 없습니다.
+ * 두 풀의 크기와 수명은 ReservedConnectionConfig가 관리합니다.
+ */
+public class ReservedConnectionDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<Boolean> RESERVED = new ThreadLocal<>();
+
+    private final DataSource reservedDataSource;
+
+    public ReservedConnectionDataSource(DataSource targetDataSource, DataSource reservedDataSource) {
+        super(targetDataSource);
+        this.reservedDataSource = reservedDataSource;
+    }
+
+    /**
+     * 현재 스레드에서 예약 풀을 사용해 작업 실행 (예약 풀이 없으면 기본 풀 사용)
+     */
+    public static <T> T callReserved(Supplier<T> work) {
+        if (RESERVED.get() != null) {
+            return work.get();
+        }
+        RESERVED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            RESERVED.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드에서 예약 풀을 사용해 결과 없는 작업 실행
+     */
+    public static void runReserved(Runnable work) {
+        callReserved(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    private DataSource route() {
+        return RESERVED.get() != null ? reservedDataSource : obtainTargetDataSource();
+    }
+}
@@ -80,6 +80,7 @@ public enum ErrorCode implements ErrorType {
 	PUSH_TOKEN_NOT_FOUND("N405", "푸시 토큰을 찾을 수 없습니다", HttpStatus.NOT_FOUND.value()),
 	TEMPLATE_VARIABLE_MISSING("N402", "템플릿 변수가 누락되었습니다", HttpStatus.BAD_REQUEST.value()),
 	NOTIFICATION_HISTORY_SAVE_FAILED("N505", "알림 이력 저장에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()),
+	NOTIFICATION_DISPATCH_THROTTLED("N429", "알림 발송 대기열이 가득 찼습니다", HttpStatus.TOO_MANY_REQUESTS.value()),
 
 	// ============ Server Errors ============
 	ENCRYPTION_ERROR("S500", "암호화 처리 중 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR.value()),
@@ -0,0 +1,79 @@
+package com.anyang.maruni.global.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러 리스/노드 테이블 접근 (메서드마다 짧은 개별 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SchedulerCoordinationStore {
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final SchedulerNodeRepository nodeRepository;
+
+    /**
+     * 노드 하트비트 갱신 (미등록이면 등록)
+     */
+    @Transactional
+    public void heartbeat(String nodeId, LocalDateTime now) {
+        if (nodeRepository.touch(nodeId, now) == 0) {
+            nodeRepository.save(SchedulerNode.register(nodeId, now));
+        }
+    }
+
+    /**
+     * 리스 획득 또는 연장
+     *
+     * 다른 노드가 같은 리스를 동시에 처음 등록하면 기본 키 충돌로 예외가 발생하며,
+     * 이 경우 트랜잭션이 롤백되므로 호출자가 예외를 리스 미획득으로 처리합니다.
+     *
+     * @return 리스 보유 여부
+     */
+    @Transactional
+    public boolean tryAcquire(String leaseName, String nodeId, LocalDateTime now, LocalDateTime leaseUntil) {
+        if (leaseRepository.renewOrTakeOver(leaseName, nodeId, now, leaseUntil) == 1) {
+            return true;
+        }
+        if (leaseRepository.existsById(leaseName)) {
+            return false;
+        }
+        leaseRepository.saveAndFlush(SchedulerLease.builder()
+                .leaseName(leaseName)
+                .ownerNodeId(nodeId)
+                .leaseUntil(leaseUntil)
+                .build());
+        return true;
+    }
+
+    /**
+     * 지정 시각 이후 하트비트가 있는 노드 ID (오름차순)
+     */
+    public List<String> findLiveNodeIds(LocalDateTime since) {
+        return nodeRepository.findLiveNodeIds(since);
+    }
+
+    /**
+     * 하트비트가 오래 끊긴 노드 정리
+     */
+    @Transactional
+    public int purgeStaleNodes(LocalDateTime before) {
+        return nodeRepository.deleteStaleBefore(before);
+    }
+
+    /**
+     * 종료 시 리스 반납 및 노드 등록 해제
+     */
+    @Transactional
+    public void leave(String leaseName, String nodeId) {
+        leaseRepository.release(leaseName, nodeId);
+        nodeRepository.deleteById(nodeId);
+    }
+}
@@ -0,0 +1,166 @@
+package com.anyang.maruni.global.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다중 서버 스케줄 작업 조정기
+ *
+ * 별도 인프라 없이 PostgreSQL 테이블로 노드 간 작업을 조정합니다.
+ * - 리더 선출: 하트비트마다 리더 리스(scheduler_lease)를 연장하며, 리스가 만료되면 다른 노드가 가져감
+ *   → 한 번만 실행되어야 하는 작업(안부 메시지 발송 등)은 리더에서만 실행
+ * - 샤드 분배: 최근 하트비트가 있는 노드(scheduler_node)를 ID 순으로 정렬한 위치가 샤드 번호
+ *   → 회원 단위 작업(야간 이상징후 감지)은 {@code memberId % 노드 수}로 나누어 모든 노드가 실행
+ *
+ * 리스 만료 판단은 각 노드의 시계를 사용하므로 노드 간 시계가 동기화(NTP)되어 있어야 합니다.
+ * 조정이 비활성화되면 항상 리더이며 모든 회원을 담당합니다 (단일 서버).
+ */
+@Component
+@Slf4j
+public class SchedulerCoordinator {
+
+    static final String LEADER_LEASE = "scheduler-leader";
+
+    /**
+     * 하트비트가 이 배수만큼 끊긴 노드 행은 리더가 정리
+     */
+    private static final int STALE_NODE_TTL_MULTIPLIER = 10;
+
+    private final SchedulerCoordinationStore store;
+    private final SchedulingProperties schedulingProperties;
+    private final String nodeId;
+
+    /**
+     * 리더 리스 만료 시각 (리더가 아니면 null)
+     */
+    private volatile LocalDateTime leaderUntil;
+
+    public SchedulerCoordinator(SchedulerCoordinationStore store, SchedulingProperties schedulingProperties) {
+        this.store = store;
+        this.schedulingProperties = schedulingProperties;
+        String configured = schedulingProperties.getCoordination().getNodeId();
+        this.nodeId = configured != null && !configured.isBlank() ? configured : UUID.randomUUID().toString();
+    }
+
+    /**
+     * 하트비트 갱신 및 리더 리스 연장/획득
+     */
+    @Scheduled(fixedDelayString = "${maruni.scheduling.coordination.heartbeat-interval-millis:10000}")
+    public void heartbeat() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            store.heartbeat(nodeId, now);
+            renewLeadership(now);
+        } catch (DataAccessException e) {
+            leaderUntil = null;
+            log.warn("Scheduler heartbeat failed for node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 노드가 현재 리더인지 (리스 만료 전까지만 유효)
+     */
+    public boolean isLeader() {
+        if (!isEnabled()) {
+            return true;
+        }
+        LocalDateTime until = leaderUntil;
+        return until != null && LocalDateTime.now().isBefore(until);
+    }
+
+    /**
+     * 현재 살아 있는 노드 기준으로 이 노드의 회원 샤드 계산
+     *
+     * 작업 시작 시점에 호출합니다. 같은 cron으로 동시에 시작한 노드들은 같은 노드 목록을 보게 되며,
+     * 직전에 합류/이탈한 노드가 있으면 이번 실행에 한해 일부 회원이 중복 또는 누락될 수 있습니다
+     * (중복은 발송/알림 단계의 당일 중복 검사로 걸러짐).
+     */
+    public ShardAssignment resolveShard() {
+        if (!isEnabled()) {
+            return ShardAssignment.SINGLE;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            store.heartbeat(nodeId, now);
+            List<String> liveNodeIds = store.findLiveNodeIds(now.minusSeconds(nodeTtlSeconds()));
+            int index = liveNodeIds.indexOf(nodeId);
+            if (index < 0) {
+                return ShardAssignment.SINGLE;
+            }
+            ShardAssignment shard = new ShardAssignment(index, liveNodeIds.size());
+            log.info("Node {} resolved shard {} among live nodes {}", nodeId, shard, liveNodeIds);
+            return shard;
+        } catch (DataAccessException e) {
+            log.warn("Shard resolution failed for node {}, processing all members: {}", nodeId, e.getMessage());
+            return ShardAssignment.SINGLE;
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 종료 시 리더 리스를 반납해 다른 노드가 바로 이어받도록 함
+     */
+    @PreDestroy
+    public void leave() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            store.leave(LEADER_LEASE, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Scheduler node {} could not leave cleanly: {}", nodeId, e.getMessage());
+        }
+        leaderUntil = null;
+    }
+
+    private void renewLeadership(LocalDateTime now) {
+        SchedulingProperties.Coordination config = schedulingProperties.getCoordination();
+        LocalDateTime until = now.plusSeconds(Math.max(1, config.getLeaderLeaseSeconds()));
+        boolean wasLeader = leaderUntil != null;
+
+        boolean acquired;
+        try {
+            acquired = store.tryAcquire(LEADER_LEASE, nodeId, now, until);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 동시에 최초 리스를 등록함
+            acquired = false;
+        }
+        leaderUntil = acquired ? until : null;
+
+        if (acquired && !wasLeader) {
+            log.info("Node {} acquired scheduler leadership", nodeId);
+        } else if (!acquired && wasLeader) {
+            log.warn("Node {} lost scheduler leadership", nodeId);
+        }
+        if (acquired) {
+            store.purgeStaleNodes(now.minusSeconds((long) nodeTtlSeconds() * STALE_NODE_TTL_MULTIPLIER));
+        }
+    }
+
+    private int nodeTtlSeconds() {
+        return Math.max(1, schedulingProperties.getCoordination().getNodeTtlSeconds());
+    }
+
+    private boolean isEnabled() {
+        return schedulingProperties.getCoordination().isEnabled();
+    }
+}
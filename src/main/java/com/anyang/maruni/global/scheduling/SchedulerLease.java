@@ -0,0 +1,38 @@
+package com.anyang.maruni.global.scheduling;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러 리스 (다중 서버 리더 선출)
+ *
+ * 리스 이름마다 한 행을 두고, 소유 노드가 만료 시각 전에 주기적으로 연장합니다.
+ * 만료된 리스는 다른 노드가 가져갈 수 있습니다.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String leaseName;
+
+    @Column(nullable = false, length = 100)
+    private String ownerNodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,29 @@
+package com.anyang.maruni.global.scheduling;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 자신이 가진 리스를 연장하거나 만료된 리스를 가져옴
+     *
+     * @return 갱신된 행 수 (1이면 리스 보유)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.ownerNodeId = :nodeId, l.leaseUntil = :leaseUntil " +
+           "WHERE l.leaseName = :leaseName AND (l.ownerNodeId = :nodeId OR l.leaseUntil < :now)")
+    int renewOrTakeOver(@Param("leaseName") String leaseName, @Param("nodeId") String nodeId,
+                        @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 자신이 가진 리스 반납
+     */
+    @Modifying
+    @Query("DELETE FROM SchedulerLease l WHERE l.leaseName = :leaseName AND l.ownerNodeId = :nodeId")
+    int release(@Param("leaseName") String leaseName, @Param("nodeId") String nodeId);
+}
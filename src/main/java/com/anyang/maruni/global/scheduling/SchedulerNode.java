@@ -0,0 +1,54 @@
+package com.anyang.maruni.global.scheduling;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러 노드 하트비트
+ *
+ * 각 서버가 주기적으로 하트비트 시각을 갱신하며, 최근 하트비트가 있는 노드만
+ * 회원 샤드 분배(memberId % 노드 수) 대상이 됩니다.
+ */
+@Entity
+@Table(name = "scheduler_node",
+       indexes = @Index(name = "idx_scheduler_node_heartbeat_at", columnList = "heartbeatAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SchedulerNode {
+
+    @Id
+    @Column(length = 100)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 새 노드 등록
+     * @param nodeId 노드 ID
+     * @param now 등록 시각
+     * @return SchedulerNode
+     */
+    public static SchedulerNode register(String nodeId, LocalDateTime now) {
+        return SchedulerNode.builder()
+                .nodeId(nodeId)
+                .startedAt(now)
+                .heartbeatAt(now)
+                .build();
+    }
+}
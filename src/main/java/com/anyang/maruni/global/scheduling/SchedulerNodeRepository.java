@@ -0,0 +1,34 @@
+package com.anyang.maruni.global.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerNodeRepository extends JpaRepository<SchedulerNode, String> {
+
+    /**
+     * 하트비트 갱신
+     *
+     * @return 갱신된 행 수 (0이면 미등록 노드)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerNode n SET n.heartbeatAt = :now WHERE n.nodeId = :nodeId")
+    int touch(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 지정 시각 이후 하트비트가 있는 노드 ID (오름차순, 샤드 번호 순서)
+     */
+    @Query("SELECT n.nodeId FROM SchedulerNode n WHERE n.heartbeatAt >= :since ORDER BY n.nodeId")
+    List<String> findLiveNodeIds(@Param("since") LocalDateTime since);
+
+    /**
+     * 오래전에 하트비트가 끊긴 노드 정리
+     */
+    @Modifying
+    @Query("DELETE FROM SchedulerNode n WHERE n.heartbeatAt < :before")
+    int deleteStaleBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,36 @@
+package com.anyang.maruni.global.scheduling;
+
+/**
+ * 이 노드가 담당하는 회원 샤드
+ *
+ * 살아 있는 노드를 ID 순으로 정렬한 위치가 샤드 번호이며, {@code memberId % count == index}인 회원을 담당합니다.
+ *
+ * @param index 샤드 번호 (0부터)
+ * @param count 전체 샤드 수 (살아 있는 노드 수)
+ */
+public record ShardAssignment(int index, int count) {
+
+    /**
+     * 단일 노드 (모든 회원 담당)
+     */
+    public static final ShardAssignment SINGLE = new ShardAssignment(0, 1);
+
+    public ShardAssignment {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + "/" + count);
+        }
+    }
+
+    public boolean isSingle() {
+        return count == 1;
+    }
+
+    public boolean owns(long memberId) {
+        return Math.floorMod(memberId, count) == index;
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
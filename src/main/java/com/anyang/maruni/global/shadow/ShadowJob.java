@@ -0,0 +1,20 @@
+package com.anyang.maruni.global.shadow;
+
+/**
+ * 섀도 실행을 지원하는 배치 작업
+ *
+ * 모든 조회/분석 단계를 실제로 실행하고 발송 계획을 세우되,
+ * 쓰기는 롤백되는 트랜잭션에서 수행해 실제 회원에게 영향을 주지 않아야 합니다.
+ */
+public interface ShadowJob {
+
+    /**
+     * 작업 이름 (엔드포인트 selector)
+     */
+    String name();
+
+    /**
+     * 섀도 실행
+     */
+    ShadowRunReport runShadow();
+}
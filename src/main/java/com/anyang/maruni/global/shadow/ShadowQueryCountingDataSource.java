@@ -0,0 +1,92 @@
+package com.anyang.maruni.global.shadow;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 섀도 실행 중 JDBC 실행 수 집계 DataSource
+ *
+ * Hibernate와 JdbcTemplate이 모두 이 DataSource에서 커넥션을 얻으므로 두 경로의 SQL을 함께 집계합니다.
+ * 섀도 실행 중인 스레드가 얻은 커넥션만 프록시로 감싸며, 그 외에는 원본 커넥션을 그대로 반환합니다.
+ * 배치 실행(executeBatch)은 DB 왕복 기준으로 1건으로 셉니다.
+ */
+public class ShadowQueryCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public ShadowQueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingIfShadow(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingIfShadow(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection countingIfShadow(Connection connection) {
+        if (!ShadowRun.isActive()) {
+            return connection;
+        }
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+                return countingStatement((Statement) result);
+            }
+            return result;
+        });
+    }
+
+    private Statement countingStatement(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, statement, (target, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                ShadowRun.recordQuery();
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, TargetInvocation handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.invoke(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetInvocation {
+
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,158 @@
+package com.anyang.maruni.global.shadow;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 섀도(dry-run) 실행 기록기
+ *
+ * 시작한 스레드에 바인딩되어 단계별 소요 시간과 JDBC 실행 수, 예상 처리 건수를 집계합니다.
+ * 섀도 실행 중에는 외부 발송 단계가 {@link #isActive()}로 이를 확인해 실제 발송을 생략합니다.
+ * 운영과 같은 병렬 분산 구조로 실행할 수 있도록 {@link #propagate(Runnable)}로 작업 스레드에 전파하며,
+ * 단계별 쿼리 수는 그 단계를 실행한 스레드의 쿼리만 집계합니다.
+ */
+public final class ShadowRun implements AutoCloseable {
+
+    private static final ThreadLocal<ShadowRun> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<long[]> THREAD_QUERY_COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final String job;
+    private final long startedNanos = System.nanoTime();
+    private final Map<String, StageStats> stages = new LinkedHashMap<>();
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final LongAdder queryCount = new LongAdder();
+
+    private ShadowRun(String job) {
+        this.job = job;
+    }
+
+    /**
+     * 현재 스레드에서 섀도 실행 시작
+     *
+     * @throws IllegalStateException 이미 섀도 실행 중인 경우
+     */
+    public static ShadowRun start(String job) {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("Shadow run already active: " + CURRENT.get().job);
+        }
+        ShadowRun run = new ShadowRun(job);
+        CURRENT.set(run);
+        return run;
+    }
+
+    /**
+     * 현재 스레드가 섀도 실행 중인지 여부
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 쿼리 1건 기록 (섀도 실행 중이 아니면 무시)
+     */
+    static void recordQuery() {
+        ShadowRun run = CURRENT.get();
+        if (run != null) {
+            run.queryCount.increment();
+            THREAD_QUERY_COUNT.get()[0]++;
+        }
+    }
+
+    /**
+     * 작업 스레드에서 이 섀도 실행을 이어받도록 감싸기
+     *
+     * 감싼 작업은 실행되는 동안 {@link #isActive()}가 true이며, 그 스레드의 쿼리도 이 실행에 집계됩니다.
+     */
+    public Runnable propagate(Runnable work) {
+        return () -> {
+            ShadowRun previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                work.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 단계 실행 및 소요 시간/쿼리 수 집계
+     */
+    public <T> T stage(String name, Supplier<T> work) {
+        long[] threadQueries = THREAD_QUERY_COUNT.get();
+        long queriesBefore = threadQueries[0];
+        long stageStarted = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long elapsed = System.nanoTime() - stageStarted;
+            long queries = threadQueries[0] - queriesBefore;
+            synchronized (stages) {
+                stages.computeIfAbsent(name, key -> new StageStats()).add(elapsed, queries);
+            }
+        }
+    }
+
+    /**
+     * 단계 실행 (반환값 없음)
+     */
+    public void stage(String name, Runnable work) {
+        stage(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 예상 처리 건수 누적
+     */
+    public void count(String name, long delta) {
+        counts.computeIfAbsent(name, key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 집계 결과 보고서 생성
+     */
+    public ShadowRunReport report() {
+        List<ShadowRunReport.Stage> stageReports;
+        synchronized (stages) {
+            stageReports = new ArrayList<>(stages.size());
+            stages.forEach((name, stats) -> stageReports.add(new ShadowRunReport.Stage(
+                    name, stats.invocations, TimeUnit.NANOSECONDS.toMillis(stats.nanos), stats.queries)));
+        }
+        Map<String, Long> countSnapshot = new LinkedHashMap<>();
+        counts.forEach((name, adder) -> countSnapshot.put(name, adder.sum()));
+        return new ShadowRunReport(job, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos),
+                queryCount.sum(), Map.copyOf(countSnapshot), stageReports);
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    private static final class StageStats {
+
+        private long invocations;
+        private long nanos;
+        private long queries;
+
+        private void add(long elapsedNanos, long queryDelta) {
+            invocations++;
+            nanos += elapsedNanos;
+            queries += queryDelta;
+        }
+    }
+}
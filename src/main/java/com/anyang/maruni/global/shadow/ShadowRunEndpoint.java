@@ -0,0 +1,93 @@
+package com.anyang.maruni.global.shadow;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 섀도 실행 Actuator 엔드포인트 (관리자 전용)
+ *
+ * - GET /actuator/shadowrun: 실행 가능한 작업 목록
+ * - POST /actuator/shadowrun/{job}: 섀도 실행을 백그라운드로 시작 (202)
+ * - GET /actuator/shadowrun/{job}: 실행 상태와 마지막 보고서
+ * 섀도 실행은 야간 작업 전체를 돌리므로 요청 스레드에서 실행하지 않고, 노드당 한 번에 하나만 실행합니다.
+ * 다른 섀도 실행이 진행 중이면 409, 알 수 없는 작업이면 404를 반환합니다.
+ */
+@Component
+@Endpoint(id = "shadowrun")
+@Slf4j
+public class ShadowRunEndpoint {
+
+    private final Map<String, ShadowJob> jobs;
+    private final AtomicReference<String> runningJob = new AtomicReference<>();
+    private final Map<String, ShadowRunStatus> lastResults = new ConcurrentHashMap<>();
+
+    public ShadowRunEndpoint(List<ShadowJob> jobs) {
+        this.jobs = jobs.stream().collect(Collectors.toMap(ShadowJob::name, Function.identity()));
+    }
+
+    @ReadOperation
+    public List<String> jobs() {
+        return jobs.keySet().stream().sorted().toList();
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<ShadowRunStatus> status(@Selector String job) {
+        if (!jobs.containsKey(job)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(currentStatus(job));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<ShadowRunStatus> run(@Selector String job) {
+        ShadowJob shadowJob = jobs.get(job);
+        if (shadowJob == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (!runningJob.compareAndSet(null, job)) {
+            log.warn("Shadow run for {} rejected, {} is still running", job, runningJob.get());
+            return new WebEndpointResponse<>(currentStatus(job), HttpStatus.CONFLICT.value());
+        }
+
+        log.info("Shadow run requested for {}", job);
+        Thread.ofVirtual().name("shadow-run-" + job).start(() -> execute(shadowJob));
+        return new WebEndpointResponse<>(currentStatus(job), HttpStatus.ACCEPTED.value());
+    }
+
+    private void execute(ShadowJob shadowJob) {
+        String job = shadowJob.name();
+        try {
+            ShadowRunReport report = shadowJob.runShadow();
+            lastResults.put(job, new ShadowRunStatus(job, false, report, null));
+            log.info("Shadow run finished for {}: {}ms, {} queries, counts={}",
+                    job, report.elapsedMillis(), report.queryCount(), report.counts());
+        } catch (RuntimeException e) {
+            lastResults.put(job, new ShadowRunStatus(job, false, null, e.getMessage()));
+            log.error("Shadow run failed for {}", job, e);
+        } finally {
+            runningJob.set(null);
+        }
+    }
+
+    private ShadowRunStatus currentStatus(String job) {
+        ShadowRunStatus last = lastResults.get(job);
+        boolean running = job.equals(runningJob.get());
+        return last == null
+                ? new ShadowRunStatus(job, running, null, null)
+                : new ShadowRunStatus(job, running, last.lastReport(), last.lastError());
+    }
+}
@@ -0,0 +1,25 @@
+package com.anyang.maruni.global.shadow;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 섀도 실행 보고서
+ *
+ * @param job 작업 이름
+ * @param elapsedMillis 전체 소요 시간
+ * @param queryCount 실행한 SQL 수 (Hibernate, JdbcTemplate 모두 포함, 배치 실행은 1건)
+ * @param counts 예상 처리 건수 (회원 수, 발송 예정 수 등)
+ * @param stages 단계별 집계 (실행 순서)
+ */
+public record ShadowRunReport(String job, long elapsedMillis, long queryCount, Map<String, Long> counts,
+                              List<Stage> stages) {
+
+    /**
+     * 단계별 집계
+     *
+     * 병렬로 실행된 단계의 totalMillis는 작업 스레드별 소요 시간의 합이므로 전체 소요 시간보다 클 수 있습니다.
+     */
+    public record Stage(String name, long invocations, long totalMillis, long queryCount) {
+    }
+}
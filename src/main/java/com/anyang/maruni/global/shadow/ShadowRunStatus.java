@@ -0,0 +1,12 @@
+package com.anyang.maruni.global.shadow;
+
+/**
+ * 섀도 실행 상태
+ *
+ * @param job 작업 이름
+ * @param running 실행 중 여부
+ * @param lastReport 마지막으로 끝난 실행의 보고서 (없으면 null)
+ * @param lastError 마지막 실행이 실패했으면 실패 사유 (성공했으면 null)
+ */
+public record ShadowRunStatus(String job, boolean running, ShadowRunReport lastReport, String lastError) {
+}
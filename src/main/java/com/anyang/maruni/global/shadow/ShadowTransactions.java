@@ -0,0 +1,36 @@
+package com.anyang.maruni.global.shadow;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 섀도 실행용 롤백 전용 트랜잭션
+ *
+ * 새 트랜잭션에서 작업을 실행한 뒤 항상 롤백합니다.
+ * 내부의 @Transactional(REQUIRED) 메서드와 JdbcTemplate 쓰기는 이 트랜잭션에 참여하므로 함께 롤백됩니다.
+ * (시퀀스 값 소모는 롤백되지 않습니다)
+ */
+@Component
+public class ShadowTransactions {
+
+    private final TransactionTemplate rollbackTemplate;
+
+    public ShadowTransactions(PlatformTransactionManager transactionManager) {
+        this.rollbackTemplate = new TransactionTemplate(transactionManager);
+        this.rollbackTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 롤백되는 트랜잭션에서 작업 실행
+     */
+    public <T> T rollback(Supplier<T> work) {
+        return rollbackTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return work.get();
+        });
+    }
+}
@@ -10,6 +10,7 @@
 -- 1. 기존 데이터 삭제 (역순으로 삭제)
 -- ============================================
 DELETE FROM notification_history;
+DELETE FROM member_daily_summary;
 DELETE FROM daily_check_records;
 DELETE FROM alert_history;
 DELETE FROM alert_rule;
@@ -144,19 +145,19 @@ SELECT setval('alert_rule_id_seq', 9);
 -- 8. 이상징후 감지 이력
 -- ============================================
 -- 김철수: 연속 부정감정 감지됨 (알림 발송 완료)
-INSERT INTO alert_history (id, alert_rule_id, member_id, alert_type, alert_level, alert_message, detection_details, is_notification_sent, notification_sent_at, notification_result, alert_date, created_at, updated_at)
+INSERT INTO alert_history (id, alert_rule_id, member_id, alert_type, alert_level, alert_message, detection_details, is_notification_sent, notification_sent_at, notification_result, notification_attempts, escalation_level, alert_date, created_at, updated_at)
 VALUES
     (1, 1, 1, 'EMOTION_PATTERN', 'HIGH', '김철수님이 3일 연속 부정적인 감정을 보이고 있습니다.',
      '{"consecutiveDays": 3, "detectedDates": ["2025-11-22", "2025-11-23", "2025-11-24"], "emotions": ["NEGATIVE", "NEGATIVE", "NEGATIVE"]}',
-     true, NOW() - INTERVAL '12 hours', 'SUCCESS: 보호자(김영수)에게 알림 발송 완료',
+     true, NOW() - INTERVAL '12 hours', 'SUCCESS: 보호자(김영수)에게 알림 발송 완료', 1, 0,
      NOW() - INTERVAL '1 day', NOW() - INTERVAL '1 day', NOW() - INTERVAL '12 hours');
 
 -- 박민수: 무응답 감지됨 (알림 미발송 - 보호자 미지정)
-INSERT INTO alert_history (id, alert_rule_id, member_id, alert_type, alert_level, alert_message, detection_details, is_notification_sent, notification_sent_at, notification_result, alert_date, created_at, updated_at)
+INSERT INTO alert_history (id, alert_rule_id, member_id, alert_type, alert_level, alert_message, detection_details, is_notification_sent, notification_sent_at, notification_result, notification_attempts, escalation_level, alert_date, created_at, updated_at)
 VALUES
     (2, 8, 3, 'NO_RESPONSE', 'MEDIUM', '박민수님이 3일 연속 응답하지 않고 있습니다.',
      '{"noResponseDays": 3, "lastResponseDate": "2025-11-21"}',
-     false, NULL, '보호자 미지정으로 알림 발송 보류',
+     false, NULL, '보호자 미지정으로 알림 발송 보류', 0, 0,
      NOW() - INTERVAL '1 day', NOW() - INTERVAL '1 day', NOW() - INTERVAL '1 day');
 
 SELECT setval('alert_history_id_seq', 2);
@@ -186,14 +187,17 @@ VALUES
     (13, 2, CURRENT_DATE - INTERVAL '1 day', '안녕하세요, 이순자님! 오늘도 좋은 하루 보내세요!', true, NOW() - INTERVAL '1 day', NOW() - INTERVAL '1 day'),
     (14, 2, CURRENT_DATE, '안녕하세요, 이순자님! 오늘 기분은 어떠세요?', true, NOW(), NOW());
 
--- 박민수 (4일전까지만 성공, 3일간 무응답)
+-- 박민수 (4일전까지만 성공, 최근 3일 무응답)
 INSERT INTO daily_check_records (id, member_id, check_date, message, success, created_at, updated_at)
 VALUES
     (15, 3, CURRENT_DATE - INTERVAL '6 days', '안녕하세요, 박민수님! 오늘 기분은 어떠세요?', true, NOW() - INTERVAL '6 days', NOW() - INTERVAL '6 days'),
     (16, 3, CURRENT_DATE - INTERVAL '5 days', '안녕하세요, 박민수님! 오늘은 날씨가 좋네요.', true, NOW() - INTERVAL '5 days', NOW() - INTERVAL '5 days'),
-    (17, 3, CURRENT_DATE - INTERVAL '4 days', '안녕하세요, 박민수님! 잘 주무셨나요?', true, NOW() - INTERVAL '4 days', NOW() - INTERVAL '4 days');
+    (17, 3, CURRENT_DATE - INTERVAL '4 days', '안녕하세요, 박민수님! 잘 주무셨나요?', true, NOW() - INTERVAL '4 days', NOW() - INTERVAL '4 days'),
+    (18, 3, CURRENT_DATE - INTERVAL '3 days', '안녕하세요, 박민수님! 오늘 하루는 어떠셨나요?', false, NOW() - INTERVAL '3 days', NOW() - INTERVAL '3 days'),
+    (19, 3, CURRENT_DATE - INTERVAL '2 days', '안녕하세요, 박민수님! 건강은 괜찮으신가요?', false, NOW() - INTERVAL '2 days', NOW() - INTERVAL '2 days'),
+    (20, 3, CURRENT_DATE - INTERVAL '1 day', '안녕하세요, 박민수님! 오늘도 좋은 하루 보내세요!', false, NOW() - INTERVAL '1 day', NOW() - INTERVAL '1 day');
 
-SELECT setval('daily_check_records_id_seq', 17);
+SELECT setval('daily_check_records_id_seq', 20);
 
 -- ============================================
 -- 10. 알림 이력 (Notification History)
@@ -228,6 +232,43 @@ VALUES
 
 SELECT setval('notification_history_id_seq', 4);
 
+-- ============================================
+-- 11. 일일 건강 요약 (member_daily_summary)
+-- ============================================
+-- 야간 이상징후 분석은 요약 테이블만 읽으므로 위 메시지/발송 기록으로 요약을 채움 (db/README.md backfill과 동일)
+-- 김철수: 최근 3일 부정 감정 → 연속 부정감정 감지 / 박민수: 최근 3일 발송 실패 → 무응답 감지
+INSERT INTO member_daily_summary (id, member_id, summary_date, user_message_count, positive_count,
+    negative_count, neutral_count, last_negative_at, last_non_negative_at, created_at, updated_at)
+SELECT nextval('member_daily_summary_id_seq'), c.member_id, m.created_at::date, COUNT(*),
+    COUNT(*) FILTER (WHERE m.emotion = 'POSITIVE'),
+    COUNT(*) FILTER (WHERE m.emotion = 'NEGATIVE'),
+    COUNT(*) FILTER (WHERE m.emotion = 'NEUTRAL'),
+    MAX(m.created_at) FILTER (WHERE m.emotion = 'NEGATIVE'),
+    MAX(m.created_at) FILTER (WHERE m.emotion IS DISTINCT FROM 'NEGATIVE'),
+    NOW(), NOW()
+FROM messages m JOIN conversations c ON c.id = m.conversation_id
+WHERE m.type = 'USER_MESSAGE'
+GROUP BY c.member_id, m.created_at::date;
+
+INSERT INTO member_daily_summary AS s (id, member_id, summary_date, daily_check_sent, daily_check_sent_at,
+    created_at, updated_at)
+SELECT nextval('member_daily_summary_id_seq'), d.member_id, d.check_date, d.success,
+    CASE WHEN d.success THEN d.updated_at END, NOW(), NOW()
+FROM daily_check_records d
+ON CONFLICT (member_id, summary_date) DO UPDATE
+SET daily_check_sent = EXCLUDED.daily_check_sent, daily_check_sent_at = EXCLUDED.daily_check_sent_at;
+
+UPDATE member_daily_summary s
+SET daily_check_responded = TRUE,
+    first_response_latency_seconds = CAST(EXTRACT(EPOCH FROM (r.first_at - s.daily_check_sent_at)) AS BIGINT)
+FROM (SELECT c.member_id, m.created_at::date AS message_day, MIN(m.created_at) AS first_at, d.updated_at AS sent_at
+      FROM messages m
+      JOIN conversations c ON c.id = m.conversation_id
+      JOIN daily_check_records d ON d.member_id = c.member_id AND d.check_date = m.created_at::date
+      WHERE m.type = 'USER_MESSAGE' AND d.success = TRUE AND m.created_at >= d.updated_at
+      GROUP BY c.member_id, m.created_at::date, d.updated_at) r
+WHERE s.member_id = r.member_id AND s.summary_date = r.message_day;
+
 -- ============================================
 -- 완료 메시지
 -- ============================================
@@ -239,4 +280,5 @@ SELECT '✅ 데모 데이터 삽입 완료!' as status,
        (SELECT COUNT(*) FROM alert_rule) as 규칙수,
        (SELECT COUNT(*) FROM alert_history) as 감지이력,
        (SELECT COUNT(*) FROM daily_check_records) as 안부확인,
+       (SELECT COUNT(*) FROM member_daily_summary) as 일일요약,
        (SELECT COUNT(*) FROM notification_history) as 알림이력;
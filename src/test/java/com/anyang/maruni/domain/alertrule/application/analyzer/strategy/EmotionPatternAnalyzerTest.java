@@ -0,0 +1,112 @@
+package com.anyang.maruni.domain.alertrule.application.analyzer.strategy;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AnalysisContext;
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberDailySummaryReader;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberEmotionStreak;
+
+/**
+ * EmotionPatternAnalyzer 테스트
+ *
+ * DB에서 집계한 연속 부정 감정 일수/부정 비율로 위험도를 판정하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmotionPatternAnalyzer 테스트")
+class EmotionPatternAnalyzerTest {
+
+    @Mock
+    private MemberDailySummaryReader summaryReader;
+
+    private EmotionPatternAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new EmotionPatternAnalyzer(summaryReader, new AlertConfigurationProperties());
+    }
+
+    @Test
+    @DisplayName("3일 연속 부정 감정 + 높은 부정 비율이면 고위험")
+    void analyzeEmotionPattern_HighRisk() {
+        // Given
+        MemberEntity member = MemberEntity.builder().id(1L).build();
+        given(summaryReader.readEmotionStreaks(eq(List.of(1L)), any(LocalDate.class)))
+                .willReturn(List.of(new MemberEmotionStreak(1L, 4, 0, 4, 0, 3, 1.0)));
+
+        // When
+        AlertResult result = analyzer.analyzeEmotionPattern(member, 7);
+
+        // Then
+        assertThat(result.isAlert()).isTrue();
+        assertThat(result.getAlertLevel()).isEqualTo(AlertLevel.HIGH);
+    }
+
+    @Test
+    @DisplayName("메시지가 없으면 알림 없음")
+    void analyzeEmotionPattern_NoMessages() {
+        // Given
+        MemberEntity member = MemberEntity.builder().id(1L).build();
+        given(summaryReader.readEmotionStreaks(eq(List.of(1L)), any(LocalDate.class)))
+                .willReturn(List.of());
+
+        // When
+        AlertResult result = analyzer.analyzeEmotionPattern(member, 7);
+
+        // Then
+        assertThat(result.isAlert()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 컨텍스트로 여러 규칙을 분석해도 집계는 회원당 한 번만 조회")
+    void analyze_SameContext_ReadsStreakOnce() {
+        // Given
+        MemberEntity member = MemberEntity.builder().id(1L).build();
+        AnalysisContext context = AnalysisContext.forMemberRun(7);
+        given(summaryReader.readEmotionStreaks(eq(List.of(1L)), any(LocalDate.class)))
+                .willReturn(List.of(new MemberEmotionStreak(1L, 4, 0, 4, 0, 3, 1.0)));
+
+        // When
+        AlertResult first = analyzer.analyze(member, context);
+        AlertResult second = analyzer.analyze(member, context);
+
+        // Then
+        assertThat(first.getAlertLevel()).isEqualTo(AlertLevel.HIGH);
+        assertThat(second.getAlertLevel()).isEqualTo(AlertLevel.HIGH);
+        then(summaryReader).should(times(1)).readEmotionStreaks(eq(List.of(1L)), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("일괄 분석 - 회원별 집계 행으로 위험도 판정")
+    void analyzeBatch_EvaluatesEachMember() {
+        // Given
+        given(summaryReader.readEmotionStreaks(eq(List.of(1L, 2L, 3L)), any(LocalDate.class)))
+                .willReturn(List.of(
+                        new MemberEmotionStreak(1L, 2, 0, 2, 0, 2, 1.0),
+                        new MemberEmotionStreak(2L, 2, 1, 1, 0, 0, 0.5)));
+
+        // When
+        Map<Long, AlertResult> results = analyzer.analyzeBatch(List.of(1L, 2L, 3L), AnalysisContext.forEmotionPattern(7));
+
+        // Then: 메시지가 없는 회원 3은 제외
+        assertThat(results).containsOnlyKeys(1L, 2L);
+        assertThat(results.get(1L).getAlertLevel()).isEqualTo(AlertLevel.MEDIUM);
+        assertThat(results.get(2L).isAlert()).isFalse();
+    }
+}
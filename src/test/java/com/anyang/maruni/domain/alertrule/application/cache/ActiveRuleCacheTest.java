@@ -0,0 +1,128 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
+import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveRuleCache 테스트")
+class ActiveRuleCacheTest {
+
+    @Mock
+    private AlertRuleRepository alertRuleRepository;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ActiveRuleCache cache;
+    private AlertRule memberOneRule;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ActiveRuleCache(alertRuleRepository, alertConfig, meterRegistry);
+        memberOneRule = AlertRule.createEmotionPatternRule(member(1L), 3, AlertLevel.HIGH);
+    }
+
+    @Test
+    @DisplayName("미적중 회원만 한 번에 적재하고, 규칙이 없는 회원도 빈 목록으로 캐시")
+    void getActiveRules_LoadsOnlyMissingMembers() {
+        // Given
+        given(alertRuleRepository.findActiveRulesByMemberIds(List.of(1L, 2L)))
+                .willReturn(List.of(memberOneRule));
+        cache.getActiveRules(List.of(1L, 2L));
+
+        // When
+        Map<Long, List<AlertRuleSnapshot>> rules = cache.getActiveRules(List.of(1L, 2L));
+
+        // Then
+        assertThat(rules).containsOnlyKeys(1L, 2L);
+        assertThat(rules.get(1L)).extracting(AlertRuleSnapshot::alertType).containsExactly(AlertType.EMOTION_PATTERN);
+        assertThat(rules.get(2L)).isEmpty();
+        then(alertRuleRepository).should(times(1)).findActiveRulesByMemberIds(any());
+        assertThat(meterRegistry.counter("maruni.alert.rule.cache.hits").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("maruni.alert.rule.cache.misses").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("규칙 변경 이벤트 후에는 해당 회원만 다시 적재")
+    void onAlertRuleChanged_EvictsMember() {
+        // Given
+        given(alertRuleRepository.findActiveRulesByMemberIds(List.of(1L)))
+                .willReturn(List.of(memberOneRule))
+                .willReturn(List.of());
+        cache.getActiveRules(1L);
+
+        // When
+        cache.onAlertRuleChanged(new AlertRuleChangedEvent(1L));
+        List<AlertRuleSnapshot> rules = cache.getActiveRules(1L);
+
+        // Then
+        assertThat(rules).isEmpty();
+        then(alertRuleRepository).should(times(2)).findActiveRulesByMemberIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("최대 회원 수를 넘으면 가장 오래 사용하지 않은 회원부터 제거")
+    void getActiveRules_EvictsLeastRecentlyUsed() {
+        // Given
+        alertConfig.getRuleCache().setMaxMembers(2);
+        given(alertRuleRepository.findActiveRulesByMemberIds(any())).willReturn(List.of());
+        cache.getActiveRules(1L);
+        cache.getActiveRules(2L);
+        cache.getActiveRules(1L);
+
+        // When: 회원 3 적재 시 최근에 사용하지 않은 회원 2가 제거됨
+        cache.getActiveRules(3L);
+        cache.getActiveRules(1L);
+        cache.getActiveRules(2L);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        then(alertRuleRepository).should(times(2)).findActiveRulesByMemberIds(List.of(2L));
+        then(alertRuleRepository).should(times(1)).findActiveRulesByMemberIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 매번 DB 조회")
+    void getActiveRules_Disabled_AlwaysLoads() {
+        // Given
+        alertConfig.getRuleCache().setEnabled(false);
+        given(alertRuleRepository.findActiveRulesByMemberIds(List.of(1L))).willReturn(List.of(memberOneRule));
+
+        // When
+        cache.getActiveRules(1L);
+        cache.getActiveRules(1L);
+
+        // Then
+        then(alertRuleRepository).should(times(2)).findActiveRulesByMemberIds(List.of(1L));
+        assertThat(cache.size()).isZero();
+    }
+
+    private MemberEntity member(Long id) {
+        return MemberEntity.builder()
+                .id(id)
+                .memberName("테스트회원")
+                .memberEmail("test" + id + "@example.com")
+                .memberPassword("password123")
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+import com.anyang.maruni.domain.alertrule.domain.vo.DailyAlertKey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertHistoryDedupIndex 테스트")
+class AlertHistoryDedupIndexTest {
+
+    @Mock
+    private AlertHistoryRepository alertHistoryRepository;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AlertHistoryDedupIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AlertHistoryDedupIndex(alertHistoryRepository, alertConfig, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("기동 시 오늘 기록된 알림으로 적재하고 적중 수를 기록")
+    void warmUp_LoadsTodaysAlerts() {
+        // Given
+        given(alertHistoryRepository.findDailyAlertKeys(LocalDate.now().atStartOfDay(), AlertType.KEYWORD_DETECTION))
+                .willReturn(List.of(new DailyAlertKey(1L, AlertType.EMOTION_PATTERN)));
+
+        // When
+        index.warmUp();
+
+        // Then
+        assertThat(index.contains(1L, AlertType.EMOTION_PATTERN)).isTrue();
+        assertThat(index.contains(1L, AlertType.NO_RESPONSE)).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(meterRegistry.counter("maruni.alert.dedup.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("새로 기록한 알림은 트랜잭션 커밋 후에만 반영")
+    void markInserted_AppliesAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        index.markInserted(1L, AlertType.NO_RESPONSE);
+
+        // Then
+        assertThat(index.contains(1L, AlertType.NO_RESPONSE)).isFalse();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(index.contains(1L, AlertType.NO_RESPONSE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("키워드 감지는 하루 여러 번 기록되므로 추적하지 않음")
+    void markExisting_IgnoresKeywordDetection() {
+        // When
+        index.markExisting(1L, AlertType.KEYWORD_DETECTION);
+
+        // Then
+        assertThat(index.contains(1L, AlertType.KEYWORD_DETECTION)).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 적재하지 않고 항상 미적중")
+    void disabled_NeverShortCircuits() {
+        // Given
+        alertConfig.getDedup().setEnabled(false);
+
+        // When
+        index.warmUp();
+        index.markExisting(1L, AlertType.EMOTION_PATTERN);
+
+        // Then
+        assertThat(index.contains(1L, AlertType.EMOTION_PATTERN)).isFalse();
+        then(alertHistoryRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,96 @@
+package com.anyang.maruni.domain.alertrule.application.cache;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertRuleInvalidation;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleInvalidationRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertRuleInvalidationLog 테스트")
+class AlertRuleInvalidationLogTest {
+
+    @Mock
+    private AlertRuleInvalidationRepository invalidationRepository;
+
+    @Mock
+    private MemberRuleCache ruleCache;
+
+    @Mock
+    private MemberRuleCache keywordCache;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+
+    private AlertRuleInvalidationLog invalidationLog;
+
+    @BeforeEach
+    void setUp() {
+        invalidationLog = new AlertRuleInvalidationLog(invalidationRepository, List.of(ruleCache, keywordCache), alertConfig);
+    }
+
+    @Test
+    @DisplayName("규칙 변경 시 무효화 로그 기록")
+    void onAlertRuleChanged_SavesLog() {
+        // When
+        invalidationLog.onAlertRuleChanged(new AlertRuleChangedEvent(1L));
+
+        // Then
+        then(invalidationRepository).should().save(argThat((AlertRuleInvalidation invalidation) -> invalidation.getMemberId().equals(1L)));
+    }
+
+    @Test
+    @DisplayName("겹쳐 읽은 구간의 로그는 한 번만 무효화하고 모든 캐시에 전달")
+    void poll_EvictsEachLogOnceAcrossOverlappingPolls() {
+        // Given: 두 번의 폴링 모두 같은 로그를 읽고, 두 번째에는 새 로그가 추가됨
+        AlertRuleInvalidation first = invalidation(10L, 1L);
+        AlertRuleInvalidation second = invalidation(11L, 2L);
+        given(invalidationRepository.findByCreatedAtGreaterThanEqual(any(LocalDateTime.class)))
+                .willReturn(List.of(first))
+                .willReturn(List.of(first, second));
+
+        // When
+        invalidationLog.poll();
+        invalidationLog.poll();
+
+        // Then
+        then(ruleCache).should(times(1)).evict(1L);
+        then(ruleCache).should(times(1)).evict(2L);
+        then(keywordCache).should(times(1)).evict(1L);
+        then(keywordCache).should(times(1)).evict(2L);
+        then(invalidationRepository).should(times(2)).deleteCreatedBefore(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("서버 간 무효화가 꺼져 있으면 기록하거나 폴링하지 않음")
+    void clusterInvalidationDisabled_DoesNothing() {
+        // Given
+        alertConfig.getRuleCache().setClusterInvalidation(false);
+
+        // When
+        invalidationLog.onAlertRuleChanged(new AlertRuleChangedEvent(1L));
+        invalidationLog.poll();
+
+        // Then
+        then(invalidationRepository).shouldHaveNoInteractions();
+    }
+
+    private AlertRuleInvalidation invalidation(Long id, Long memberId) {
+        return AlertRuleInvalidation.builder()
+                .id(id)
+                .memberId(memberId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.anyang.maruni.domain.alertrule.application.correlation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.correlation.AlertIncidentCorrelator.IncidentPlan;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertIncidentCorrelator 테스트")
+class AlertIncidentCorrelatorTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private AlertHistoryRepository alertHistoryRepository;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AlertIncidentCorrelator correlator;
+
+    @BeforeEach
+    void setUp() {
+        correlator = new AlertIncidentCorrelator(alertHistoryRepository, alertConfig, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("진행 중인 사건이 없으면 가장 높은 레벨의 알림을 대표로 새 사건을 알림")
+    void plan_NoOpenIncident_NotifiesHighestLevel() {
+        // Given
+        AlertHistory noResponse = alert(10L, AlertLevel.MEDIUM, AlertType.NO_RESPONSE, "무응답");
+        AlertHistory emotion = alert(11L, AlertLevel.HIGH, AlertType.EMOTION_PATTERN, "부정 감정");
+        AlertHistory keyword = alert(12L, AlertLevel.HIGH, AlertType.KEYWORD_DETECTION, "키워드");
+        given(alertHistoryRepository.findNotifiedByMemberSince(eq(MEMBER_ID), any(LocalDateTime.class)))
+                .willReturn(List.of());
+
+        // When
+        IncidentPlan plan = correlator.plan(MEMBER_ID, List.of(noResponse, emotion, keyword));
+
+        // Then
+        assertThat(plan.notifyGuardian()).isTrue();
+        assertThat(plan.representative()).isSameAs(emotion);
+        assertThat(plan.others()).containsExactly(noResponse, keyword);
+        assertThat(plan.incidentId()).isEqualTo(11L);
+        assertThat(correlator.summarize(plan)).isEqualTo("부정 감정 (관련 알림 2건 포함)");
+    }
+
+    @Test
+    @DisplayName("진행 중인 사건보다 레벨이 높지 않으면 보내지 않고 사건에 묶음")
+    void plan_OpenIncidentSameLevel_Suppresses() {
+        // Given
+        AlertHistory lead = notified(5L, AlertLevel.HIGH, null);
+        AlertHistory keyword = alert(12L, AlertLevel.HIGH, AlertType.KEYWORD_DETECTION, "키워드");
+        given(alertHistoryRepository.findNotifiedByMemberSince(eq(MEMBER_ID), any(LocalDateTime.class)))
+                .willReturn(List.of(lead));
+
+        // When
+        IncidentPlan plan = correlator.plan(MEMBER_ID, List.of(keyword));
+        correlator.complete(plan);
+
+        // Then
+        assertThat(plan.notifyGuardian()).isFalse();
+        assertThat(keyword.getIsNotificationSent()).isTrue();
+        assertThat(keyword.getIncidentAlertId()).isEqualTo(5L);
+        assertThat(keyword.getNotificationResult()).isEqualTo("CORRELATED: 5");
+        assertThat(meterRegistry.counter("maruni.alert.correlation.correlated").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("진행 중인 사건보다 레벨이 높으면 상향 알림을 보내고 사건의 재알림을 이어받음")
+    void plan_OpenIncidentLowerLevel_RaisesLevel() {
+        // Given
+        AlertHistory lead = notified(5L, AlertLevel.MEDIUM, null);
+        AlertHistory joined = notified(6L, AlertLevel.MEDIUM, 5L);
+        AlertHistory emergency = alert(12L, AlertLevel.EMERGENCY, AlertType.KEYWORD_DETECTION, "긴급");
+        given(alertHistoryRepository.findNotifiedByMemberSince(eq(MEMBER_ID), any(LocalDateTime.class)))
+                .willReturn(List.of(joined, lead));
+        given(alertHistoryRepository.findById(5L)).willReturn(Optional.of(lead));
+
+        // When
+        IncidentPlan plan = correlator.plan(MEMBER_ID, List.of(emergency));
+        correlator.complete(plan);
+
+        // Then
+        assertThat(plan.notifyGuardian()).isTrue();
+        assertThat(plan.incidentId()).isEqualTo(5L);
+        assertThat(emergency.getIncidentAlertId()).isEqualTo(5L);
+        assertThat(lead.getNextEscalationAt()).isNull();
+    }
+
+    private AlertHistory alert(Long id, AlertLevel level, AlertType type, String message) {
+        return AlertHistory.builder()
+                .id(id)
+                .alertLevel(level)
+                .alertType(type)
+                .alertMessage(message)
+                .nextNotificationAt(LocalDateTime.now())
+                .build();
+    }
+
+    private AlertHistory notified(Long id, AlertLevel level, Long incidentAlertId) {
+        return AlertHistory.builder()
+                .id(id)
+                .alertLevel(level)
+                .alertType(AlertType.EMOTION_PATTERN)
+                .alertMessage("이전 알림")
+                .isNotificationSent(true)
+                .notificationSentAt(LocalDateTime.now().minusMinutes(5))
+                .nextEscalationAt(LocalDateTime.now().plusMinutes(5))
+                .incidentAlertId(incidentAlertId)
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.anyang.maruni.domain.alertrule.application.escalation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertEscalationService;
+import com.anyang.maruni.domain.alertrule.domain.vo.PendingEscalation;
+import com.anyang.maruni.domain.notification.application.config.NotificationDispatchProperties;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertEscalationEngine 테스트")
+class AlertEscalationEngineTest {
+
+    @Mock
+    private AlertEscalationService alertEscalationService;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AlertEscalationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AlertEscalationEngine(alertEscalationService, alertConfig,
+                new NotificationDispatchStage(new NotificationDispatchProperties(), meterRegistry), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("기동 시 남은 예약으로 타이머를 재구성하고, 재동기화로 같은 예약을 다시 걸지 않음")
+    void rebuild_ArmsPendingEscalationsOnce() {
+        // Given
+        LocalDateTime dueAt = LocalDateTime.now().plusMinutes(10);
+        given(alertEscalationService.findPendingEscalations()).willReturn(List.of(
+                new PendingEscalation(1L, 0, dueAt),
+                new PendingEscalation(2L, 1, dueAt)));
+
+        // When
+        engine.rebuild();
+        engine.resync();
+
+        // Then
+        assertThat(engine.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("maruni.alert.escalation.timers").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("만료된 예약만 처리하고, 다음 예약이 있으면 다시 검")
+    void advance_EscalatesExpiredAndRearms() {
+        // Given
+        PendingEscalation due = new PendingEscalation(1L, 0, LocalDateTime.now().minusSeconds(1));
+        PendingEscalation later = new PendingEscalation(2L, 0, LocalDateTime.now().plusMinutes(10));
+        PendingEscalation next = new PendingEscalation(1L, 1, LocalDateTime.now().plusMinutes(10));
+        given(alertEscalationService.escalate(due)).willReturn(Optional.of(next));
+        engine.schedule(due);
+        engine.schedule(later);
+
+        // When
+        int processed = engine.advance(System.currentTimeMillis() + 2_000);
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        then(alertEscalationService).should(never()).escalate(later);
+        assertThat(engine.size()).isEqualTo(2);
+        assertThat(meterRegistry.counter("maruni.alert.escalation.fired").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나면 같은 예약을 잠시 뒤 다시 시도")
+    void advance_Failure_RetriesLater() {
+        // Given
+        PendingEscalation due = new PendingEscalation(1L, 0, LocalDateTime.now().minusSeconds(1));
+        given(alertEscalationService.escalate(due))
+                .willThrow(new IllegalStateException("lock timeout"))
+                .willReturn(Optional.empty());
+        engine.schedule(due);
+        long now = System.currentTimeMillis() + 2_000;
+
+        // When
+        engine.advance(now);
+
+        // Then
+        assertThat(engine.size()).isEqualTo(1);
+        assertThat(engine.advance(now + 1_000)).isZero();
+        assertThat(engine.advance(now + 61_000)).isEqualTo(1);
+        assertThat(engine.size()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.anyang.maruni.domain.alertrule.application.escalation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimingWheel 테스트")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 속한 칸을 지날 때 만료")
+    void advance_ExpiresAtDeadlineTick() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.schedule("a", START + 250);
+
+        // When & Then
+        assertThat(wheel.advance(START + 200)).isEmpty();
+        assertThat(wheel.advance(START + 300)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 타이머는 남은 바퀴 수만큼 지난 뒤 만료")
+    void advance_TimerBeyondOneRotation_WaitsRounds() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.schedule("near", START + 300);
+        wheel.schedule("far", START + 300 + 8 * 100 * 2);
+
+        // When & Then
+        assertThat(wheel.advance(START + 300)).containsExactly("near");
+        assertThat(wheel.advance(START + 300 + 8 * 100 * 2 - 100)).isEmpty();
+        assertThat(wheel.advance(START + 300 + 8 * 100 * 2)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각의 타이머는 다음 진행에서 바로 만료")
+    void advance_PastDeadline_ExpiresImmediately() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.advance(START + 1_000);
+        wheel.schedule("late", START + 500);
+
+        // When & Then
+        assertThat(wheel.advance(START + 1_000)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("여러 칸을 한 번에 지나면 지난 칸의 타이머를 만료 순서대로 반환")
+    void advance_CatchUp_ReturnsInDeadlineOrder() {
+        // Given
+        TimingWheel<Integer> wheel = new TimingWheel<>(100, 4, START);
+        for (int i = 10; i >= 1; i--) {
+            wheel.schedule(i, START + i * 100L);
+        }
+        assertThat(wheel.size()).isEqualTo(10);
+
+        // When
+        var expired = wheel.advance(START + 1_000);
+
+        // Then
+        assertThat(expired).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(wheel.size()).isZero();
+    }
+}
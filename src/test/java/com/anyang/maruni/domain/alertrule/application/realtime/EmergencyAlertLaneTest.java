@@ -0,0 +1,198 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.notification.application.config.NotificationDispatchProperties;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmergencyAlertLane 테스트")
+class EmergencyAlertLaneTest {
+
+    @Mock
+    private AlertNotificationService alertNotificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AlertResult emergency = AlertResult.createAlert(
+            AlertLevel.EMERGENCY, AlertType.KEYWORD_DETECTION, "긴급 키워드 감지: 도와주세요", null);
+
+    private EmergencyAlertLane lane;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig.getEmergency().setThreads(1);
+        alertConfig.getEmergency().setSloMillis(5_000);
+        lane = lane();
+    }
+
+    private EmergencyAlertLane lane() {
+        return new EmergencyAlertLane(alertNotificationService, alertConfig,
+                new NotificationDispatchStage(new NotificationDispatchProperties(), meterRegistry),
+                transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        lane.shutdown();
+    }
+
+    @Test
+    @DisplayName("점유 상태로 기록한 뒤 디스패처를 기다리지 않고 바로 발송하고 지연을 기록")
+    void handle_RecordsClaimedAndDeliversImmediately() {
+        // Given
+        given(alertNotificationService.triggerClaimedAlert(1L, emergency)).willReturn(10L);
+        given(alertNotificationService.deliverNotification(10L)).willReturn(true);
+
+        // When
+        lane.handle(1L, emergency, LocalDateTime.now());
+
+        // Then
+        then(alertNotificationService).should(never()).triggerAlert(anyLong(), any());
+        Timer latency = meterRegistry.get("maruni.alert.emergency.latency").timer();
+        assertThat(latency.count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("maruni.alert.emergency.slo.breaches").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 토큰은 일괄 발송 버킷이 아닌 EMERGENCY 전용 버킷에서 확보")
+    void handle_UsesEmergencyDispatchBucket() {
+        // Given
+        given(alertNotificationService.triggerClaimedAlert(1L, emergency)).willReturn(10L);
+        given(alertNotificationService.deliverNotification(10L)).willReturn(true);
+
+        // When
+        lane.handle(1L, emergency, LocalDateTime.now());
+
+        // Then
+        assertThat(meterRegistry.get("maruni.notification.dispatch.wait")
+                .tag("channel", "PUSH").tag("priority", "emergency").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("maruni.notification.dispatch.wait")
+                .tag("channel", "PUSH").tag("priority", "bulk").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("수신부터 보호자 알림 기록까지 SLO를 넘으면 위반으로 기록")
+    void handle_SlowDelivery_CountsBreach() {
+        // Given
+        given(alertNotificationService.triggerClaimedAlert(1L, emergency)).willReturn(10L);
+        given(alertNotificationService.deliverNotification(10L)).willReturn(true);
+
+        // When
+        lane.handle(1L, emergency, LocalDateTime.now().minusSeconds(10));
+
+        // Then
+        assertThat(meterRegistry.counter("maruni.alert.emergency.slo.breaches").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("바로 발송하지 못하면 실패를 기록하고 아웃박스 재시도로 넘기며 SLO 위반으로 기록")
+    void handle_DeliveryTransactionFails_LeavesToOutbox() {
+        // Given
+        given(alertNotificationService.triggerClaimedAlert(1L, emergency)).willReturn(10L);
+        given(alertNotificationService.deliverNotification(10L))
+                .willThrow(new IllegalStateException("rollback-only"));
+
+        // When
+        lane.handle(1L, emergency, LocalDateTime.now());
+
+        // Then
+        then(alertNotificationService).should().recordDeliveryFailure(10L, "rollback-only");
+        assertThat(meterRegistry.get("maruni.alert.emergency.latency").timer().count()).isZero();
+        assertThat(meterRegistry.counter("maruni.alert.emergency.slo.breaches").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 호출 스레드에서 기존 방식으로 알림 발생")
+    void submit_Disabled_TriggersInline() {
+        // Given
+        alertConfig.getEmergency().setEnabled(false);
+
+        // When
+        lane.submit(1L, emergency, LocalDateTime.now());
+
+        // Then
+        then(alertNotificationService).should().triggerAlert(1L, emergency);
+        then(alertNotificationService).should(never()).triggerClaimedAlert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("호출 측 트랜잭션 안에서는 트랜잭션이 끝난 뒤 레인에 제출")
+    void submit_InTransaction_DefersUntilCompletion() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            lane.submit(1L, emergency, LocalDateTime.now());
+            then(alertNotificationService).shouldHaveNoInteractions();
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        then(alertNotificationService).should(timeout(1_000)).triggerClaimedAlert(1L, emergency);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출 스레드에서 처리하지 않고 별도 트랜잭션으로 아웃박스에 기록")
+    void submit_QueueFull_FallsBackToOutbox() throws InterruptedException {
+        // Given - 레인 스레드 1개는 처리 중, 대기열(1)도 가득 참
+        alertConfig.getEmergency().setQueueCapacity(1);
+        EmergencyAlertLane fullLane = lane();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(alertNotificationService.triggerClaimedAlert(1L, emergency)).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        fullLane.submit(1L, emergency, LocalDateTime.now());
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        fullLane.submit(1L, emergency, LocalDateTime.now());
+
+        try {
+            // When
+            fullLane.submit(2L, emergency, LocalDateTime.now());
+
+            // Then
+            then(alertNotificationService).should().triggerAlert(2L, emergency);
+            then(alertNotificationService).should(never()).triggerClaimedAlert(eq(2L), any());
+            then(transactionManager).should().getTransaction(any());
+            assertThat(meterRegistry.counter("maruni.alert.emergency.slo.breaches").count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            fullLane.shutdown();
+        }
+    }
+}
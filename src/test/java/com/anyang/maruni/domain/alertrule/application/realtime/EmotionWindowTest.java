@@ -0,0 +1,87 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.strategy.EmotionPatternAnalyzer.EmotionTrend;
+
+@DisplayName("EmotionWindow 테스트")
+class EmotionWindowTest {
+
+    private final long today = LocalDate.of(2026, 10, 17).toEpochDay();
+
+    @Test
+    @DisplayName("마지막 부정이 아닌 메시지 이후의 부정 메시지 일수를 연속 일수로 계산")
+    void trend_CountsNegativeDaysAfterLastNonNegative() {
+        // Given: 그저께 긍정 후 부정, 어제 부정, 오늘 부정 2건
+        EmotionWindow window = new EmotionWindow(7);
+        window.record(today - 2, "POSITIVE");
+        window.record(today - 2, "NEGATIVE");
+        window.record(today - 1, "NEGATIVE");
+        window.record(today, "NEGATIVE");
+        window.record(today, "NEGATIVE");
+
+        // When
+        EmotionTrend trend = window.trend(today);
+
+        // Then
+        assertThat(trend.totalMessages()).isEqualTo(5);
+        assertThat(trend.negativeCount()).isEqualTo(4);
+        assertThat(trend.consecutiveNegativeDays()).isEqualTo(3);
+        assertThat(trend.negativeRatio()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("오늘 마지막 메시지가 부정이 아니면 연속 일수는 0")
+    void trend_NonNegativeTailBreaksStreak() {
+        // Given
+        EmotionWindow window = new EmotionWindow(7);
+        window.record(today - 1, "NEGATIVE");
+        window.record(today, "NEGATIVE");
+        window.record(today, null);
+
+        // When
+        EmotionTrend trend = window.trend(today);
+
+        // Then
+        assertThat(trend.consecutiveNegativeDays()).isZero();
+        assertThat(trend.totalMessages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 날짜의 슬롯은 재사용되어 집계에서 빠짐")
+    void record_ReusesExpiredSlots() {
+        // Given: 3일 윈도우(슬롯 4개)에서 4일 전 기록은 오늘 기록으로 덮어씀
+        EmotionWindow window = new EmotionWindow(3);
+        window.record(today - 4, "NEGATIVE");
+        window.record(today - 3, "POSITIVE");
+        window.record(today, "NEGATIVE");
+
+        // When
+        EmotionTrend trend = window.trend(today);
+
+        // Then
+        assertThat(trend.totalMessages()).isEqualTo(2);
+        assertThat(trend.negativeCount()).isEqualTo(1);
+        assertThat(trend.consecutiveNegativeDays()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요약으로 복원한 슬롯도 같은 기준으로 계산하고, 알림은 하루 한 번만 표시")
+    void seed_RestoresSummaryAndMarksAlertOncePerDay() {
+        // Given: 어제는 중립 후 부정으로 끝남, 오늘은 부정만
+        EmotionWindow window = new EmotionWindow(7);
+        window.seed(today - 1, 2, 0, 1, 1, true, true);
+        window.seed(today, 1, 0, 1, 0, false, true);
+
+        // When & Then
+        assertThat(window.trend(today).consecutiveNegativeDays()).isEqualTo(2);
+        assertThat(window.markAlerted(today)).isTrue();
+        assertThat(window.markAlerted(today)).isFalse();
+        assertThat(window.markAlerted(today + 1)).isTrue();
+    }
+}
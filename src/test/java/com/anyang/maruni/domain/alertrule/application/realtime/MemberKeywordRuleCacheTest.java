@@ -0,0 +1,109 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.realtime.MemberKeywordRuleCache.MemberKeywordScan;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
+import com.anyang.maruni.domain.conversation.config.ConversationProperties;
+import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.global.keyword.KeywordCategory;
+import com.anyang.maruni.global.keyword.KeywordMatcher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberKeywordRuleCache 테스트")
+class MemberKeywordRuleCacheTest {
+
+    @Mock
+    private AlertRuleRepository alertRuleRepository;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+
+    private MemberEntity member;
+    private MemberKeywordRuleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        KeywordMatcher keywordMatcher = new KeywordMatcher(alertConfig, new ConversationProperties());
+        cache = new MemberKeywordRuleCache(alertRuleRepository, keywordMatcher, alertConfig);
+        member = MemberEntity.builder()
+                .id(1L)
+                .memberName("테스트회원")
+                .memberEmail("test@example.com")
+                .memberPassword("password123")
+                .build();
+    }
+
+    @Test
+    @DisplayName("전역 키워드와 회원 키워드를 한 번에 스캔하고, 같은 키워드는 높은 레벨 규칙을 따름")
+    void scan_MatchesGlobalAndMemberKeywordsTogether() {
+        // Given
+        given(alertRuleRepository.findActiveRulesByMemberIdAndAlertType(1L, AlertType.KEYWORD_DETECTION))
+                .willReturn(List.of(
+                        AlertRule.createKeywordRule(member, "산책, 약", AlertLevel.MEDIUM),
+                        AlertRule.createKeywordRule(member, "약", AlertLevel.EMERGENCY)));
+
+        // When
+        MemberKeywordScan scan = cache.scan(1L, "약을 안 먹어서 가슴이 답답해");
+
+        // Then
+        assertThat(scan.hits().first(KeywordCategory.EMERGENCY)).isEqualTo("가슴이");
+        assertThat(scan.hits().first(KeywordCategory.MEMBER)).isEqualTo("약");
+        assertThat(scan.hits().contains(KeywordCategory.NEGATIVE)).isTrue();
+        assertThat(scan.memberLevel()).isEqualTo(AlertLevel.EMERGENCY);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB를 다시 조회하지 않고, 규칙 변경 이벤트 후에는 다시 적재")
+    void scan_CachesUntilRuleChanged() {
+        // Given
+        given(alertRuleRepository.findActiveRulesByMemberIdAndAlertType(1L, AlertType.KEYWORD_DETECTION))
+                .willReturn(List.of(AlertRule.createKeywordRule(member, "산책", AlertLevel.LOW)))
+                .willReturn(List.of());
+
+        // When
+        MemberKeywordScan first = cache.scan(1L, "산책 다녀왔어요");
+        MemberKeywordScan cached = cache.scan(1L, "오늘도 산책");
+        cache.onAlertRuleChanged(new AlertRuleChangedEvent(1L));
+        MemberKeywordScan reloaded = cache.scan(1L, "산책 다녀왔어요");
+
+        // Then
+        assertThat(first.memberLevel()).isEqualTo(AlertLevel.LOW);
+        assertThat(cached.memberLevel()).isEqualTo(AlertLevel.LOW);
+        assertThat(reloaded.memberLevel()).isNull();
+        then(alertRuleRepository).should(times(2))
+                .findActiveRulesByMemberIdAndAlertType(1L, AlertType.KEYWORD_DETECTION);
+    }
+
+    @Test
+    @DisplayName("전역 사전이 다시 컴파일되면 회원 오토마톤도 새 사전으로 재컴파일")
+    void scan_RecompilesWhenGlobalDictionaryChanges() {
+        // Given
+        given(alertRuleRepository.findActiveRulesByMemberIdAndAlertType(1L, AlertType.KEYWORD_DETECTION))
+                .willReturn(List.of(AlertRule.createKeywordRule(member, "산책", AlertLevel.LOW)));
+        assertThat(cache.scan(1L, "살려줘").hits().contains(KeywordCategory.EMERGENCY)).isFalse();
+
+        // When
+        alertConfig.getKeyword().setEmergency(List.of("살려줘"));
+        MemberKeywordScan scan = cache.scan(1L, "산책 중에 살려줘");
+
+        // Then
+        assertThat(scan.hits().first(KeywordCategory.EMERGENCY)).isEqualTo("살려줘");
+        assertThat(scan.memberLevel()).isEqualTo(AlertLevel.LOW);
+        assertThat(cache.cachedMemberCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,205 @@
+package com.anyang.maruni.domain.alertrule.application.realtime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.strategy.EmotionPatternAnalyzer;
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
+import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
+import com.anyang.maruni.domain.conversation.domain.event.UserMessageSavedEvent;
+import com.anyang.maruni.domain.member.domain.entity.MemberDailySummary;
+import com.anyang.maruni.domain.member.domain.repository.MemberDailySummaryRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RealtimeEmotionEvaluator 테스트")
+class RealtimeEmotionEvaluatorTest {
+
+    private final LocalDate today = LocalDate.now();
+
+    @Mock
+    private AlertNotificationService alertNotificationService;
+
+    @Mock
+    private AlertRuleRepository alertRuleRepository;
+
+    @Mock
+    private MemberDailySummaryRepository summaryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+
+    private RealtimeEmotionEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        EmotionPatternAnalyzer analyzer = new EmotionPatternAnalyzer(null, alertConfig);
+        evaluator = new RealtimeEmotionEvaluator(analyzer, alertNotificationService, alertRuleRepository,
+                summaryRepository, alertConfig, transactionManager);
+    }
+
+    @Test
+    @DisplayName("요약에서 복원한 뒤 부정 메시지로 임계값을 넘으면 즉시 한 번만 알림 발생")
+    void onUserMessageSaved_CrossingThreshold_TriggersAlertOnce() {
+        // Given: 그저께/어제 부정만 있었고 오늘 첫 부정 메시지가 커밋됨 (요약에 이미 반영)
+        given(summaryRepository.findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(
+                eq(1L), any(LocalDate.class), eq(today)))
+                .willReturn(List.of(
+                        negativeOnlyDay(today.minusDays(2), 1),
+                        negativeOnlyDay(today.minusDays(1), 1),
+                        negativeOnlyDay(today, 1)));
+        given(alertRuleRepository.existsActiveRule(1L, AlertType.EMOTION_PATTERN)).willReturn(true);
+        given(alertNotificationService.triggerAlert(eq(1L), any(AlertResult.class))).willReturn(100L);
+
+        // When: 같은 날 부정 메시지가 한 번 더 와도 알림은 하루 한 번
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(10, 0)));
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(11, 0)));
+
+        // Then
+        then(alertNotificationService).should(times(1)).triggerAlert(eq(1L), argThat((AlertResult result) ->
+                result.getAlertLevel() == AlertLevel.HIGH && result.getAlertType() == AlertType.EMOTION_PATTERN));
+        // 복원 1회 + 알림 전 재판정 1회 (알림 이후 메시지는 재확인하지 않음)
+        then(summaryRepository).should(times(2))
+                .findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(eq(1L), any(LocalDate.class), eq(today));
+        assertThat(evaluator.trackedMemberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("부정이 아닌 메시지는 윈도우만 갱신하고 평가하지 않음")
+    void onUserMessageSaved_NonNegative_SkipsEvaluation() {
+        // Given
+        given(summaryRepository.findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(
+                eq(1L), any(LocalDate.class), eq(today)))
+                .willReturn(List.of());
+
+        // When
+        evaluator.onUserMessageSaved(new UserMessageSavedEvent(1L, EmotionType.POSITIVE, today.atTime(9, 0)));
+
+        // Then
+        then(alertRuleRepository).shouldHaveNoInteractions();
+        then(alertNotificationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("활성 감정 패턴 규칙이 없거나 오늘 이미 알림이 있으면 발생하지 않음")
+    void onUserMessageSaved_WithoutRuleOrExistingAlert_DoesNotTrigger() {
+        // Given: 두 회원 모두 3일 연속 부정
+        given(summaryRepository.findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(
+                anyLong(), any(LocalDate.class), eq(today)))
+                .willReturn(List.of(
+                        negativeOnlyDay(today.minusDays(2), 1),
+                        negativeOnlyDay(today.minusDays(1), 1),
+                        negativeOnlyDay(today, 1)));
+        given(alertRuleRepository.existsActiveRule(1L, AlertType.EMOTION_PATTERN)).willReturn(false);
+        given(alertRuleRepository.existsActiveRule(2L, AlertType.EMOTION_PATTERN)).willReturn(true);
+        given(alertNotificationService.isAlreadyTriggeredToday(2L, AlertType.EMOTION_PATTERN)).willReturn(true);
+
+        // When
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(10, 0)));
+        evaluator.onUserMessageSaved(negative(2L, today.atTime(10, 0)));
+
+        // Then
+        then(alertNotificationService).should(never()).triggerAlert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("알림이 기록되지 않으면 당일 알림으로 표시하지 않고 다음 메시지에서 다시 시도")
+    void onUserMessageSaved_AlertNotRecorded_RetriesOnNextMessage() {
+        // Given: 첫 알림 기록이 중복 등으로 id 없이 끝남
+        given(summaryRepository.findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(
+                eq(1L), any(LocalDate.class), eq(today)))
+                .willReturn(List.of(
+                        negativeOnlyDay(today.minusDays(2), 1),
+                        negativeOnlyDay(today.minusDays(1), 1),
+                        negativeOnlyDay(today, 1)));
+        given(alertRuleRepository.existsActiveRule(1L, AlertType.EMOTION_PATTERN)).willReturn(true);
+        given(alertNotificationService.triggerAlert(eq(1L), any(AlertResult.class))).willReturn(null, 100L);
+
+        // When
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(10, 0)));
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(11, 0)));
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(12, 0)));
+
+        // Then
+        then(alertNotificationService).should(times(2)).triggerAlert(eq(1L), any(AlertResult.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 받은 부정이 아닌 메시지가 요약에 있으면 재판정에서 알림을 생략")
+    void onUserMessageSaved_RefreshedSummaryBelowThreshold_DoesNotTrigger() {
+        // Given: 복원 시점에는 3일 연속 부정, 재판정 시점에는 다른 노드가 오늘 긍정 메시지를 기록
+        MemberDailySummary todayWithPositive = MemberDailySummary.builder()
+                .memberId(1L)
+                .summaryDate(today)
+                .userMessageCount(2)
+                .positiveCount(1)
+                .negativeCount(1)
+                .lastNegativeAt(today.atTime(9, 0))
+                .lastNonNegativeAt(today.atTime(9, 30))
+                .build();
+        given(summaryRepository.findByMemberIdAndSummaryDateBetweenOrderBySummaryDate(
+                eq(1L), any(LocalDate.class), eq(today)))
+                .willReturn(List.of(
+                                negativeOnlyDay(today.minusDays(2), 1),
+                                negativeOnlyDay(today.minusDays(1), 1),
+                                negativeOnlyDay(today, 1)),
+                        List.of(
+                                negativeOnlyDay(today.minusDays(2), 1),
+                                negativeOnlyDay(today.minusDays(1), 1),
+                                todayWithPositive));
+        given(alertRuleRepository.existsActiveRule(1L, AlertType.EMOTION_PATTERN)).willReturn(true);
+
+        // When
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(8, 0)));
+
+        // Then
+        then(alertNotificationService).should(never()).triggerAlert(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 아무것도 하지 않음")
+    void onUserMessageSaved_Disabled_DoesNothing() {
+        // Given
+        alertConfig.getRealtime().setEnabled(false);
+
+        // When
+        evaluator.onUserMessageSaved(negative(1L, today.atTime(10, 0)));
+
+        // Then
+        then(summaryRepository).shouldHaveNoInteractions();
+        assertThat(evaluator.trackedMemberCount()).isZero();
+    }
+
+    private UserMessageSavedEvent negative(Long memberId, LocalDateTime savedAt) {
+        return new UserMessageSavedEvent(memberId, EmotionType.NEGATIVE, savedAt);
+    }
+
+    private MemberDailySummary negativeOnlyDay(LocalDate date, int count) {
+        return MemberDailySummary.builder()
+                .memberId(1L)
+                .summaryDate(date)
+                .userMessageCount(count)
+                .negativeCount(count)
+                .lastNegativeAt(date.atTime(9, 0))
+                .build();
+    }
+}
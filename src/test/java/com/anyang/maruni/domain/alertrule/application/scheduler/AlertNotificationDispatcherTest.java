@@ -0,0 +1,93 @@
+package com.anyang.maruni.domain.alertrule.application.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.notification.application.config.NotificationDispatchProperties;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertNotificationDispatcher 테스트")
+class AlertNotificationDispatcherTest {
+
+    @Mock
+    private AlertNotificationService alertNotificationService;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AlertNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig.getOutbox().setBatchSize(2);
+        dispatcher = new AlertNotificationDispatcher(alertNotificationService, alertConfig,
+                new NotificationDispatchStage(new NotificationDispatchProperties(), meterRegistry), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 나오는 동안 계속 점유하고, 덜 찬 배치에서 멈춤")
+    void dispatchPendingNotifications_DrainsUntilPartialBatch() {
+        // Given
+        given(alertNotificationService.claimDueNotifications(2))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L));
+        given(alertNotificationService.deliverNotification(anyLong())).willReturn(true);
+
+        // When
+        dispatcher.dispatchPendingNotifications();
+
+        // Then
+        then(alertNotificationService).should(times(2)).claimDueNotifications(2);
+        then(alertNotificationService).should(times(3)).deliverNotification(anyLong());
+        assertThat(meterRegistry.counter("maruni.alert.outbox.deliveries", "result", "sent").count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("발송 트랜잭션이 실패하면 별도로 실패를 기록하고 나머지 알림은 계속 발송")
+    void dispatchBatch_IsolatesTransactionFailure() {
+        // Given
+        given(alertNotificationService.claimDueNotifications(2)).willReturn(List.of(1L, 2L));
+        given(alertNotificationService.deliverNotification(1L))
+                .willThrow(new IllegalStateException("rollback-only"));
+        given(alertNotificationService.deliverNotification(2L)).willReturn(true);
+
+        // When
+        int claimed = dispatcher.dispatchBatch(2);
+
+        // Then
+        assertThat(claimed).isEqualTo(2);
+        then(alertNotificationService).should().recordDeliveryFailure(1L, "rollback-only");
+        assertThat(meterRegistry.counter("maruni.alert.outbox.deliveries", "result", "failed").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("maruni.alert.outbox.deliveries", "result", "sent").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("아웃박스가 비활성화되어 있으면 점유하지 않음")
+    void dispatchPendingNotifications_Disabled_DoesNothing() {
+        // Given
+        alertConfig.getOutbox().setEnabled(false);
+
+        // When
+        dispatcher.dispatchPendingNotifications();
+
+        // Then
+        then(alertNotificationService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,139 @@
+package com.anyang.maruni.domain.alertrule.application.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectionService;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.shadow.ShadowRun;
+import com.anyang.maruni.global.shadow.ShadowRunReport;
+import com.anyang.maruni.global.shadow.ShadowTransactions;
+
+/**
+ * AlertShadowRunner 테스트
+ *
+ * 핵심 시나리오:
+ * 1. 페이지별 롤백 트랜잭션에서 일괄 감지/알림을 실행하고 레벨별 예정 알림 수를 보고
+ * 2. 페이지 실패는 보고서에 집계하고 나머지 페이지 처리
+ * 3. 병렬 모드에서는 청크를 작업 스레드에서 섀도 실행 컨텍스트를 유지한 채 처리
+ */
+@ExtendWith(MockitoExtension.class)
+class AlertShadowRunnerTest {
+
+    @Mock
+    private AlertDetectionService alertDetectionService;
+
+    @Mock
+    private AlertNotificationService alertNotificationService;
+
+    @Mock
+    private DailyCheckMemberCursor memberCursor;
+
+    @Spy
+    private SchedulingProperties schedulingProperties = new SchedulingProperties();
+
+    @Mock
+    private ShadowTransactions shadowTransactions;
+
+    @InjectMocks
+    private AlertShadowRunner alertShadowRunner;
+
+    @BeforeEach
+    void setUp() {
+        when(shadowTransactions.rollback(any())).thenAnswer(invocation -> {
+            assertThat(ShadowRun.isActive()).isTrue();
+            return invocation.<Supplier<?>>getArgument(0).get();
+        });
+    }
+
+    @Test
+    @DisplayName("페이지별 롤백 트랜잭션에서 감지/알림을 실행하고 예정 알림 수를 보고한다")
+    void runShadow_ReportsPlannedAlerts() {
+        // Given
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING)).thenReturn(Stream.of(List.of(1L, 2L)));
+        AlertResult highAlert = AlertResult.createAlert(AlertLevel.HIGH, AlertType.NO_RESPONSE, "3일 무응답", null);
+        when(alertDetectionService.detectAnomaliesBatch(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, List.of(highAlert), 2L, List.of()));
+
+        // When
+        ShadowRunReport report = alertShadowRunner.runShadow();
+
+        // Then
+        verify(shadowTransactions).rollback(any());
+        verify(alertNotificationService).triggerAlert(1L, highAlert);
+        assertThat(report.job()).isEqualTo("alert-detection");
+        assertThat(report.counts())
+                .containsEntry("members", 2L)
+                .containsEntry("planned-alerts.HIGH", 1L)
+                .doesNotContainKey("failures");
+        assertThat(report.stages()).extracting(ShadowRunReport.Stage::name)
+                .contains("detect-batch", "trigger-alert");
+        assertThat(ShadowRun.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패한 페이지를 집계하고 나머지 페이지를 처리한다")
+    void runShadow_CountsFailures() {
+        // Given
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+                .thenReturn(Stream.of(List.of(1L, 2L), List.of(3L)));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(1L, 2L)))
+                .thenThrow(new RuntimeException("Database error"));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(3L))).thenReturn(Map.of());
+
+        // When
+        ShadowRunReport report = alertShadowRunner.runShadow();
+
+        // Then
+        verify(alertDetectionService).detectAnomaliesBatch(List.of(3L));
+        assertThat(report.counts())
+                .containsEntry("members", 3L)
+                .containsEntry("failures", 2L);
+    }
+
+    @Test
+    @DisplayName("병렬 모드에서 청크별 롤백 트랜잭션을 작업 스레드에서 실행한다")
+    void runShadow_ParallelChunks() {
+        // Given
+        schedulingProperties.getAlertDetection().setParallel(true);
+        schedulingProperties.getAlertDetection().setChunkSize(1);
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING)).thenReturn(Stream.of(List.of(1L, 2L)));
+        when(alertDetectionService.detectAnomaliesBatch(anyList())).thenReturn(Map.of());
+
+        // When
+        ShadowRunReport report = alertShadowRunner.runShadow();
+
+        // Then
+        verify(shadowTransactions, times(2)).rollback(any());
+        verify(alertDetectionService).detectAnomaliesBatch(List.of(1L));
+        verify(alertDetectionService).detectAnomaliesBatch(List.of(2L));
+        assertThat(report.counts())
+                .containsEntry("members", 2L)
+                .containsEntry("parallelism", 8L)
+                .doesNotContainKey("failures");
+        assertThat(report.stages()).filteredOn(stage -> stage.name().equals("detect-batch"))
+                .singleElement()
+                .extracting(ShadowRunReport.Stage::invocations)
+                .isEqualTo(2L);
+    }
+}
@@ -1,14 +1,18 @@
 package com.anyang.maruni.domain.alertrule.application.scheduler;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -17,14 +21,21 @@ import com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectio
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
-import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
+import com.anyang.maruni.domain.alertrule.application.scheduler.AlertTriggerService.DetectionResult;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * AlertTriggerService 테스트
  *
  * 핵심 시나리오:
- * 1. 전체 회원 감지 성공
- * 2. 일부 회원 실패해도 나머지 처리
+ * 1. 전체 회원 페이지 단위 일괄 감지 성공
+ * 2. 일부 회원 알림 실패해도 나머지 처리
+ * 3. 일괄 감지 실패 시 회원별 감지로 대체
+ * 4. 실시간 평가로 오늘 이미 발생한 알림은 건너뜀
+ * 5. 병렬 모드에서 청크별 일괄 감지, 동시 커넥션 수 제한
  */
 @ExtendWith(MockitoExtension.class)
 class AlertTriggerServiceTest {
@@ -36,60 +47,89 @@ class AlertTriggerServiceTest {
     private AlertNotificationService alertNotificationService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private DailyCheckMemberCursor memberCursor;
+
+    private final SchedulingProperties schedulingProperties = new SchedulingProperties();
+
+    private SimpleMeterRegistry meterRegistry;
 
-    @InjectMocks
     private AlertTriggerService alertTriggerService;
 
+    private final AlertResult highAlert = AlertResult.createAlert(
+        AlertLevel.HIGH, AlertType.NO_RESPONSE, "3일 무응답", null
+    );
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        alertTriggerService = new AlertTriggerService(alertDetectionService, alertNotificationService,
+            memberCursor, schedulingProperties, meterRegistry);
+    }
+
     @Test
-    @DisplayName("전체 회원 감지 성공")
+    @DisplayName("전체 회원 감지 성공 - 페이지당 한 번 일괄 감지")
     void detectAnomaliesForAllMembers_Success() {
-        // Given: 3명의 회원
-        when(memberRepository.findDailyCheckEnabledMemberIds())
-            .thenReturn(List.of(1L, 2L, 3L));
-
-        AlertResult highAlert = AlertResult.createAlert(
-            AlertLevel.HIGH, AlertType.NO_RESPONSE, "3일 무응답", null
-        );
-        when(alertDetectionService.detectAnomalies(anyLong()))
-            .thenReturn(List.of(highAlert));
+        // Given: 2개 페이지, 3명의 회원
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+            .thenReturn(Stream.of(List.of(1L, 2L), List.of(3L)));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(1L, 2L)))
+            .thenReturn(Map.of(1L, List.of(highAlert), 2L, List.of(highAlert)));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(3L)))
+            .thenReturn(Map.of(3L, List.of(highAlert)));
 
         // When
         alertTriggerService.detectAnomaliesForAllMembers();
 
-        // Then: 3명 모두 감지 시도
-        verify(alertDetectionService, times(3)).detectAnomalies(anyLong());
+        // Then: 페이지마다 일괄 감지, 회원별 감지는 호출하지 않음
+        verify(alertDetectionService, times(2)).detectAnomaliesBatch(anyList());
+        verify(alertDetectionService, never()).detectAnomalies(anyLong());
         // 3명 모두 알림 발송
         verify(alertNotificationService, times(3)).triggerAlert(anyLong(), any());
     }
 
     @Test
-    @DisplayName("일부 회원 실패해도 나머지 처리 계속")
+    @DisplayName("일부 회원 알림 실패해도 나머지 처리 계속")
     void detectAnomaliesForAllMembers_PartialFailure() {
         // Given
-        when(memberRepository.findDailyCheckEnabledMemberIds())
-            .thenReturn(List.of(1L, 2L, 3L));
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+            .thenReturn(Stream.of(List.of(1L, 2L, 3L)));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(1L, 2L, 3L)))
+            .thenReturn(Map.of(1L, List.of(highAlert), 2L, List.of(highAlert), 3L, List.of(highAlert)));
 
-        AlertResult alert = AlertResult.createAlert(
-            AlertLevel.HIGH, AlertType.NO_RESPONSE, "무응답", null
-        );
+        // Member 2: 알림 발송 중 예외 발생
+        when(alertNotificationService.triggerAlert(eq(2L), any()))
+            .thenThrow(new RuntimeException("Database error"));
 
-        // Member 1: 성공
-        when(alertDetectionService.detectAnomalies(1L))
-            .thenReturn(List.of(alert));
+        // When
+        DetectionResult result = alertTriggerService.detectAnomaliesForAllMembers();
+
+        // Then: 3명 모두 알림 시도됨
+        verify(alertNotificationService).triggerAlert(1L, highAlert);
+        verify(alertNotificationService).triggerAlert(2L, highAlert);
+        verify(alertNotificationService).triggerAlert(3L, highAlert);
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.peakConnections()).isEqualTo(1);
+    }
 
-        // Member 2: 예외 발생
-        when(alertDetectionService.detectAnomalies(2L))
-            .thenThrow(new RuntimeException("Database error"));
+    @Test
+    @DisplayName("일괄 감지 실패 시 해당 페이지는 회원별 감지로 대체")
+    void detectAnomaliesForAllMembers_BatchFailureFallsBackToPerMember() {
+        // Given
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+            .thenReturn(Stream.of(List.of(1L, 2L, 3L)));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(1L, 2L, 3L)))
+            .thenThrow(new RuntimeException("Query timeout"));
 
-        // Member 3: 성공
-        when(alertDetectionService.detectAnomalies(3L))
-            .thenReturn(List.of(alert));
+        // Member 1, 3: 성공 / Member 2: 예외 발생
+        when(alertDetectionService.detectAnomalies(1L)).thenReturn(List.of(highAlert));
+        when(alertDetectionService.detectAnomalies(2L)).thenThrow(new RuntimeException("Database error"));
+        when(alertDetectionService.detectAnomalies(3L)).thenReturn(List.of(highAlert));
 
         // When
         alertTriggerService.detectAnomaliesForAllMembers();
 
-        // Then: 3명 모두 감지 시도됨
+        // Then: 3명 모두 회원별 감지 시도됨
         verify(alertDetectionService, times(3)).detectAnomalies(anyLong());
 
         // Member 1, 3만 알림 발송 (Member 2는 실패)
@@ -99,21 +139,70 @@ class AlertTriggerServiceTest {
     @Test
     @DisplayName("위험 신호 없을 때 알림 미발송")
     void detectAnomaliesForAllMembers_NoAlerts() {
-        // Given
-        when(memberRepository.findDailyCheckEnabledMemberIds())
-            .thenReturn(List.of(1L));
-
-        // 빈 결과 (알림 없음)
-        when(alertDetectionService.detectAnomalies(1L))
-            .thenReturn(List.of());
+        // Given: 활성 규칙이 없거나 감지 결과가 없는 회원
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+            .thenReturn(Stream.of(List.of(1L, 2L)));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(1L, 2L)))
+            .thenReturn(Map.of(1L, List.of()));
 
         // When
         alertTriggerService.detectAnomaliesForAllMembers();
 
         // Then: 감지는 시도
-        verify(alertDetectionService, times(1)).detectAnomalies(1L);
+        verify(alertDetectionService).detectAnomaliesBatch(List.of(1L, 2L));
 
         // 알림은 발송하지 않음
         verify(alertNotificationService, never()).triggerAlert(anyLong(), any());
     }
+
+    @Test
+    @DisplayName("실시간 평가로 오늘 이미 발생한 알림은 다시 발송하지 않음")
+    void detectAnomaliesForAllMembers_SkipsAlreadyTriggeredToday() {
+        // Given: Member 1은 오늘 이미 같은 타입 알림 발생
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+            .thenReturn(Stream.of(List.of(1L, 2L)));
+        when(alertDetectionService.detectAnomaliesBatch(List.of(1L, 2L)))
+            .thenReturn(Map.of(1L, List.of(highAlert), 2L, List.of(highAlert)));
+        when(alertNotificationService.isAlreadyTriggeredToday(1L, AlertType.NO_RESPONSE)).thenReturn(true);
+
+        // When
+        alertTriggerService.detectAnomaliesForAllMembers();
+
+        // Then: Member 2만 알림 발송
+        verify(alertNotificationService, never()).triggerAlert(eq(1L), any());
+        verify(alertNotificationService).triggerAlert(2L, highAlert);
+    }
+
+    @Test
+    @DisplayName("병렬 모드 - 청크별 일괄 감지, 회원별 예외 격리와 동시 커넥션 수 제한")
+    void detectAnomaliesForAllMembers_Parallel() {
+        // Given: 청크 2명, 동시 커넥션 2개, 5명 중 Member 4 알림 실패
+        SchedulingProperties.AlertDetection config = schedulingProperties.getAlertDetection();
+        config.setParallel(true);
+        config.setParallelism(2);
+        config.setChunkSize(2);
+        when(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+            .thenReturn(Stream.of(List.of(1L, 2L, 3L, 4L, 5L)));
+        when(alertDetectionService.detectAnomaliesBatch(anyList()))
+            .thenAnswer(invocation -> {
+                List<Long> memberIds = invocation.getArgument(0);
+                return memberIds.stream().collect(Collectors.toMap(id -> id, id -> List.of(highAlert)));
+            });
+        when(alertNotificationService.triggerAlert(eq(4L), any()))
+            .thenThrow(new RuntimeException("Database error"));
+
+        // When
+        DetectionResult result = alertTriggerService.detectAnomaliesForAllMembers();
+
+        // Then
+        verify(alertDetectionService).detectAnomaliesBatch(List.of(1L, 2L));
+        verify(alertDetectionService).detectAnomaliesBatch(List.of(3L, 4L));
+        verify(alertDetectionService).detectAnomaliesBatch(List.of(5L));
+        verify(alertNotificationService, times(5)).triggerAlert(anyLong(), any());
+        assertThat(result.succeeded()).isEqualTo(4);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.peakConnections()).isBetween(1, 2);
+        assertThat(result.p99Millis()).isGreaterThanOrEqualTo(result.p50Millis());
+        assertThat(meterRegistry.get("maruni.alert.detection.member").timer().count()).isEqualTo(5);
+    }
 }
@@ -2,12 +2,13 @@ package com.anyang.maruni.domain.alertrule.application.service;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AnalysisContext;
+import com.anyang.maruni.domain.alertrule.application.cache.ActiveRuleCache;
+import com.anyang.maruni.domain.alertrule.application.cache.AlertRuleSnapshot;
 import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectionService;
 import com.anyang.maruni.domain.alertrule.application.service.orchestrator.AlertAnalysisOrchestrator;
 import com.anyang.maruni.domain.alertrule.application.service.util.AlertServiceUtils;
 import com.anyang.maruni.domain.alertrule.domain.entity.*;
-import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
 import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
 import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
@@ -15,17 +16,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -34,6 +40,7 @@ import static org.mockito.Mockito.verify;
  * 이상징후 감지 로직 전담 서비스의 독립적인 테스트
  * - 종합 이상징후 감지
  * - 키워드 감지
+ * - 페이지 단위 일괄 감지
  * - 활성 규칙 조회
  */
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +48,7 @@ import static org.mockito.Mockito.verify;
 class AlertDetectionServiceTest {
 
     @Mock
-    private AlertRuleRepository alertRuleRepository;
+    private ActiveRuleCache activeRuleCache;
 
     @Mock
     private AlertAnalysisOrchestrator analysisOrchestrator;
@@ -56,7 +63,7 @@ class AlertDetectionServiceTest {
     private AlertDetectionService alertDetectionService;
 
     private MemberEntity testMember;
-    private AlertRule testRule;
+    private AlertRuleSnapshot testRule;
     private MessageEntity testMessage;
     private AlertResult testAlertResult;
     private AlertConfigurationProperties.Analysis analysisConfig;
@@ -70,7 +77,7 @@ class AlertDetectionServiceTest {
                 .memberPassword("password123")
                 .build();
 
-        testRule = AlertRule.createEmotionPatternRule(testMember, 3, AlertLevel.HIGH);
+        testRule = AlertRuleSnapshot.from(AlertRule.createEmotionPatternRule(testMember, 3, AlertLevel.HIGH));
 
         testMessage = MessageEntity.createUserMessage(
                 null,
@@ -91,11 +98,11 @@ class AlertDetectionServiceTest {
     void detectAnomalies_AlertGenerated() {
         // Given
         Long memberId = 1L;
-        List<AlertRule> activeRules = Arrays.asList(testRule);
+        List<AlertRuleSnapshot> activeRules = Arrays.asList(testRule);
 
         given(alertServiceUtils.validateAndGetMember(memberId))
                 .willReturn(testMember);
-        given(alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId))
+        given(activeRuleCache.getActiveRules(memberId))
                 .willReturn(activeRules);
         given(alertConfig.getAnalysis())
                 .willReturn(analysisConfig);
@@ -114,20 +121,53 @@ class AlertDetectionServiceTest {
         assertThat(results.get(0).getMessage()).isEqualTo("3일 연속 부정감정 감지");
 
         verify(alertServiceUtils).validateAndGetMember(memberId);
-        verify(alertRuleRepository).findActiveRulesWithMemberAndGuardian(memberId);
+        verify(activeRuleCache).getActiveRules(memberId);
         verify(analysisOrchestrator).analyzeByType(eq(AlertType.EMOTION_PATTERN), eq(testMember), any(AnalysisContext.class));
     }
 
+    @Test
+    @DisplayName("종합 이상징후 감지 - 회원의 모든 규칙이 하나의 분석 컨텍스트를 공유")
+    void detectAnomalies_SharesContextAcrossRules() {
+        // Given: 같은 타입의 규칙 2개 + 무응답 규칙 1개
+        Long memberId = 1L;
+        AlertRuleSnapshot secondRule = AlertRuleSnapshot.from(
+                AlertRule.createEmotionPatternRule(testMember, 5, AlertLevel.MEDIUM));
+        AlertRuleSnapshot noResponseRule = AlertRuleSnapshot.from(
+                AlertRule.createNoResponseRule(testMember, 3, AlertLevel.HIGH));
+
+        given(alertServiceUtils.validateAndGetMember(memberId))
+                .willReturn(testMember);
+        given(activeRuleCache.getActiveRules(memberId))
+                .willReturn(List.of(testRule, secondRule, noResponseRule));
+        given(alertConfig.getAnalysis())
+                .willReturn(analysisConfig);
+        given(analysisOrchestrator.isSupported(any()))
+                .willReturn(true);
+        given(analysisOrchestrator.analyzeByType(any(), eq(testMember), any(AnalysisContext.class)))
+                .willReturn(AlertResult.noAlert());
+
+        // When
+        alertDetectionService.detectAnomalies(memberId);
+
+        // Then
+        ArgumentCaptor<AnalysisContext> contexts = ArgumentCaptor.forClass(AnalysisContext.class);
+        verify(analysisOrchestrator, times(3)).analyzeByType(any(), eq(testMember), contexts.capture());
+        assertThat(contexts.getAllValues()).allSatisfy(context -> {
+            assertThat(context).isSameAs(contexts.getValue());
+            assertThat(context.getAnalysisDays()).isEqualTo(7);
+        });
+    }
+
     @Test
     @DisplayName("종합 이상징후 감지 - 알림 미발생")
     void detectAnomalies_NoAlert() {
         // Given
         Long memberId = 1L;
-        List<AlertRule> activeRules = Arrays.asList(testRule);
+        List<AlertRuleSnapshot> activeRules = Arrays.asList(testRule);
 
         given(alertServiceUtils.validateAndGetMember(memberId))
                 .willReturn(testMember);
-        given(alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId))
+        given(activeRuleCache.getActiveRules(memberId))
                 .willReturn(activeRules);
         given(alertConfig.getAnalysis())
                 .willReturn(analysisConfig);
@@ -143,7 +183,7 @@ class AlertDetectionServiceTest {
         assertThat(results).isEmpty();
 
         verify(alertServiceUtils).validateAndGetMember(memberId);
-        verify(alertRuleRepository).findActiveRulesWithMemberAndGuardian(memberId);
+        verify(activeRuleCache).getActiveRules(memberId);
         verify(analysisOrchestrator).analyzeByType(eq(AlertType.EMOTION_PATTERN), eq(testMember), any(AnalysisContext.class));
     }
 
@@ -198,18 +238,18 @@ class AlertDetectionServiceTest {
     void getActiveRulesByMemberId_Success() {
         // Given
         Long memberId = 1L;
-        List<AlertRule> expectedRules = Arrays.asList(testRule);
+        List<AlertRuleSnapshot> expectedRules = Arrays.asList(testRule);
 
-        given(alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId))
+        given(activeRuleCache.getActiveRules(memberId))
                 .willReturn(expectedRules);
 
         // When
-        List<AlertRule> rules = alertDetectionService.getActiveRulesByMemberId(memberId);
+        List<AlertRuleSnapshot> rules = alertDetectionService.getActiveRulesByMemberId(memberId);
 
         // Then
         assertThat(rules).isEqualTo(expectedRules);
         assertThat(rules).hasSize(1);
-        verify(alertRuleRepository).findActiveRulesWithMemberAndGuardian(memberId);
+        verify(activeRuleCache).getActiveRules(memberId);
     }
 
     @Test
@@ -217,24 +257,26 @@ class AlertDetectionServiceTest {
     void getActiveRulesByMemberIdOrderedByPriority_Success() {
         // Given
         Long memberId = 1L;
-        AlertRule highPriorityRule = AlertRule.createKeywordRule(testMember, "자살", AlertLevel.EMERGENCY);
-        AlertRule mediumPriorityRule = AlertRule.createEmotionPatternRule(testMember, 3, AlertLevel.MEDIUM);
+        AlertRuleSnapshot highPriorityRule = AlertRuleSnapshot.from(
+                AlertRule.createKeywordRule(testMember, "자살", AlertLevel.EMERGENCY));
+        AlertRuleSnapshot mediumPriorityRule = AlertRuleSnapshot.from(
+                AlertRule.createEmotionPatternRule(testMember, 3, AlertLevel.MEDIUM));
 
-        List<AlertRule> unsortedRules = Arrays.asList(mediumPriorityRule, highPriorityRule);
+        List<AlertRuleSnapshot> unsortedRules = Arrays.asList(mediumPriorityRule, highPriorityRule);
 
-        given(alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId))
+        given(activeRuleCache.getActiveRules(memberId))
                 .willReturn(unsortedRules);
 
         // When
-        List<AlertRule> rules = alertDetectionService.getActiveRulesByMemberIdOrderedByPriority(memberId);
+        List<AlertRuleSnapshot> rules = alertDetectionService.getActiveRulesByMemberIdOrderedByPriority(memberId);
 
         // Then
         assertThat(rules).hasSize(2);
         // EMERGENCY가 MEDIUM보다 우선순위가 높으므로 첫 번째에 위치
-        assertThat(rules.get(0).getAlertLevel()).isEqualTo(AlertLevel.EMERGENCY);
-        assertThat(rules.get(1).getAlertLevel()).isEqualTo(AlertLevel.MEDIUM);
+        assertThat(rules.get(0).alertLevel()).isEqualTo(AlertLevel.EMERGENCY);
+        assertThat(rules.get(1).alertLevel()).isEqualTo(AlertLevel.MEDIUM);
 
-        verify(alertRuleRepository).findActiveRulesWithMemberAndGuardian(memberId);
+        verify(activeRuleCache).getActiveRules(memberId);
     }
 
     @Test
@@ -243,15 +285,15 @@ class AlertDetectionServiceTest {
         // Given
         Long memberId = 1L;
 
-        given(alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId))
+        given(activeRuleCache.getActiveRules(memberId))
                 .willReturn(Arrays.asList());
 
         // When
-        List<AlertRule> rules = alertDetectionService.getActiveRulesByMemberId(memberId);
+        List<AlertRuleSnapshot> rules = alertDetectionService.getActiveRulesByMemberId(memberId);
 
         // Then
         assertThat(rules).isEmpty();
-        verify(alertRuleRepository).findActiveRulesWithMemberAndGuardian(memberId);
+        verify(activeRuleCache).getActiveRules(memberId);
     }
 
     @Test
@@ -259,12 +301,13 @@ class AlertDetectionServiceTest {
     void detectAnomalies_ExcludeKeywordRules() {
         // Given
         Long memberId = 1L;
-        AlertRule keywordRule = AlertRule.createKeywordRule(testMember, "자살", AlertLevel.EMERGENCY);
-        List<AlertRule> activeRules = Arrays.asList(keywordRule);
+        AlertRuleSnapshot keywordRule = AlertRuleSnapshot.from(
+                AlertRule.createKeywordRule(testMember, "자살", AlertLevel.EMERGENCY));
+        List<AlertRuleSnapshot> activeRules = Arrays.asList(keywordRule);
 
         given(alertServiceUtils.validateAndGetMember(memberId))
                 .willReturn(testMember);
-        given(alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId))
+        given(activeRuleCache.getActiveRules(memberId))
                 .willReturn(activeRules);
 
         // When
@@ -275,7 +318,7 @@ class AlertDetectionServiceTest {
         assertThat(results).isEmpty();
 
         verify(alertServiceUtils).validateAndGetMember(memberId);
-        verify(alertRuleRepository).findActiveRulesWithMemberAndGuardian(memberId);
+        verify(activeRuleCache).getActiveRules(memberId);
     }
 
     @Test
@@ -283,11 +326,11 @@ class AlertDetectionServiceTest {
     void detectAnomalies_UnsupportedAlertType() {
         // Given
         Long memberId = 1L;
-        List<AlertRule> activeRules = Arrays.asList(testRule);
+        List<AlertRuleSnapshot> activeRules = Arrays.asList(testRule);
 
         given(alertServiceUtils.validateAndGetMember(memberId))
                 .willReturn(testMember);
-        given(alertRuleRepository.findActiveRulesWithMemberAndGuardian(memberId))
+        given(activeRuleCache.getActiveRules(memberId))
                 .willReturn(activeRules);
         given(analysisOrchestrator.isSupported(AlertType.EMOTION_PATTERN))
                 .willReturn(false);
@@ -299,7 +342,71 @@ class AlertDetectionServiceTest {
         assertThat(results).isEmpty();
 
         verify(alertServiceUtils).validateAndGetMember(memberId);
-        verify(alertRuleRepository).findActiveRulesWithMemberAndGuardian(memberId);
+        verify(activeRuleCache).getActiveRules(memberId);
         verify(analysisOrchestrator).isSupported(AlertType.EMOTION_PATTERN);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 감지 - 타입별 한 번 일괄 분석하고 회원별 결과로 분배")
+    void detectAnomaliesBatch_AnalyzesOncePerType() {
+        // Given
+        MemberEntity otherMember = MemberEntity.builder()
+                .id(2L)
+                .memberName("다른회원")
+                .memberEmail("other@example.com")
+                .memberPassword("password123")
+                .build();
+        AlertRuleSnapshot otherRule = AlertRuleSnapshot.from(
+                AlertRule.createEmotionPatternRule(otherMember, 3, AlertLevel.HIGH));
+        AlertRuleSnapshot keywordRule = AlertRuleSnapshot.from(
+                AlertRule.createKeywordRule(otherMember, "자살", AlertLevel.EMERGENCY));
+        List<Long> memberIds = List.of(1L, 2L, 3L);
+
+        given(activeRuleCache.getActiveRules(memberIds))
+                .willReturn(Map.of(1L, List.of(testRule), 2L, List.of(otherRule, keywordRule), 3L, List.of()));
+        given(alertConfig.getAnalysis())
+                .willReturn(analysisConfig);
+        given(analysisOrchestrator.supportsBatch(AlertType.EMOTION_PATTERN))
+                .willReturn(true);
+        given(analysisOrchestrator.analyzeBatchByType(eq(AlertType.EMOTION_PATTERN), eq(Set.of(1L, 2L)), any(AnalysisContext.class)))
+                .willReturn(Map.of(1L, testAlertResult));
+
+        // When
+        Map<Long, List<AlertResult>> results = alertDetectionService.detectAnomaliesBatch(memberIds);
+
+        // Then: 규칙이 없는 회원 3은 제외, 회원 2는 분석 데이터가 없어 알림 없음
+        assertThat(results).containsOnlyKeys(1L, 2L);
+        assertThat(results.get(1L)).containsExactly(testAlertResult);
+        assertThat(results.get(2L)).isEmpty();
+
+        verify(alertServiceUtils, never()).validateAndGetMember(any());
+        verify(analysisOrchestrator, never()).analyzeByType(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 감지 - 일괄 분석 미지원 타입은 회원별 분석")
+    void detectAnomaliesBatch_FallsBackToPerMemberForUnsupportedType() {
+        // Given
+        List<Long> memberIds = List.of(1L);
+
+        given(activeRuleCache.getActiveRules(memberIds))
+                .willReturn(Map.of(1L, List.of(testRule)));
+        given(alertServiceUtils.validateAndGetMember(1L))
+                .willReturn(testMember);
+        given(alertConfig.getAnalysis())
+                .willReturn(analysisConfig);
+        given(analysisOrchestrator.supportsBatch(AlertType.EMOTION_PATTERN))
+                .willReturn(false);
+        given(analysisOrchestrator.isSupported(AlertType.EMOTION_PATTERN))
+                .willReturn(true);
+        given(analysisOrchestrator.analyzeByType(eq(AlertType.EMOTION_PATTERN), eq(testMember), any(AnalysisContext.class)))
+                .willReturn(testAlertResult);
+
+        // When
+        Map<Long, List<AlertResult>> results = alertDetectionService.detectAnomaliesBatch(memberIds);
+
+        // Then
+        assertThat(results.get(1L)).containsExactly(testAlertResult);
+        verify(analysisOrchestrator, never()).analyzeBatchByType(any(), any(), any());
+    }
+}
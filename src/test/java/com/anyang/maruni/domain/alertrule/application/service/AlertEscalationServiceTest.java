@@ -0,0 +1,211 @@
+package com.anyang.maruni.domain.alertrule.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.service.core.AlertEscalationService;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+import com.anyang.maruni.domain.alertrule.domain.vo.PendingEscalation;
+import com.anyang.maruni.domain.guardian.domain.entity.GuardianRelation;
+import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.domain.notification.domain.service.NotificationHistoryService;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationSourceType;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AlertEscalationService 테스트")
+class AlertEscalationServiceTest {
+
+    private static final Long ALERT_ID = 123L;
+    private static final Long GUARDIAN_ID = 2L;
+    private static final Long CONTACT_ID = 99L;
+
+    @Mock
+    private AlertHistoryRepository alertHistoryRepository;
+
+    @Mock
+    private NotificationHistoryService notificationHistoryService;
+
+    private final AlertConfigurationProperties alertConfig = new AlertConfigurationProperties();
+
+    private AlertEscalationService alertEscalationService;
+    private MemberEntity member;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig.getEscalation().setMaxEscalations(3);
+        alertConfig.getEscalation().setWidenFromEscalation(2);
+        alertConfig.getEscalation().setAdditionalContactIds(List.of(CONTACT_ID));
+        alertEscalationService = new AlertEscalationService(
+                alertHistoryRepository, notificationHistoryService, alertConfig);
+
+        MemberEntity guardian = MemberEntity.builder()
+                .id(GUARDIAN_ID)
+                .memberName("보호자")
+                .memberEmail("guardian@example.com")
+                .memberPassword("password123")
+                .build();
+        member = MemberEntity.builder()
+                .id(1L)
+                .memberName("회원")
+                .memberEmail("member@example.com")
+                .memberPassword("password123")
+                .build();
+        member.assignGuardian(guardian, GuardianRelation.FAMILY);
+    }
+
+    @Test
+    @DisplayName("EMERGENCY/HIGH만 레벨별 간격으로 에스컬레이션 예약")
+    void nextEscalationAt_OnlyEmergencyAndHigh() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(alertEscalationService.nextEscalationAt(AlertLevel.EMERGENCY, now)).isEqualTo(now.plusMinutes(10));
+        assertThat(alertEscalationService.nextEscalationAt(AlertLevel.HIGH, now)).isEqualTo(now.plusMinutes(60));
+        assertThat(alertEscalationService.nextEscalationAt(AlertLevel.MEDIUM, now)).isNull();
+    }
+
+    @Test
+    @DisplayName("보호자가 확인하지 않았으면 보호자에게 재알림하고 다음 예약을 반환")
+    void escalate_Unacknowledged_RenotifiesGuardian() {
+        // Given
+        AlertHistory alertHistory = sentAlertHistory(0);
+        given(alertHistoryRepository.findByIdForUpdate(ALERT_ID)).willReturn(Optional.of(alertHistory));
+
+        // When
+        Optional<PendingEscalation> next = alertEscalationService.escalate(timer(0));
+
+        // Then
+        then(notificationHistoryService).should().recordNotificationWithType(
+                eq(GUARDIAN_ID), eq("[MARUNI 재알림 1차] EMERGENCY 단계 알림 미확인"), eq("긴급 키워드 감지"),
+                any(), eq(NotificationSourceType.ALERT_RULE), eq(ALERT_ID));
+        then(notificationHistoryService).should(never()).recordNotificationWithType(
+                eq(CONTACT_ID), anyString(), anyString(), any(), any(), anyLong());
+        assertThat(alertHistory.getEscalationLevel()).isEqualTo(1);
+        assertThat(next).isPresent();
+        assertThat(next.get().escalationLevel()).isEqualTo(1);
+        assertThat(next.get().dueAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+    }
+
+    @Test
+    @DisplayName("지정 차수부터는 추가 연락처에도 재알림")
+    void escalate_WidenFromEscalation_NotifiesAdditionalContacts() {
+        // Given
+        AlertHistory alertHistory = sentAlertHistory(1);
+        given(alertHistoryRepository.findByIdForUpdate(ALERT_ID)).willReturn(Optional.of(alertHistory));
+
+        // When
+        alertEscalationService.escalate(timer(1));
+
+        // Then
+        then(notificationHistoryService).should().recordNotificationWithType(
+                eq(GUARDIAN_ID), anyString(), anyString(), any(), any(), eq(ALERT_ID));
+        then(notificationHistoryService).should().recordNotificationWithType(
+                eq(CONTACT_ID), anyString(), anyString(), any(), any(), eq(ALERT_ID));
+    }
+
+    @Test
+    @DisplayName("보호자가 알림을 읽었으면 재알림 없이 에스컬레이션 종료")
+    void escalate_Acknowledged_Closes() {
+        // Given
+        AlertHistory alertHistory = sentAlertHistory(0);
+        given(alertHistoryRepository.findByIdForUpdate(ALERT_ID)).willReturn(Optional.of(alertHistory));
+        given(notificationHistoryService.isAcknowledged(NotificationSourceType.ALERT_RULE, ALERT_ID))
+                .willReturn(true);
+
+        // When
+        Optional<PendingEscalation> next = alertEscalationService.escalate(timer(0));
+
+        // Then
+        assertThat(next).isEmpty();
+        assertThat(alertHistory.getNextEscalationAt()).isNull();
+        then(notificationHistoryService).should(never()).recordNotificationWithType(
+                anyLong(), anyString(), anyString(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("마지막 차수 재알림 후에는 더 이상 예약하지 않음")
+    void escalate_LastEscalation_StopsScheduling() {
+        // Given
+        AlertHistory alertHistory = sentAlertHistory(2);
+        given(alertHistoryRepository.findByIdForUpdate(ALERT_ID)).willReturn(Optional.of(alertHistory));
+
+        // When
+        Optional<PendingEscalation> next = alertEscalationService.escalate(timer(2));
+
+        // Then
+        assertThat(next).isEmpty();
+        assertThat(alertHistory.getEscalationLevel()).isEqualTo(3);
+        assertThat(alertHistory.getNextEscalationAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 처리한 예약이면 재알림 없이 바뀐 예약을 반환")
+    void escalate_StaleTimer_ReturnsCurrentSchedule() {
+        // Given
+        AlertHistory alertHistory = sentAlertHistory(1);
+        given(alertHistoryRepository.findByIdForUpdate(ALERT_ID)).willReturn(Optional.of(alertHistory));
+
+        // When
+        Optional<PendingEscalation> next = alertEscalationService.escalate(timer(0));
+
+        // Then
+        assertThat(next).contains(new PendingEscalation(ALERT_ID, 1, alertHistory.getNextEscalationAt()));
+        verifyNoInteractions(notificationHistoryService);
+    }
+
+    @Test
+    @DisplayName("최초 보호자 알림이 아직 발송 대기 중이면 재알림하지 않고 미룸")
+    void escalate_InitialNotificationPending_Postpones() {
+        // Given
+        AlertHistory alertHistory = AlertHistory.builder()
+                .id(ALERT_ID)
+                .member(member)
+                .alertLevel(AlertLevel.EMERGENCY)
+                .alertType(AlertType.KEYWORD_DETECTION)
+                .alertMessage("긴급 키워드 감지")
+                .nextNotificationAt(LocalDateTime.now().plusSeconds(30))
+                .nextEscalationAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        given(alertHistoryRepository.findByIdForUpdate(ALERT_ID)).willReturn(Optional.of(alertHistory));
+
+        // When
+        Optional<PendingEscalation> next = alertEscalationService.escalate(timer(0));
+
+        // Then
+        assertThat(next).isPresent();
+        assertThat(alertHistory.getEscalationLevel()).isZero();
+        then(notificationHistoryService).should(never()).recordNotificationWithType(
+                anyLong(), anyString(), anyString(), any(), any(), anyLong());
+    }
+
+    private AlertHistory sentAlertHistory(int escalationLevel) {
+        return AlertHistory.builder()
+                .id(ALERT_ID)
+                .member(member)
+                .alertLevel(AlertLevel.EMERGENCY)
+                .alertType(AlertType.KEYWORD_DETECTION)
+                .alertMessage("긴급 키워드 감지")
+                .isNotificationSent(true)
+                .escalationLevel(escalationLevel)
+                .nextEscalationAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private PendingEscalation timer(int escalationLevel) {
+        return new PendingEscalation(ALERT_ID, escalationLevel, LocalDateTime.now().minusSeconds(1));
+    }
+}
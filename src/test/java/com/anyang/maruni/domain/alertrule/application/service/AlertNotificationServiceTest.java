@@ -1,13 +1,18 @@
 package com.anyang.maruni.domain.alertrule.application.service;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.cache.AlertHistoryDedupIndex;
 import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.alertrule.application.correlation.AlertIncidentCorrelator;
+import com.anyang.maruni.domain.alertrule.application.correlation.AlertIncidentCorrelator.IncidentPlan;
+import com.anyang.maruni.domain.alertrule.application.escalation.AlertEscalationEngine;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
 import com.anyang.maruni.domain.alertrule.application.service.util.AlertServiceUtils;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
 import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+import com.anyang.maruni.domain.alertrule.infrastructure.persistence.AlertHistoryInsertWriter;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.guardian.domain.entity.GuardianRelation;
 import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
@@ -18,9 +23,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +39,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.times;
@@ -59,6 +71,18 @@ class AlertNotificationServiceTest {
 	@Mock
 	private AlertHistoryRepository alertHistoryRepository;
 
+	@Mock
+	private AlertHistoryInsertWriter alertHistoryInsertWriter;
+
+	@Mock
+	private AlertHistoryDedupIndex alertHistoryDedupIndex;
+
+	@Mock
+	private AlertEscalationEngine alertEscalationEngine;
+
+	@Mock
+	private AlertIncidentCorrelator alertIncidentCorrelator;
+
 	@InjectMocks
 	private AlertNotificationService alertNotificationService;
 
@@ -109,11 +133,12 @@ class AlertNotificationServiceTest {
 	}
 
 	@Test
-	@DisplayName("알림 발생 처리 - 성공")
+	@DisplayName("알림 발생 처리 - 성공 (동기 발송)")
 	void triggerAlert_Success() {
 		// Given
 		Long memberId = 1L;
 		Long expectedHistoryId = 123L;
+		given(alertConfig.getOutbox()).willReturn(outbox(false));
 
 		AlertConfigurationProperties.Notification notificationConfig =
 			new AlertConfigurationProperties.Notification();
@@ -123,8 +148,8 @@ class AlertNotificationServiceTest {
 			.willReturn(testMember);
 		given(alertServiceUtils.createDetectionDetailsJson(testAlertResult))
 			.willReturn("{\"alertLevel\":\"HIGH\",\"message\":\"3일 연속 부정감정 감지\"}");
-		given(alertHistoryRepository.save(any(AlertHistory.class)))
-			.willReturn(testAlertHistory);
+		given(alertHistoryInsertWriter.insertIfAbsent(any(AlertHistory.class)))
+			.willReturn(Optional.of(testAlertHistory.getId()));
 		given(alertConfig.getNotification())
 			.willReturn(notificationConfig);
 		given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), anyLong()))
@@ -138,13 +163,309 @@ class AlertNotificationServiceTest {
 
 		verify(alertServiceUtils, times(2)).validateAndGetMember(memberId);
 		verify(alertServiceUtils).createDetectionDetailsJson(testAlertResult);
-		verify(alertHistoryRepository).save(any(AlertHistory.class));
+		verify(alertHistoryDedupIndex).markInserted(memberId, AlertType.EMOTION_PATTERN);
+		verify(alertHistoryInsertWriter).insertIfAbsent(any(AlertHistory.class));
 		// triggerAlert는 내부적으로 sendGuardianNotificationWithType을 호출하므로 알림 발송도 검증
 		verify(notificationHistoryService).recordNotificationWithType(
 			eq(testGuardian.getId()), eq("[HIGH] 알림"), eq(testAlertResult.getMessage()),
 			any(), any(), eq(expectedHistoryId));
 	}
 
+	@Test
+	@DisplayName("알림 발생 처리 - 오늘 이미 기록된 알림은 DB 접근 없이 생략")
+	void triggerAlert_KnownDuplicate_SkipsDatabase() {
+		// Given
+		Long memberId = 1L;
+		given(alertHistoryDedupIndex.contains(memberId, AlertType.EMOTION_PATTERN))
+			.willReturn(true);
+
+		// When
+		Long result = alertNotificationService.triggerAlert(memberId, testAlertResult);
+
+		// Then
+		assertThat(result).isNull();
+		verifyNoInteractions(alertServiceUtils, alertHistoryInsertWriter, alertHistoryRepository,
+			notificationHistoryService);
+	}
+
+	@Test
+	@DisplayName("알림 발생 처리 - 유니크 키 충돌 시 예외 없이 생략하고 인덱스에 반영")
+	void triggerAlert_InsertConflict_SkipsNotification() {
+		// Given
+		Long memberId = 1L;
+		given(alertServiceUtils.validateAndGetMember(memberId))
+			.willReturn(testMember);
+		given(alertConfig.getOutbox()).willReturn(outbox(true));
+		given(alertConfig.getCorrelation()).willReturn(correlation(false));
+		given(alertHistoryInsertWriter.insertIfAbsent(any(AlertHistory.class)))
+			.willReturn(Optional.empty());
+
+		// When
+		Long result = alertNotificationService.triggerAlert(memberId, testAlertResult);
+
+		// Then
+		assertThat(result).isNull();
+		verify(alertHistoryDedupIndex).markExisting(memberId, AlertType.EMOTION_PATTERN);
+		verify(alertHistoryDedupIndex, never()).markInserted(anyLong(), any());
+		verifyNoInteractions(notificationHistoryService);
+	}
+
+	@Test
+	@DisplayName("알림 발생 처리 - 아웃박스 모드는 발송 대기로만 기록하고 발송을 기다리지 않음")
+	void triggerAlert_Outbox_RecordsPendingWithoutSending() {
+		// Given
+		Long memberId = 1L;
+		given(alertConfig.getOutbox()).willReturn(outbox(true));
+		given(alertConfig.getCorrelation()).willReturn(correlation(false));
+		given(alertServiceUtils.validateAndGetMember(memberId))
+			.willReturn(testMember);
+		given(alertHistoryInsertWriter.insertIfAbsent(any(AlertHistory.class)))
+			.willReturn(Optional.of(123L));
+
+		// When
+		Long result = alertNotificationService.triggerAlert(memberId, testAlertResult);
+
+		// Then
+		assertThat(result).isEqualTo(123L);
+		ArgumentCaptor<AlertHistory> captor = ArgumentCaptor.forClass(AlertHistory.class);
+		verify(alertHistoryInsertWriter).insertIfAbsent(captor.capture());
+		assertThat(captor.getValue().getNextNotificationAt()).isNotNull();
+		assertThat(captor.getValue().getIsNotificationSent()).isFalse();
+		verify(alertServiceUtils, times(1)).validateAndGetMember(memberId);
+		verifyNoInteractions(notificationHistoryService);
+	}
+
+	@Test
+	@DisplayName("긴급 알림 기록 - 디스패처가 가져가지 않도록 점유 상태로 기록")
+	void triggerClaimedAlert_RecordsClaimedPending() {
+		// Given
+		Long memberId = 1L;
+		given(alertConfig.getOutbox()).willReturn(outbox(true));
+		given(alertServiceUtils.validateAndGetMember(memberId))
+			.willReturn(testMember);
+		given(alertHistoryInsertWriter.insertIfAbsent(any(AlertHistory.class)))
+			.willReturn(Optional.of(123L));
+
+		// When
+		Long result = alertNotificationService.triggerClaimedAlert(memberId, testAlertResult);
+
+		// Then
+		assertThat(result).isEqualTo(123L);
+		ArgumentCaptor<AlertHistory> captor = ArgumentCaptor.forClass(AlertHistory.class);
+		verify(alertHistoryInsertWriter).insertIfAbsent(captor.capture());
+		assertThat(captor.getValue().getNextNotificationAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+		verifyNoInteractions(notificationHistoryService);
+	}
+
+	@Test
+	@DisplayName("알림 발생 처리 - HIGH 이상 알림은 보호자가 확인하지 않으면 재알림하도록 에스컬레이션 예약")
+	void triggerAlert_High_SchedulesEscalation() {
+		// Given
+		Long memberId = 1L;
+		LocalDateTime escalationAt = LocalDateTime.now().plusHours(1);
+		given(alertConfig.getOutbox()).willReturn(outbox(true));
+		given(alertConfig.getCorrelation()).willReturn(correlation(false));
+		given(alertServiceUtils.validateAndGetMember(memberId))
+			.willReturn(testMember);
+		given(alertEscalationEngine.firstEscalationAt(AlertLevel.HIGH)).willReturn(escalationAt);
+		given(alertHistoryInsertWriter.insertIfAbsent(any(AlertHistory.class)))
+			.willReturn(Optional.of(123L));
+
+		// When
+		alertNotificationService.triggerAlert(memberId, testAlertResult);
+
+		// Then
+		ArgumentCaptor<AlertHistory> captor = ArgumentCaptor.forClass(AlertHistory.class);
+		verify(alertHistoryInsertWriter).insertIfAbsent(captor.capture());
+		assertThat(captor.getValue().getNextEscalationAt()).isEqualTo(escalationAt);
+		assertThat(captor.getValue().getEscalationLevel()).isZero();
+		verify(alertEscalationEngine).scheduleAfterCommit(123L, escalationAt);
+	}
+
+	@Test
+	@DisplayName("아웃박스 발송 - 성공 시 발송 완료로 기록")
+	void deliverNotification_Success_MarksSent() {
+		// Given
+		given(alertConfig.getCorrelation()).willReturn(correlation(false));
+		AlertHistory pending = pendingAlertHistory();
+		AlertConfigurationProperties.Notification notificationConfig =
+			new AlertConfigurationProperties.Notification();
+		notificationConfig.setTitleTemplate("[%s] 알림");
+
+		given(alertHistoryRepository.findById(123L)).willReturn(Optional.of(pending));
+		given(alertConfig.getNotification()).willReturn(notificationConfig);
+		given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), anyLong()))
+			.willReturn(testNotificationHistory);
+
+		// When
+		boolean delivered = alertNotificationService.deliverNotification(123L);
+
+		// Then
+		assertThat(delivered).isTrue();
+		assertThat(pending.getIsNotificationSent()).isTrue();
+		assertThat(pending.getNotificationSentAt()).isNotNull();
+		assertThat(pending.getNextNotificationAt()).isNull();
+		verify(notificationHistoryService).recordNotificationWithType(
+			eq(testGuardian.getId()), eq("[HIGH] 알림"), eq("테스트 알림"), any(), any(), eq(123L));
+	}
+
+	@Test
+	@DisplayName("아웃박스 발송 - 실패 시 백오프 후 재시도 예약")
+	void deliverNotification_Failure_SchedulesRetry() {
+		// Given
+		given(alertConfig.getCorrelation()).willReturn(correlation(false));
+		AlertHistory pending = pendingAlertHistory();
+		AlertConfigurationProperties.Notification notificationConfig =
+			new AlertConfigurationProperties.Notification();
+		notificationConfig.setTitleTemplate("[%s] 알림");
+
+		given(alertHistoryRepository.findById(123L)).willReturn(Optional.of(pending));
+		given(alertConfig.getNotification()).willReturn(notificationConfig);
+		given(alertConfig.getOutbox()).willReturn(outbox(true));
+		given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), anyLong()))
+			.willThrow(new RuntimeException("네트워크 오류"));
+
+		// When
+		boolean delivered = alertNotificationService.deliverNotification(123L);
+
+		// Then
+		assertThat(delivered).isFalse();
+		assertThat(pending.getIsNotificationSent()).isFalse();
+		assertThat(pending.getNotificationAttempts()).isEqualTo(1);
+		assertThat(pending.getNotificationResult()).isEqualTo("FAILED: 네트워크 오류");
+		assertThat(pending.getNextNotificationAt()).isAfter(LocalDateTime.now());
+	}
+
+	@Test
+	@DisplayName("알림 발생 처리 - 사건 묶음을 켜면 EMERGENCY 외 알림은 보류 시간 뒤에 발송 대기")
+	void triggerAlert_Correlation_HoldsNonEmergency() {
+		// Given
+		Long memberId = 1L;
+		given(alertConfig.getOutbox()).willReturn(outbox(true));
+		given(alertConfig.getCorrelation()).willReturn(correlation(true));
+		given(alertServiceUtils.validateAndGetMember(memberId))
+			.willReturn(testMember);
+		given(alertHistoryInsertWriter.insertIfAbsent(any(AlertHistory.class)))
+			.willReturn(Optional.of(123L));
+
+		// When
+		alertNotificationService.triggerAlert(memberId, testAlertResult);
+
+		// Then
+		ArgumentCaptor<AlertHistory> captor = ArgumentCaptor.forClass(AlertHistory.class);
+		verify(alertHistoryInsertWriter).insertIfAbsent(captor.capture());
+		assertThat(captor.getValue().getNextNotificationAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+	}
+
+	@Test
+	@DisplayName("사건 발송 - 대표 알림 한 건만 보호자에게 보내고 나머지는 사건으로 묶음")
+	void deliverNotification_Correlation_SendsRepresentativeOnly() {
+		// Given
+		AlertHistory representative = pendingAlertHistory();
+		AlertHistory other = AlertHistory.builder()
+			.id(124L)
+			.member(testMember)
+			.alertLevel(AlertLevel.MEDIUM)
+			.alertType(AlertType.NO_RESPONSE)
+			.alertMessage("무응답")
+			.nextNotificationAt(LocalDateTime.now())
+			.build();
+		IncidentPlan plan = new IncidentPlan(representative, List.of(other), null, true);
+		AlertConfigurationProperties.Notification notificationConfig =
+			new AlertConfigurationProperties.Notification();
+		notificationConfig.setTitleTemplate("[%s] 알림");
+
+		given(alertConfig.getCorrelation()).willReturn(correlation(true));
+		given(alertConfig.getNotification()).willReturn(notificationConfig);
+		given(alertHistoryRepository.findMemberIdById(124L)).willReturn(Optional.of(1L));
+		given(alertHistoryRepository.findPendingNotificationsByMemberForUpdate(1L))
+			.willReturn(List.of(representative, other));
+		given(alertIncidentCorrelator.plan(1L, List.of(representative, other))).willReturn(plan);
+		given(alertIncidentCorrelator.summarize(plan)).willReturn("테스트 알림 (관련 알림 1건 포함)");
+		given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), anyLong()))
+			.willReturn(testNotificationHistory);
+
+		// When
+		boolean delivered = alertNotificationService.deliverNotification(124L);
+
+		// Then
+		assertThat(delivered).isTrue();
+		assertThat(representative.getIsNotificationSent()).isTrue();
+		verify(notificationHistoryService, times(1)).recordNotificationWithType(
+			eq(testGuardian.getId()), eq("[HIGH] 알림"), eq("테스트 알림 (관련 알림 1건 포함)"), any(), any(), eq(123L));
+		verify(alertIncidentCorrelator).complete(plan);
+	}
+
+	@Test
+	@DisplayName("사건 발송 - 진행 중인 사건보다 레벨이 높지 않으면 보내지 않고 묶음")
+	void deliverNotification_Correlation_SuppressesWithinOpenIncident() {
+		// Given
+		AlertHistory pending = pendingAlertHistory();
+		IncidentPlan plan = new IncidentPlan(pending, List.of(), 100L, false);
+		given(alertConfig.getCorrelation()).willReturn(correlation(true));
+		given(alertHistoryRepository.findMemberIdById(123L)).willReturn(Optional.of(1L));
+		given(alertHistoryRepository.findPendingNotificationsByMemberForUpdate(1L)).willReturn(List.of(pending));
+		given(alertIncidentCorrelator.plan(1L, List.of(pending))).willReturn(plan);
+
+		// When
+		boolean delivered = alertNotificationService.deliverNotification(123L);
+
+		// Then
+		assertThat(delivered).isTrue();
+		verify(alertIncidentCorrelator).complete(plan);
+		verifyNoInteractions(notificationHistoryService);
+	}
+
+	@Test
+	@DisplayName("사건 발송 - 다른 알림과 함께 이미 묶인 알림은 다시 발송하지 않음")
+	void deliverNotification_Correlation_AlreadyHandled() {
+		// Given
+		given(alertConfig.getCorrelation()).willReturn(correlation(true));
+		given(alertHistoryRepository.findMemberIdById(123L)).willReturn(Optional.of(1L));
+		given(alertHistoryRepository.findPendingNotificationsByMemberForUpdate(1L)).willReturn(List.of());
+
+		// When
+		boolean delivered = alertNotificationService.deliverNotification(123L);
+
+		// Then
+		assertThat(delivered).isTrue();
+		verifyNoInteractions(alertIncidentCorrelator, notificationHistoryService);
+	}
+
+	@Test
+	@DisplayName("아웃박스 점유 - 점유한 알림의 다음 발송 시각을 점유 유효 시간 뒤로 미룸")
+	void claimDueNotifications_ExtendsNextAttemptByClaimTimeout() {
+		// Given
+		AlertHistory pending = pendingAlertHistory();
+		given(alertConfig.getOutbox()).willReturn(outbox(true));
+		given(alertHistoryRepository.findDueNotificationsForUpdateSkipLocked(any(LocalDateTime.class), any(Pageable.class)))
+			.willReturn(List.of(pending));
+
+		// When
+		List<Long> claimedIds = alertNotificationService.claimDueNotifications(10);
+
+		// Then
+		assertThat(claimedIds).containsExactly(123L);
+		assertThat(pending.getNextNotificationAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+	}
+
+	@Test
+	@DisplayName("오늘 알림 여부 확인 - DB에서 확인된 알림은 인덱스에 반영")
+	void isAlreadyTriggeredToday_RemembersDatabaseHit() {
+		// Given
+		Long memberId = 1L;
+		given(alertHistoryRepository.existsByMemberIdAndAlertTypeAndAlertDate(
+			eq(memberId), eq(AlertType.NO_RESPONSE), any()))
+			.willReturn(true);
+
+		// When
+		boolean result = alertNotificationService.isAlreadyTriggeredToday(memberId, AlertType.NO_RESPONSE);
+
+		// Then
+		assertThat(result).isTrue();
+		verify(alertHistoryDedupIndex).markExisting(memberId, AlertType.NO_RESPONSE);
+	}
+
 	@Test
 	@DisplayName("보호자 알림 발송 - 성공")
 	void sendGuardianNotification_Success() {
@@ -297,13 +618,14 @@ class AlertNotificationServiceTest {
 		// Given
 		Long memberId = 1L;
 		Long expectedHistoryId = 123L;
+		given(alertConfig.getOutbox()).willReturn(outbox(false));
 
 		given(alertServiceUtils.validateAndGetMember(memberId))
 			.willReturn(testMember);
 		given(alertServiceUtils.createDetectionDetailsJson(testAlertResult))
 			.willReturn("{\"alertLevel\":\"HIGH\",\"message\":\"3일 연속 부정감정 감지\"}");
-		given(alertHistoryRepository.save(any(AlertHistory.class)))
-			.willReturn(testAlertHistory);
+		given(alertHistoryInsertWriter.insertIfAbsent(any(AlertHistory.class)))
+			.willReturn(Optional.of(testAlertHistory.getId()));
 
 		AlertConfigurationProperties.Notification notificationConfig =
 			new AlertConfigurationProperties.Notification();
@@ -322,11 +644,34 @@ class AlertNotificationServiceTest {
 
 		// AlertHistory 저장 확인 (validateAndGetMember는 두 번 호출됨: triggerAlert + sendGuardianNotificationWithType)
 		verify(alertServiceUtils, times(2)).validateAndGetMember(memberId);
-		verify(alertHistoryRepository).save(any(AlertHistory.class));
+		verify(alertHistoryInsertWriter).insertIfAbsent(any(AlertHistory.class));
 
 		// 보호자 알림 발송 확인
 		verify(notificationHistoryService).recordNotificationWithType(
 			eq(testGuardian.getId()), eq("[HIGH] 알림"), eq(testAlertResult.getMessage()),
 			any(), any(), eq(expectedHistoryId));
 	}
+
+	private AlertHistory pendingAlertHistory() {
+		return AlertHistory.builder()
+			.id(123L)
+			.member(testMember)
+			.alertLevel(AlertLevel.HIGH)
+			.alertType(AlertType.EMOTION_PATTERN)
+			.alertMessage("테스트 알림")
+			.nextNotificationAt(LocalDateTime.now())
+			.build();
+	}
+
+	private AlertConfigurationProperties.Outbox outbox(boolean enabled) {
+		AlertConfigurationProperties.Outbox outbox = new AlertConfigurationProperties.Outbox();
+		outbox.setEnabled(enabled);
+		return outbox;
+	}
+
+	private AlertConfigurationProperties.Correlation correlation(boolean enabled) {
+		AlertConfigurationProperties.Correlation correlation = new AlertConfigurationProperties.Correlation();
+		correlation.setEnabled(enabled);
+		return correlation;
+	}
 }
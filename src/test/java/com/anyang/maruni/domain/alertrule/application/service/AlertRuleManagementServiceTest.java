@@ -2,6 +2,7 @@ package com.anyang.maruni.domain.alertrule.application.service;
 
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertRuleManagementService;
 import com.anyang.maruni.domain.alertrule.domain.entity.*;
+import com.anyang.maruni.domain.alertrule.domain.event.AlertRuleChangedEvent;
 import com.anyang.maruni.domain.alertrule.domain.repository.AlertRuleRepository;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.alertrule.domain.exception.AlertRuleNotFoundException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -42,6 +44,9 @@ class AlertRuleManagementServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AlertRuleManagementService alertRuleManagementService;
 
@@ -79,6 +84,7 @@ class AlertRuleManagementServiceTest {
         // Then
         assertThat(result).isEqualTo(testRule);
         verify(alertRuleRepository).save(any(AlertRule.class));
+        verify(eventPublisher).publishEvent(new AlertRuleChangedEvent(1L));
     }
 
     @Test
@@ -133,6 +139,7 @@ class AlertRuleManagementServiceTest {
         // Then
         assertThat(result).isEqualTo(testRule);
         verify(alertRuleRepository).findById(ruleId);
+        verify(eventPublisher).publishEvent(new AlertRuleChangedEvent(1L));
         // JPA 더티 체킹으로 자동 업데이트되므로 save 호출 없음
     }
 
@@ -171,6 +178,7 @@ class AlertRuleManagementServiceTest {
         // Then
         verify(alertRuleRepository).findById(ruleId);
         verify(alertRuleRepository).delete(testRule);
+        verify(eventPublisher).publishEvent(new AlertRuleChangedEvent(1L));
     }
 
     @Test
@@ -205,6 +213,7 @@ class AlertRuleManagementServiceTest {
         // Then
         assertThat(result).isEqualTo(testRule);
         verify(alertRuleRepository).findById(ruleId);
+        verify(eventPublisher).publishEvent(new AlertRuleChangedEvent(1L));
         // JPA 더티 체킹으로 자동 업데이트되므로 save 호출 없음
     }
 
@@ -262,6 +271,7 @@ class AlertRuleManagementServiceTest {
         // Then
         assertThat(result).isEqualTo(testRule);
         verify(alertRuleRepository).save(any(AlertRule.class));
+        verify(eventPublisher).publishEvent(new AlertRuleChangedEvent(1L));
     }
 
     @Test
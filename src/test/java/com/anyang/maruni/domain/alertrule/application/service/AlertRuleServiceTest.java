@@ -1,6 +1,7 @@
 package com.anyang.maruni.domain.alertrule.application.service;
 
 import com.anyang.maruni.domain.alertrule.application.analyzer.vo.AlertResult;
+import com.anyang.maruni.domain.alertrule.application.cache.AlertRuleSnapshot;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectionService;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertHistoryService;
 import com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService;
@@ -133,14 +134,14 @@ class AlertRuleServiceTest {
     void getActiveRulesByMemberId_Success() {
         // Given
         Long memberId = 1L;
-        List<AlertRule> expectedRules = Arrays.asList(testRule);
+        List<AlertRuleSnapshot> expectedRules = Arrays.asList(AlertRuleSnapshot.from(testRule));
 
         // AlertDetectionService의 응답을 Mock
         given(alertDetectionService.getActiveRulesByMemberId(memberId))
                 .willReturn(expectedRules);
 
         // When
-        List<AlertRule> rules = alertRuleService.getActiveRulesByMemberId(memberId);
+        List<AlertRuleSnapshot> rules = alertRuleService.getActiveRulesByMemberId(memberId);
 
         // Then
         assertThat(rules).isEqualTo(expectedRules);
@@ -153,14 +154,14 @@ class AlertRuleServiceTest {
     void getActiveRulesByMemberIdOrderedByPriority_Success() {
         // Given
         Long memberId = 1L;
-        List<AlertRule> expectedRules = Arrays.asList(testRule);
+        List<AlertRuleSnapshot> expectedRules = Arrays.asList(AlertRuleSnapshot.from(testRule));
 
         // AlertDetectionService의 응답을 Mock
         given(alertDetectionService.getActiveRulesByMemberIdOrderedByPriority(memberId))
                 .willReturn(expectedRules);
 
         // When
-        List<AlertRule> rules = alertRuleService.getActiveRulesByMemberIdOrderedByPriority(memberId);
+        List<AlertRuleSnapshot> rules = alertRuleService.getActiveRulesByMemberIdOrderedByPriority(memberId);
 
         // Then
         assertThat(rules).isEqualTo(expectedRules);
@@ -146,6 +146,17 @@ class AlertConditionTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("키워드 문자열을 공백 제거, 소문자, 빈 항목 제외로 정규화")
+    void getKeywordList_shouldNormalizeKeywords() {
+        // Given
+        AlertCondition condition = AlertCondition.createKeywordCondition(" 도움말, SOS ,,응급 ");
+
+        // When & Then
+        assertThat(condition.getKeywordList()).containsExactly("도움말", "sos", "응급");
+        assertThat(AlertCondition.createKeywordCondition(" ").getKeywordList()).isEmpty();
+    }
+
     @Test
     @DisplayName("빈 메시지 리스트 처리 테스트")
     void evaluate_shouldHandleEmptyMessages() {
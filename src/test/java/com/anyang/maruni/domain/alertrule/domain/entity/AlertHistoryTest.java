@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -103,6 +104,31 @@ class AlertHistoryTest {
         assertThat(history.getNotificationResult()).isEqualTo("FAILED: " + errorMessage);
     }
 
+    @Test
+    @DisplayName("아웃박스 발송 실패 처리 테스트 - 시도 횟수가 남으면 다음 시도 예약, 소진하면 포기")
+    void markNotificationAttemptFailed_shouldScheduleRetryUntilExhausted() {
+        // Given
+        AlertHistory history = AlertHistory.createAlert(
+                testRule, testMember, "테스트 알림", "{}");
+
+        // When
+        history.markNotificationAttemptFailed("네트워크 오류", Duration.ofMinutes(1), 2);
+
+        // Then
+        assertThat(history.getNotificationAttempts()).isEqualTo(1);
+        assertThat(history.getNextNotificationAt()).isAfter(LocalDateTime.now());
+        assertThat(history.canRetryNotification()).isTrue();
+
+        // When
+        history.markNotificationAttemptFailed("네트워크 오류", Duration.ofMinutes(2), 2);
+
+        // Then
+        assertThat(history.getNotificationAttempts()).isEqualTo(2);
+        assertThat(history.getNextNotificationAt()).isNull();
+        assertThat(history.getNotificationResult()).isEqualTo("GAVE_UP: 네트워크 오류");
+        assertThat(history.canRetryNotification()).isFalse();
+    }
+
     @Test
     @DisplayName("알림 재시도 가능 여부 테스트 - 미발송 상태")
     void canRetryNotification_shouldReturnTrue_whenNotSent() {
@@ -147,6 +173,48 @@ class AlertHistoryTest {
         assertThat(canRetry).isTrue();
     }
 
+    @Test
+    @DisplayName("재알림 처리 테스트 - 단계가 오르고 다음 예약이 바뀌며, 종료하면 예약이 사라짐")
+    void markEscalated_shouldAdvanceLevel_andCloseEscalation_shouldClearSchedule() {
+        // Given
+        AlertHistory history = AlertHistory.createAlert(
+                testRule, testMember, "테스트 알림", "{}");
+        LocalDateTime next = LocalDateTime.now().plusMinutes(10);
+
+        // When
+        history.markEscalated(next);
+
+        // Then
+        assertThat(history.getEscalationLevel()).isEqualTo(1);
+        assertThat(history.getNextEscalationAt()).isEqualTo(next);
+
+        // When
+        history.closeEscalation();
+
+        // Then
+        assertThat(history.getEscalationLevel()).isEqualTo(1);
+        assertThat(history.getNextEscalationAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("사건 묶음 처리 테스트 - 따로 발송하지 않고 이력은 사건 대표 알림을 가리킴")
+    void markCorrelated_shouldCloseDeliveryAndEscalation() {
+        // Given
+        AlertHistory history = AlertHistory.createAlert(
+                testRule, testMember, "테스트 알림", "{}");
+        history.markEscalated(LocalDateTime.now().plusMinutes(10));
+
+        // When
+        history.markCorrelated(7L);
+
+        // Then
+        assertThat(history.getIsNotificationSent()).isTrue();
+        assertThat(history.getNotificationResult()).isEqualTo("CORRELATED: 7");
+        assertThat(history.getNextNotificationAt()).isNull();
+        assertThat(history.getNextEscalationAt()).isNull();
+        assertThat(history.resolveIncidentId()).isEqualTo(7L);
+    }
+
     @Test
     @DisplayName("경과 시간 계산 테스트")
     void getMinutesElapsed_shouldCalculateCorrectly() {
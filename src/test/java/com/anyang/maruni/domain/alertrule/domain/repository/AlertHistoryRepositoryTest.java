@@ -3,6 +3,7 @@ package com.anyang.maruni.domain.alertrule.domain.repository;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
 import com.anyang.maruni.domain.alertrule.domain.entity.AlertRule;
+import com.anyang.maruni.domain.alertrule.domain.vo.PendingEscalation;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -168,6 +169,57 @@ class AlertHistoryRepositoryTest {
         assertThat(timeoutNotifications).isNotNull();
     }
 
+    @Test
+    @DisplayName("발송 시각이 된 미발송 알림만 예정 시각 순으로 점유")
+    void findDueNotificationsForUpdateSkipLocked_shouldReturnDueUnsentHistory() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime baseDate = now.withHour(0).withMinute(0).withSecond(0).withNano(0);
+        AlertHistory dueLater = alertHistoryRepository.save(outboxHistory("나중 예정", baseDate.minusDays(3), now.minusSeconds(1)));
+        AlertHistory dueEarlier = alertHistoryRepository.save(outboxHistory("먼저 예정", baseDate.minusDays(2), now.minusMinutes(5)));
+        alertHistoryRepository.save(outboxHistory("아직 예정 전", baseDate.minusDays(1), now.plusMinutes(5)));
+        alertHistoryRepository.save(outboxHistory("발송 대기 아님", baseDate, null));
+
+        // When
+        List<AlertHistory> claimed = alertHistoryRepository.findDueNotificationsForUpdateSkipLocked(
+                now, PageRequest.of(0, 10));
+
+        // Then
+        assertThat(claimed).extracting(AlertHistory::getId)
+                .containsExactly(dueEarlier.getId(), dueLater.getId());
+    }
+
+    @Test
+    @DisplayName("에스컬레이션 예약이 남은 알림만 타이머 재구성 대상으로 조회")
+    void findPendingEscalations_shouldReturnOpenEscalationsOnly() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        LocalDateTime baseDate = now.withHour(0).withMinute(0).withSecond(0);
+        AlertHistory open = outboxHistory("미확인", baseDate.minusDays(1), null);
+        open.markEscalated(now.plusMinutes(10));
+        open = alertHistoryRepository.save(open);
+        alertHistoryRepository.save(outboxHistory("에스컬레이션 없음", baseDate, null));
+
+        // When
+        List<PendingEscalation> pending = alertHistoryRepository.findPendingEscalations();
+
+        // Then
+        assertThat(pending).containsExactly(new PendingEscalation(open.getId(), 1, now.plusMinutes(10)));
+    }
+
+    private AlertHistory outboxHistory(String message, LocalDateTime alertDate, LocalDateTime nextNotificationAt) {
+        return AlertHistory.builder()
+                .alertRule(testRule)
+                .member(testMember)
+                .alertLevel(AlertLevel.HIGH)
+                .alertType(testRule.getAlertType())
+                .alertMessage(message)
+                .detectionDetails("{}")
+                .alertDate(alertDate)
+                .nextNotificationAt(nextNotificationAt)
+                .build();
+    }
+
     @Test
     @DisplayName("중복 알림 존재 여부 확인 테스트")
     void existsByMemberIdAndAlertRuleIdAndAlertDate_shouldReturnCorrectResult() {
@@ -0,0 +1,85 @@
+package com.anyang.maruni.domain.alertrule.infrastructure.persistence;
+
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertHistory;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertLevel;
+import com.anyang.maruni.domain.alertrule.domain.entity.AlertType;
+import com.anyang.maruni.domain.alertrule.domain.repository.AlertHistoryRepository;
+import com.anyang.maruni.domain.alertrule.domain.vo.DailyAlertKey;
+import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.global.config.JpaConfig;
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, AlertHistoryInsertWriter.class, DatabasePlatform.class})
+@DisplayName("AlertHistoryInsertWriter 데이터 접근 테스트")
+class AlertHistoryInsertWriterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlertHistoryInsertWriter writer;
+
+    @Autowired
+    private AlertHistoryRepository alertHistoryRepository;
+
+    private MemberEntity member;
+
+    @BeforeEach
+    void setUp() {
+        member = MemberEntity.createMember("alert@example.com", "알림회원", "password", true);
+        entityManager.persist(member);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("같은 날 같은 타입 알림은 예외 없이 한 번만 기록")
+    void insertIfAbsent_IgnoresDuplicate() {
+        // given
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+
+        // when
+        Optional<Long> first = writer.insertIfAbsent(alertHistory(AlertType.EMOTION_PATTERN, today));
+        Optional<Long> duplicate = writer.insertIfAbsent(alertHistory(AlertType.EMOTION_PATTERN, today));
+        Optional<Long> otherType = writer.insertIfAbsent(alertHistory(AlertType.NO_RESPONSE, today));
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(duplicate).isEmpty();
+        assertThat(otherType).isPresent().isNotEqualTo(first);
+        assertThat(alertHistoryRepository.findById(first.get()))
+                .get()
+                .extracting(AlertHistory::getAlertMessage)
+                .isEqualTo("EMOTION_PATTERN 알림");
+        assertThat(alertHistoryRepository.findDailyAlertKeys(today, AlertType.KEYWORD_DETECTION))
+                .containsExactlyInAnyOrder(
+                        new DailyAlertKey(member.getId(), AlertType.EMOTION_PATTERN),
+                        new DailyAlertKey(member.getId(), AlertType.NO_RESPONSE));
+    }
+
+    private AlertHistory alertHistory(AlertType alertType, LocalDateTime alertDate) {
+        return AlertHistory.builder()
+                .member(member)
+                .alertLevel(AlertLevel.HIGH)
+                .alertType(alertType)
+                .alertMessage(alertType + " 알림")
+                .detectionDetails("{}")
+                .alertDate(alertDate)
+                .build();
+    }
+}
@@ -14,16 +14,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.anyang.maruni.domain.conversation.application.dto.MessageExchangeResult;
 import com.anyang.maruni.domain.conversation.domain.entity.ConversationEntity;
 import com.anyang.maruni.domain.conversation.domain.entity.EmotionType;
 import com.anyang.maruni.domain.conversation.domain.entity.MessageEntity;
 import com.anyang.maruni.domain.conversation.domain.entity.MessageType;
+import com.anyang.maruni.domain.conversation.domain.event.UserMessageSavedEvent;
 import com.anyang.maruni.domain.conversation.domain.repository.MessageRepository;
 import com.anyang.maruni.domain.conversation.domain.port.AIResponsePort;
 import com.anyang.maruni.domain.conversation.domain.port.EmotionAnalysisPort;
 import com.anyang.maruni.domain.conversation.domain.vo.ConversationContext;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberDailySummaryWriter;
 
 /**
  * MessageProcessor 단위 테스트
@@ -43,9 +46,17 @@ class MessageProcessorTest {
     @Mock
     private EmotionAnalysisPort emotionAnalysisPort;
 
+    @Mock
+    private MemberDailySummaryWriter dailySummaryWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MessageProcessor messageProcessor;
 
+    private final LocalDateTime receivedAt = LocalDateTime.of(2025, 5, 1, 9, 30);
+
     @Test
     @DisplayName("메시지 처리: 감정분석 → 컨텍스트구성 → AI응답생성 → 메시지저장 순으로 처리한다")
     void processMessage_Success() {
@@ -107,7 +118,7 @@ class MessageProcessorTest {
                 .thenReturn(savedAiMessage);
 
         // When
-        MessageExchangeResult result = messageProcessor.processMessage(mockConversation, userContent);
+        MessageExchangeResult result = messageProcessor.processMessage(mockConversation, userContent, receivedAt);
 
         // Then
         assertThat(result).isNotNull();
@@ -122,6 +133,11 @@ class MessageProcessorTest {
         verify(aiResponsePort, times(1)).generateResponse(any(ConversationContext.class));
         verify(mockConversation, times(1)).addAIMessage(aiResponse);
         verify(messageRepository, times(2)).save(any(MessageEntity.class));
+        // 일일 요약과 저장 이벤트는 같은 수신 시각을 사용
+        verify(dailySummaryWriter, times(1)).recordUserMessage(memberId, "POSITIVE", receivedAt);
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof UserMessageSavedEvent saved
+                && saved.memberId().equals(memberId) && saved.emotion() == EmotionType.POSITIVE
+                && saved.savedAt().equals(receivedAt)));
     }
 
     @Test
@@ -173,7 +189,7 @@ class MessageProcessorTest {
                 .thenReturn(savedAiMessage);
 
         // When
-        MessageExchangeResult result = messageProcessor.processMessage(mockConversation, userContent);
+        MessageExchangeResult result = messageProcessor.processMessage(mockConversation, userContent, receivedAt);
 
         // Then
         assertThat(result.userMessage().getEmotion()).isEqualTo(EmotionType.NEGATIVE);
@@ -233,7 +249,7 @@ class MessageProcessorTest {
                 .thenReturn(savedAiMessage);
 
         // When
-        MessageExchangeResult result = messageProcessor.processMessage(mockConversation, userContent);
+        MessageExchangeResult result = messageProcessor.processMessage(mockConversation, userContent, receivedAt);
 
         // Then
         assertThat(result).isNotNull();
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -48,7 +49,7 @@ class SimpleConversationServiceTest {
     private com.anyang.maruni.domain.alertrule.application.service.core.AlertDetectionService alertDetectionService;
 
     @Mock
-    private com.anyang.maruni.domain.alertrule.application.service.core.AlertNotificationService alertNotificationService;
+    private com.anyang.maruni.domain.alertrule.application.realtime.EmergencyAlertLane emergencyAlertLane;
 
     @InjectMocks
     private SimpleConversationService simpleConversationService;
@@ -93,7 +94,7 @@ class SimpleConversationServiceTest {
         // Mock 설정
         when(conversationManager.findOrCreateActive(memberId))
                 .thenReturn(conversation);
-        when(messageProcessor.processMessage(conversation, userContent))
+        when(messageProcessor.processMessage(eq(conversation), eq(userContent), any(LocalDateTime.class)))
                 .thenReturn(exchangeResult);
         when(mapper.toResponseDto(exchangeResult))
                 .thenReturn(expectedResponse);
@@ -106,7 +107,7 @@ class SimpleConversationServiceTest {
 
         // 위임 순서 검증
         verify(conversationManager).findOrCreateActive(memberId);
-        verify(messageProcessor).processMessage(conversation, userContent);
+        verify(messageProcessor).processMessage(eq(conversation), eq(userContent), any(LocalDateTime.class));
         verify(mapper).toResponseDto(exchangeResult);
     }
 
@@ -150,7 +151,7 @@ class SimpleConversationServiceTest {
         // Mock 설정
         when(conversationManager.findOrCreateActive(memberId))
                 .thenReturn(newConversation);
-        when(messageProcessor.processMessage(newConversation, userContent))
+        when(messageProcessor.processMessage(eq(newConversation), eq(userContent), any(LocalDateTime.class)))
                 .thenReturn(exchangeResult);
         when(mapper.toResponseDto(exchangeResult))
                 .thenReturn(expectedResponse);
@@ -161,7 +162,7 @@ class SimpleConversationServiceTest {
         // Then
         assertThat(result).isEqualTo(expectedResponse);
         verify(conversationManager).findOrCreateActive(memberId);
-        verify(messageProcessor).processMessage(newConversation, userContent);
+        verify(messageProcessor).processMessage(eq(newConversation), eq(userContent), any(LocalDateTime.class));
         verify(mapper).toResponseDto(exchangeResult);
     }
 
@@ -205,7 +206,7 @@ class SimpleConversationServiceTest {
         // Mock 설정
         when(conversationManager.findOrCreateActive(memberId))
                 .thenReturn(conversation);
-        when(messageProcessor.processMessage(conversation, userContent))
+        when(messageProcessor.processMessage(eq(conversation), eq(userContent), any(LocalDateTime.class)))
                 .thenReturn(exchangeResult);
         when(mapper.toResponseDto(exchangeResult))
                 .thenReturn(expectedResponse);
@@ -215,7 +216,7 @@ class SimpleConversationServiceTest {
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(messageProcessor).processMessage(conversation, userContent);
+        verify(messageProcessor).processMessage(eq(conversation), eq(userContent), any(LocalDateTime.class));
     }
 
     @Test
@@ -285,7 +286,7 @@ class SimpleConversationServiceTest {
         // Mock 설정
         when(conversationManager.findOrCreateActive(memberId))
                 .thenReturn(conversation);
-        when(messageProcessor.processMessage(conversation, userContent))
+        when(messageProcessor.processMessage(eq(conversation), eq(userContent), any(LocalDateTime.class)))
                 .thenReturn(exchangeResult);
         when(mapper.toResponseDto(exchangeResult))
                 .thenReturn(response);
@@ -299,7 +300,7 @@ class SimpleConversationServiceTest {
         // InOrder를 사용하여 호출 순서 검증
         var inOrder = inOrder(conversationManager, messageProcessor, mapper);
         inOrder.verify(conversationManager).findOrCreateActive(memberId);
-        inOrder.verify(messageProcessor).processMessage(conversation, userContent);
+        inOrder.verify(messageProcessor).processMessage(eq(conversation), eq(userContent), any(LocalDateTime.class));
         inOrder.verify(mapper).toResponseDto(exchangeResult);
     }
 
@@ -353,7 +354,7 @@ class SimpleConversationServiceTest {
         // Mock 설정
         when(conversationManager.findOrCreateActive(memberId))
                 .thenReturn(conversation);
-        when(messageProcessor.processMessage(conversation, emergencyMessage))
+        when(messageProcessor.processMessage(eq(conversation), eq(emergencyMessage), any(LocalDateTime.class)))
                 .thenReturn(exchangeResult);
         when(mapper.toResponseDto(exchangeResult))
                 .thenReturn(response);
@@ -369,8 +370,10 @@ class SimpleConversationServiceTest {
         // 키워드 감지 호출됨
         verify(alertDetectionService).detectKeywordAlert(userMessage, memberId);
 
-        // EMERGENCY 레벨이므로 즉시 알림 발송
-        verify(alertNotificationService).triggerAlert(eq(memberId), any());
+        // EMERGENCY 레벨이므로 전용 레인으로 즉시 알림 발송 (메시지 처리와 같은 수신 시각 전달)
+        ArgumentCaptor<LocalDateTime> receivedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(messageProcessor).processMessage(eq(conversation), eq(emergencyMessage), receivedAt.capture());
+        verify(emergencyAlertLane).submit(memberId, emergencyAlert, receivedAt.getValue());
     }
 
     @Test
@@ -421,7 +424,7 @@ class SimpleConversationServiceTest {
         // Mock 설정
         when(conversationManager.findOrCreateActive(memberId))
                 .thenReturn(conversation);
-        when(messageProcessor.processMessage(conversation, highMessage))
+        when(messageProcessor.processMessage(eq(conversation), eq(highMessage), any(LocalDateTime.class)))
                 .thenReturn(exchangeResult);
         when(mapper.toResponseDto(exchangeResult))
                 .thenReturn(response);
@@ -438,7 +441,7 @@ class SimpleConversationServiceTest {
         verify(alertDetectionService).detectKeywordAlert(userMessage, memberId);
 
         // HIGH 레벨은 알림 미발송 (로그만 기록)
-        verify(alertNotificationService, never()).triggerAlert(anyLong(), any());
+        verify(emergencyAlertLane, never()).submit(anyLong(), any(), any());
     }
 
     @Test
@@ -481,7 +484,7 @@ class SimpleConversationServiceTest {
         // Mock 설정
         when(conversationManager.findOrCreateActive(memberId))
                 .thenReturn(conversation);
-        when(messageProcessor.processMessage(conversation, message))
+        when(messageProcessor.processMessage(eq(conversation), eq(message), any(LocalDateTime.class)))
                 .thenReturn(exchangeResult);
         when(mapper.toResponseDto(exchangeResult))
                 .thenReturn(response);
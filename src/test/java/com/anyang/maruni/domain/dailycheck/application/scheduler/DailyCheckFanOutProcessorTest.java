@@ -0,0 +1,228 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import com.anyang.maruni.domain.dailycheck.domain.vo.MemberIdSet;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.domain.notification.application.config.NotificationDispatchProperties;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * DailyCheckFanOutProcessor 테스트
+ *
+ * 청크 분할 및 병렬 처리 결과 집계 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyCheckFanOutProcessor 테스트")
+class DailyCheckFanOutProcessorTest {
+
+    @Mock
+    private DailyCheckOrchestrator dailyCheckOrchestrator;
+
+    @Mock
+    private DailyCheckMemberCursor memberCursor;
+
+    @Mock
+    private DailyCheckRunJournal runJournal;
+
+    private SchedulingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private DailyCheckFanOutProcessor fanOutProcessor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SchedulingProperties();
+        properties.getDailyCheck().setBatchSize(3);
+        properties.getDailyCheck().getFanOut().setParallelism(2);
+        meterRegistry = new SimpleMeterRegistry();
+        fanOutProcessor = fanOutProcessor(new NotificationDispatchProperties());
+        lenient().when(dailyCheckOrchestrator.loadAlreadySentMemberIds()).thenReturn(MemberIdSet.empty());
+    }
+
+    private DailyCheckFanOutProcessor fanOutProcessor(NotificationDispatchProperties dispatchProperties) {
+        return new DailyCheckFanOutProcessor(dailyCheckOrchestrator, memberCursor, properties, runJournal,
+                new NotificationDispatchStage(dispatchProperties, meterRegistry), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("커서 페이지를 청크로 나누어 모든 회원을 처리한다")
+    void processAllActiveMembers_shouldProcessEveryMemberInChunks() {
+        // Given: 6명 + 4명 두 페이지, 청크 크기 3 → 청크 4개
+        List<Long> memberIds = LongStream.rangeClosed(1, 10).boxed().toList();
+        given(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+                .willReturn(Stream.of(memberIds.subList(0, 6), memberIds.subList(6, 10)));
+
+        // When
+        DailyCheckFanOutProcessor.FanOutResult result = fanOutProcessor.processAllActiveMembers();
+
+        // Then
+        assertThat(result.total()).isEqualTo(10);
+        assertThat(result.processed()).isEqualTo(10);
+        assertThat(result.failed()).isZero();
+        assertThat(result.chunkCount()).isEqualTo(4);
+        memberIds.forEach(id -> then(dailyCheckOrchestrator).should().processMemberDailyCheck(eq(id), any()));
+        assertThat(meterRegistry.get("maruni.dailycheck.fanout.chunk").timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한 회원 처리 실패가 다른 회원 처리를 막지 않는다")
+    void processAllActiveMembers_shouldIsolateMemberFailures() {
+        // Given
+        given(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(Stream.of(List.of(1L, 2L, 3L)));
+        willThrow(new RuntimeException("commit failed"))
+                .given(dailyCheckOrchestrator).processMemberDailyCheck(eq(2L), any());
+
+        // When
+        DailyCheckFanOutProcessor.FanOutResult result = fanOutProcessor.processAllActiveMembers();
+
+        // Then
+        assertThat(result.processed()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        then(dailyCheckOrchestrator).should().processMemberDailyCheck(eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("지정한 회원 ID 이후부터 이어서 처리한다")
+    void processAllActiveMembers_shouldResumeAfterGivenMemberId() {
+        // Given
+        given(memberCursor.pages(5L)).willReturn(Stream.of(List.of(6L, 7L)));
+
+        // When
+        DailyCheckFanOutProcessor.FanOutResult result = fanOutProcessor.processAllActiveMembers(5L, DailyCheckFanOutProcessor.PageCheckpoint.NONE);
+
+        // Then
+        assertThat(result.processed()).isEqualTo(2);
+        then(dailyCheckOrchestrator).should(never()).processMemberDailyCheck(eq(5L), any());
+    }
+
+    @Test
+    @DisplayName("오늘 실행은 체크포인트부터 재개하고 페이지마다 체크포인트를 기록한다")
+    void processTodayRun_shouldResumeFromCheckpointAndRecordEachPage() {
+        // Given: 회원 3번까지 처리된 실행
+        DailyCheckRun run = DailyCheckRun.start(LocalDate.now());
+        run.checkpoint(3L, 3, 0);
+        given(runJournal.startOrResume(any(LocalDate.class))).willReturn(Optional.of(run));
+        given(memberCursor.pages(3L)).willReturn(Stream.of(List.of(4L, 5L), List.of(6L)));
+
+        // When
+        Optional<DailyCheckFanOutProcessor.FanOutResult> result = fanOutProcessor.processTodayRun();
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().processed()).isEqualTo(3);
+        then(runJournal).should().checkpoint(run.getRunId(), 5L, 2, 0);
+        then(runJournal).should().checkpoint(run.getRunId(), 6L, 1, 0);
+        then(runJournal).should().complete(run.getRunId());
+    }
+
+    @Test
+    @DisplayName("다른 실행이 진행 중이면 발송하지 않는다")
+    void processTodayRun_shouldSkipWhenAnotherRunIsActive() {
+        // Given
+        given(runJournal.startOrResume(any(LocalDate.class))).willReturn(Optional.empty());
+
+        // When
+        Optional<DailyCheckFanOutProcessor.FanOutResult> result = fanOutProcessor.processTodayRun();
+
+        // Then
+        assertThat(result).isEmpty();
+        then(memberCursor).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("배치 저장이 켜져 있으면 청크 단위로 일괄 처리한다")
+    void processAllActiveMembers_shouldWriteChunksInBatch() {
+        // Given
+        properties.getDailyCheck().getFanOut().setBatchWrites(true);
+        given(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+                .willReturn(Stream.of(List.of(1L, 2L, 3L, 4L)));
+
+        // When
+        DailyCheckFanOutProcessor.FanOutResult result = fanOutProcessor.processAllActiveMembers();
+
+        // Then
+        assertThat(result.processed()).isEqualTo(4);
+        then(dailyCheckOrchestrator).should().processChunkDailyCheck(eq(List.of(1L, 2L, 3L)), any());
+        then(dailyCheckOrchestrator).should().processChunkDailyCheck(eq(List.of(4L)), any());
+        then(dailyCheckOrchestrator).should(never()).processMemberDailyCheck(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("청크 배치 저장이 실패하면 회원별 처리로 대체한다")
+    void processAllActiveMembers_shouldFallBackToPerMemberWhenBatchFails() {
+        // Given
+        properties.getDailyCheck().getFanOut().setBatchWrites(true);
+        given(memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING))
+                .willReturn(Stream.of(List.of(1L, 2L)));
+        given(dailyCheckOrchestrator.processChunkDailyCheck(anyList(), any()))
+                .willThrow(new RuntimeException("batch failed"));
+
+        // When
+        DailyCheckFanOutProcessor.FanOutResult result = fanOutProcessor.processAllActiveMembers();
+
+        // Then
+        assertThat(result.processed()).isEqualTo(2);
+        then(dailyCheckOrchestrator).should().processMemberDailyCheck(eq(1L), any());
+        then(dailyCheckOrchestrator).should().processMemberDailyCheck(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("발송 슬롯의 회원 목록을 청크로 나누어 전달받은 발송 집합으로 처리한다")
+    void processMembers_shouldProcessGivenMembersInChunks() {
+        // Given
+        List<Long> memberIds = List.of(11L, 12L, 13L, 14L);
+        MemberIdSet alreadySent = MemberIdSet.of(List.of(12L));
+
+        // When
+        DailyCheckFanOutProcessor.FanOutResult result = fanOutProcessor.processMembers(memberIds, alreadySent);
+
+        // Then
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.processed()).isEqualTo(4);
+        assertThat(result.chunkCount()).isEqualTo(2);
+        memberIds.forEach(id -> then(dailyCheckOrchestrator).should().processMemberDailyCheck(id, alreadySent));
+        then(dailyCheckOrchestrator).should(never()).loadAlreadySentMemberIds();
+        then(memberCursor).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("청크의 발송 토큰을 확보하지 못하면 회원별 처리 없이 청크 전체를 재시도 큐로 넘긴다")
+    void processMembers_shouldDeferThrottledChunkToRetry() {
+        // Given: 토큰 1개, 대기 불가 → 3명 청크는 거부
+        NotificationDispatchProperties dispatchProperties = new NotificationDispatchProperties();
+        dispatchProperties.setMaxWaitMillis(0);
+        dispatchProperties.getChannels().put(NotificationChannelType.PUSH,
+                new NotificationDispatchProperties.Rate(1, 1));
+        DailyCheckFanOutProcessor throttledProcessor = fanOutProcessor(dispatchProperties);
+        List<Long> memberIds = List.of(1L, 2L, 3L);
+        MemberIdSet noneSent = MemberIdSet.empty();
+        given(dailyCheckOrchestrator.scheduleRetries(memberIds, noneSent)).willReturn(3);
+
+        // When
+        DailyCheckFanOutProcessor.FanOutResult result = throttledProcessor.processMembers(memberIds, noneSent);
+
+        // Then
+        assertThat(result.processed()).isZero();
+        assertThat(result.failed()).isEqualTo(3);
+        then(dailyCheckOrchestrator).should().scheduleRetries(memberIds, noneSent);
+        then(dailyCheckOrchestrator).should(never()).processMemberDailyCheck(anyLong(), any());
+        then(dailyCheckOrchestrator).should(never()).processChunkDailyCheck(anyList(), any());
+    }
+}
@@ -2,24 +2,39 @@ package com.anyang.maruni.domain.dailycheck.application.scheduler;
 
 import com.anyang.maruni.domain.conversation.application.service.SimpleConversationService;
 import com.anyang.maruni.domain.dailycheck.application.service.DailyCheckMessageProvider;
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
 import com.anyang.maruni.domain.dailycheck.domain.entity.RetryRecord;
 import com.anyang.maruni.domain.dailycheck.domain.repository.DailyCheckRecordRepository;
-import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
+import com.anyang.maruni.domain.dailycheck.domain.vo.MemberIdSet;
+import com.anyang.maruni.domain.dailycheck.infrastructure.persistence.DailyCheckRecordUpsertWriter;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberDailySummaryWriter;
 import com.anyang.maruni.domain.notification.domain.service.NotificationHistoryService;
 import com.anyang.maruni.domain.notification.domain.entity.NotificationHistory;
+import com.anyang.maruni.domain.notification.domain.exception.NotificationDispatchRejectedException;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.application.config.NotificationDispatchProperties;
+import com.anyang.maruni.domain.notification.infrastructure.dispatch.NotificationDispatchStage;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.response.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,7 +53,7 @@ class DailyCheckOrchestratorTest {
     private DailyCheckMessageProvider messageProvider;
 
     @Mock
-    private MemberRepository memberRepository;
+    private DailyCheckMemberCursor memberCursor;
 
     @Mock
     private SimpleConversationService conversationService;
@@ -49,9 +64,28 @@ class DailyCheckOrchestratorTest {
     @Mock
     private DailyCheckRecordRepository dailyCheckRecordRepository;
 
+    @Mock
+    private DailyCheckRecordUpsertWriter dailyCheckRecordWriter;
+
+    @Mock
+    private MemberDailySummaryWriter dailySummaryWriter;
+
     @Mock
     private RetryService retryService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DailyCheckRunJournal runJournal;
+
+    @Spy
+    private SchedulingProperties schedulingProperties = new SchedulingProperties();
+
+    @Spy
+    private NotificationDispatchStage dispatchStage =
+            new NotificationDispatchStage(new NotificationDispatchProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private DailyCheckOrchestrator dailyCheckOrchestrator;
 
@@ -72,9 +106,9 @@ class DailyCheckOrchestratorTest {
         List<Long> activeMemberIds = Arrays.asList(1L, 2L, 3L);
 
         given(messageProvider.generateMessage()).willReturn(testMessage);
-        given(memberRepository.findDailyCheckEnabledMemberIds()).willReturn(activeMemberIds);
-        given(dailyCheckRecordRepository.existsSuccessfulRecordByMemberIdAndDate(anyLong(), any(LocalDate.class)))
-                .willReturn(false);  // 모든 회원에게 아직 발송하지 않음
+        given(memberCursor.stream(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(activeMemberIds.stream());
+        given(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(any(LocalDate.class)))
+                .willReturn(List.of());  // 모든 회원에게 아직 발송하지 않음
         given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), any()))
                 .willReturn(testNotificationHistory);
 
@@ -87,8 +121,48 @@ class DailyCheckOrchestratorTest {
                 .recordNotificationWithType(anyLong(), eq("안부 메시지"), eq(testMessage), any(), any(), any());
         verify(conversationService, times(3))
                 .processSystemMessage(anyLong(), anyString());
-        verify(dailyCheckRecordRepository, times(3))
-                .save(any());
+        verify(dailyCheckRecordWriter, times(3))
+                .upsert(any());
+    }
+
+    @Test
+    @DisplayName("순차 발송도 Run Journal의 체크포인트부터 재개하고 batch-size 회원마다 체크포인트를 남긴다")
+    void processTodayRun_shouldResumeFromCheckpointAndRecordEachBatch() {
+        // Given: 회원 5번까지 처리된 실행
+        DailyCheckRun run = DailyCheckRun.start(LocalDate.now());
+        run.checkpoint(5L, 5, 0);
+        schedulingProperties.getDailyCheck().setBatchSize(2);
+        given(runJournal.startOrResume(any(LocalDate.class))).willReturn(Optional.of(run));
+        given(messageProvider.generateMessage()).willReturn("오늘도 좋은 하루 보내세요");
+        given(memberCursor.stream(5L)).willReturn(Stream.of(6L, 7L, 8L));
+        given(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(any(LocalDate.class)))
+                .willReturn(List.of());
+        given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), any()))
+                .willReturn(testNotificationHistory);
+
+        // When
+        boolean started = dailyCheckOrchestrator.processTodayRun();
+
+        // Then
+        assertTrue(started);
+        verify(runJournal).checkpoint(run.getRunId(), 7L, 2, 0);
+        verify(runJournal).checkpoint(run.getRunId(), 8L, 1, 0);
+        verify(runJournal).complete(run.getRunId());
+        verify(memberCursor, never()).stream(DailyCheckMemberCursor.FROM_BEGINNING);
+    }
+
+    @Test
+    @DisplayName("이미 완료되었거나 진행 중인 실행이 있으면 순차 발송을 시작하지 않는다")
+    void processTodayRun_shouldSkipWhenRunIsNotStarted() {
+        // Given
+        given(runJournal.startOrResume(any(LocalDate.class))).willReturn(Optional.empty());
+
+        // When
+        boolean started = dailyCheckOrchestrator.processTodayRun();
+
+        // Then
+        assertFalse(started);
+        verifyNoInteractions(memberCursor, notificationHistoryService);
     }
 
     @Test
@@ -99,11 +173,9 @@ class DailyCheckOrchestratorTest {
         List<Long> activeMemberIds = Arrays.asList(1L, 2L);
 
         given(messageProvider.generateMessage()).willReturn(testMessage);
-        given(memberRepository.findDailyCheckEnabledMemberIds()).willReturn(activeMemberIds);
-        given(dailyCheckRecordRepository.existsSuccessfulRecordByMemberIdAndDate(eq(1L), any(LocalDate.class)))
-                .willReturn(true);   // 1번 회원은 이미 발송됨
-        given(dailyCheckRecordRepository.existsSuccessfulRecordByMemberIdAndDate(eq(2L), any(LocalDate.class)))
-                .willReturn(false);  // 2번 회원은 발송되지 않음
+        given(memberCursor.stream(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(activeMemberIds.stream());
+        given(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(any(LocalDate.class)))
+                .willReturn(List.of(1L));  // 1번 회원만 이미 발송됨
         given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), any()))
                 .willReturn(testNotificationHistory);
 
@@ -116,6 +188,70 @@ class DailyCheckOrchestratorTest {
                 .recordNotificationWithType(eq(2L), anyString(), anyString(), any(), any(), any());
         verify(notificationHistoryService, never())
                 .recordNotificationWithType(eq(1L), anyString(), anyString(), any(), any(), any());
+        verify(dailyCheckRecordRepository, times(1)).findSuccessfulMemberIdsByDate(any(LocalDate.class));
+        verify(dailyCheckRecordRepository, never())
+                .existsSuccessfulRecordByMemberIdAndDate(anyLong(), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("회원마다 별도 트랜잭션으로 커밋하고 한 회원의 실패가 다른 회원 처리를 막지 않는다")
+    void processAllActiveMembers_shouldCommitEachMemberSeparately() {
+        // Given
+        String testMessage = "오늘도 좋은 하루 보내세요";
+        given(messageProvider.generateMessage()).willReturn(testMessage);
+        given(memberCursor.stream(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(Stream.of(1L, 2L, 3L));
+        given(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(any(LocalDate.class)))
+                .willReturn(List.of());
+        given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), any()))
+                .willReturn(testNotificationHistory);
+        given(notificationHistoryService.recordNotificationWithType(eq(2L), anyString(), anyString(), any(), any(), any()))
+                .willThrow(new IllegalStateException("push failed"));
+        willThrow(new IllegalStateException("retry insert failed"))
+                .given(retryService).scheduleRetry(eq(2L), anyString());
+
+        // When
+        dailyCheckOrchestrator.processAllActiveMembers();
+
+        // Then
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(dailyCheckRecordWriter, times(2)).upsert(any());
+    }
+
+    @Test
+    @DisplayName("발송 토큰을 확보하지 못한 회원은 트랜잭션을 열지 않고 한 번에 재시도 큐로 넘긴다")
+    void processAllActiveMembers_shouldDeferThrottledMembersWithoutTransactions() {
+        // Given
+        given(messageProvider.generateMessage()).willReturn("오늘도 좋은 하루 보내세요");
+        given(memberCursor.stream(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(Stream.of(1L, 2L));
+        given(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(any(LocalDate.class)))
+                .willReturn(List.of());
+        willThrow(new NotificationDispatchRejectedException(ErrorCode.NOTIFICATION_DISPATCH_THROTTLED))
+                .given(dispatchStage).runWithPermits(eq(NotificationChannelType.PUSH), anyInt(), any());
+
+        // When
+        dailyCheckOrchestrator.processAllActiveMembers();
+
+        // Then
+        verify(transactionManager, never()).getTransaction(any());
+        verify(retryService).scheduleRetries(List.of(1L, 2L), "오늘도 좋은 하루 보내세요");
+        verify(retryService, never()).scheduleRetry(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("오늘 발송 여부는 서버 시간대가 아닌 발송 시간대 기준 날짜로 조회한다")
+    void loadAlreadySentMemberIds_shouldUseConfiguredZone() {
+        // Given: 서버 시간대와 날짜가 달라질 수 있는 UTC+14 시간대를 발송 시간대로 지정
+        ZoneId zone = ZoneId.of("Pacific/Kiritimati");
+        schedulingProperties.getDailyCheck().setZone(zone);
+        given(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(any(LocalDate.class))).willReturn(List.of());
+
+        // When
+        dailyCheckOrchestrator.loadAlreadySentMemberIds();
+
+        // Then
+        verify(dailyCheckRecordRepository).findSuccessfulMemberIdsByDate(LocalDate.now(zone));
     }
 
     @Test
@@ -138,9 +274,9 @@ class DailyCheckOrchestratorTest {
         List<Long> activeMemberIds = Arrays.asList(1L);
 
         given(messageProvider.generateMessage()).willReturn(testMessage);
-        given(memberRepository.findDailyCheckEnabledMemberIds()).willReturn(activeMemberIds);
-        given(dailyCheckRecordRepository.existsSuccessfulRecordByMemberIdAndDate(anyLong(), any(LocalDate.class)))
-                .willReturn(false);
+        given(memberCursor.stream(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(activeMemberIds.stream());
+        given(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(any(LocalDate.class)))
+                .willReturn(List.of());
         given(notificationHistoryService.recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), any()))
                 .willReturn(null); // 실패 시나리오
 
@@ -150,24 +286,94 @@ class DailyCheckOrchestratorTest {
         // Then
         verify(messageProvider, times(1)).generateMessage();
         verify(retryService, times(1)).scheduleRetry(anyLong(), eq(testMessage));  // 재시도 기록 스케줄링 확인
-        verify(dailyCheckRecordRepository, times(1)).save(any());  // 실패 기록 저장 확인
+        verify(dailyCheckRecordWriter, times(1)).upsert(any());  // 실패 기록 저장 확인
+        verify(dailySummaryWriter, times(1)).recordDailyChecks(eq(List.of(1L)), eq(false), any(LocalDateTime.class));
     }
 
     @Test
     @DisplayName("일정 시간이 지나면 재시도를 실행한다")
-    void processAllRetries_shouldRetryFailedNotifications() {
+    void processRetryBatch_shouldRetryFailedNotifications() {
         // Given
-        given(retryService.getPendingRetries(any(LocalDateTime.class)))
+        given(retryService.claimDueRetries(any(LocalDateTime.class), eq(100)))
                 .willReturn(List.of()); // 빈 목록으로 설정하여 간단한 테스트
 
         // When
-        dailyCheckOrchestrator.processAllRetries();
+        int claimed = dailyCheckOrchestrator.processRetryBatch(100);
 
         // Then - 빈 목록이므로 알림 발송은 없어야 함
+        assertEquals(0, claimed);
         verify(notificationHistoryService, never())
                 .recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), any());
     }
 
+    @Test
+    @DisplayName("점유한 재시도 기록의 발송이 성공하면 완료 처리하고 저장한다")
+    void processRetryBatch_shouldCompleteSucceededRetry() {
+        // Given
+        RetryRecord retryRecord = RetryRecord.createRetryRecord(1L, "재시도 메시지");
+        given(retryService.claimDueRetries(any(LocalDateTime.class), eq(100)))
+                .willReturn(List.of(retryRecord));
+        given(notificationHistoryService.recordNotification(eq(1L), anyString(), eq("재시도 메시지")))
+                .willReturn(testNotificationHistory);
+
+        // When
+        int claimed = dailyCheckOrchestrator.processRetryBatch(100);
+
+        // Then
+        assertEquals(1, claimed);
+        verify(retryService).markCompleted(retryRecord);
+        verify(retryService).saveRetryRecord(retryRecord);
+        verify(retryService, never()).handleFailedRetry(any());
+    }
+
+    @Test
+    @DisplayName("재시도 발송 중 예외가 발생하면 해당 기록만 롤백하고 실패 횟수를 별도로 기록한다")
+    void processRetryBatch_shouldIsolateFailingRecord() {
+        // Given
+        RetryRecord poisonRecord = RetryRecord.builder()
+                .id(1L).memberId(1L).message("재시도 메시지").scheduledTime(LocalDateTime.now()).build();
+        RetryRecord healthyRecord = RetryRecord.builder()
+                .id(2L).memberId(2L).message("재시도 메시지").scheduledTime(LocalDateTime.now()).build();
+        given(retryService.claimDueRetries(any(LocalDateTime.class), eq(100)))
+                .willReturn(List.of(poisonRecord, healthyRecord));
+        given(notificationHistoryService.recordNotification(eq(1L), anyString(), anyString()))
+                .willThrow(new IllegalStateException("push failed"));
+        given(notificationHistoryService.recordNotification(eq(2L), anyString(), anyString()))
+                .willReturn(testNotificationHistory);
+
+        // When
+        int claimed = dailyCheckOrchestrator.processRetryBatch(100);
+
+        // Then
+        assertEquals(2, claimed);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(retryService).incrementRetryCount(1L);
+        verify(retryService, never()).incrementRetryCount(2L);
+        verify(retryService).saveRetryRecord(healthyRecord);
+        verify(retryService, never()).saveRetryRecord(poisonRecord);
+    }
+
+    @Test
+    @DisplayName("재시도 발송 토큰을 확보하지 못하면 실패 횟수를 늘리지 않고 남은 기록을 리스 만료까지 둔다")
+    void processRetryBatch_shouldStopWhenThrottled() {
+        // Given
+        RetryRecord retryRecord = RetryRecord.builder()
+                .id(1L).memberId(1L).message("재시도 메시지").scheduledTime(LocalDateTime.now()).build();
+        given(retryService.claimDueRetries(any(LocalDateTime.class), eq(100)))
+                .willReturn(List.of(retryRecord));
+        willThrow(new NotificationDispatchRejectedException(ErrorCode.NOTIFICATION_DISPATCH_THROTTLED))
+                .given(dispatchStage).runWithPermits(eq(NotificationChannelType.PUSH), anyInt(), any());
+
+        // When
+        int claimed = dailyCheckOrchestrator.processRetryBatch(100);
+
+        // Then
+        assertEquals(0, claimed);
+        verify(transactionManager, never()).getTransaction(any());
+        verify(retryService, never()).incrementRetryCount(anyLong());
+    }
+
     @Test
     @DisplayName("특정 회원에게 오늘 이미 발송했는지 확인한다")
     void isAlreadySentToday_shouldCheckTodayRecord() {
@@ -184,4 +390,27 @@ class DailyCheckOrchestratorTest {
         verify(dailyCheckRecordRepository)
                 .existsSuccessfulRecordByMemberIdAndDate(eq(memberId), any(LocalDate.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("청크 일괄 처리는 이미 발송한 회원을 제외하고 엔티티별로 한 번씩 배치 저장한다")
+    void processChunkDailyCheck_shouldWriteEachEntityOncePerChunk() {
+        // Given
+        String testMessage = "오늘도 좋은 하루 보내세요";
+        given(messageProvider.generateMessage()).willReturn(testMessage);
+        given(notificationHistoryService.recordNotificationsWithType(
+                eq(List.of(1L, 3L)), anyString(), eq(testMessage), any(), any()))
+                .willReturn(List.of(testNotificationHistory, testNotificationHistory));
+
+        // When
+        int sent = dailyCheckOrchestrator.processChunkDailyCheck(
+                List.of(1L, 2L, 3L), MemberIdSet.of(List.of(2L)));
+
+        // Then
+        assertEquals(2, sent);
+        verify(conversationService, times(1)).processSystemMessages(List.of(1L, 3L), testMessage);
+        verify(dailyCheckRecordWriter, times(1)).upsertAll(argThat(records -> records.size() == 2));
+        verify(dailySummaryWriter, times(1)).recordDailyChecks(eq(List.of(1L, 3L)), eq(true), any(LocalDateTime.class));
+        verify(notificationHistoryService, never())
+                .recordNotificationWithType(anyLong(), anyString(), anyString(), any(), any(), any());
+    }
+}
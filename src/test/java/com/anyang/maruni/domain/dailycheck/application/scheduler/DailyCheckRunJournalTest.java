@@ -0,0 +1,179 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRunStatus;
+import com.anyang.maruni.domain.dailycheck.domain.repository.DailyCheckRunRepository;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * DailyCheckRunJournal 테스트
+ *
+ * 실행 시작/재개(동시 시작, 완료된 실행 포함) 및 체크포인트 기록 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyCheckRunJournal 테스트")
+class DailyCheckRunJournalTest {
+
+    @Mock
+    private DailyCheckRunRepository runRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DailyCheckRunJournal runJournal;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        runJournal = new DailyCheckRunJournal(runRepository, new SchedulingProperties(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("해당 날짜의 실행 기록이 없으면 새로 시작한다")
+    void startOrResume_shouldStartNewRun() {
+        // Given
+        AtomicReference<DailyCheckRun> created = new AtomicReference<>();
+        given(runRepository.findByRunDate(today)).willReturn(Optional.empty());
+        given(runRepository.saveAndFlush(any(DailyCheckRun.class))).willAnswer(invocation -> {
+            created.set(invocation.getArgument(0));
+            return created.get();
+        });
+        given(runRepository.findByRunDateForUpdate(today)).willAnswer(invocation -> Optional.of(created.get()));
+
+        // When
+        Optional<DailyCheckRun> run = runJournal.startOrResume(today);
+
+        // Then
+        assertThat(run).isPresent();
+        assertThat(run.get().getStatus()).isEqualTo(DailyCheckRunStatus.RUNNING);
+        assertThat(run.get().getLastMemberId()).isZero();
+        assertThat(run.get().getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 동시에 실행을 만들면 유니크 키 위반을 무시하고 그 실행을 건너뛴다")
+    void startOrResume_shouldSkipRunCreatedConcurrently() {
+        // Given: 조회 시점에는 없었지만 다른 노드가 먼저 삽입한 실행
+        DailyCheckRun concurrent = DailyCheckRun.start(today);
+        given(runRepository.findByRunDate(today)).willReturn(Optional.empty());
+        given(runRepository.saveAndFlush(any(DailyCheckRun.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key: run_date"));
+        given(runRepository.findByRunDateForUpdate(today)).willReturn(Optional.of(concurrent));
+
+        // When
+        Optional<DailyCheckRun> run = runJournal.startOrResume(today);
+
+        // Then
+        assertThat(run).isEmpty();
+        assertThat(concurrent.getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료된 실행은 재개하지 않는다")
+    void startOrResume_shouldSkipCompletedRun() {
+        // Given
+        DailyCheckRun completed = DailyCheckRun.start(today);
+        completed.complete();
+        given(runRepository.findByRunDate(today)).willReturn(Optional.of(completed));
+        given(runRepository.findByRunDateForUpdate(today)).willReturn(Optional.of(completed));
+
+        // When
+        Optional<DailyCheckRun> run = runJournal.startOrResume(today);
+
+        // Then
+        assertThat(run).isEmpty();
+        assertThat(completed.getStatus()).isEqualTo(DailyCheckRunStatus.COMPLETED);
+        assertThat(completed.getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("슬롯 발송은 진행 중인 실행에 합류하고 실패한 실행은 재개한다")
+    void startOrJoin_shouldJoinRunningAndResumeFailedRun() {
+        // Given
+        DailyCheckRun failed = DailyCheckRun.start(today);
+        failed.fail("slot dispatch failed");
+        given(runRepository.findByRunDate(today)).willReturn(Optional.of(failed));
+        given(runRepository.findByRunDateForUpdate(today)).willReturn(Optional.of(failed));
+
+        // When
+        Optional<DailyCheckRun> resumed = runJournal.startOrJoin(today);
+        Optional<DailyCheckRun> joined = runJournal.startOrJoin(today);
+
+        // Then
+        assertThat(resumed).contains(failed);
+        assertThat(joined).contains(failed);
+        assertThat(failed.getStatus()).isEqualTo(DailyCheckRunStatus.RUNNING);
+        assertThat(failed.getAttemptCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중단된 실행은 마지막 체크포인트부터 재개한다")
+    void startOrResume_shouldResumeStaleRun() {
+        // Given: 30분 동안 체크포인트가 갱신되지 않은 실행
+        DailyCheckRun stale = DailyCheckRun.start(today);
+        stale.checkpoint(120L, 100, 2);
+        ReflectionTestUtils.setField(stale, "updatedAt", LocalDateTime.now().minusMinutes(30));
+        given(runRepository.findByRunDate(today)).willReturn(Optional.of(stale));
+        given(runRepository.findByRunDateForUpdate(today)).willReturn(Optional.of(stale));
+
+        // When
+        Optional<DailyCheckRun> run = runJournal.startOrResume(today);
+
+        // Then
+        assertThat(run).isPresent();
+        assertThat(run.get().getLastMemberId()).isEqualTo(120L);
+        assertThat(run.get().getAttemptCount()).isEqualTo(2);
+        then(runRepository).should(never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("진행 중인 실행이 있으면 새 실행을 시작하지 않는다")
+    void startOrResume_shouldSkipActiveRun() {
+        // Given
+        DailyCheckRun active = DailyCheckRun.start(today);
+        ReflectionTestUtils.setField(active, "updatedAt", LocalDateTime.now().minusMinutes(1));
+        given(runRepository.findByRunDate(today)).willReturn(Optional.of(active));
+        given(runRepository.findByRunDateForUpdate(today)).willReturn(Optional.of(active));
+
+        // When
+        Optional<DailyCheckRun> run = runJournal.startOrResume(today);
+
+        // Then
+        assertThat(run).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체크포인트는 회원 ID가 증가하는 방향으로만 이동하고 카운터를 누적한다")
+    void checkpoint_shouldOnlyMoveForward() {
+        // Given
+        DailyCheckRun run = DailyCheckRun.start(today);
+        given(runRepository.findByRunId(run.getRunId())).willReturn(Optional.of(run));
+
+        // When
+        runJournal.checkpoint(run.getRunId(), 50L, 48, 2);
+        runJournal.checkpoint(run.getRunId(), 10L, 1, 0);
+
+        // Then
+        assertThat(run.getLastMemberId()).isEqualTo(50L);
+        assertThat(run.getSuccessCount()).isEqualTo(49);
+        assertThat(run.getFailureCount()).isEqualTo(2);
+    }
+}
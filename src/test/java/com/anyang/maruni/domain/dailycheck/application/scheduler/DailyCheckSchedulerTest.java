@@ -1,12 +1,15 @@
 package com.anyang.maruni.domain.dailycheck.application.scheduler;
 
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.scheduling.SchedulerCoordinator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 /**
@@ -21,26 +24,101 @@ class DailyCheckSchedulerTest {
     @Mock
     private DailyCheckOrchestrator dailyCheckOrchestrator;
 
-    @InjectMocks
+    @Mock
+    private DailyCheckFanOutProcessor dailyCheckFanOutProcessor;
+
+    @Mock
+    private SchedulerCoordinator schedulerCoordinator;
+
+    private SchedulingProperties schedulingProperties;
+
     private DailyCheckScheduler dailyCheckScheduler;
 
+    @BeforeEach
+    void setUp() {
+        schedulingProperties = new SchedulingProperties();
+        dailyCheckScheduler = new DailyCheckScheduler(
+                dailyCheckOrchestrator, dailyCheckFanOutProcessor, schedulingProperties, schedulerCoordinator);
+        lenient().when(schedulerCoordinator.isLeader()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("일일 체크 트리거가 오케스트레이터의 Run Journal 기반 순차 실행을 호출한다")
+    void triggerDailyCheck_shouldCallOrchestratorProcessTodayRun() {
+        // When
+        dailyCheckScheduler.triggerDailyCheck();
+
+        // Then
+        verify(dailyCheckOrchestrator, times(1)).processTodayRun();
+        verifyNoInteractions(dailyCheckFanOutProcessor);
+    }
+
+    @Test
+    @DisplayName("다중 서버에서 리더 노드가 아니면 발송하지 않는다")
+    void triggerDailyCheck_shouldSkipWhenNotLeader() {
+        // Given
+        given(schedulerCoordinator.isLeader()).willReturn(false);
+
+        // When
+        dailyCheckScheduler.triggerDailyCheck();
+
+        // Then
+        verifyNoInteractions(dailyCheckOrchestrator, dailyCheckFanOutProcessor);
+    }
+
+    @Test
+    @DisplayName("병렬 분산 발송이 활성화되면 Run Journal 기반 실행을 FanOutProcessor에 위임한다")
+    void triggerDailyCheck_shouldDelegateToFanOutProcessorWhenEnabled() {
+        // Given
+        schedulingProperties.getDailyCheck().getFanOut().setEnabled(true);
+
+        // When
+        dailyCheckScheduler.triggerDailyCheck();
+
+        // Then
+        verify(dailyCheckFanOutProcessor, times(1)).processTodayRun();
+        verify(dailyCheckOrchestrator, never()).processTodayRun();
+    }
+
     @Test
-    @DisplayName("일일 체크 트리거가 오케스트레이터의 processAllActiveMembers를 호출한다")
-    void triggerDailyCheck_shouldCallOrchestratorProcessAllActiveMembers() {
+    @DisplayName("회원별 발송 시각이 활성화되면 cron 일괄 발송을 건너뛴다")
+    void triggerDailyCheck_shouldSkipWhenSendWindowEnabled() {
+        // Given
+        schedulingProperties.getDailyCheck().getSendWindow().setEnabled(true);
+
         // When
         dailyCheckScheduler.triggerDailyCheck();
 
         // Then
-        verify(dailyCheckOrchestrator, times(1)).processAllActiveMembers();
+        verifyNoInteractions(dailyCheckOrchestrator, dailyCheckFanOutProcessor);
+    }
+
+    @Test
+    @DisplayName("재시도 트리거는 점유한 건수가 배치 크기보다 작아질 때까지 배치를 반복 처리한다")
+    void triggerRetryProcess_shouldDrainBatchesUntilQueueIsShort() {
+        // Given
+        schedulingProperties.getRetry().setBatchSize(10);
+        given(dailyCheckOrchestrator.processRetryBatch(10)).willReturn(10, 10, 3);
+
+        // When
+        dailyCheckScheduler.triggerRetryProcess();
+
+        // Then
+        verify(dailyCheckOrchestrator, times(3)).processRetryBatch(10);
     }
 
     @Test
-    @DisplayName("재시도 트리거가 오케스트레이터의 processAllRetries를 호출한다")
-    void triggerRetryProcess_shouldCallOrchestratorProcessAllRetries() {
+    @DisplayName("재시도 트리거는 최대 배치 수를 넘겨 처리하지 않는다")
+    void triggerRetryProcess_shouldStopAtMaxBatchesPerRun() {
+        // Given
+        schedulingProperties.getRetry().setBatchSize(10);
+        schedulingProperties.getRetry().setMaxBatchesPerRun(2);
+        given(dailyCheckOrchestrator.processRetryBatch(10)).willReturn(10);
+
         // When
         dailyCheckScheduler.triggerRetryProcess();
 
         // Then
-        verify(dailyCheckOrchestrator, times(1)).processAllRetries();
+        verify(dailyCheckOrchestrator, times(2)).processRetryBatch(10);
     }
-}
\ No newline at end of file
+}
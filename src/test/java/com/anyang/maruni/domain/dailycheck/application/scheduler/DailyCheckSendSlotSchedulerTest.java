@@ -0,0 +1,204 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRun;
+import com.anyang.maruni.domain.dailycheck.domain.vo.MemberIdSet;
+import com.anyang.maruni.domain.member.infrastructure.persistence.DailyCheckMemberCursor;
+import com.anyang.maruni.domain.member.infrastructure.persistence.MemberSendTime;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.scheduling.SchedulerCoordinator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * DailyCheckSendSlotScheduler 테스트
+ *
+ * 회원별 발송 슬롯 배정 및 슬롯 단위 발송 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyCheckSendSlotScheduler 테스트")
+class DailyCheckSendSlotSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private DailyCheckOrchestrator dailyCheckOrchestrator;
+
+    @Mock
+    private DailyCheckFanOutProcessor dailyCheckFanOutProcessor;
+
+    @Mock
+    private DailyCheckMemberCursor memberCursor;
+
+    @Mock
+    private SchedulerCoordinator schedulerCoordinator;
+
+    @Mock
+    private DailyCheckRunJournal runJournal;
+
+    private final DailyCheckFanOutProcessor.FanOutResult fanOutResult =
+            new DailyCheckFanOutProcessor.FanOutResult(0, 0, 0, 0, 1, false);
+
+    private final DailyCheckRun run = DailyCheckRun.start(TODAY);
+
+    private SchedulingProperties properties;
+    private DailyCheckSendSlotScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SchedulingProperties();
+        properties.getDailyCheck().getSendWindow().setEnabled(true);
+        scheduler = new DailyCheckSendSlotScheduler(
+                dailyCheckOrchestrator, dailyCheckFanOutProcessor, memberCursor, properties, schedulerCoordinator,
+                runJournal);
+        lenient().when(runJournal.startOrJoin(any(LocalDate.class))).thenReturn(Optional.of(run));
+        lenient().when(dailyCheckOrchestrator.isAllowedSendingTime(any(LocalTime.class)))
+                .thenAnswer(invocation -> {
+                    int hour = invocation.<LocalTime>getArgument(0).getHour();
+                    return hour >= 7 && hour <= 21;
+                });
+    }
+
+    @Test
+    @DisplayName("발송 시각이 도래한 회원만 이미 발송한 회원 집합과 함께 발송기에 넘긴다")
+    void tick_shouldDispatchOnlyDueMembers() {
+        // Given
+        given(memberCursor.sendTimes(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(Stream.of(
+                new MemberSendTime(1L, LocalTime.of(8, 0)),
+                new MemberSendTime(2L, LocalTime.of(8, 0)),
+                new MemberSendTime(3L, LocalTime.of(18, 30))));
+        MemberIdSet alreadySent = MemberIdSet.of(List.of(2L));
+        given(dailyCheckOrchestrator.loadAlreadySentMemberIds(List.of(1L, 2L))).willReturn(alreadySent);
+        given(dailyCheckFanOutProcessor.processMembers(List.of(1L, 2L), alreadySent)).willReturn(fanOutResult);
+
+        // When
+        scheduler.tick(TODAY.atTime(7, 59)).ifPresent(CompletableFuture::join);
+        scheduler.tick(TODAY.atTime(8, 0)).ifPresent(CompletableFuture::join);
+
+        // Then
+        then(dailyCheckFanOutProcessor).should().processMembers(List.of(1L, 2L), alreadySent);
+        then(dailyCheckFanOutProcessor).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("재시작 후 첫 틱은 이미 지난 슬롯의 회원을 한 번에 해제한다")
+    void tick_shouldCatchUpPastSlotsAfterRestart() {
+        // Given
+        given(memberCursor.sendTimes(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(Stream.of(
+                new MemberSendTime(1L, LocalTime.of(7, 0)),
+                new MemberSendTime(2L, LocalTime.of(10, 15)),
+                new MemberSendTime(3L, LocalTime.of(20, 0))));
+        MemberIdSet noneSent = MemberIdSet.empty();
+        given(dailyCheckOrchestrator.loadAlreadySentMemberIds(List.of(1L, 2L))).willReturn(noneSent);
+        given(dailyCheckFanOutProcessor.processMembers(List.of(1L, 2L), noneSent)).willReturn(fanOutResult);
+
+        // When
+        Optional<DailyCheckFanOutProcessor.FanOutResult> result =
+                scheduler.tick(TODAY.atTime(12, 0)).map(CompletableFuture::join);
+
+        // Then
+        assertThat(result).contains(fanOutResult);
+        then(dailyCheckFanOutProcessor).should().processMembers(List.of(1L, 2L), noneSent);
+    }
+
+    @Test
+    @DisplayName("슬롯 발송 결과를 Run Journal에 누적하고 마지막 슬롯이 끝나면 실행을 완료한다")
+    void tick_shouldJournalSlotsAndCompleteAfterLastSlot() {
+        // Given
+        given(memberCursor.sendTimes(DailyCheckMemberCursor.FROM_BEGINNING)).willReturn(Stream.of(
+                new MemberSendTime(1L, LocalTime.of(8, 0)),
+                new MemberSendTime(2L, LocalTime.of(18, 30))));
+        MemberIdSet noneSent = MemberIdSet.empty();
+        given(dailyCheckOrchestrator.loadAlreadySentMemberIds(anyList())).willReturn(noneSent);
+        given(dailyCheckFanOutProcessor.processMembers(anyList(), eq(noneSent)))
+                .willReturn(new DailyCheckFanOutProcessor.FanOutResult(1, 1, 0, 1, 1, false));
+
+        // When
+        scheduler.tick(TODAY.atTime(8, 0)).ifPresent(CompletableFuture::join);
+        then(runJournal).should(never()).complete(anyString());
+        scheduler.tick(TODAY.atTime(18, 30)).ifPresent(CompletableFuture::join);
+
+        // Then
+        then(runJournal).should(times(2)).checkpoint(run.getRunId(), null, 1, 0);
+        then(runJournal).should().complete(run.getRunId());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 날짜의 슬롯은 발송하지 않는다")
+    void tick_shouldSkipSlotsOfCompletedRun() {
+        // Given
+        given(memberCursor.sendTimes(DailyCheckMemberCursor.FROM_BEGINNING))
+                .willReturn(Stream.of(new MemberSendTime(1L, LocalTime.of(8, 0))));
+        given(runJournal.startOrJoin(TODAY)).willReturn(Optional.empty());
+
+        // When
+        scheduler.tick(TODAY.atTime(8, 0)).ifPresent(CompletableFuture::join);
+
+        // Then
+        then(dailyCheckFanOutProcessor).shouldHaveNoInteractions();
+        then(runJournal).should(never()).checkpoint(anyString(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 DB에서 휠을 다시 구성한다")
+    void tick_shouldRebuildOnDateChange() {
+        // Given
+        given(memberCursor.sendTimes(DailyCheckMemberCursor.FROM_BEGINNING))
+                .willReturn(Stream.of(new MemberSendTime(1L, LocalTime.of(9, 0))))
+                .willReturn(Stream.of(new MemberSendTime(1L, LocalTime.of(9, 0))));
+        MemberIdSet noneSent = MemberIdSet.empty();
+        given(dailyCheckOrchestrator.loadAlreadySentMemberIds(List.of(1L))).willReturn(noneSent);
+        given(dailyCheckFanOutProcessor.processMembers(List.of(1L), noneSent)).willReturn(fanOutResult);
+
+        // When
+        scheduler.tick(TODAY.atTime(9, 0)).ifPresent(CompletableFuture::join);
+        Optional<DailyCheckFanOutProcessor.FanOutResult> nextDay =
+                scheduler.tick(TODAY.plusDays(1).atTime(8, 0)).map(CompletableFuture::join);
+
+        // Then
+        assertThat(nextDay).isEmpty();
+        then(memberCursor).should(times(2)).sendTimes(DailyCheckMemberCursor.FROM_BEGINNING);
+    }
+
+    @Test
+    @DisplayName("발송 시각 미지정 또는 허용 시간 밖의 회원은 기본 구간 안에 배정한다")
+    void slotOf_shouldAssignDefaultWindow() {
+        // Given
+        int start = 9 * 60;
+        int end = start + properties.getDailyCheck().getSendWindow().getDefaultSpreadMinutes();
+
+        // When & Then
+        assertThat(scheduler.slotOf(new MemberSendTime(1L, LocalTime.of(10, 45)))).isEqualTo(10 * 60 + 45);
+        for (long memberId = 1; memberId <= 500; memberId++) {
+            assertThat(scheduler.slotOf(new MemberSendTime(memberId, null))).isBetween(start, end - 1);
+            assertThat(scheduler.slotOf(new MemberSendTime(memberId, LocalTime.of(23, 0)))).isBetween(start, end - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("기본 구간 배정은 연속된 회원 ID를 여러 분 슬롯으로 분산한다")
+    void slotOf_shouldSpreadSequentialMemberIds() {
+        // When
+        long distinctSlots = Stream.iterate(1L, id -> id + 1).limit(600)
+                .map(id -> scheduler.slotOf(new MemberSendTime(id, null)))
+                .distinct()
+                .count();
+
+        // Then - 60개 슬롯 대부분이 사용됨
+        assertThat(distinctSlots).isGreaterThan(50);
+    }
+}
@@ -0,0 +1,103 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * DailyCheckTimingWheel 테스트
+ */
+@DisplayName("DailyCheckTimingWheel 테스트")
+class DailyCheckTimingWheelTest {
+
+    private DailyCheckTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new DailyCheckTimingWheel();
+    }
+
+    @Test
+    @DisplayName("도래한 분 슬롯의 회원만 슬롯 순서대로 해제한다")
+    void advanceTo_shouldReleaseOnlyDueSlotsInOrder() {
+        // Given
+        wheel.schedule(3L, 9 * 60 + 30);
+        wheel.schedule(1L, 9 * 60);
+        wheel.schedule(2L, 9 * 60 + 1);
+        wheel.schedule(4L, 14 * 60);
+
+        // When & Then
+        assertThat(wheel.advanceTo(8 * 60 + 59)).isEmpty();
+        assertThat(wheel.advanceTo(9 * 60 + 1)).containsExactly(1L, 2L);
+        assertThat(wheel.advanceTo(10 * 60)).containsExactly(3L);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(14 * 60)).containsExactly(4L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록한 회원은 다음 전진 때 바로 해제한다")
+    void schedule_shouldReleasePastSlotsOnNextAdvance() {
+        // Given
+        wheel.advanceTo(12 * 60);
+        wheel.schedule(7L, 9 * 60);
+        wheel.schedule(8L, 12 * 60 + 5);
+
+        // When
+        List<Long> released = wheel.advanceTo(12 * 60 + 1);
+
+        // Then
+        assertThat(released).containsExactly(7L);
+        assertThat(wheel.advanceTo(12 * 60 + 5)).containsExactly(8L);
+    }
+
+    @Test
+    @DisplayName("현재 시에 등록한 회원은 분 휠에 바로 배치된다")
+    void schedule_shouldPlaceIntoCascadedHour() {
+        // Given
+        wheel.advanceTo(9 * 60 + 10);
+        wheel.schedule(5L, 9 * 60 + 20);
+
+        // When & Then
+        assertThat(wheel.advanceTo(9 * 60 + 19)).isEmpty();
+        assertThat(wheel.advanceTo(9 * 60 + 20)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("큰 회원 ID도 시 버킷 인코딩에서 손실 없이 복원된다")
+    void cascade_shouldPreserveLargeMemberIds() {
+        // Given
+        long largeId = (1L << 50) + 123;
+        wheel.schedule(largeId, 20 * 60 + 59);
+
+        // When & Then
+        assertThat(wheel.advanceTo(21 * 60)).containsExactly(largeId);
+    }
+
+    @Test
+    @DisplayName("휠을 비우면 커서가 하루의 시작으로 돌아간다")
+    void clear_shouldResetCursor() {
+        // Given
+        wheel.schedule(1L, 8 * 60);
+        wheel.advanceTo(10 * 60);
+
+        // When
+        wheel.clear();
+        wheel.schedule(2L, 8 * 60);
+
+        // Then
+        assertThat(wheel.advanceTo(8 * 60)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("하루 범위를 벗어난 슬롯은 거부한다")
+    void schedule_shouldRejectOutOfRangeMinute() {
+        assertThatThrownBy(() -> wheel.schedule(1L, DailyCheckTimingWheel.MINUTES_PER_DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
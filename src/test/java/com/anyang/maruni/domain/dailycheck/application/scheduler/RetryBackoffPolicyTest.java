@@ -0,0 +1,50 @@
+package com.anyang.maruni.domain.dailycheck.application.scheduler;
+
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RetryBackoffPolicy 테스트
+ */
+@DisplayName("RetryBackoffPolicy 테스트")
+class RetryBackoffPolicyTest {
+
+    private SchedulingProperties schedulingProperties;
+    private RetryBackoffPolicy retryBackoffPolicy;
+
+    @BeforeEach
+    void setUp() {
+        schedulingProperties = new SchedulingProperties();
+        schedulingProperties.getRetry().setDelayMinutes(5);
+        schedulingProperties.getRetry().setMaxDelayMinutes(60);
+        retryBackoffPolicy = new RetryBackoffPolicy(schedulingProperties);
+    }
+
+    @Test
+    @DisplayName("지연 상한은 재시도 차수마다 2배씩 증가하고 최대 지연에서 멈춘다")
+    void capSeconds_shouldGrowExponentiallyUntilMaxDelay() {
+        assertEquals(300, retryBackoffPolicy.capSeconds(1));
+        assertEquals(600, retryBackoffPolicy.capSeconds(2));
+        assertEquals(1200, retryBackoffPolicy.capSeconds(3));
+        assertEquals(2400, retryBackoffPolicy.capSeconds(4));
+        assertEquals(3600, retryBackoffPolicy.capSeconds(5));
+        assertEquals(3600, retryBackoffPolicy.capSeconds(64));
+    }
+
+    @Test
+    @DisplayName("지터가 적용된 지연은 상한의 절반 이상, 상한 이하이다")
+    void delayBeforeRetry_shouldStayWithinJitterBounds() {
+        for (int i = 0; i < 200; i++) {
+            Duration delay = retryBackoffPolicy.delayBeforeRetry(3);
+
+            assertTrue(delay.getSeconds() >= 600, "delay too short: " + delay);
+            assertTrue(delay.getSeconds() <= 1200, "delay too long: " + delay);
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.anyang.maruni.domain.dailycheck.application.scheduler;
 
 import com.anyang.maruni.domain.dailycheck.domain.entity.RetryRecord;
+import com.anyang.maruni.domain.dailycheck.domain.entity.RetryStatus;
 import com.anyang.maruni.domain.dailycheck.domain.repository.RetryRecordRepository;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,9 +34,17 @@ class RetryServiceTest {
     @Mock
     private RetryRecordRepository retryRecordRepository;
 
-    @InjectMocks
+    private SchedulingProperties schedulingProperties;
+
     private RetryService retryService;
 
+    @BeforeEach
+    void setUp() {
+        schedulingProperties = new SchedulingProperties();
+        retryService = new RetryService(retryRecordRepository,
+                new RetryBackoffPolicy(schedulingProperties), schedulingProperties);
+    }
+
     @Test
     @DisplayName("실패한 알림에 대한 재시도를 스케줄링한다")
     void scheduleRetry_shouldSaveRetryRecord() {
@@ -53,6 +65,7 @@ class RetryServiceTest {
         assertEquals(0, savedRecord.getRetryCount());
         assertFalse(savedRecord.getCompleted());
         assertNotNull(savedRecord.getScheduledTime());
+        assertEquals(RetryStatus.PENDING, savedRecord.getStatus());
     }
 
     @Test
@@ -61,7 +74,7 @@ class RetryServiceTest {
         // Given
         LocalDateTime currentTime = LocalDateTime.now();
         List<Long> expectedMemberIds = Arrays.asList(1L, 2L, 3L);
-        given(retryRecordRepository.findPendingRetryMemberIds(currentTime))
+        given(retryRecordRepository.findPendingRetryMemberIds(RetryStatus.PENDING, currentTime))
                 .willReturn(expectedMemberIds);
 
         // When
@@ -69,7 +82,7 @@ class RetryServiceTest {
 
         // Then
         assertEquals(expectedMemberIds, result);
-        verify(retryRecordRepository).findPendingRetryMemberIds(currentTime);
+        verify(retryRecordRepository).findPendingRetryMemberIds(RetryStatus.PENDING, currentTime);
     }
 
     @Test
@@ -80,7 +93,7 @@ class RetryServiceTest {
         RetryRecord retryRecord1 = RetryRecord.createRetryRecord(1L, "message1");
         RetryRecord retryRecord2 = RetryRecord.createRetryRecord(2L, "message2");
         List<RetryRecord> expectedRecords = Arrays.asList(retryRecord1, retryRecord2);
-        given(retryRecordRepository.findPendingRetries(currentTime))
+        given(retryRecordRepository.findPendingRetries(RetryStatus.PENDING, currentTime))
                 .willReturn(expectedRecords);
 
         // When
@@ -88,7 +101,7 @@ class RetryServiceTest {
 
         // Then
         assertEquals(expectedRecords, result);
-        verify(retryRecordRepository).findPendingRetries(currentTime);
+        verify(retryRecordRepository).findPendingRetries(RetryStatus.PENDING, currentTime);
     }
 
     @Test
@@ -116,6 +129,7 @@ class RetryServiceTest {
 
         // Then
         assertTrue(retryRecord.getCompleted());
+        assertEquals(RetryStatus.COMPLETED, retryRecord.getStatus());
     }
 
     @Test
@@ -136,14 +150,75 @@ class RetryServiceTest {
     @DisplayName("예외 발생 시 재시도 횟수를 증가시키고 저장한다")
     void incrementRetryCount_shouldIncrementAndSave() {
         // Given
-        RetryRecord retryRecord = RetryRecord.createRetryRecord(1L, "test message");
+        RetryRecord retryRecord = RetryRecord.builder()
+                .id(10L)
+                .memberId(1L)
+                .message("test message")
+                .scheduledTime(LocalDateTime.now())
+                .build();
         int initialCount = retryRecord.getRetryCount();
+        given(retryRecordRepository.findById(10L)).willReturn(Optional.of(retryRecord));
 
         // When
-        retryService.incrementRetryCount(retryRecord);
+        retryService.incrementRetryCount(10L);
 
         // Then
         assertEquals(initialCount + 1, retryRecord.getRetryCount());
         verify(retryRecordRepository).save(retryRecord);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("대기 중인 재시도 기록을 배치 크기만큼 점유한다")
+    void claimDueRetries_shouldClaimBoundedBatch() {
+        // Given
+        LocalDateTime currentTime = LocalDateTime.now();
+        List<RetryRecord> claimed = List.of(RetryRecord.createRetryRecord(1L, "message1"));
+        given(retryRecordRepository.findDueForUpdateSkipLocked(eq(RetryStatus.PENDING), eq(currentTime), any(Pageable.class)))
+                .willReturn(claimed);
+
+        // When
+        List<RetryRecord> result = retryService.claimDueRetries(currentTime, 25);
+
+        // Then - 기본 리스 10분 동안 다시 점유되지 않도록 예정 시각을 미룸
+        assertEquals(claimed, result);
+        assertEquals(currentTime.plusMinutes(10), result.get(0).getScheduledTime());
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(retryRecordRepository).findDueForUpdateSkipLocked(eq(RetryStatus.PENDING), eq(currentTime), captor.capture());
+        assertEquals(25, captor.getValue().getPageSize());
+    }
+
+    @Test
+    @DisplayName("실패한 재시도는 지수 백오프 범위 안에서 다음 시각을 예약한다")
+    void handleFailedRetry_shouldScheduleWithExponentialBackoff() {
+        // Given - 기준 5분: 두 번째 재시도 지연은 [5분, 10분]
+        RetryRecord retryRecord = RetryRecord.createRetryRecord(1L, "test message");
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        retryService.handleFailedRetry(retryRecord);
+
+        // Then
+        LocalDateTime after = LocalDateTime.now();
+        assertFalse(retryRecord.getScheduledTime().isBefore(before.plusMinutes(5)));
+        assertFalse(retryRecord.getScheduledTime().isAfter(after.plusMinutes(10)));
+        assertEquals(RetryStatus.PENDING, retryRecord.getStatus());
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수를 소진하면 DEAD 상태로 전환한다")
+    void handleFailedRetry_shouldMoveExhaustedRecordToDeadLetter() {
+        // Given
+        schedulingProperties.getRetry().setMaxRetries(2);
+        RetryRecord retryRecord = RetryRecord.createRetryRecord(1L, "test message");
+
+        // When
+        retryService.handleFailedRetry(retryRecord);
+        retryService.handleFailedRetry(retryRecord);
+
+        // Then
+        assertEquals(2, retryRecord.getRetryCount());
+        assertEquals(RetryStatus.DEAD, retryRecord.getStatus());
+        assertTrue(retryRecord.isDead());
+        assertFalse(retryRecord.getCompleted());
+    }
+}
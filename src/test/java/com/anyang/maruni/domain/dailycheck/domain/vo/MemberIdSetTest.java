@@ -0,0 +1,39 @@
+package com.anyang.maruni.domain.dailycheck.domain.vo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemberIdSetTest {
+
+    @Test
+    void 정렬되지_않은_목록에서도_포함_여부를_판별() {
+        // given
+        MemberIdSet memberIds = MemberIdSet.of(List.of(42L, 7L, 1000L, 3L));
+
+        // when & then
+        assertThat(memberIds.contains(7L)).isTrue();
+        assertThat(memberIds.contains(1000L)).isTrue();
+        assertThat(memberIds.contains(8L)).isFalse();
+        assertThat(memberIds.contains(null)).isFalse();
+    }
+
+    @Test
+    void 중복과_null은_제거() {
+        // given
+        MemberIdSet memberIds = MemberIdSet.of(Arrays.asList(1L, 1L, null, 2L));
+
+        // when & then
+        assertThat(memberIds.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 빈_목록은_빈_집합() {
+        // when & then
+        assertThat(MemberIdSet.of(List.of()).isEmpty()).isTrue();
+        assertThat(MemberIdSet.of(null).contains(1L)).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+package com.anyang.maruni.domain.dailycheck.infrastructure.persistence;
+
+import com.anyang.maruni.domain.dailycheck.domain.entity.DailyCheckRecord;
+import com.anyang.maruni.domain.dailycheck.domain.repository.DailyCheckRecordRepository;
+import com.anyang.maruni.global.config.JpaConfig;
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, DailyCheckRecordUpsertWriter.class, DatabasePlatform.class})
+@DisplayName("DailyCheckRecordUpsertWriter 데이터 접근 테스트")
+class DailyCheckRecordUpsertWriterTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 5, 1);
+
+    @Autowired
+    private DailyCheckRecordUpsertWriter writer;
+
+    @Autowired
+    private DailyCheckRecordRepository dailyCheckRecordRepository;
+
+    @Test
+    @DisplayName("같은 날 실패 기록 이후 성공 기록이 오면 충돌 없이 성공으로 승격")
+    void upsert_PromotesFailureToSuccess() {
+        // given
+        writer.upsert(DailyCheckRecord.createFailureRecord(1L, TODAY, "실패 메시지"));
+
+        // when
+        writer.upsert(DailyCheckRecord.createSuccessRecord(1L, TODAY, "성공 메시지"));
+
+        // then
+        List<DailyCheckRecord> records = dailyCheckRecordRepository.findAll();
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getSuccess()).isTrue();
+        assertThat(records.get(0).getMessage()).isEqualTo("성공 메시지");
+        assertThat(dailyCheckRecordRepository.existsSuccessfulRecordByMemberIdAndDate(1L, TODAY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 기록은 이후 실패 기록으로 덮어쓰지 않음")
+    void upsert_KeepsSuccess() {
+        // given
+        writer.upsert(DailyCheckRecord.createSuccessRecord(1L, TODAY, "성공 메시지"));
+
+        // when
+        writer.upsert(DailyCheckRecord.createFailureRecord(1L, TODAY, "실패 메시지"));
+
+        // then
+        DailyCheckRecord record = dailyCheckRecordRepository.findAll().get(0);
+        assertThat(record.getSuccess()).isTrue();
+        assertThat(record.getMessage()).isEqualTo("성공 메시지");
+    }
+
+    @Test
+    @DisplayName("여러 회원 기록을 한 번에 배치 upsert")
+    void upsertAll_WritesBatch() {
+        // when
+        writer.upsertAll(List.of(
+                DailyCheckRecord.createSuccessRecord(3L, TODAY, "메시지"),
+                DailyCheckRecord.createFailureRecord(2L, TODAY, "메시지"),
+                DailyCheckRecord.createSuccessRecord(1L, TODAY, "메시지")
+        ));
+
+        // then
+        assertThat(dailyCheckRecordRepository.findSuccessfulMemberIdsByDate(TODAY))
+                .containsExactly(1L, 3L);
+    }
+}
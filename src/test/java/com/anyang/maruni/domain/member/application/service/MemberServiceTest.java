@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
@@ -22,6 +24,7 @@ import com.anyang.maruni.domain.member.application.dto.response.MemberResponse;
 import com.anyang.maruni.domain.member.application.mapper.MemberMapper;
 import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
 import com.anyang.maruni.domain.member.domain.repository.MemberRepository;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
 import com.anyang.maruni.global.exception.BaseException;
 import com.anyang.maruni.global.response.error.ErrorCode;
 
@@ -39,6 +42,9 @@ class MemberServiceTest {
 	@Mock
 	private MemberMapper memberMapper;
 
+	@Spy
+	private SchedulingProperties schedulingProperties = new SchedulingProperties();
+
 	@InjectMocks
 	private MemberService memberService;
 
@@ -283,4 +289,31 @@ class MemberServiceTest {
 		assertThat(result).isFalse();
 		then(memberRepository).should().existsByMemberEmail(email);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("안부 메시지 발송 시각 변경 성공 - 허용 시간대 안의 시각을 분 단위로 저장한다")
+	void updateDailyCheckSendTime_Success() {
+		// given
+		Long memberId = 1L;
+		MemberEntity memberEntity = MemberEntity.createMember("test@example.com", "테스트", "password", true);
+		given(memberRepository.findById(memberId)).willReturn(Optional.of(memberEntity));
+
+		// when
+		memberService.updateDailyCheckSendTime(memberId, LocalTime.of(10, 30, 15));
+
+		// then
+		assertThat(memberEntity.getDailyCheckSendTime()).isEqualTo(LocalTime.of(10, 30));
+		then(memberRepository).should().save(memberEntity);
+	}
+
+	@Test
+	@DisplayName("안부 메시지 발송 시각 변경 실패 - 허용 시간대(07~21시)를 벗어나면 예외를 발생시킨다")
+	void updateDailyCheckSendTime_Fail_OutsideAllowedWindow() {
+		// when & then
+		assertThatThrownBy(() -> memberService.updateDailyCheckSendTime(1L, LocalTime.of(22, 0)))
+			.isInstanceOf(BaseException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+
+		then(memberRepository).shouldHaveNoInteractions();
+	}
+}
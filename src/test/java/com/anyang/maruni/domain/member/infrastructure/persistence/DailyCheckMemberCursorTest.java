@@ -0,0 +1,111 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.anyang.maruni.domain.member.domain.entity.MemberEntity;
+import com.anyang.maruni.global.config.JpaConfig;
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+import com.anyang.maruni.global.scheduling.ShardAssignment;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, DailyCheckMemberCursor.class, SchedulingProperties.class})
+@DisplayName("DailyCheckMemberCursor 데이터 접근 테스트")
+class DailyCheckMemberCursorTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private DailyCheckMemberCursor memberCursor;
+
+	@Autowired
+	private SchedulingProperties schedulingProperties;
+
+	private Long firstEnabledId;
+
+	@BeforeEach
+	void setUp() {
+		schedulingProperties.getMemberCursor().setPageSize(2);
+
+		for (int i = 0; i < 5; i++) {
+			MemberEntity enabled = MemberEntity.createMember(
+				"enabled" + i + "@example.com", "수신자" + i, "password", true);
+			entityManager.persist(enabled);
+			if (firstEnabledId == null) {
+				enabled.updateDailyCheckSendTime(LocalTime.of(8, 30));
+				firstEnabledId = enabled.getId();
+			}
+		}
+		entityManager.persist(MemberEntity.createMember("disabled@example.com", "미수신자", "password", false));
+		entityManager.flush();
+	}
+
+	@Test
+	@DisplayName("안부 메시지 수신 회원만 페이지 크기 단위로 ID 오름차순 조회")
+	void pages_SplitsEnabledMembersByPageSize() {
+		// when
+		List<List<Long>> pages = memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING).toList();
+
+		// then
+		assertThat(pages).hasSize(3);
+		assertThat(pages.get(0)).hasSize(2);
+		assertThat(pages.get(2)).hasSize(1);
+		assertThat(pages.stream().flatMap(List::stream).toList())
+			.hasSize(5)
+			.isSorted();
+	}
+
+	@Test
+	@DisplayName("지정한 회원 ID 이후부터 이어서 조회")
+	void stream_ResumesAfterGivenMemberId() {
+		// when
+		List<Long> memberIds = memberCursor.stream(firstEnabledId).toList();
+
+		// then
+		assertThat(memberIds)
+			.hasSize(4)
+			.allMatch(id -> id > firstEnabledId);
+	}
+
+	@Test
+	@DisplayName("발송 희망 시각을 회원 ID와 함께 페이지를 넘어 조회")
+	void sendTimes_ReturnsPreferredSendTimeAcrossPages() {
+		// when
+		List<MemberSendTime> sendTimes = memberCursor.sendTimes(DailyCheckMemberCursor.FROM_BEGINNING).toList();
+
+		// then
+		assertThat(sendTimes).hasSize(5);
+		assertThat(sendTimes.get(0).memberId()).isEqualTo(firstEnabledId);
+		assertThat(sendTimes.get(0).sendTime()).isEqualTo(LocalTime.of(8, 30));
+		assertThat(sendTimes.subList(1, 5)).allMatch(sendTime -> sendTime.sendTime() == null);
+	}
+
+	@Test
+	@DisplayName("샤드별 조회 결과를 합치면 전체 회원과 같고 서로 겹치지 않음")
+	void pages_SplitsMembersByShard() {
+		// when
+		List<Long> shard0 = memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING, new ShardAssignment(0, 2))
+			.flatMap(List::stream).toList();
+		List<Long> shard1 = memberCursor.pages(DailyCheckMemberCursor.FROM_BEGINNING, new ShardAssignment(1, 2))
+			.flatMap(List::stream).toList();
+
+		// then
+		assertThat(shard0).allMatch(id -> id % 2 == 0);
+		assertThat(shard1).allMatch(id -> id % 2 == 1);
+		assertThat(shard0).doesNotContainAnyElementsOf(shard1);
+		assertThat(shard0.size() + shard1.size()).isEqualTo(5);
+	}
+}
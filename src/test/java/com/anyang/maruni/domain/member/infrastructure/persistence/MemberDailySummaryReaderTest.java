@@ -0,0 +1,112 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+import com.anyang.maruni.global.config.JpaConfig;
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, MemberDailySummaryReader.class, MemberDailySummaryWriter.class, DatabasePlatform.class})
+@DisplayName("MemberDailySummaryReader 데이터 접근 테스트")
+class MemberDailySummaryReaderTest {
+
+    private final LocalDate today = LocalDate.now();
+
+    @Autowired
+    private MemberDailySummaryReader reader;
+
+    @Autowired
+    private MemberDailySummaryWriter writer;
+
+    @Test
+    @DisplayName("최신 메시지부터 이어지는 부정 감정 일수와 부정 비율을 회원별로 집계")
+    void readEmotionStreaks_ComputesStreakAndRatioPerMember() {
+        // given: 회원 1 = 오늘 부정 2건, 어제 부정 1건, 그저께 긍정 후 부정 (최신순: 부정, 부정, 부정, 부정, 긍정)
+        writer.recordUserMessage(1L, "NEGATIVE", today.atTime(10, 0));
+        writer.recordUserMessage(1L, "NEGATIVE", today.atTime(9, 0));
+        writer.recordUserMessage(1L, "NEGATIVE", today.minusDays(1).atTime(9, 0));
+        writer.recordUserMessage(1L, "NEGATIVE", today.minusDays(2).atTime(9, 0));
+        writer.recordUserMessage(1L, "POSITIVE", today.minusDays(2).atTime(8, 0));
+
+        // 회원 2 = 오늘 부정 후 중립, 어제 부정 (최신 메시지가 부정이 아니므로 연속 0일)
+        writer.recordUserMessage(2L, "NEGATIVE", today.atTime(8, 0));
+        writer.recordUserMessage(2L, "NEUTRAL", today.atTime(9, 0));
+        writer.recordUserMessage(2L, "NEGATIVE", today.minusDays(1).atTime(9, 0));
+
+        // 발송 기록만 있는 회원 3은 감정 집계에서 제외
+        writer.recordDailyChecks(List.of(3L), true, today.atTime(9, 0));
+
+        // when
+        List<MemberEmotionStreak> streaks = reader.readEmotionStreaks(List.of(1L, 2L, 3L), today.minusDays(7));
+
+        // then
+        assertThat(streaks).extracting(MemberEmotionStreak::memberId).containsExactly(1L, 2L);
+
+        MemberEmotionStreak first = streaks.get(0);
+        assertThat(first.totalMessages()).isEqualTo(5);
+        assertThat(first.positiveCount()).isEqualTo(1);
+        assertThat(first.negativeCount()).isEqualTo(4);
+        assertThat(first.consecutiveNegativeDays()).isEqualTo(3);
+        assertThat(first.negativeRatio()).isEqualTo(0.8);
+
+        MemberEmotionStreak second = streaks.get(1);
+        assertThat(second.neutralCount()).isEqualTo(1);
+        assertThat(second.consecutiveNegativeDays()).isZero();
+        assertThat(second.negativeRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("기간 밖의 메시지는 감정 집계에 포함하지 않음")
+    void readEmotionStreaks_FiltersRange() {
+        // given
+        writer.recordUserMessage(1L, "NEGATIVE", today.minusDays(10).atTime(9, 0));
+
+        // when
+        List<MemberEmotionStreak> streaks = reader.readEmotionStreaks(List.of(1L), today.minusDays(7));
+
+        // then
+        assertThat(streaks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최신 발송 실패부터 이어지는 무응답 일수와 응답률을 회원별로 집계")
+    void readResponseStreaks_ComputesStreakAndRatePerMember() {
+        // given: 회원 1 = 오늘/어제 실패, 그저께 성공, 사흘 전 실패
+        writer.recordDailyChecks(List.of(1L), false, today.atTime(9, 0));
+        writer.recordDailyChecks(List.of(1L), false, today.minusDays(1).atTime(9, 0));
+        writer.recordDailyChecks(List.of(1L, 2L), true, today.minusDays(2).atTime(9, 0));
+        writer.recordDailyChecks(List.of(1L), false, today.minusDays(3).atTime(9, 0));
+
+        // 회원 2 = 오늘 성공 (메시지만 있는 날은 발송 일수에 포함하지 않음)
+        writer.recordDailyChecks(List.of(2L), true, today.atTime(9, 0));
+        writer.recordUserMessage(2L, "POSITIVE", today.minusDays(1).atTime(9, 0));
+
+        // when
+        List<MemberResponseStreak> streaks = reader.readResponseStreaks(
+                List.of(1L, 2L), today.minusDays(7), today);
+
+        // then
+        assertThat(streaks).extracting(MemberResponseStreak::memberId).containsExactly(1L, 2L);
+
+        MemberResponseStreak first = streaks.get(0);
+        assertThat(first.totalCheckDays()).isEqualTo(4);
+        assertThat(first.responseDays()).isEqualTo(1);
+        assertThat(first.consecutiveNoResponseDays()).isEqualTo(2);
+        assertThat(first.responseRate()).isEqualTo(0.25);
+
+        MemberResponseStreak second = streaks.get(1);
+        assertThat(second.totalCheckDays()).isEqualTo(2);
+        assertThat(second.consecutiveNoResponseDays()).isZero();
+        assertThat(second.responseRate()).isEqualTo(1.0);
+    }
+}
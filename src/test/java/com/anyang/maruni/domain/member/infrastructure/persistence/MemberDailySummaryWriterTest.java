@@ -0,0 +1,94 @@
+package com.anyang.maruni.domain.member.infrastructure.persistence;
+
+import com.anyang.maruni.domain.member.domain.entity.MemberDailySummary;
+import com.anyang.maruni.domain.member.domain.repository.MemberDailySummaryRepository;
+import com.anyang.maruni.global.config.JpaConfig;
+import com.anyang.maruni.global.persistence.DatabasePlatform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, MemberDailySummaryWriter.class, DatabasePlatform.class})
+@DisplayName("MemberDailySummaryWriter 데이터 접근 테스트")
+class MemberDailySummaryWriterTest {
+
+    private final LocalDate today = LocalDate.now();
+
+    @Autowired
+    private MemberDailySummaryWriter writer;
+
+    @Autowired
+    private MemberDailySummaryRepository repository;
+
+    @Test
+    @DisplayName("같은 날 사용자 메시지는 한 행에 감정별로 누적")
+    void recordUserMessage_AccumulatesCountsPerDay() {
+        // when
+        writer.recordUserMessage(1L, "NEGATIVE", today.atTime(9, 0));
+        writer.recordUserMessage(1L, "POSITIVE", today.atTime(10, 0));
+        writer.recordUserMessage(1L, "NEGATIVE", today.atTime(11, 0));
+        writer.recordUserMessage(1L, null, today.atTime(12, 0));
+
+        // then
+        MemberDailySummary summary = find(1L, today);
+        assertThat(summary.getUserMessageCount()).isEqualTo(4);
+        assertThat(summary.getNegativeCount()).isEqualTo(2);
+        assertThat(summary.getPositiveCount()).isEqualTo(1);
+        assertThat(summary.getNeutralCount()).isZero();
+        assertThat(summary.getLastNegativeAt()).isEqualTo(today.atTime(11, 0));
+        assertThat(summary.getLastNonNegativeAt()).isEqualTo(today.atTime(12, 0));
+        assertThat(summary.getDailyCheckSent()).isNull();
+        assertThat(summary.getDailyCheckResponded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("발송 이후 첫 메시지에서 응답 여부와 첫 응답 지연 시간을 기록")
+    void recordUserMessage_AfterDailyCheck_RecordsFirstResponseLatency() {
+        // given: 발송 전 메시지는 응답으로 보지 않음
+        writer.recordUserMessage(1L, "NEUTRAL", today.atTime(8, 0));
+        writer.recordDailyChecks(List.of(1L), true, today.atTime(9, 0));
+
+        // when
+        writer.recordUserMessage(1L, "POSITIVE", today.atTime(9, 30));
+        writer.recordUserMessage(1L, "POSITIVE", today.atTime(10, 0));
+
+        // then
+        MemberDailySummary summary = find(1L, today);
+        assertThat(summary.getDailyCheckSent()).isTrue();
+        assertThat(summary.getDailyCheckSentAt()).isEqualTo(today.atTime(9, 0));
+        assertThat(summary.getDailyCheckResponded()).isTrue();
+        assertThat(summary.getFirstResponseLatencySeconds()).isEqualTo(1800L);
+        assertThat(summary.getUserMessageCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("발송 실패 후 재시도 성공은 성공으로 승격하고, 이후 실패로 되돌리지 않음")
+    void recordDailyChecks_PromotesFailureToSuccess() {
+        // given
+        writer.recordDailyChecks(List.of(2L, 1L), false, today.atTime(9, 0));
+
+        // when
+        writer.recordDailyChecks(List.of(1L), true, today.atTime(9, 5));
+        writer.recordDailyChecks(List.of(1L), false, today.atTime(9, 10));
+
+        // then
+        assertThat(find(1L, today).getDailyCheckSent()).isTrue();
+        assertThat(find(1L, today).getDailyCheckSentAt()).isEqualTo(today.atTime(9, 5));
+        assertThat(find(2L, today).getDailyCheckSent()).isFalse();
+        assertThat(find(2L, today).getDailyCheckSentAt()).isNull();
+    }
+
+    private MemberDailySummary find(Long memberId, LocalDate date) {
+        return repository.findByMemberIdAndSummaryDate(memberId, date).orElseThrow();
+    }
+}
@@ -3,7 +3,9 @@ package com.anyang.maruni.domain.notification.infrastructure;
 import com.anyang.maruni.domain.notification.domain.entity.NotificationHistory;
 import com.anyang.maruni.domain.notification.domain.repository.NotificationHistoryRepository;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationSourceType;
 import com.anyang.maruni.domain.notification.domain.vo.NotificationStatistics;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationType;
 import com.anyang.maruni.domain.notification.infrastructure.service.NotificationHistoryServiceImpl;
 
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -277,4 +280,34 @@ class NotificationHistoryServiceImplTest {
                 .success(success)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 회원의 알림 이력을 saveAll로 일괄 저장")
+    void shouldRecordNotificationsInBatch() {
+        // Given
+        List<Long> memberIds = List.of(1L, 2L, 3L);
+        given(historyRepository.saveAll(anyList()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        List<NotificationHistory> result = historyService.recordNotificationsWithType(
+                memberIds, "안부 메시지", "오늘 하루는 어떠세요?",
+                NotificationType.DAILY_CHECK, NotificationSourceType.DAILY_CHECK);
+
+        // Then
+        assertThat(result).hasSize(3);
+        assertThat(result).extracting(NotificationHistory::getMemberId).containsExactly(1L, 2L, 3L);
+        assertThat(result).allMatch(history -> history.getNotificationType() == NotificationType.DAILY_CHECK);
+        verify(historyRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 잘못된 회원 ID가 있으면 예외")
+    void shouldRejectInvalidMemberIdInBatch() {
+        // When & Then
+        assertThatThrownBy(() -> historyService.recordNotificationsWithType(
+                List.of(1L, 0L), "안부 메시지", "내용",
+                NotificationType.DAILY_CHECK, NotificationSourceType.DAILY_CHECK))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,201 @@
+package com.anyang.maruni.domain.notification.infrastructure.dispatch;
+
+import com.anyang.maruni.domain.notification.application.config.NotificationDispatchProperties;
+import com.anyang.maruni.domain.notification.domain.exception.NotificationException;
+import com.anyang.maruni.domain.notification.domain.vo.NotificationChannelType;
+import com.anyang.maruni.global.response.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NotificationDispatchStage 테스트
+ *
+ * 채널별 속도 제한, 대기열 거부, 메트릭 기록 테스트
+ */
+@DisplayName("NotificationDispatchStage 테스트")
+class NotificationDispatchStageTest {
+
+    private NotificationDispatchProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationDispatchProperties();
+        properties.setQueueCapacity(10);
+        properties.setMaxWaitMillis(50);
+        NotificationDispatchProperties.Rate pushRate = new NotificationDispatchProperties.Rate();
+        pushRate.setPermitsPerSecond(1);
+        pushRate.setBurst(3);
+        properties.getChannels().put(NotificationChannelType.PUSH, pushRate);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+    }
+
+    private NotificationDispatchStage stage() {
+        return new NotificationDispatchStage(properties, meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("토큰이 있으면 바로 발송하고 대기 시간을 기록한다")
+    void dispatch_shouldSendWhenTokensAvailable() {
+        // Given
+        NotificationDispatchStage stage = stage();
+
+        // When
+        String result = stage.dispatch(NotificationChannelType.PUSH, 3, () -> "sent");
+
+        // Then
+        assertThat(result).isEqualTo("sent");
+        assertThat(stage.queueDepth(NotificationChannelType.PUSH)).isZero();
+        assertThat(meterRegistry.get("maruni.notification.dispatch.wait")
+                .tag("channel", "PUSH").tag("priority", "bulk").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예상 대기가 최대 대기 시간을 넘으면 발송하지 않고 거부한다")
+    void dispatch_shouldRejectWhenRateExceeded() {
+        // Given
+        NotificationDispatchStage stage = stage();
+        stage.dispatch(NotificationChannelType.PUSH, 3, () -> "sent");
+        AtomicInteger sendCount = new AtomicInteger();
+
+        // When & Then - 초당 1개 충전이므로 다음 토큰까지 1초 > 50ms
+        assertThatThrownBy(() -> stage.dispatch(NotificationChannelType.PUSH, 1, sendCount::incrementAndGet))
+                .isInstanceOf(NotificationException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOTIFICATION_DISPATCH_THROTTLED);
+        assertThat(sendCount.get()).isZero();
+        assertThat(meterRegistry.get("maruni.notification.dispatch.rejected")
+                .tag("channel", "PUSH").tag("priority", "bulk").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 토큰을 기다리지 않고 즉시 거부한다")
+    void dispatch_shouldNotWaitInsideTransaction() {
+        // Given - 최대 대기 시간 안이라도 트랜잭션 안에서는 대기하지 않음
+        properties.setMaxWaitMillis(5_000);
+        NotificationDispatchStage stage = stage();
+        stage.dispatch(NotificationChannelType.PUSH, 3, () -> "sent");
+
+        // When & Then
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> stage.dispatch(NotificationChannelType.PUSH, 1, () -> "sent"))
+                    .isInstanceOf(NotificationException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOTIFICATION_DISPATCH_THROTTLED);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("withPermits로 미리 확보한 토큰으로 작업 안의 발송을 대기 없이 실행한다")
+    void withPermits_shouldPrepayDispatchesInsideWork() {
+        // Given
+        NotificationDispatchStage stage = stage();
+
+        // When - 작업 안의 발송 3건은 토큰을 다시 요구하지 않음
+        int sent = stage.withPermits(NotificationChannelType.PUSH, 3, () -> {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                for (int i = 0; i < 3; i++) {
+                    stage.dispatch(NotificationChannelType.PUSH, 1, () -> "sent");
+                }
+                return 3;
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        });
+
+        // Then - 토큰은 한 번만 소모되어 다음 발송은 거부
+        assertThat(sent).isEqualTo(3);
+        assertThatThrownBy(() -> stage.dispatch(NotificationChannelType.PUSH, 1, () -> "sent"))
+                .isInstanceOf(NotificationException.class);
+    }
+
+    @Test
+    @DisplayName("withPermits가 토큰을 확보하지 못하면 작업을 실행하지 않고 거부한다")
+    void withPermits_shouldRejectWithoutRunningWork() {
+        // Given - 버킷(burst 3)을 모두 소진
+        NotificationDispatchStage stage = stage();
+        stage.dispatch(NotificationChannelType.PUSH, 3, () -> "sent");
+        AtomicInteger runs = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> stage.withPermits(NotificationChannelType.PUSH, 1, runs::incrementAndGet))
+                .isInstanceOf(NotificationException.class);
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("채널마다 독립된 토큰 버킷을 사용한다")
+    void dispatch_shouldIsolateChannels() {
+        // Given
+        NotificationDispatchStage stage = stage();
+        stage.dispatch(NotificationChannelType.PUSH, 3, () -> "push");
+
+        // When
+        String result = stage.dispatch(NotificationChannelType.SMS, 1, () -> "sms");
+
+        // Then
+        assertThat(result).isEqualTo("sms");
+    }
+
+    @Test
+    @DisplayName("대기열 깊이를 채널별 게이지로 노출한다")
+    void queueDepthGauge_shouldBeRegisteredPerChannel() {
+        // When
+        stage();
+
+        // Then
+        for (NotificationChannelType channelType : NotificationChannelType.values()) {
+            assertThat(meterRegistry.get("maruni.notification.dispatch.queue.depth")
+                    .tag("channel", channelType.name()).gauge().value()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 발송이 채널 토큰을 모두 써도 긴급 알림은 전용 버킷으로 바로 발송한다")
+    void withEmergencyPermits_shouldNotShareBulkBucket() {
+        // Given - 일괄 발송이 PUSH 버킷(burst 3)을 모두 소진
+        NotificationDispatchStage stage = stage();
+        stage.dispatch(NotificationChannelType.PUSH, 3, () -> "sent");
+        assertThatThrownBy(() -> stage.dispatch(NotificationChannelType.PUSH, 1, () -> "sent"))
+                .isInstanceOf(NotificationException.class);
+
+        // When
+        String result = stage.withEmergencyPermits(NotificationChannelType.PUSH, 1,
+                () -> stage.dispatch(NotificationChannelType.PUSH, 1, () -> "emergency"));
+
+        // Then
+        assertThat(result).isEqualTo("emergency");
+        assertThat(meterRegistry.get("maruni.notification.dispatch.wait")
+                .tag("channel", "PUSH").tag("priority", "emergency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 속도 제한 없이 바로 발송한다")
+    void dispatch_shouldBypassWhenDisabled() {
+        // Given
+        properties.setEnabled(false);
+        NotificationDispatchStage stage = stage();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            stage.dispatch(NotificationChannelType.PUSH, 1, () -> "sent");
+        }
+
+        // Then
+        assertThat(meterRegistry.get("maruni.notification.dispatch.rejected")
+                .tag("channel", "PUSH").tag("priority", "bulk").counter().count()).isZero();
+    }
+}
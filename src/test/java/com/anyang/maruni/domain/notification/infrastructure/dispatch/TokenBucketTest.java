@@ -0,0 +1,74 @@
+package com.anyang.maruni.domain.notification.infrastructure.dispatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenBucket 테스트
+ */
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    private static final long MAX_WAIT = TimeUnit.SECONDS.toNanos(10);
+
+    private AtomicLong clock;
+    private TokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        bucket = new TokenBucket(10, 5, clock::get); // 초당 10개, 버킷 5개
+    }
+
+    @Test
+    @DisplayName("버킷 용량까지는 대기 없이 토큰을 내준다")
+    void reserve_shouldGrantBurstWithoutWait() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.reserve(1, MAX_WAIT)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("토큰이 부족하면 충전 속도에 맞춰 순서대로 대기 시간을 예약한다")
+    void reserve_shouldQueueReservationsAtRefillRate() {
+        // Given
+        bucket.reserve(5, MAX_WAIT);
+
+        // When & Then - 100ms마다 토큰 1개
+        assertThat(bucket.reserve(1, MAX_WAIT)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(bucket.reserve(1, MAX_WAIT)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 용량 한도 안에서 토큰이 충전된다")
+    void reserve_shouldRefillUpToCapacity() {
+        // Given
+        bucket.reserve(5, MAX_WAIT);
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        // Then
+        assertThat(bucket.availableTokens()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘는 요청은 예약하지 않는다")
+    void reserve_shouldRejectWhenWaitTooLong() {
+        // Given
+        bucket.reserve(5, MAX_WAIT);
+
+        // When
+        long wait = bucket.reserve(20, TimeUnit.SECONDS.toNanos(1));
+
+        // Then - 거부된 요청은 토큰을 소모하지 않음
+        assertThat(wait).isEqualTo(-1);
+        assertThat(bucket.availableTokens()).isZero();
+    }
+}
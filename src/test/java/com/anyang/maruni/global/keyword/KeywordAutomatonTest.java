@@ -0,0 +1,80 @@
+package com.anyang.maruni.global.keyword;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeywordAutomaton 테스트")
+class KeywordAutomatonTest {
+
+    @Test
+    @DisplayName("한 번의 스캔으로 모든 분류의 키워드를 찾음")
+    void scan_FindsAllCategoriesInOnePass() {
+        // Given
+        KeywordAutomaton automaton = KeywordAutomaton.build(Map.of(
+                KeywordCategory.EMERGENCY, List.of("도와주세요", "119"),
+                KeywordCategory.WARNING, List.of("우울해"),
+                KeywordCategory.NEGATIVE, List.of("우울"),
+                KeywordCategory.POSITIVE, List.of("좋")));
+
+        // When
+        KeywordHits hits = automaton.scan("너무 우울해서 119에 전화했어요");
+
+        // Then
+        assertThat(hits.first(KeywordCategory.EMERGENCY)).isEqualTo("119");
+        assertThat(hits.first(KeywordCategory.WARNING)).isEqualTo("우울해");
+        assertThat(hits.first(KeywordCategory.NEGATIVE)).isEqualTo("우울");
+        assertThat(hits.contains(KeywordCategory.POSITIVE)).isFalse();
+        assertThat(automaton.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("여러 키워드가 매칭되면 메시지 위치가 아니라 설정 목록 순서를 따름")
+    void scan_ReportsFirstKeywordInListOrder() {
+        // Given: 메시지에서는 "병원"이 먼저 나오지만 목록에서는 "아파요"가 앞섬
+        KeywordAutomaton automaton = KeywordAutomaton.build(Map.of(
+                KeywordCategory.EMERGENCY, List.of("아파요", "병원")));
+
+        // When
+        KeywordHits hits = automaton.scan("병원에 가야 할 만큼 아파요");
+
+        // Then
+        assertThat(hits.first(KeywordCategory.EMERGENCY)).isEqualTo("아파요");
+    }
+
+    @Test
+    @DisplayName("겹치거나 다른 키워드의 접미사인 키워드도 모두 매칭")
+    void scan_MatchesOverlappingAndSuffixPatterns() {
+        // Given: "he"는 "she"의 접미사, "hers"는 "he"와 겹침
+        KeywordAutomaton automaton = KeywordAutomaton.build(Map.of(
+                KeywordCategory.EMERGENCY, List.of("hers"),
+                KeywordCategory.WARNING, List.of("his", "she"),
+                KeywordCategory.NEGATIVE, List.of("he")));
+
+        // When
+        KeywordHits hits = automaton.scan("USHERS");
+
+        // Then: 대소문자 구분 없이 매칭
+        assertThat(hits.first(KeywordCategory.EMERGENCY)).isEqualTo("hers");
+        assertThat(hits.first(KeywordCategory.WARNING)).isEqualTo("she");
+        assertThat(hits.first(KeywordCategory.NEGATIVE)).isEqualTo("he");
+    }
+
+    @Test
+    @DisplayName("빈 키워드와 빈 메시지는 무시")
+    void scan_IgnoresEmptyKeywordsAndText() {
+        // Given
+        KeywordAutomaton automaton = KeywordAutomaton.build(Map.of(
+                KeywordCategory.NEGATIVE, List.of("", "슬프")));
+
+        // When & Then
+        assertThat(automaton.size()).isEqualTo(1);
+        assertThat(automaton.scan("").contains(KeywordCategory.NEGATIVE)).isFalse();
+        assertThat(automaton.scan(null).contains(KeywordCategory.NEGATIVE)).isFalse();
+        assertThat(automaton.scan("오늘은 평범한 날").contains(KeywordCategory.NEGATIVE)).isFalse();
+    }
+}
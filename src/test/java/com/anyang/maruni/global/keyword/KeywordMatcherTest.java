@@ -0,0 +1,113 @@
+package com.anyang.maruni.global.keyword;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.anyang.maruni.domain.alertrule.application.config.AlertConfigurationProperties;
+import com.anyang.maruni.domain.conversation.config.ConversationProperties;
+
+@DisplayName("KeywordMatcher 테스트")
+class KeywordMatcherTest {
+
+    private AlertConfigurationProperties alertConfig;
+    private ConversationProperties conversationProperties;
+    private KeywordMatcher keywordMatcher;
+
+    @BeforeEach
+    void setUp() {
+        alertConfig = new AlertConfigurationProperties();
+        conversationProperties = new ConversationProperties();
+        keywordMatcher = new KeywordMatcher(alertConfig, conversationProperties);
+    }
+
+    @Test
+    @DisplayName("기본 설정의 위험/감정 키워드를 한 번에 검사")
+    void scan_UsesConfiguredDictionaries() {
+        // When
+        KeywordHits hits = keywordMatcher.scan("가슴이 아프고 우울해요");
+
+        // Then
+        assertThat(hits.first(KeywordCategory.EMERGENCY)).isEqualTo("가슴이");
+        assertThat(hits.contains(KeywordCategory.NEGATIVE)).isTrue();
+        assertThat(hits.contains(KeywordCategory.POSITIVE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정 목록이 교체되면 다음 스캔에서 사전을 다시 컴파일")
+    void scan_RecompilesWhenPropertiesReplaced() {
+        // Given
+        assertThat(keywordMatcher.scan("살려줘").contains(KeywordCategory.EMERGENCY)).isFalse();
+
+        // When
+        alertConfig.getKeyword().setEmergency(List.of("살려줘"));
+        conversationProperties.getEmotion().setKeywords(Map.of(
+                "negative", List.of("지쳐"),
+                "positive", List.of("신나")));
+
+        // Then
+        KeywordHits hits = keywordMatcher.scan("지쳐서 살려줘");
+        assertThat(hits.first(KeywordCategory.EMERGENCY)).isEqualTo("살려줘");
+        assertThat(hits.first(KeywordCategory.NEGATIVE)).isEqualTo("지쳐");
+    }
+
+    @Test
+    @DisplayName("reload는 현재 설정으로 즉시 다시 컴파일하고 키워드 수를 반환")
+    void reload_ReturnsCompiledKeywordCount() {
+        // Given
+        alertConfig.getKeyword().setEmergency(List.of("a"));
+        alertConfig.getKeyword().setWarning(List.of("b", "c"));
+        conversationProperties.getEmotion().setKeywords(Map.of(
+                "negative", List.of("d"),
+                "positive", List.of()));
+
+        // When
+        int count = keywordMatcher.reload();
+
+        // Then
+        assertThat(count).isEqualTo(4);
+        assertThat(keywordMatcher.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("reload는 사전 파일을 다시 읽어 파일에 있는 분류를 교체")
+    void reload_ReadsDictionaryFile(@TempDir Path tempDir) throws IOException {
+        // Given
+        Path dictionary = tempDir.resolve("keywords.properties");
+        Files.writeString(dictionary, "emergency=살려줘, 쓰러졌어\n", StandardCharsets.UTF_8);
+        alertConfig.getKeyword().setDictionaryFile(dictionary.toString());
+        assertThat(keywordMatcher.scan("쓰러졌어").first(KeywordCategory.EMERGENCY)).isEqualTo("쓰러졌어");
+
+        // When: 파일만 바꾸고 다시 읽음
+        Files.writeString(dictionary, "emergency=넘어졌어\n", StandardCharsets.UTF_8);
+        keywordMatcher.reload();
+
+        // Then: 파일에 없는 분류(감정)는 설정 목록 유지
+        KeywordHits hits = keywordMatcher.scan("넘어졌어 쓰러졌어 우울해");
+        assertThat(hits.first(KeywordCategory.EMERGENCY)).isEqualTo("넘어졌어");
+        assertThat(hits.contains(KeywordCategory.NEGATIVE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("사전 파일을 읽지 못하면 reload는 실패하고 기존 사전을 유지")
+    void reload_KeepsDictionaryWhenFileMissing(@TempDir Path tempDir) {
+        // Given
+        int before = keywordMatcher.size();
+        alertConfig.getKeyword().setDictionaryFile(tempDir.resolve("missing.properties").toString());
+
+        // When & Then
+        assertThatThrownBy(() -> keywordMatcher.reload()).isInstanceOf(UncheckedIOException.class);
+        assertThat(keywordMatcher.size()).isEqualTo(before);
+    }
+}
@@ -0,0 +1,55 @@
+package com.anyang.maruni.global.scheduling;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.anyang.maruni.global.config.JpaConfig;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, SchedulerCoordinationStore.class})
+@DisplayName("SchedulerCoordinationStore 데이터 접근 테스트")
+class SchedulerCoordinationStoreTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2026, 10, 17, 22, 0);
+
+    @Autowired
+    private SchedulerCoordinationStore store;
+
+    @Test
+    @DisplayName("리스는 만료 전까지 보유 노드만 연장하고, 만료되면 다른 노드가 가져감")
+    void tryAcquire_OnlyOwnerRenewsUntilExpiry() {
+        // when & then
+        assertThat(store.tryAcquire("leader", "node-a", now, now.plusSeconds(30))).isTrue();
+        assertThat(store.tryAcquire("leader", "node-b", now.plusSeconds(10), now.plusSeconds(40))).isFalse();
+        assertThat(store.tryAcquire("leader", "node-a", now.plusSeconds(10), now.plusSeconds(40))).isTrue();
+
+        // node-a 중단 후 리스 만료
+        assertThat(store.tryAcquire("leader", "node-b", now.plusSeconds(41), now.plusSeconds(71))).isTrue();
+        assertThat(store.tryAcquire("leader", "node-a", now.plusSeconds(45), now.plusSeconds(75))).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 하트비트가 있는 노드만 ID 오름차순으로 조회")
+    void findLiveNodeIds_ReturnsRecentHeartbeatsSorted() {
+        // given
+        store.heartbeat("node-b", now);
+        store.heartbeat("node-a", now.minusSeconds(5));
+        store.heartbeat("node-c", now.minusMinutes(5));
+
+        // when & then
+        assertThat(store.findLiveNodeIds(now.minusSeconds(30))).containsExactly("node-a", "node-b");
+
+        // 하트비트 갱신 후 다시 포함
+        store.heartbeat("node-c", now);
+        assertThat(store.findLiveNodeIds(now.minusSeconds(30))).containsExactly("node-a", "node-b", "node-c");
+    }
+}
@@ -0,0 +1,82 @@
+package com.anyang.maruni.global.scheduling;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.anyang.maruni.global.config.properties.SchedulingProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchedulerCoordinator 테스트")
+class SchedulerCoordinatorTest {
+
+    @Mock
+    private SchedulerCoordinationStore store;
+
+    private final SchedulingProperties properties = new SchedulingProperties();
+
+    private SchedulerCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        properties.getCoordination().setEnabled(true);
+        properties.getCoordination().setNodeId("node-b");
+        coordinator = new SchedulerCoordinator(store, properties);
+    }
+
+    @Test
+    @DisplayName("조정이 비활성화되면 항상 리더이며 모든 회원을 담당")
+    void disabled_IsLeaderAndSingleShard() {
+        // given
+        properties.getCoordination().setEnabled(false);
+
+        // when & then
+        coordinator.heartbeat();
+        assertThat(coordinator.isLeader()).isTrue();
+        assertThat(coordinator.resolveShard()).isEqualTo(ShardAssignment.SINGLE);
+        then(store).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("리더 리스를 얻으면 리더가 되고, 다른 노드가 동시에 등록하면 리더가 아님")
+    void heartbeat_TracksLeaderLease() {
+        // given
+        given(store.tryAcquire(eq(SchedulerCoordinator.LEADER_LEASE), eq("node-b"), any(), any()))
+                .willReturn(true)
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // when & then
+        assertThat(coordinator.isLeader()).isFalse();
+        coordinator.heartbeat();
+        assertThat(coordinator.isLeader()).isTrue();
+        coordinator.heartbeat();
+        assertThat(coordinator.isLeader()).isFalse();
+        then(store).should(times(2)).heartbeat(eq("node-b"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("살아 있는 노드 목록에서의 위치가 샤드 번호")
+    void resolveShard_UsesPositionAmongLiveNodes() {
+        // given
+        given(store.findLiveNodeIds(any(LocalDateTime.class))).willReturn(List.of("node-a", "node-b", "node-c"));
+
+        // when
+        ShardAssignment shard = coordinator.resolveShard();
+
+        // then
+        assertThat(shard).isEqualTo(new ShardAssignment(1, 3));
+        assertThat(shard.owns(4L)).isTrue();
+        assertThat(shard.owns(5L)).isFalse();
+    }
+}
@@ -0,0 +1,125 @@
+package com.anyang.maruni.global.shadow;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ShadowRun 테스트
+ */
+class ShadowRunTest {
+
+    @AfterEach
+    void tearDown() {
+        assertThat(ShadowRun.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("단계별 실행 횟수와 쿼리 수를 집계한다")
+    void stage_AggregatesInvocationsAndQueries() {
+        // Given
+        try (ShadowRun run = ShadowRun.start("daily-check")) {
+            // When
+            run.stage("load", ShadowRun::recordQuery);
+            run.stage("write", () -> {
+                ShadowRun.recordQuery();
+                ShadowRun.recordQuery();
+            });
+            run.stage("write", ShadowRun::recordQuery);
+            run.count("members", 3);
+            run.count("members", 2);
+
+            // Then
+            ShadowRunReport report = run.report();
+            assertThat(report.job()).isEqualTo("daily-check");
+            assertThat(report.queryCount()).isEqualTo(4);
+            assertThat(report.counts()).containsEntry("members", 5L);
+            assertThat(report.stages()).extracting(ShadowRunReport.Stage::name).containsExactly("load", "write");
+            assertThat(report.stages().get(1).invocations()).isEqualTo(2);
+            assertThat(report.stages().get(1).queryCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("단계에서 예외가 발생해도 집계 후 예외를 전파한다")
+    void stage_RecordsEvenWhenWorkThrows() {
+        try (ShadowRun run = ShadowRun.start("alert-detection")) {
+            assertThatThrownBy(() -> run.stage("detect", () -> {
+                ShadowRun.recordQuery();
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(run.report().stages().get(0).queryCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 중첩 실행할 수 없다")
+    void start_RejectsNestedRun() {
+        try (ShadowRun ignored = ShadowRun.start("daily-check")) {
+            assertThatThrownBy(() -> ShadowRun.start("alert-detection"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("작업 스레드로 전파한 실행의 쿼리와 단계를 함께 집계하고 작업 후 스레드에서 해제한다")
+    void propagate_AggregatesWorkerThreads() {
+        try (ShadowRun run = ShadowRun.start("daily-check");
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            CompletableFuture<Boolean> activeAfterWork = CompletableFuture.runAsync(run.propagate(() ->
+                    run.stage("chunk", () -> {
+                        assertThat(ShadowRun.isActive()).isTrue();
+                        ShadowRun.recordQuery();
+                    })), executor)
+                    .thenApplyAsync(ignored -> ShadowRun.isActive(), executor);
+
+            // Then
+            assertThat(activeAfterWork.join()).isFalse();
+            assertThat(run.report().queryCount()).isEqualTo(1);
+            assertThat(run.report().stages().get(0).queryCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("섀도 실행 중 얻은 커넥션의 JDBC 실행을 집계하고 그 외에는 원본 커넥션을 반환한다")
+    void countingDataSource_CountsExecutionsOnlyInShadowRun() throws SQLException {
+        // Given
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        ShadowQueryCountingDataSource dataSource = new ShadowQueryCountingDataSource(target);
+
+        // When & Then
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+
+        try (ShadowRun run = ShadowRun.start("daily-check")) {
+            Connection counted = dataSource.getConnection();
+            PreparedStatement batch = counted.prepareStatement("insert into t values (?)");
+            batch.addBatch();
+            batch.addBatch();
+            batch.executeBatch();
+            counted.prepareStatement("select 1").executeQuery();
+
+            assertThat(run.report().queryCount()).isEqualTo(2);
+            verify(statement).executeBatch();
+            verify(statement).executeQuery();
+        }
+    }
+}